@@ -0,0 +1,30 @@
+package gov.nysenate.openleg.client.response.base;
+
+import gov.nysenate.openleg.client.view.base.ListView;
+import gov.nysenate.openleg.client.view.base.ViewObject;
+import gov.nysenate.openleg.dao.base.LimitOffset;
+
+import java.util.List;
+
+/**
+ * A list response for a page of results retrieved via a cursor. The cursor is used to request the next page
+ * and is null once there are no more results.
+ */
+public class CursorListViewResponse<ViewType> extends ListViewResponse<ViewType>
+{
+    protected String cursor;
+
+    protected CursorListViewResponse(ListView<ViewType> result, int total, LimitOffset limitOffset, String cursor) {
+        super(result, total, limitOffset);
+        this.cursor = cursor;
+    }
+
+    public static <ViewType extends ViewObject> CursorListViewResponse<ViewType> of(
+        List<ViewType> items, int total, LimitOffset limitOffset, String cursor) {
+        return new CursorListViewResponse<>(ListView.of(items), total, limitOffset, cursor);
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+}
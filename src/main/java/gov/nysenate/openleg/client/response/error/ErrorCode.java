@@ -30,6 +30,7 @@ public enum ErrorCode
 
     SPOTCHECK_REPORT_NOT_FOUND(31, "The requested spotcheck report was not found"),
     SENATE_SITE_JSON_DUMP_MISSING_FIELDS(32, "The JSON dump is missing required fields"),
+    SPOTCHECK_MISMATCH_NOT_FOUND(33, "The requested spotcheck mismatch was not found"),
 
     /** --- Committee --- */
 
@@ -78,6 +79,10 @@ public enum ErrorCode
 
     PUBLIC_HEARING_NOT_FOUND(171, "The requested public hearing was not found"),
 
+    /** --- Export --- */
+
+    SNAPSHOT_NOT_FOUND(181, "The requested snapshot has not been generated"),
+
     /** --- Admin --- */
 
     USER_ALREADY_EXISTS(191, "The entered username already exists"),
@@ -20,6 +20,7 @@ public class BillAmendmentView extends BillIdView
     protected String lawCode;
     protected String actClause;
     protected String fullText;
+    protected int fullTextPageCount;
     protected ListView<MemberView> coSponsors;
     protected ListView<MemberView> multiSponsors;
     protected boolean uniBill;
@@ -37,6 +38,7 @@ public class BillAmendmentView extends BillIdView
             this.lawCode = billAmendment.getLaw();
             this.actClause = billAmendment.getActClause();
             this.fullText = BillTextUtils.formatBillText(billAmendment.isResolution(), billAmendment.getFullText());
+            this.fullTextPageCount = billAmendment.getTextMetrics().getPageCount();
             this.coSponsors = ListView.of(billAmendment.getCoSponsors().stream()
                 .map(MemberView::new)
                 .collect(Collectors.toList()));
@@ -81,6 +83,10 @@ public class BillAmendmentView extends BillIdView
         return fullText;
     }
 
+    public int getFullTextPageCount() {
+        return fullTextPageCount;
+    }
+
     public ListView<MemberView> getCoSponsors() {
         return coSponsors;
     }
@@ -53,7 +53,7 @@ public class BillPdfView
             pages = BillTextUtils.getResolutionPages(ba.getFullText());
         }
         else {
-            pages = BillTextUtils.getBillPages(ba.getFullText());
+            pages = BillTextUtils.getBillPages(ba.getFullText(), ba.getTextMetrics().getNewPageLines());
         }
 
         try (PDDocument doc = new PDDocument()) {
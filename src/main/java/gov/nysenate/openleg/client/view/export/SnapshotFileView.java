@@ -0,0 +1,68 @@
+package gov.nysenate.openleg.client.view.export;
+
+import gov.nysenate.openleg.client.view.base.ViewObject;
+import gov.nysenate.openleg.model.export.SnapshotFile;
+
+import java.time.LocalDateTime;
+
+public class SnapshotFileView implements ViewObject
+{
+    protected String type;
+    protected String key;
+    protected String url;
+    protected long size;
+    protected int itemCount;
+    protected String sha256;
+    protected String lastSourceId;
+    protected LocalDateTime generatedDateTime;
+
+    public SnapshotFileView(SnapshotFile snapshotFile, String url) {
+        if (snapshotFile != null) {
+            this.type = snapshotFile.getType().getName();
+            this.key = snapshotFile.getKey();
+            this.url = url;
+            this.size = snapshotFile.getSize();
+            this.itemCount = snapshotFile.getItemCount();
+            this.sha256 = snapshotFile.getSha256();
+            this.lastSourceId = snapshotFile.getLastSourceId();
+            this.generatedDateTime = snapshotFile.getGeneratedDateTime();
+        }
+    }
+
+    @Override
+    public String getViewType() {
+        return "snapshot-file";
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public String getLastSourceId() {
+        return lastSourceId;
+    }
+
+    public LocalDateTime getGeneratedDateTime() {
+        return generatedDateTime;
+    }
+}
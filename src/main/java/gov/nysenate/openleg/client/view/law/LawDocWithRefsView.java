@@ -1,6 +1,7 @@
 package gov.nysenate.openleg.client.view.law;
 
 import gov.nysenate.openleg.model.law.LawDocument;
+import gov.nysenate.openleg.model.law.LawTree;
 import gov.nysenate.openleg.model.law.LawTreeNode;
 
 import java.util.List;
@@ -14,17 +15,18 @@ public class LawDocWithRefsView extends LawDocView
     private LawDocInfoView prevSibling;
     private LawDocInfoView nextSibling;
 
-    public LawDocWithRefsView(LawDocument lawDocument, Optional<LawTreeNode> lawTreeNode) {
+    public LawDocWithRefsView(LawDocument lawDocument, LawTree lawTree) {
         super(lawDocument);
-        if (lawTreeNode.isPresent()) {
-            this.parents = lawTreeNode.get()
-                    .getAllParents().stream()
+        String documentId = lawDocument.getDocumentId();
+        if (lawTree != null && lawTree.find(documentId).isPresent()) {
+            this.parents = lawTree
+                    .getAllParents(documentId).stream()
                     .map(n -> new LawDocInfoView(n.getLawDocInfo())).collect(Collectors.toList());
             this.parentLocationIds = this.parents.stream().map(p -> p.getLocationId()).collect(Collectors.toList());
-            this.prevSibling = (lawTreeNode.get().getPrevSibling().isPresent())
-                    ? new LawDocInfoView(lawTreeNode.get().getPrevSibling().get().getLawDocInfo()) : null;
-            this.nextSibling = (lawTreeNode.get().getNextSibling().isPresent())
-                    ? new LawDocInfoView(lawTreeNode.get().getNextSibling().get().getLawDocInfo()) : null;
+            Optional<LawTreeNode> prevSibling = lawTree.getPrevSibling(documentId);
+            Optional<LawTreeNode> nextSibling = lawTree.getNextSibling(documentId);
+            this.prevSibling = (prevSibling.isPresent()) ? new LawDocInfoView(prevSibling.get().getLawDocInfo()) : null;
+            this.nextSibling = (nextSibling.isPresent()) ? new LawDocInfoView(nextSibling.get().getLawDocInfo()) : null;
         }
     }
 
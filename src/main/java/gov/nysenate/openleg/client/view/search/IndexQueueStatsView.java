@@ -0,0 +1,62 @@
+package gov.nysenate.openleg.client.view.search;
+
+import gov.nysenate.openleg.client.view.base.ViewObject;
+import gov.nysenate.openleg.model.search.IndexQueueStats;
+
+import java.time.LocalDateTime;
+
+public class IndexQueueStatsView implements ViewObject
+{
+    protected String index;
+    protected int queuedCount;
+    protected int inProgressCount;
+    protected LocalDateTime oldestQueuedDateTime;
+    protected long lagSeconds;
+    protected long indexedCount;
+    protected long failureCount;
+
+    public IndexQueueStatsView(IndexQueueStats stats) {
+        if (stats != null) {
+            this.index = stats.getIndex().name();
+            this.queuedCount = stats.getQueuedCount();
+            this.inProgressCount = stats.getInProgressCount();
+            this.oldestQueuedDateTime = stats.getOldestQueuedDateTime();
+            this.lagSeconds = stats.getLag().getSeconds();
+            this.indexedCount = stats.getIndexedCount();
+            this.failureCount = stats.getFailureCount();
+        }
+    }
+
+    @Override
+    public String getViewType() {
+        return "index-queue-stats";
+    }
+
+    public String getIndex() {
+        return index;
+    }
+
+    public int getQueuedCount() {
+        return queuedCount;
+    }
+
+    public int getInProgressCount() {
+        return inProgressCount;
+    }
+
+    public LocalDateTime getOldestQueuedDateTime() {
+        return oldestQueuedDateTime;
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    public long getIndexedCount() {
+        return indexedCount;
+    }
+
+    public long getFailureCount() {
+        return failureCount;
+    }
+}
@@ -0,0 +1,46 @@
+package gov.nysenate.openleg.client.view.spotcheck;
+
+import gov.nysenate.openleg.client.view.base.ViewObject;
+import gov.nysenate.openleg.model.spotcheck.DeNormSpotCheckMismatch;
+import gov.nysenate.openleg.model.spotcheck.MismatchDiff;
+import gov.nysenate.openleg.util.StringDiffer;
+
+import java.util.LinkedList;
+import java.util.Objects;
+
+public class MismatchDiffView implements ViewObject
+{
+    protected int mismatchId;
+    protected boolean simple;
+    protected boolean truncated;
+    protected LinkedList<StringDiffer.Diff> diff;
+
+    public MismatchDiffView(DeNormSpotCheckMismatch<?> mismatch, MismatchDiff mismatchDiff) {
+        this.mismatchId = mismatch.getMismatchId();
+        this.simple = mismatchDiff.isSimple();
+        this.truncated = mismatchDiff.isTruncated();
+        this.diff = mismatchDiff.toDiffs(Objects.toString(mismatch.getReferenceData(), ""),
+                                         Objects.toString(mismatch.getObservedData(), ""));
+    }
+
+    public int getMismatchId() {
+        return mismatchId;
+    }
+
+    public boolean isSimple() {
+        return simple;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public LinkedList<StringDiffer.Diff> getDiff() {
+        return diff;
+    }
+
+    @Override
+    public String getViewType() {
+        return "mismatch-diff";
+    }
+}
@@ -10,10 +10,9 @@ import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.SubscriberExceptionHandler;
 import gov.nysenate.openleg.model.agenda.Agenda;
 import gov.nysenate.openleg.model.agenda.AgendaId;
-import gov.nysenate.openleg.model.bill.BaseBillId;
-import gov.nysenate.openleg.model.bill.Bill;
 import gov.nysenate.openleg.model.calendar.CalendarId;
 import gov.nysenate.openleg.model.sobi.SobiFragment;
+import gov.nysenate.openleg.processor.base.BillIngestCache;
 import gov.nysenate.openleg.processor.base.IngestCache;
 import gov.nysenate.openleg.util.AsciiArt;
 import gov.nysenate.openleg.util.OpenlegThreadFactory;
@@ -195,6 +194,56 @@ public class ApplicationConfig implements CachingConfigurer, SchedulingConfigure
         return executor;
     }
 
+    @Value("${spotcheck.check.threads:0}") private int spotcheckCheckThreads;
+
+    /**
+     * A bounded executor dedicated to running spotcheck checks in parallel. It is kept separate from the
+     * async executor so that long running reports cannot starve the shards they are waiting on.
+     */
+    @Bean(name = "spotcheckExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor getSpotcheckExecutor() {
+        int threads = (spotcheckCheckThreads > 0) ? spotcheckCheckThreads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadFactory(new OpenlegThreadFactory("spotcheck"));
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.initialize();
+        return executor;
+    }
+
+    @Value("${data.process.file.threads:0}") private int fileIngestThreads;
+
+    /**
+     * A bounded executor used to parse independent source files, such as transcripts and public hearings,
+     * in parallel during ingest.
+     */
+    @Bean(name = "fileIngestExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor getFileIngestExecutor() {
+        int threads = (fileIngestThreads > 0) ? fileIngestThreads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadFactory(new OpenlegThreadFactory("file-ingest"));
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.initialize();
+        return executor;
+    }
+
+    @Value("${daybreak.process.threads:4}") private int daybreakThreads;
+
+    /**
+     * A bounded executor that writes batches of daybreak fragments, page file entries and bills.
+     * It is kept small so that daybreak collation cannot take over the database connection pool.
+     */
+    @Bean(name = "daybreakExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor getDaybreakExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadFactory(new OpenlegThreadFactory("daybreak-process"));
+        executor.setCorePoolSize(daybreakThreads);
+        executor.setMaxPoolSize(daybreakThreads);
+        executor.initialize();
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return new SimpleAsyncUncaughtExceptionHandler();
@@ -219,8 +268,8 @@ public class ApplicationConfig implements CachingConfigurer, SchedulingConfigure
     private int sobiBatchSize;
 
     @Bean(name = "billIngestCache")
-    public IngestCache<BaseBillId, Bill, SobiFragment> billIngestCache() {
-        return new IngestCache<>(sobiBatchSize);
+    public BillIngestCache billIngestCache() {
+        return new BillIngestCache(sobiBatchSize);
     }
 
     @Bean(name = "agendaIngestCache")
@@ -1,8 +1,11 @@
 package gov.nysenate.openleg.config;
 
 import com.mchange.v2.c3p0.ComboPooledDataSource;
+import gov.nysenate.openleg.dao.base.MetricsJdbcTemplate;
+import gov.nysenate.openleg.service.metrics.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,14 +33,19 @@ public class DatabaseConfig
     @Value("${postgresdb.user}")  private String dbUser;
     @Value("${postgresdb.pass}")  private String dbPass;
 
+    @Autowired private MetricsRegistry metricsRegistry;
+
+    /**
+     * Queries are timed through this template, the named parameter template below delegates to it.
+     */
     @Bean
     public JdbcTemplate jdbcTemplate() {
-        return new JdbcTemplate(postgresDataSource());
+        return new MetricsJdbcTemplate(postgresDataSource(), metricsRegistry);
     }
 
     @Bean
     public NamedParameterJdbcTemplate namedJdbcTemplate() {
-        return new NamedParameterJdbcTemplate(postgresDataSource());
+        return new NamedParameterJdbcTemplate(jdbcTemplate());
     }
 
     /**
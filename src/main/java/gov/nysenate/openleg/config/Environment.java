@@ -99,6 +99,10 @@ public class Environment
     @Value("${spotcheck.website.bill.data_queue_size:500}")
     private int sensiteBillDataQueueSize;
 
+    /** The number of references that are checked together as a single unit of parallel work */
+    @Value("${spotcheck.check.shard_size:250}")
+    private int spotcheckShardSize;
+
     /** --- Email Settings --- */
 
     /** Imaps host, username, and password for the application's email account*/
@@ -382,6 +386,14 @@ public class Environment
         this.sensiteBillDataQueueSize = sensiteBillDataQueueSize;
     }
 
+    public int getSpotcheckShardSize() {
+        return spotcheckShardSize;
+    }
+
+    public void setSpotcheckShardSize(int spotcheckShardSize) {
+        this.spotcheckShardSize = spotcheckShardSize;
+    }
+
     public String getEmailFromAddress() {
         return emailFromAddress;
     }
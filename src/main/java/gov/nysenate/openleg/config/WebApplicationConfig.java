@@ -1,5 +1,6 @@
 package gov.nysenate.openleg.config;
 
+import gov.nysenate.openleg.controller.api.base.ApiMetricsInterceptor;
 import gov.nysenate.openleg.util.AsciiArt;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,6 +21,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.servlet.config.annotation.ContentNegotiationConfigurer;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurerAdapter;
 import org.springframework.web.servlet.view.InternalResourceViewResolver;
@@ -43,6 +45,7 @@ public class WebApplicationConfig extends WebMvcConfigurerAdapter
     private static final String resourceLocation = "/static/";
 
     @Autowired ApplicationConfig appConfig;
+    @Autowired ApiMetricsInterceptor apiMetricsInterceptor;
 
     @PostConstruct
     public void init() {
@@ -56,6 +59,12 @@ public class WebApplicationConfig extends WebMvcConfigurerAdapter
         registry.addResourceHandler(resourcePath).addResourceLocations(resourceLocation).setCachePeriod(64000);
     }
 
+    /** Times the api requests, see {@link ApiMetricsInterceptor}. */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(apiMetricsInterceptor);
+    }
+
     /**
      * This view resolver will map view names returned from the controllers to jsp files stored in the
      * configured 'prefix' url.
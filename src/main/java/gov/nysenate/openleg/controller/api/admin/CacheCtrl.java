@@ -19,7 +19,8 @@ import gov.nysenate.openleg.model.cache.ContentCache;
 import gov.nysenate.openleg.model.calendar.CalendarId;
 import gov.nysenate.openleg.model.entity.Chamber;
 import gov.nysenate.openleg.model.entity.CommitteeSessionId;
-import gov.nysenate.openleg.model.law.LawVersionId;
+import gov.nysenate.openleg.model.hearing.PublicHearingId;
+import gov.nysenate.openleg.model.transcript.TranscriptId;
 import net.sf.ehcache.CacheManager;
 import org.apache.shiro.authz.annotation.RequiresAuthentication;
 import org.apache.shiro.authz.annotation.RequiresPermissions;
@@ -121,7 +122,6 @@ public class CacheCtrl extends BaseCtrl
      *                              year (integer) - year of the calendar
      *
      * Request params for LAW: lawId (string) - three letter law identifier
-     *                         publishedDate (date) - published date of this law version
      *
      * Request params for COMMITTEE: chamber (string) - senate or assembly
      *                               committeeName (string) - the name of the committee
@@ -130,6 +130,10 @@ public class CacheCtrl extends BaseCtrl
      * Request params for MEMBER: memberId (integer) - member id
      *
      * Request params for APIUSER: key (string) - api user's key
+     *
+     * Request params for TRANSCRIPT: filename (string) - transcript file name
+     *
+     * Request params for PUBLIC_HEARING: filename (string) - public hearing file name
      */
     @RequiresPermissions("admin:cacheEdit")
     @RequestMapping(value = "/{cacheType}/id", method = RequestMethod.DELETE)
@@ -167,7 +171,8 @@ public class CacheCtrl extends BaseCtrl
             case CALENDAR:
                 return getCalendarId(request);
             case LAW:
-                return getLawVersionId(request);
+                requireParameters(request, "lawId", "string");
+                return request.getParameter("lawId").toUpperCase();
             case COMMITTEE:
                 return getCommitteeSessionId(request);
             case MEMBER:
@@ -178,6 +183,15 @@ public class CacheCtrl extends BaseCtrl
                 return request.getParameter("key");
             case NOTIFICATION_SUBSCRIPTION:
                 return "all subscriptions";
+            case MISMATCH_DIFF:
+                requireParameters(request, "mismatchId", "integer");
+                return getIntegerParam(request, "mismatchId");
+            case TRANSCRIPT:
+                requireParameters(request, "filename", "string");
+                return new TranscriptId(request.getParameter("filename"));
+            case PUBLIC_HEARING:
+                requireParameters(request, "filename", "string");
+                return new PublicHearingId(request.getParameter("filename"));
             default:
                 return null;
         }
@@ -198,11 +212,6 @@ public class CacheCtrl extends BaseCtrl
         return new CalendarId(getIntegerParam(request, "calNo"), getIntegerParam(request, "year"));
     }
 
-    private LawVersionId getLawVersionId(WebRequest request) throws MissingServletRequestParameterException {
-        requireParameters(request, "lawId", "string", "publishedDate", "date");
-        return new LawVersionId(request.getParameter("lawId"), parseISODate(request.getParameter("publishedDate"), "publishedDate"));
-    }
-
     private CommitteeSessionId getCommitteeSessionId(WebRequest request) throws MissingServletRequestParameterException {
         requireParameters(request, "chamber", "string", "committeeName", "string", "year", "integer");
             return new CommitteeSessionId(getEnumParameter("chamber", request.getParameter("chamber"), Chamber.class),
@@ -0,0 +1,67 @@
+package gov.nysenate.openleg.controller.api.admin;
+
+import gov.nysenate.openleg.controller.api.base.BaseCtrl;
+import gov.nysenate.openleg.model.metrics.TimerType;
+import gov.nysenate.openleg.service.metrics.MetricsRegistry;
+import gov.nysenate.openleg.service.metrics.PrometheusTextWriter;
+import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.statistics.StatisticsGateway;
+import org.apache.shiro.authz.annotation.RequiresPermissions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+import static gov.nysenate.openleg.controller.api.base.BaseCtrl.BASE_ADMIN_API_PATH;
+
+@RestController
+@RequestMapping(value = BASE_ADMIN_API_PATH + "/metrics")
+public class MetricsCtrl extends BaseCtrl
+{
+    @Autowired private MetricsRegistry metricsRegistry;
+    @Autowired private CacheManager cacheManager;
+
+    /**
+     * Metrics API
+     * -----------
+     *
+     * Gets the recorded api request, sql query, sobi processing and search request timings along with
+     * the cache statistics in the Prometheus text format: (GET) /api/3/admin/metrics
+     */
+    @RequiresPermissions("admin:view")
+    @RequestMapping(value = "", method = RequestMethod.GET)
+    public ResponseEntity<String> getMetrics() {
+        PrometheusTextWriter writer = new PrometheusTextWriter();
+        for (TimerType type : TimerType.values()) {
+            writer.writeTimers(type, metricsRegistry.getTimers(type));
+        }
+        writer.writeMetric("openleg_cache_hits_total", "Cache hits, by cache.", "counter", "cache",
+                           getCacheStats(StatisticsGateway::cacheHitCount))
+              .writeMetric("openleg_cache_misses_total", "Cache misses, by cache.", "counter", "cache",
+                           getCacheStats(StatisticsGateway::cacheMissCount))
+              .writeMetric("openleg_cache_evictions_total", "Cache evictions, by cache.", "counter", "cache",
+                           getCacheStats(StatisticsGateway::cacheEvictedCount))
+              .writeMetric("openleg_cache_size", "Number of entries, by cache.", "gauge", "cache",
+                           getCacheStats(StatisticsGateway::getSize));
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONTENT_TYPE, PrometheusTextWriter.CONTENT_TYPE);
+        return new ResponseEntity<>(writer.toString(), headers, HttpStatus.OK);
+    }
+
+    /** --- Internal --- */
+
+    private Map<String, Long> getCacheStats(ToLongFunction<StatisticsGateway> stat) {
+        Map<String, Long> stats = new TreeMap<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            stats.put(cacheName, stat.applyAsLong(cacheManager.getCache(cacheName).getStatistics()));
+        }
+        return stats;
+    }
+}
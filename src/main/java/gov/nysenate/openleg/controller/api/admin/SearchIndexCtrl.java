@@ -7,11 +7,13 @@ import gov.nysenate.openleg.client.response.base.ListViewResponse;
 import gov.nysenate.openleg.client.response.base.SimpleResponse;
 import gov.nysenate.openleg.client.response.error.ErrorCode;
 import gov.nysenate.openleg.client.response.error.ErrorResponse;
+import gov.nysenate.openleg.client.view.search.IndexQueueStatsView;
 import gov.nysenate.openleg.controller.api.base.BaseCtrl;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.dao.base.SearchIndex;
 import gov.nysenate.openleg.model.search.ClearIndexEvent;
 import gov.nysenate.openleg.model.search.RebuildIndexEvent;
+import gov.nysenate.openleg.service.base.search.SearchIndexQueue;
 import org.apache.shiro.authz.annotation.RequiresAuthentication;
 import org.apache.shiro.authz.annotation.RequiresPermissions;
 import org.slf4j.Logger;
@@ -37,6 +39,7 @@ public class SearchIndexCtrl extends BaseCtrl
     private static final Logger logger = LoggerFactory.getLogger(SearchIndexCtrl.class);
 
     @Autowired private EventBus eventBus;
+    @Autowired private SearchIndexQueue indexQueue;
 
     @PostConstruct
     private void init() {
@@ -94,6 +97,21 @@ public class SearchIndexCtrl extends BaseCtrl
         return ListViewResponse.ofStringList(names, names.size(), LimitOffset.ALL);
     }
 
+    /**
+     * Search Index Queue API
+     *
+     * Get the state of the queue of content waiting to be indexed: (GET) /api/3/admin/index/queue
+     * The lag of each index is how long the longest waiting content has been queued for.
+     */
+    @RequiresPermissions("admin:searchIndexEdit")
+    @RequestMapping(value = "/queue", method = RequestMethod.GET)
+    public BaseResponse getIndexQueueStats() {
+        List<IndexQueueStatsView> stats = indexQueue.getStats().stream()
+            .map(IndexQueueStatsView::new)
+            .collect(Collectors.toList());
+        return ListViewResponse.of(stats, stats.size(), LimitOffset.ALL);
+    }
+
     /** --- Internal --- */
 
     private Set<SearchIndex> getTargetIndices(String indexType) throws IllegalArgumentException {
@@ -6,8 +6,12 @@ import gov.nysenate.openleg.client.response.base.BaseResponse;
 import gov.nysenate.openleg.client.response.base.ListViewResponse;
 import gov.nysenate.openleg.client.response.base.SimpleResponse;
 import gov.nysenate.openleg.client.response.base.ViewObjectResponse;
+import gov.nysenate.openleg.client.response.error.ErrorCode;
+import gov.nysenate.openleg.client.response.error.ErrorResponse;
+import gov.nysenate.openleg.client.response.error.ViewObjectErrorResponse;
 import gov.nysenate.openleg.client.view.base.ListView;
 import gov.nysenate.openleg.client.view.spotcheck.MismatchContentTypeSummaryView;
+import gov.nysenate.openleg.client.view.spotcheck.MismatchDiffView;
 import gov.nysenate.openleg.client.view.spotcheck.MismatchStatusSummaryView;
 import gov.nysenate.openleg.client.view.spotcheck.MismatchTypeSummaryView;
 import gov.nysenate.openleg.client.view.spotcheck.MismatchView;
@@ -18,12 +22,15 @@ import gov.nysenate.openleg.dao.base.PaginatedList;
 import gov.nysenate.openleg.dao.base.SortOrder;
 import gov.nysenate.openleg.dao.spotcheck.MismatchOrderBy;
 import gov.nysenate.openleg.model.spotcheck.*;
+import gov.nysenate.openleg.service.spotcheck.base.MismatchDiffService;
+import gov.nysenate.openleg.service.spotcheck.base.MismatchNotFoundEx;
 import gov.nysenate.openleg.service.spotcheck.base.SpotCheckReportService;
 import gov.nysenate.openleg.service.spotcheck.base.SpotcheckRunService;
 import org.apache.shiro.authz.annotation.RequiresPermissions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.context.request.WebRequest;
 
@@ -44,6 +51,7 @@ public class SpotCheckCtrl extends BaseCtrl
 
     @Autowired private List<SpotCheckReportService<?>> reportServices;
     @Autowired private SpotcheckRunService spotcheckRunService;
+    @Autowired private MismatchDiffService mismatchDiffService;
 
     private ImmutableMap<SpotCheckRefType, SpotCheckReportService<?>> reportServiceMap;
 
@@ -195,6 +203,23 @@ public class SpotCheckCtrl extends BaseCtrl
         return new ViewObjectResponse<>(new MismatchContentTypeSummaryView(summary));
     }
 
+    /**
+     * Spotcheck Mismatch Diff API
+     *
+     * Get the diff between the reference and observed data of a mismatch.
+     * Diffs are computed on the first request and cached for subsequent requests.
+     *
+     * Usage: (GET) /api/3/admin/spotcheck/mismatches/{mismatchId}/diff
+     *
+     * Request Parameters: simple - boolean - optional - set to false for a more granular diff (default true)
+     */
+    @RequestMapping(value = "/mismatches/{mismatchId:\\d+}/diff", method = RequestMethod.GET)
+    public BaseResponse getMismatchDiff(@PathVariable int mismatchId,
+                                        @RequestParam(defaultValue = "true") boolean simple) {
+        DeNormSpotCheckMismatch<?> mismatch = getAnyReportService().getMismatch(mismatchId);
+        return new ViewObjectResponse<>(new MismatchDiffView(mismatch, mismatchDiffService.getDiff(mismatch, simple)));
+    }
+
     /**
      * Spotcheck Mismatch Ignore API
      *
@@ -342,6 +367,14 @@ public class SpotCheckCtrl extends BaseCtrl
         return new SimpleResponse(true, "Agenda Interval Reports for " + yr + " have been run.", "report report");
     }
 
+    /** --- Exception Handlers --- */
+
+    @ExceptionHandler(MismatchNotFoundEx.class)
+    @ResponseStatus(value = HttpStatus.NOT_FOUND)
+    public ErrorResponse handleMismatchNotFoundEx(MismatchNotFoundEx ex) {
+        return new ViewObjectErrorResponse(ErrorCode.SPOTCHECK_MISMATCH_NOT_FOUND, ex.getMismatchId());
+    }
+
     /** --- Internal Methods --- */
 
     private SpotCheckDataSource getDatasource(String datasource) {
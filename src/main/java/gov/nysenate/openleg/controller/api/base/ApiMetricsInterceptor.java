@@ -0,0 +1,59 @@
+package gov.nysenate.openleg.controller.api.base;
+
+import gov.nysenate.openleg.model.metrics.Timer;
+import gov.nysenate.openleg.model.metrics.TimerType;
+import gov.nysenate.openleg.service.metrics.MetricsRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Times each request handled by a {@link BaseCtrl} request mapping, from the time the handler is chosen until
+ * the response is complete. Requests are keyed by the controller and method name e.g. 'BillGetCtrl.getBill'.
+ */
+@Component
+public class ApiMetricsInterceptor extends HandlerInterceptorAdapter
+{
+    private static final String startAttribute = ApiMetricsInterceptor.class.getName() + ".start";
+
+    @Autowired private MetricsRegistry metricsRegistry;
+
+    /** The timer for each handler method, cached to avoid building the key on every request. */
+    private final ConcurrentMap<Method, Timer> handlerTimers = new ConcurrentHashMap<>();
+
+    /** --- Overrides --- */
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isApiHandler(handler)) {
+            request.setAttribute(startAttribute, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object start = request.getAttribute(startAttribute);
+        if (start != null && isApiHandler(handler)) {
+            HandlerMethod handlerMethod = (HandlerMethod) handler;
+            handlerTimers.computeIfAbsent(handlerMethod.getMethod(), method ->
+                metricsRegistry.getTimer(TimerType.API_REQUEST,
+                                         handlerMethod.getBeanType().getSimpleName() + "." + method.getName()))
+                .recordSince((Long) start);
+        }
+    }
+
+    /** --- Internal Methods --- */
+
+    private static boolean isApiHandler(Object handler) {
+        return handler instanceof HandlerMethod && BaseCtrl.class.isAssignableFrom(((HandlerMethod) handler).getBeanType());
+    }
+}
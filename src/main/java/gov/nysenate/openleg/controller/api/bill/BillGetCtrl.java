@@ -1,6 +1,7 @@
 package gov.nysenate.openleg.controller.api.bill;
 
 import gov.nysenate.openleg.client.response.base.BaseResponse;
+import gov.nysenate.openleg.client.response.base.CursorListViewResponse;
 import gov.nysenate.openleg.client.response.base.ListViewResponse;
 import gov.nysenate.openleg.client.response.base.ViewObjectResponse;
 import gov.nysenate.openleg.client.response.error.ErrorCode;
@@ -36,6 +37,7 @@ import org.springframework.web.context.request.WebRequest;
 
 import java.io.ByteArrayOutputStream;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import static gov.nysenate.openleg.controller.api.base.BaseCtrl.BASE_API_PATH;
@@ -86,6 +88,9 @@ public class BillGetCtrl extends BaseCtrl
      *                     full - If true, the full bill view should be returned. Otherwise just the info.
      *                     limit - Limit the number of results.
      *                     offset - Start results from an offset.
+     *                     cursor - Page through the bills with a cursor instead of an offset. Set to '*' for the
+     *                              first page, then to the cursor returned with the previous page. Required to
+     *                              page past the first 10000 bills.
      *
      * Expected Output: List of BillInfoView or BillView
      */
@@ -94,24 +99,30 @@ public class BillGetCtrl extends BaseCtrl
                                  @RequestParam(defaultValue = "publishedDateTime:asc") String sort,
                                  @RequestParam(defaultValue = "false") boolean full,
                                  @RequestParam(defaultValue = "false") boolean idsOnly,
+                                 @RequestParam(required = false) String cursor,
                                  WebRequest webRequest) throws SearchException {
         LimitOffset limOff = getLimitOffset(webRequest, 50);
-        SearchResults<BaseBillId> results =
-            billSearch.searchBills(SessionYear.of(sessionYear), sort, limOff);
+        SearchResults<BaseBillId> results = (cursor != null)
+            ? billSearch.searchBills(SessionYear.of(sessionYear), sort, limOff.getLimit(), cursor)
+            : billSearch.searchBills(SessionYear.of(sessionYear), sort, limOff);
         // The bill data is retrieved from the data service so the data is always fresh.
-        return ListViewResponse.of(
-            results.getResults().stream()
-                .map(r -> {
-                    BaseBillId baseBillId = r.getResult();
-                    if (idsOnly) {
-                        return new BaseBillIdView(baseBillId);
-                    }
-                    if (full) {
-                        return new BillView(billData.getBill(baseBillId));
-                    }
-                    return new BillInfoView(billData.getBillInfo(baseBillId));
-                })
-                .collect(Collectors.toList()), results.getTotalResults(), limOff);
+        List<ViewObject> billViews = results.getResults().stream()
+            .<ViewObject>map(r -> {
+                BaseBillId baseBillId = r.getResult();
+                if (idsOnly) {
+                    return new BaseBillIdView(baseBillId);
+                }
+                if (full) {
+                    return new BillView(billData.getBill(baseBillId));
+                }
+                return new BillInfoView(billData.getBillInfo(baseBillId));
+            })
+            .collect(Collectors.toList());
+        if (cursor != null) {
+            return CursorListViewResponse.of(billViews, results.getTotalResults(), results.getLimitOffset(),
+                                             results.getCursor());
+        }
+        return ListViewResponse.of(billViews, results.getTotalResults(), limOff);
     }
 
     /**
@@ -1,6 +1,7 @@
 package gov.nysenate.openleg.controller.api.bill;
 
 import gov.nysenate.openleg.client.response.base.BaseResponse;
+import gov.nysenate.openleg.client.response.base.CursorListViewResponse;
 import gov.nysenate.openleg.client.response.base.ListViewResponse;
 import gov.nysenate.openleg.client.view.base.SearchResultView;
 import gov.nysenate.openleg.client.view.bill.BillIdView;
@@ -20,6 +21,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
+
 import static gov.nysenate.openleg.controller.api.base.BaseCtrl.BASE_API_PATH;
 import static java.util.stream.Collectors.toList;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
@@ -46,16 +49,22 @@ public class BillSearchCtrl extends BaseCtrl
      *                      full - Set to true to retrieve full bill responses (false by default)
      *                      limit - Limit the number of results (default 25)
      *                      offset - Start results from offset
+     *                      cursor - Page through the results with a cursor instead of an offset. Set to '*' for
+     *                               the first page, then to the cursor returned with the previous page.
+     *                               Required to page past the first 10000 results.
      */
     @RequestMapping(value = "/search")
     public BaseResponse globalSearch(@RequestParam(required = true) String term,
                                      @RequestParam(defaultValue = "") String sort,
                                      @RequestParam(defaultValue = "false") boolean full,
                                      @RequestParam(defaultValue = "false") boolean idOnly,
+                                     @RequestParam(required = false) String cursor,
                                      WebRequest webRequest) throws SearchException {
         LimitOffset limOff = getLimitOffset(webRequest, 25);
-        SearchResults<BaseBillId> results = billSearch.searchBills(term, sort, limOff);
-        return getBillSearchResponse(results, full, idOnly, limOff);
+        SearchResults<BaseBillId> results = (cursor != null)
+            ? billSearch.searchBills(term, sort, limOff.getLimit(), cursor)
+            : billSearch.searchBills(term, sort, limOff);
+        return getBillSearchResponse(results, full, idOnly, limOff, cursor != null);
     }
 
     /**
@@ -71,22 +80,31 @@ public class BillSearchCtrl extends BaseCtrl
                                       @RequestParam(defaultValue = "") String sort,
                                       @RequestParam(defaultValue = "false") boolean full,
                                       @RequestParam(defaultValue = "false") boolean idOnly,
+                                      @RequestParam(required = false) String cursor,
                                       WebRequest webRequest) throws SearchException {
         LimitOffset limOff = getLimitOffset(webRequest, 25);
-        SearchResults<BaseBillId> results = billSearch.searchBills(term, SessionYear.of(sessionYear), sort, limOff);
-        return getBillSearchResponse(results, full, idOnly, limOff);
+        SearchResults<BaseBillId> results = (cursor != null)
+            ? billSearch.searchBills(term, SessionYear.of(sessionYear), sort, limOff.getLimit(), cursor)
+            : billSearch.searchBills(term, SessionYear.of(sessionYear), sort, limOff);
+        return getBillSearchResponse(results, full, idOnly, limOff, cursor != null);
     }
 
     /** --- Internal --- */
 
-    private BaseResponse getBillSearchResponse(SearchResults<BaseBillId> results, boolean full, boolean idOnly, LimitOffset limOff) {
-        return ListViewResponse.of(
-            results.getResults().stream()
-                .map(r -> new SearchResultView((full)
-                        ? new BillView(billData.getBill(r.getResult()))
-                        : (idOnly)
-                            ? new BillIdView(r.getResult())
-                            : new BillInfoView(billData.getBillInfo(r.getResult())), r.getRank(), r.getHighlights()))
-                .collect(toList()), results.getTotalResults(), limOff);
+    private BaseResponse getBillSearchResponse(SearchResults<BaseBillId> results, boolean full, boolean idOnly,
+                                               LimitOffset limOff, boolean cursorPaging) {
+        List<SearchResultView> resultViews = results.getResults().stream()
+            .map(r -> new SearchResultView((full)
+                    ? new BillView(billData.getBill(r.getResult()))
+                    : (idOnly)
+                        ? new BillIdView(r.getResult())
+                        : new BillInfoView(billData.getBillInfo(r.getResult())), r.getRank(), r.getHighlights()))
+            .collect(toList());
+        // Cursor based results carry their own pagination
+        if (cursorPaging) {
+            return CursorListViewResponse.of(resultViews, results.getTotalResults(), results.getLimitOffset(),
+                                             results.getCursor());
+        }
+        return ListViewResponse.of(resultViews, results.getTotalResults(), limOff);
     }
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package gov.nysenate.openleg.controller.api.export;
+
+import gov.nysenate.openleg.controller.api.base.BaseCtrl;
+import gov.nysenate.openleg.model.base.SessionYear;
+import gov.nysenate.openleg.service.export.SessionExportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static gov.nysenate.openleg.controller.api.base.BaseCtrl.BASE_API_PATH;
+
+/**
+ * Bulk export APIs
+ */
+@RestController
+@RequestMapping(value = BASE_API_PATH + "/export", method = RequestMethod.GET)
+public class SessionExportCtrl extends BaseCtrl
+{
+    private static final Logger logger = LoggerFactory.getLogger(SessionExportCtrl.class);
+
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
+    @Autowired protected SessionExportService exportService;
+
+    /**
+     * Session Bill Export API
+     * -----------------------
+     *
+     * Export every bill of a session as newline delimited json: (GET) /api/3/export/{sessionYear}/bills
+     * Request Parameters: gzip - If true, the output is gzip compressed (default false)
+     *
+     * Expected Output: One full BillView per line, ordered by print no.
+     */
+    @RequestMapping(value = "/{sessionYear:[\\d]{4}}/bills")
+    public void exportBills(@PathVariable int sessionYear,
+                            @RequestParam(defaultValue = "false") boolean gzip,
+                            HttpServletResponse response) throws IOException {
+        export(SessionYear.of(sessionYear), "bills", gzip, response, exportService::exportBills);
+    }
+
+    /**
+     * Session Agenda Export API
+     * -------------------------
+     *
+     * Export every agenda of a session as newline delimited json: (GET) /api/3/export/{sessionYear}/agendas
+     * @see #exportBills for request params
+     *
+     * Expected Output: One AgendaView per line.
+     */
+    @RequestMapping(value = "/{sessionYear:[\\d]{4}}/agendas")
+    public void exportAgendas(@PathVariable int sessionYear,
+                              @RequestParam(defaultValue = "false") boolean gzip,
+                              HttpServletResponse response) throws IOException {
+        export(SessionYear.of(sessionYear), "agendas", gzip, response, exportService::exportAgendas);
+    }
+
+    /**
+     * Session Calendar Export API
+     * ---------------------------
+     *
+     * Export every calendar of a session as newline delimited json: (GET) /api/3/export/{sessionYear}/calendars
+     * @see #exportBills for request params
+     *
+     * Expected Output: One CalendarView per line.
+     */
+    @RequestMapping(value = "/{sessionYear:[\\d]{4}}/calendars")
+    public void exportCalendars(@PathVariable int sessionYear,
+                                @RequestParam(defaultValue = "false") boolean gzip,
+                                HttpServletResponse response) throws IOException {
+        export(SessionYear.of(sessionYear), "calendars", gzip, response, exportService::exportCalendars);
+    }
+
+    /** --- Internal --- */
+
+    @FunctionalInterface
+    private interface Exporter
+    {
+        int export(SessionYear sessionYear, OutputStream out) throws IOException;
+    }
+
+    /**
+     * Streams the export to the response. The response is committed once the first items are written,
+     * so an error part way through can only be signaled by the output ending early.
+     */
+    private void export(SessionYear sessionYear, String contentName, boolean gzip, HttpServletResponse response,
+                        Exporter exporter) throws IOException {
+        String fileName = contentName + "-" + sessionYear.getYear() + ".ndjson" + (gzip ? ".gz" : "");
+        response.setContentType(NDJSON_CONTENT_TYPE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            out = new GZIPOutputStream(out, 64 * 1024);
+        }
+        logger.info("Exporting {} for session {}", contentName, sessionYear);
+        exporter.export(sessionYear, out);
+        if (gzip) {
+            ((GZIPOutputStream) out).finish();
+        }
+        out.flush();
+    }
+}
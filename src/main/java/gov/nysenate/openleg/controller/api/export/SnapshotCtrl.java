@@ -0,0 +1,108 @@
+package gov.nysenate.openleg.controller.api.export;
+
+import gov.nysenate.openleg.client.response.base.BaseResponse;
+import gov.nysenate.openleg.client.response.base.ListViewResponse;
+import gov.nysenate.openleg.client.response.error.ErrorCode;
+import gov.nysenate.openleg.client.response.error.ErrorResponse;
+import gov.nysenate.openleg.client.view.export.SnapshotFileView;
+import gov.nysenate.openleg.controller.api.base.BaseCtrl;
+import gov.nysenate.openleg.dao.base.LimitOffset;
+import gov.nysenate.openleg.model.export.SnapshotFile;
+import gov.nysenate.openleg.model.export.SnapshotType;
+import gov.nysenate.openleg.service.export.OpenSnapshot;
+import gov.nysenate.openleg.service.export.SnapshotNotFoundEx;
+import gov.nysenate.openleg.service.export.SnapshotService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static gov.nysenate.openleg.controller.api.base.BaseCtrl.BASE_API_PATH;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * Precomputed Snapshot APIs
+ */
+@RestController
+@RequestMapping(value = BASE_API_PATH + "/export/snapshots", method = RequestMethod.GET)
+public class SnapshotCtrl extends BaseCtrl
+{
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotCtrl.class);
+
+    @Autowired private SnapshotService snapshotService;
+
+    /**
+     * Snapshot Manifest API
+     * ---------------------
+     *
+     * List all of the snapshot files that have been generated: (GET) /api/3/export/snapshots
+     *
+     * Expected Output: List of SnapshotFileView, including the checksum and download url of each file.
+     */
+    @RequestMapping(value = "", produces = APPLICATION_JSON_VALUE)
+    public BaseResponse getManifest() {
+        List<SnapshotFileView> views = snapshotService.getManifest().stream()
+            .map(snapshotFile -> new SnapshotFileView(snapshotFile, getDownloadUrl(snapshotFile)))
+            .collect(Collectors.toList());
+        return ListViewResponse.of(views, views.size(), LimitOffset.ALL);
+    }
+
+    /**
+     * Snapshot Download API
+     * ---------------------
+     *
+     * Download a snapshot file: (GET) /api/3/export/snapshots/{type}/{key}
+     * where type is one of bills, agendas, calendars, members (key is a session year) or laws (key is a law id).
+     *
+     * Expected Output: A gzip compressed newline delimited json file. The ETag is the sha256 checksum of the file.
+     */
+    @RequestMapping(value = "/{type}/{key}")
+    public void getSnapshot(@PathVariable String type, @PathVariable String key,
+                            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        SnapshotType snapshotType = getEnumParameter("type", type, SnapshotType.class);
+        // The etag, length and content are all taken from the opened file, even if the snapshot is rewritten
+        try (OpenSnapshot snapshot = snapshotService.openSnapshot(snapshotType, key)) {
+            String etag = "\"" + snapshot.getSnapshotFile().getSha256() + "\"";
+            if (etag.equals(request.getHeader("If-None-Match"))) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+            FileChannel channel = snapshot.getChannel();
+            long size = channel.size();
+            String fileName = snapshotType.getName() + "-" + key + ".ndjson.gz";
+            response.setContentType("application/gzip");
+            response.setHeader("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
+            response.setHeader("ETag", etag);
+            response.setContentLengthLong(size);
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            for (long position = 0; position < size; ) {
+                position += channel.transferTo(position, size - position, out);
+            }
+        }
+    }
+
+    /** --- Internal --- */
+
+    private String getDownloadUrl(SnapshotFile snapshotFile) {
+        return BASE_API_PATH + "/export/snapshots/" + snapshotFile.getType().getName() + "/" + snapshotFile.getKey();
+    }
+
+    /** --- Exception Handlers --- */
+
+    @ExceptionHandler(SnapshotNotFoundEx.class)
+    @ResponseStatus(value = HttpStatus.NOT_FOUND)
+    public ErrorResponse handleSnapshotNotFoundEx(SnapshotNotFoundEx ex) {
+        logger.debug(ex.getMessage());
+        return new ErrorResponse(ErrorCode.SNAPSHOT_NOT_FOUND);
+    }
+}
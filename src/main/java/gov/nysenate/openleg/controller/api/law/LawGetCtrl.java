@@ -118,8 +118,8 @@ public class LawGetCtrl extends BaseCtrl
         String documentId = lawId + locationId;
         LawDocument doc = lawDataService.getLawDocument(documentId, activeDate);
         LocalDate refTreeLocalDate = (refTreeDate != null) ? parseISODate(refTreeDate, "refTreeDate") : LocalDate.now();
-        Optional<LawTreeNode> lawTreeNodeOpt = lawDataService.getLawTree(lawId, refTreeLocalDate).find(documentId);
-        ViewObjectResponse<LawDocWithRefsView> response = new ViewObjectResponse<>(new LawDocWithRefsView(doc, lawTreeNodeOpt));
+        LawTree lawTree = lawDataService.getLawTree(lawId, refTreeLocalDate);
+        ViewObjectResponse<LawDocWithRefsView> response = new ViewObjectResponse<>(new LawDocWithRefsView(doc, lawTree));
         response.setMessage("Law document for location " + locationId + " in " + lawId + " law ");
         return response;
     }
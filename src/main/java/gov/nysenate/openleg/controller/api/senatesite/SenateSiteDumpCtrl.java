@@ -1,5 +1,6 @@
 package gov.nysenate.openleg.controller.api.senatesite;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import gov.nysenate.openleg.client.response.base.BaseResponse;
 import gov.nysenate.openleg.client.response.base.SimpleResponse;
 import gov.nysenate.openleg.client.response.error.ErrorCode;
@@ -8,7 +9,6 @@ import gov.nysenate.openleg.client.response.error.ViewObjectErrorResponse;
 import gov.nysenate.openleg.controller.api.base.BaseCtrl;
 import gov.nysenate.openleg.dao.bill.reference.senatesite.SenateSiteDao;
 import gov.nysenate.openleg.model.spotcheck.senatesite.SenateSiteDumpFragment;
-import gov.nysenate.openleg.util.SenateSiteDumpFragParser;
 import gov.nysenate.openleg.util.SenateSiteDumpFragParser.SenateSiteDumpFragParserException;
 import org.apache.shiro.authz.annotation.RequiresPermissions;
 import org.slf4j.Logger;
@@ -18,6 +18,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 import static gov.nysenate.openleg.controller.api.base.BaseCtrl.BASE_API_PATH;
 
@@ -28,18 +29,18 @@ public class SenateSiteDumpCtrl extends BaseCtrl {
     private static final Logger logger = LoggerFactory.getLogger(SenateSiteDumpCtrl.class);
 
     @Autowired private SenateSiteDao senateSiteDao;
-    @Autowired private SenateSiteDumpFragParser parser;
 
     /**
      * nysenate.gov Dump API
      *
-     * Posts a fragment of a json node data dump
+     * Posts a fragment of a json node data dump.
+     * The request body is streamed to disk, so fragments of any size can be received.
      *
      * Usage: (POST) /api/3/senatesite/dump
      */
     @RequiresPermissions("senatesite:dump:post")
     @RequestMapping(value = "/dump", method = RequestMethod.POST, consumes = "application/json")
-    public BaseResponse sendSenateSiteDumpFragment(@RequestBody String fragmentJson) throws IOException {
+    public BaseResponse sendSenateSiteDumpFragment(InputStream fragmentJson) throws IOException {
         if(saveDump(fragmentJson)){
             return new SimpleResponse(true, "Dump received.  Thanks!", "dump-received");
         }
@@ -50,14 +51,16 @@ public class SenateSiteDumpCtrl extends BaseCtrl {
      * This method saves Fragment Json
      * @param fragmentJson: Bill or Calendar or Agenda Dump
      * @return true: if successful or false: otherwise
-     * @throws IOException
+     * @throws IOException if the fragment json is malformed
      */
-    private boolean saveDump(String fragmentJson) throws IOException{
-        SenateSiteDumpFragment fragment = parser.parseFragment(fragmentJson);
+    private boolean saveDump(InputStream fragmentJson) throws IOException{
         try {
-            senateSiteDao.saveDumpFragment(fragment, fragmentJson);
+            SenateSiteDumpFragment fragment = senateSiteDao.saveDumpFragment(fragmentJson);
+            logger.debug("Received senate site dump fragment {}", fragment);
+        } catch (JsonProcessingException ex) {
+            throw ex;
         } catch (IOException ex) {
-            logger.error("Error while saving senate site dump fragment " + fragment.toString(), ex);
+            logger.error("Error while saving senate site dump fragment", ex);
             return false;
         }
         return true;
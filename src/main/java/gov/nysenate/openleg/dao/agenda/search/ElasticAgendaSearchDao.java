@@ -38,7 +38,7 @@ public class ElasticAgendaSearchDao extends ElasticBaseDao implements AgendaSear
     public SearchResults<AgendaId> searchAgendas(QueryBuilder query, QueryBuilder postFilter,
                                                  List<SortBuilder> sort, LimitOffset limOff) {
         SearchRequestBuilder searchBuilder = getSearchRequest(agendaIndexName, query, postFilter, sort, limOff);
-        SearchResponse response = searchBuilder.execute().actionGet();
+        SearchResponse response = executeSearch(searchBuilder);
         logger.debug("Agenda Search result with query {} took {} ms", query, response.getTookInMillis());
         return getSearchResults(response, limOff, this::getAgendaIdFromHit);
     }
@@ -48,7 +48,7 @@ public class ElasticAgendaSearchDao extends ElasticBaseDao implements AgendaSear
     public SearchResults<CommitteeAgendaId> searchCommitteeAgendas(QueryBuilder query, QueryBuilder postFilter,
                                                                    List<SortBuilder> sort, LimitOffset limOff) {
         SearchRequestBuilder searchBuilder = getSearchRequest(agendaIndexName, query, postFilter, sort, limOff);
-        SearchResponse response = searchBuilder.execute().actionGet();
+        SearchResponse response = executeSearch(searchBuilder);
         logger.debug("Committee Agenda search result with query {} took {} ms", query, response.getTookInMillis());
         return getSearchResults(response, limOff, (hit) ->
             new CommitteeAgendaId(
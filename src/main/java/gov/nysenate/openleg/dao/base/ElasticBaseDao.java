@@ -1,8 +1,10 @@
 package gov.nysenate.openleg.dao.base;
 
 import com.google.common.primitives.Ints;
+import gov.nysenate.openleg.model.metrics.TimerType;
 import gov.nysenate.openleg.model.search.SearchResult;
 import gov.nysenate.openleg.model.search.SearchResults;
+import gov.nysenate.openleg.service.metrics.MetricsRegistry;
 import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
 import org.elasticsearch.action.admin.indices.exists.indices.IndicesExistsRequest;
 import org.elasticsearch.action.bulk.BulkRequestBuilder;
@@ -13,6 +15,7 @@ import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.action.search.SearchType;
 import org.elasticsearch.client.Client;
 import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.index.IndexNotFoundException;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.search.SearchHit;
@@ -25,7 +28,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import javax.annotation.PostConstruct;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
@@ -39,11 +44,24 @@ public abstract class ElasticBaseDao
 
     private static final int defaultMaxResultWindow = 10000;
 
+    /** The cursor used to request the first page of a cursor based search. */
+    public static final String FIRST_PAGE_CURSOR = "*";
+
+    /** How long the search context of a cursor is kept open between the requests for consecutive pages. */
+    private static final TimeValue cursorKeepAlive = TimeValue.timeValueMinutes(5);
+
     @Autowired
     protected Client searchClient;
 
+    @Autowired
+    private MetricsRegistry metricsRegistry;
+
+    /** Identifies the indices of this dao in the search request timers. */
+    private String indexLabel;
+
     @PostConstruct
     private void init() {
+        indexLabel = String.join(",", getIndices());
         createIndices();
     }
 
@@ -135,15 +153,48 @@ public abstract class ElasticBaseDao
     protected <R> SearchResults<R> getSearchResults(SearchResponse response, LimitOffset limitOffset,
                                                     Function<SearchHit, R> hitMapper) {
         limitOffset = adjustLimitOffset(limitOffset);
-        List<SearchResult<R>> resultList = new ArrayList<>();
-        for (SearchHit hit : response.getHits().hits()) {
-            SearchResult<R> result = new SearchResult<>(
-                    hitMapper.apply(hit), // Result
-                    (!Float.isNaN(hit.getScore())) ? BigDecimal.valueOf(hit.getScore()) : BigDecimal.ONE, // Rank
-                    hit.getHighlightFields()); // Highlights
-            resultList.add(result);
+        return new SearchResults<>(Ints.checkedCast(response.getHits().getTotalHits()),
+                                   getResultList(response, hitMapper), limitOffset);
+    }
+
+    /**
+     * Executes a search that is paged through with a cursor instead of an offset. A scroll context is opened
+     * for the first page and kept open between pages, so the cost of retrieving a page does not depend on how
+     * deep into the results it is. The page size is set by the search request for the first page.
+     *
+     * @param searchBuilder SearchRequestBuilder - The search request, only executed for the first page.
+     * @param cursor String - {@link #FIRST_PAGE_CURSOR} or the cursor returned with the previous page.
+     * @param hitMapper a function that maps a SearchHit to the desired return type R
+     * @return SearchResults<R> - The page of results along with the cursor for the next page, if there is one.
+     * @throws IllegalArgumentException - If the cursor is not valid.
+     */
+    protected <R> SearchResults<R> getCursorSearchResults(SearchRequestBuilder searchBuilder, String cursor,
+                                                          Function<SearchHit, R> hitMapper) {
+        SearchResponse response;
+        int offset;
+        if (FIRST_PAGE_CURSOR.equals(cursor)) {
+            response = executeSearch(searchBuilder.setScroll(cursorKeepAlive));
+            offset = 0;
         }
-        return new SearchResults<>(Ints.checkedCast(response.getHits().getTotalHits()), resultList, limitOffset);
+        else {
+            String[] parts = decodeCursor(cursor);
+            long start = System.nanoTime();
+            response = searchClient.prepareSearchScroll(parts[1]).setScroll(cursorKeepAlive).execute().actionGet();
+            recordSearchRequest("scroll", start);
+            offset = Integer.parseInt(parts[0]);
+        }
+        SearchHit[] hits = response.getHits().hits();
+        LimitOffset limitOffset = new LimitOffset(Math.max(hits.length, 1), offset + 1);
+        int offsetEnd = offset + hits.length;
+        String nextCursor = null;
+        if (hits.length > 0 && offsetEnd < response.getHits().getTotalHits()) {
+            nextCursor = encodeCursor(offsetEnd, response.getScrollId());
+        }
+        else {
+            searchClient.prepareClearScroll().addScrollId(response.getScrollId()).execute();
+        }
+        return new SearchResults<>(Ints.checkedCast(response.getHits().getTotalHits()),
+                                   getResultList(response, hitMapper), limitOffset, nextCursor);
     }
 
     /**
@@ -171,10 +222,24 @@ public abstract class ElasticBaseDao
      */
     protected void safeBulkRequestExecute(BulkRequestBuilder bulkRequest) {
         if (bulkRequest != null && bulkRequest.numberOfActions() > 0) {
+            long start = System.nanoTime();
             bulkRequest.execute().actionGet();
+            recordSearchRequest("bulk", start);
         }
     }
 
+    /**
+     * Executes the search request and records the time it took.
+     * @param searchBuilder SearchRequestBuilder
+     * @return SearchResponse
+     */
+    protected SearchResponse executeSearch(SearchRequestBuilder searchBuilder) {
+        long start = System.nanoTime();
+        SearchResponse response = searchBuilder.execute().actionGet();
+        recordSearchRequest("search", start);
+        return response;
+    }
+
     protected void deleteEntry(String indexName, String type, String id) {
         DeleteRequestBuilder request = searchClient.prepareDelete();
         request.setIndex(indexName);
@@ -224,8 +289,42 @@ public abstract class ElasticBaseDao
         }
     }
 
+    private static <R> List<SearchResult<R>> getResultList(SearchResponse response, Function<SearchHit, R> hitMapper) {
+        List<SearchResult<R>> resultList = new ArrayList<>();
+        for (SearchHit hit : response.getHits().hits()) {
+            SearchResult<R> result = new SearchResult<>(
+                    hitMapper.apply(hit), // Result
+                    (!Float.isNaN(hit.getScore())) ? BigDecimal.valueOf(hit.getScore()) : BigDecimal.ONE, // Rank
+                    hit.getHighlightFields()); // Highlights
+            resultList.add(result);
+        }
+        return resultList;
+    }
+
+    /**
+     * A cursor holds the offset of the next page along with the scroll id, so that the offsets of each page
+     * can be reported.
+     */
+    private static String encodeCursor(int offset, String scrollId) {
+        String cursor = offset + ":" + scrollId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 2);
+            if (parts.length == 2 && !parts[1].isEmpty() && Integer.parseInt(parts[0]) >= 0) {
+                return parts;
+            }
+        }
+        catch (IllegalArgumentException ignored) {}
+        throw new IllegalArgumentException("Invalid search cursor: " + cursor);
+    }
+
     /**
      * Validate and adjust limit offset so that it conforms to the index max result window.
+     * Offsets are limited to the max result window since every shard has to collect and sort all the results
+     * up to the offset. Deeper results should be retrieved via {@link #getCursorSearchResults}.
      */
     private LimitOffset adjustLimitOffset(LimitOffset limitOffset) {
         final int maxResultWindow = getMaxResultWindow();
@@ -235,10 +334,13 @@ public abstract class ElasticBaseDao
         }
 
         if (limitOffset.getOffsetEnd() > maxResultWindow) {
-            throw new IllegalArgumentException("LimitOffset with offset end of " + limitOffset.getOffsetEnd() +
-                    " extends past allowed result window of " + maxResultWindow);
+            throw new ResultWindowExceededEx(limitOffset, maxResultWindow);
         }
 
         return limitOffset;
     }
+
+    private void recordSearchRequest(String operation, long start) {
+        metricsRegistry.getTimer(TimerType.SEARCH_REQUEST, operation, indexLabel).recordSince(start);
+    }
 }
@@ -0,0 +1,80 @@
+package gov.nysenate.openleg.dao.base;
+
+import gov.nysenate.openleg.model.metrics.TimerType;
+import gov.nysenate.openleg.service.metrics.MetricsRegistry;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.CallableStatementCallback;
+import org.springframework.jdbc.core.CallableStatementCreator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.StatementCallback;
+
+import javax.sql.DataSource;
+
+/**
+ * A JdbcTemplate that times the execution of each query, including the handling of its results, and records it
+ * in the {@link MetricsRegistry}. Queries are keyed by the name of the {@link BasicSqlQuery} they were created from,
+ * see {@link SqlQueryUtils#getSqlWithName(BasicSqlQuery, String)}. Any other sql is recorded under 'other'.
+ */
+public class MetricsJdbcTemplate extends JdbcTemplate
+{
+    private static final String otherQueryName = "other";
+
+    private final MetricsRegistry metricsRegistry;
+
+    public MetricsJdbcTemplate(DataSource dataSource, MetricsRegistry metricsRegistry) {
+        super(dataSource);
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    /** --- Overrides --- */
+
+    @Override
+    public <T> T execute(PreparedStatementCreator psc, PreparedStatementCallback<T> action) throws DataAccessException {
+        long start = System.nanoTime();
+        try {
+            return super.execute(psc, action);
+        }
+        finally {
+            record(psc, start);
+        }
+    }
+
+    @Override
+    public <T> T execute(CallableStatementCreator csc, CallableStatementCallback<T> action) throws DataAccessException {
+        long start = System.nanoTime();
+        try {
+            return super.execute(csc, action);
+        }
+        finally {
+            record(csc, start);
+        }
+    }
+
+    @Override
+    public <T> T execute(StatementCallback<T> action) throws DataAccessException {
+        long start = System.nanoTime();
+        try {
+            return super.execute(action);
+        }
+        finally {
+            record(action, start);
+        }
+    }
+
+    /** --- Internal Methods --- */
+
+    /**
+     * Records the time since start for the query provided by the given statement creator or callback.
+     */
+    private void record(Object sqlProvider, long start) {
+        String queryName = null;
+        if (sqlProvider instanceof SqlProvider) {
+            queryName = SqlQueryUtils.getQueryName(((SqlProvider) sqlProvider).getSql());
+        }
+        metricsRegistry.getTimer(TimerType.SQL_QUERY, (queryName != null) ? queryName : otherQueryName)
+            .recordSince(start);
+    }
+}
@@ -0,0 +1,28 @@
+package gov.nysenate.openleg.dao.base;
+
+/**
+ * Thrown when a search is requested with a limit offset that extends past the max result window of the index.
+ * Results past the window can only be retrieved through a cursor.
+ */
+public class ResultWindowExceededEx extends IllegalArgumentException
+{
+    private static final long serialVersionUID = 5912385066931841529L;
+
+    protected LimitOffset limitOffset;
+    protected int maxResultWindow;
+
+    public ResultWindowExceededEx(LimitOffset limitOffset, int maxResultWindow) {
+        super("LimitOffset with offset end of " + limitOffset.getOffsetEnd() +
+              " extends past allowed result window of " + maxResultWindow);
+        this.limitOffset = limitOffset;
+        this.maxResultWindow = maxResultWindow;
+    }
+
+    public LimitOffset getLimitOffset() {
+        return limitOffset;
+    }
+
+    public int getMaxResultWindow() {
+        return maxResultWindow;
+    }
+}
@@ -7,6 +7,8 @@ import org.apache.commons.lang3.text.StrSubstitutor;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 /**
@@ -14,6 +16,12 @@ import java.util.stream.Collectors;
  */
 public abstract class SqlQueryUtils
 {
+    /** Cached names of the queries, see {@link #getSqlWithName(BasicSqlQuery, String)} */
+    private static final ConcurrentMap<BasicSqlQuery, String> queryNames = new ConcurrentHashMap<>();
+
+    private static final String queryNameStart = "/* ";
+    private static final String queryNameEnd = " */ ";
+
     /**
      * Replaces the ${schema} placeholder in the given sql String with the given schema name.
      * This is mainly used for queries where the schema name can be user defined, e.g. the environment schema.
@@ -67,6 +75,38 @@ public abstract class SqlQueryUtils
         return getSqlWithSchema(sql, dataSchema, searchSchema) + getOrderByClause(orderBy) + getLimitOffsetClause(limitOffset);
     }
 
+    /**
+     * Prefixes the sql with a comment that names the query it was created from, e.g. '/* SqlBillQuery.SELECT_BILL *\/'.
+     * This allows the query to be identified when it is executed, see {@link MetricsJdbcTemplate}, and in the
+     * database logs.
+     *
+     * @param query BasicSqlQuery - The query that the sql was created from.
+     * @param sql String
+     * @return String
+     */
+    public static String getSqlWithName(BasicSqlQuery query, String sql) {
+        String name = queryNames.computeIfAbsent(query, q -> (q instanceof Enum)
+            ? ((Enum<?>) q).getDeclaringClass().getSimpleName() + "." + ((Enum<?>) q).name()
+            : q.getClass().getSimpleName());
+        return queryNameStart + name + queryNameEnd + sql;
+    }
+
+    /**
+     * Retrieves the name of the query from sql created by {@link #getSqlWithName(BasicSqlQuery, String)}.
+     *
+     * @param sql String
+     * @return String - The query name or null if the sql is not named.
+     */
+    public static String getQueryName(String sql) {
+        if (sql != null && sql.startsWith(queryNameStart)) {
+            int end = sql.indexOf(queryNameEnd, queryNameStart.length());
+            if (end > 0) {
+                return sql.substring(queryNameStart.length(), end);
+            }
+        }
+        return null;
+    }
+
     /**
      * Returns a LIMIT OFFSET sql clause using the supplied LimitOffset instance.
      * If neither the limit nor the offset is set an empty string will be returned.
@@ -105,6 +105,8 @@ public enum SqlTable
     PERSON                       ("person"),
     SESSION_MEMBER               ("session_member"),
 
+    SEARCH_INDEX_QUEUE           ("search_index_queue"),
+
     SOBI_FILE                    ("sobi_file"),
     SOBI_FRAGMENT                ("sobi_fragment"),
 
@@ -60,6 +60,19 @@ public interface BillDao
      */
     public List<BaseBillId> getBillIds(SessionYear sessionYear, LimitOffset limOff, SortOrder billIdSort) throws DataAccessException;
 
+    /**
+     * Gets up to the given number of BaseBillIds for the given session year whose print numbers come after the
+     * given print number, ordered by print number. Unlike offset paging, reading the ids page by page this way
+     * neither skips nor repeats ids when bills are added in the meantime.
+     *
+     * @param sessionYear SessionYear
+     * @param afterPrintNo String - The last print number of the previous page, or an empty string for the first page.
+     * @param limit int
+     * @return List<BaseBillId>
+     * @throws DataAccessException
+     */
+    public List<BaseBillId> getBillIdsAfter(SessionYear sessionYear, String afterPrintNo, int limit) throws DataAccessException;
+
     /**
      * Retrieves a simple count of all the unique base bills in the database for all session years.
      *
@@ -102,4 +115,15 @@ public interface BillDao
      * @throws DataAccessException - If there was an error while trying to save the Bill.
      */
     public void updateBill(Bill bill, SobiFragment sobiFragment) throws DataAccessException;
+
+    /**
+     * Updates only the bill record and the records of its amendments, inserting them if they do not yet exist.
+     * This is used to persist the values a fragment set on a bill before a later fragment overwrites them,
+     * so that the change log records them as they would have been if the fragment was saved on its own.
+     *
+     * @param bill Bill - The bill with the values to persist.
+     * @param sobiFragment SobiFragment - The fragment that set the values.
+     * @throws DataAccessException - If there was an error while trying to save the values.
+     */
+    public void updateBillValues(Bill bill, SobiFragment sobiFragment) throws DataAccessException;
 }
@@ -5,12 +5,16 @@ import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.dao.base.PaginatedList;
 import gov.nysenate.openleg.dao.base.SortOrder;
 import gov.nysenate.openleg.model.bill.BaseBillId;
+import gov.nysenate.openleg.model.bill.BillChangeSet;
 import gov.nysenate.openleg.model.bill.BillUpdateField;
+import gov.nysenate.openleg.model.sobi.SobiFragment;
 import gov.nysenate.openleg.model.updates.UpdateDigest;
 import gov.nysenate.openleg.model.updates.UpdateToken;
 import gov.nysenate.openleg.model.updates.UpdateType;
+import org.apache.commons.lang3.tuple.Pair;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public interface BillUpdatesDao
 {
@@ -45,4 +49,25 @@ public interface BillUpdatesDao
     public PaginatedList<UpdateDigest<BaseBillId>> getDetailedUpdatesForBill(
         BaseBillId billId, Range<LocalDateTime> dateTimeRange, UpdateType type, BillUpdateField filter, SortOrder dateOrder,
         LimitOffset limOff);
-}
\ No newline at end of file
+
+    /**
+     * @return int - The id of the latest entry in the bill change log, or 0 if it is empty.
+     */
+    public int getLastChangeId();
+
+    /**
+     * Re-attributes the change log entries that were recorded for the given bill when it was saved with the
+     * given fragment, so that each modified field is attributed to the last fragment in the change history
+     * that modified it. Entries that cover fields modified by different fragments are split up, so that each
+     * fragment gets a single entry holding all of the fields it modified.
+     * Fields that cannot be matched to a fragment in the history remain attributed to the given fragment.
+     *
+     * @param billId BaseBillId - The saved bill.
+     * @param lastChangeId int - The latest change log id prior to saving the bill.
+     * @param fragment SobiFragment - The fragment the bill was saved with.
+     * @param changeHistory List<Pair<SobiFragment, BillChangeSet>> - The fields modified by each fragment,
+     *                                                               in the order the fragments were applied.
+     */
+    public void attributeChanges(BaseBillId billId, int lastChangeId, SobiFragment fragment,
+                                 List<Pair<SobiFragment, BillChangeSet>> changeHistory);
+}
@@ -37,6 +37,7 @@ import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static gov.nysenate.openleg.model.bill.BillUpdateField.*;
 import static gov.nysenate.openleg.util.CollectionUtils.difference;
 import static gov.nysenate.openleg.util.DateUtils.toDate;
 
@@ -125,8 +126,7 @@ public class SqlBillDao extends SqlBaseDao implements BillDao
         addBillIdParams(strippedBill, billParams);
         jdbcNamed.query(SqlBillQuery.SELECT_BILL_TEXT.getSql(schema()), billParams, (RowCallbackHandler) (ResultSet rs) -> {
             BillAmendment ba = strippedBill.getAmendment(Version.of(rs.getString("bill_amend_version")));
-            ba.setMemo(rs.getString("sponsor_memo"));
-            ba.setFullText(rs.getString("full_text"));
+            ba.loadText(rs.getString("sponsor_memo"), rs.getString("full_text"));
         });
     }
 
@@ -137,9 +137,16 @@ public class SqlBillDao extends SqlBaseDao implements BillDao
      * Due to the normalized nature of the database it takes several queries to update all
      * the relevant pieces of data contained within the Bill object. The sobiFragment
      * reference is used to keep track of changes to the bill.
+     *
+     * If the bill is tracking changes (see {@link Bill#startChangeTracking()}), only the tables that hold
+     * the modified fields are updated. Otherwise every table is updated.
      */
     @Override
     public void updateBill(Bill bill, SobiFragment sobiFragment) {
+        if (!bill.hasDirtyFields()) {
+            logger.trace("Bill {} has no modifications, skipping update", bill);
+            return;
+        }
         logger.trace("Updating Bill {} in database...", bill);
         // Update the bill record
         final ImmutableParams billParams = ImmutableParams.from(getBillParams(bill, sobiFragment));
@@ -148,35 +155,80 @@ public class SqlBillDao extends SqlBaseDao implements BillDao
         }
         // Update the bill amendments
         for (BillAmendment amendment : bill.getAmendmentList()) {
+            if (!amendment.hasDirtyFields()) {
+                continue;
+            }
             final ImmutableParams amendParams = ImmutableParams.from(getBillAmendmentParams(amendment, sobiFragment));
-            if (jdbcNamed.update(SqlBillQuery.UPDATE_BILL_AMENDMENT.getSql(schema()), amendParams) == 0) {
-                jdbcNamed.update(SqlBillQuery.INSERT_BILL_AMENDMENT.getSql(schema()), amendParams);
+            if (amendment.isDirty(ACT_CLAUSE, FULLTEXT, LAW, MEMO, ACTION, SAME_AS)) {
+                if (jdbcNamed.update(SqlBillQuery.UPDATE_BILL_AMENDMENT.getSql(schema()), amendParams) == 0) {
+                    jdbcNamed.update(SqlBillQuery.INSERT_BILL_AMENDMENT.getSql(schema()), amendParams);
+                }
             }
             // Update the same as bills
-            updateBillSameAs(amendment, sobiFragment, amendParams);
+            if (amendment.isDirty(SAME_AS)) {
+                updateBillSameAs(amendment, sobiFragment, amendParams);
+            }
             // Update the co-sponsors list
-            updateBillCosponsor(amendment, sobiFragment, amendParams);
+            if (amendment.isDirty(COSPONSOR)) {
+                updateBillCosponsor(amendment, sobiFragment, amendParams);
+            }
             // Update the multi-sponsors list
-            updateBillMultiSponsor(amendment, sobiFragment, amendParams);
+            if (amendment.isDirty(MULTISPONSOR)) {
+                updateBillMultiSponsor(amendment, sobiFragment, amendParams);
+            }
             // Update votes
-            updateBillVotes(amendment, sobiFragment, amendParams);
+            if (amendment.isDirty(VOTE)) {
+                updateBillVotes(amendment, sobiFragment, amendParams);
+            }
         }
         // Update the publish statuses of the amendments
-        updateBillAmendPublishStatus(bill, sobiFragment, billParams);
+        if (bill.isDirty(PUBLISHED_BILL)) {
+            updateBillAmendPublishStatus(bill, sobiFragment, billParams);
+        }
         // Update the sponsor
-        updateBillSponsor(bill, sobiFragment, billParams);
+        if (bill.isDirty(SPONSOR)) {
+            updateBillSponsor(bill, sobiFragment, billParams);
+        }
         // Update the milestones
-        updateBillMilestones(bill, sobiFragment, billParams);
+        if (bill.isDirty(STATUS)) {
+            updateBillMilestones(bill, sobiFragment, billParams);
+        }
         // Determine which actions need to be inserted/deleted. Individual actions are never updated.
-        updateActions(bill, sobiFragment, billParams);
+        if (bill.isDirty(ACTION)) {
+            updateActions(bill, sobiFragment, billParams);
+        }
         // Determine if the previous versions have changed and insert accordingly.
-        updatePreviousBillVersion(bill, sobiFragment, billParams);
+        if (bill.isDirty(PREVIOUS_VERSION)) {
+            updatePreviousBillVersion(bill, sobiFragment, billParams);
+        }
         // Update associated committees
-        updateBillCommittees(bill, sobiFragment, billParams);
+        if (bill.isDirty(ACTION)) {
+            updateBillCommittees(bill, sobiFragment, billParams);
+        }
         // Update veto messages
-        updateVetoMessages(bill, sobiFragment);
+        if (bill.isDirty(VETO)) {
+            updateVetoMessages(bill, sobiFragment);
+        }
         // Update approval message
-        updateApprovalMessage(bill, sobiFragment);
+        if (bill.isDirty(APPROVAL)) {
+            updateApprovalMessage(bill, sobiFragment);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateBillValues(Bill bill, SobiFragment sobiFragment) {
+        final ImmutableParams billParams = ImmutableParams.from(getBillParams(bill, sobiFragment));
+        if (jdbcNamed.update(SqlBillQuery.UPDATE_BILL.getSql(schema()), billParams) == 0) {
+            jdbcNamed.update(SqlBillQuery.INSERT_BILL.getSql(schema()), billParams);
+        }
+        // Amendments with unchanged values are not recorded by the change log
+        for (BillAmendment amendment : bill.getAmendmentList()) {
+            final ImmutableParams amendParams = ImmutableParams.from(getBillAmendmentParams(amendment, sobiFragment));
+            if (jdbcNamed.update(SqlBillQuery.UPDATE_BILL_AMENDMENT.getSql(schema()), amendParams) == 0) {
+                jdbcNamed.update(SqlBillQuery.INSERT_BILL_AMENDMENT.getSql(schema()), amendParams);
+            }
+        }
     }
 
     /** {@inheritDoc} */
@@ -188,6 +240,16 @@ public class SqlBillDao extends SqlBaseDao implements BillDao
                 new BaseBillId(rs.getString("bill_print_no"), rs.getInt("bill_session_year")));
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public List<BaseBillId> getBillIdsAfter(SessionYear sessionYear, String afterPrintNo, int limit) throws DataAccessException {
+        ImmutableParams params = ImmutableParams.from(new MapSqlParameterSource("sessionYear", sessionYear.getYear())
+                .addValue("afterPrintNo", afterPrintNo));
+        OrderBy orderBy = new OrderBy("bill_print_no", SortOrder.ASC);
+        return jdbcNamed.query(SqlBillQuery.SELECT_BILL_IDS_BY_SESSION_AFTER_PRINT_NO.getSql(schema(), orderBy, new LimitOffset(limit)),
+                params, (rs, row) -> new BaseBillId(rs.getString("bill_print_no"), rs.getInt("bill_session_year")));
+    }
+
     /** {@inheritDoc} */
     @Override
     public int getBillCount() throws DataAccessException {
@@ -692,7 +754,9 @@ public class SqlBillDao extends SqlBaseDao implements BillDao
             BillAmendment amend = new BillAmendment(baseBillId, Version.of(rs.getString("bill_amend_version")));
             amend.setMemo(rs.getString("sponsor_memo"));
             amend.setActClause(rs.getString("act_clause"));
-            amend.setFullText(rs.getString("full_text"));
+            Integer[] pageLines = (Integer[]) rs.getArray("full_text_page_lines").getArray();
+            amend.setFullText(rs.getString("full_text"), new BillTextMetrics(rs.getInt("full_text_page_count"),
+                    rs.getInt("full_text_line_count"), Arrays.asList(pageLines)));
             amend.setStricken(rs.getBoolean("stricken"));
             amend.setUniBill(rs.getBoolean("uni_bill"));
             amend.setLawSection(rs.getString("law_section"));
@@ -858,9 +922,15 @@ public class SqlBillDao extends SqlBaseDao implements BillDao
     private static MapSqlParameterSource getBillAmendmentParams(BillAmendment amendment, SobiFragment fragment) {
         MapSqlParameterSource params = new MapSqlParameterSource();
         addBillIdParams(amendment, params);
-        params.addValue("sponsorMemo", amendment.getMemo())
+        // Text that was not loaded is passed as null so that the stored text is kept
+        params.addValue("sponsorMemo", amendment.isTextLoaded(MEMO) ? amendment.getMemo() : null)
               .addValue("actClause", amendment.getActClause())
-              .addValue("fullText", amendment.getFullText())
+              .addValue("fullText", amendment.isTextLoaded(FULLTEXT) ? amendment.getFullText() : null)
+              // The text metrics are kept when the text is unloaded, so they always match the stored text
+              .addValue("textPageCount", amendment.getTextMetrics().getPageCount())
+              .addValue("textLineCount", amendment.getTextMetrics().getLineCount())
+              .addValue("textPageLines", amendment.getTextMetrics().getNewPageLines().stream()
+                      .map(String::valueOf).collect(Collectors.joining(",", "{", "}")))
               .addValue("stricken", amendment.isStricken())
               .addValue("lawSection", amendment.getLawSection())
               .addValue("lawCode", amendment.getLaw())
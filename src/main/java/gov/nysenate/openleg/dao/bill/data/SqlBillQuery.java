@@ -15,6 +15,9 @@ public enum SqlBillQuery implements BasicSqlQuery
         "SELECT bill_print_no, bill_session_year FROM ${schema}." + SqlTable.BILL + "\n" +
         "WHERE bill_session_year = :sessionYear"
     ),
+    SELECT_BILL_IDS_BY_SESSION_AFTER_PRINT_NO(
+        SELECT_BILL_IDS_BY_SESSION.sql + " AND bill_print_no > :afterPrintNo"
+    ),
     SELECT_COUNT_ALL_BILLS(
         "SELECT count(*) AS total FROM ${schema}." + SqlTable.BILL
     ),
@@ -95,15 +98,19 @@ public enum SqlBillQuery implements BasicSqlQuery
     ),
     UPDATE_BILL_AMENDMENT(
         "UPDATE ${schema}." + SqlTable.BILL_AMENDMENT + "\n" +
-        "SET sponsor_memo = :sponsorMemo, act_clause = :actClause, full_text = :fullText, stricken = :stricken, " +
+        "SET sponsor_memo = COALESCE(:sponsorMemo, sponsor_memo), act_clause = :actClause, " +
+        "    full_text = COALESCE(:fullText, full_text), full_text_page_count = :textPageCount, " +
+        "    full_text_line_count = :textLineCount, full_text_page_lines = :textPageLines::integer[], stricken = :stricken, " +
         "    uni_bill = :uniBill, last_fragment_id = :lastFragmentId, law_section = :lawSection, law_code = :lawCode\n" +
         "WHERE bill_print_no = :printNo AND bill_session_year = :sessionYear AND bill_amend_version = :version"
     ),
     INSERT_BILL_AMENDMENT(
         "INSERT INTO ${schema}." + SqlTable.BILL_AMENDMENT + "\n" +
-        "(bill_print_no, bill_session_year, bill_amend_version, sponsor_memo, act_clause, full_text, stricken, " +
+        "(bill_print_no, bill_session_year, bill_amend_version, sponsor_memo, act_clause, full_text, " +
+        " full_text_page_count, full_text_line_count, full_text_page_lines, stricken, " +
         " uni_bill, last_fragment_id, law_section, law_code)\n" +
-        "VALUES(:printNo, :sessionYear, :version, :sponsorMemo, :actClause, :fullText, :stricken, " +
+        "VALUES(:printNo, :sessionYear, :version, :sponsorMemo, :actClause, :fullText, " +
+        "       :textPageCount, :textLineCount, :textPageLines::integer[], :stricken, " +
         "       :uniBill, :lastFragmentId, :lawSection, :lawCode)"
     ),
 
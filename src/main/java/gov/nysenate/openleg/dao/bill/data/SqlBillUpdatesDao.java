@@ -2,12 +2,17 @@ package gov.nysenate.openleg.dao.bill.data;
 
 import com.google.common.collect.Range;
 import gov.nysenate.openleg.dao.base.*;
+import gov.nysenate.openleg.model.base.Version;
 import gov.nysenate.openleg.model.bill.BaseBillId;
+import gov.nysenate.openleg.model.bill.BillChangeSet;
 import gov.nysenate.openleg.model.bill.BillUpdateField;
+import gov.nysenate.openleg.model.sobi.SobiFragment;
 import gov.nysenate.openleg.model.updates.UpdateContentType;
 import gov.nysenate.openleg.model.updates.UpdateDigest;
 import gov.nysenate.openleg.model.updates.UpdateToken;
 import gov.nysenate.openleg.model.updates.UpdateType;
+import gov.nysenate.openleg.util.DateUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.jdbc.core.RowMapper;
@@ -20,9 +25,7 @@ import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static gov.nysenate.openleg.dao.bill.data.SqlBillUpdatesQuery.SELECT_BILL_UPDATE_DIGESTS;
-import static gov.nysenate.openleg.dao.bill.data.SqlBillUpdatesQuery.SELECT_BILL_UPDATE_TOKENS;
-import static gov.nysenate.openleg.dao.bill.data.SqlBillUpdatesQuery.SELECT_UPDATE_DIGESTS_FOR_SPECIFIC_BILL;
+import static gov.nysenate.openleg.dao.bill.data.SqlBillUpdatesQuery.*;
 import static gov.nysenate.openleg.model.bill.BillUpdateField.*;
 
 @Repository
@@ -42,6 +45,13 @@ public class SqlBillUpdatesDao extends SqlBaseDao implements BillUpdatesDao
             this.table = table;
             this.columns = Arrays.asList(columns);
         }
+
+        /**
+         * @return boolean - True if the given column of the given table holds data for this update type.
+         */
+        public boolean matches(String tableName, String column) {
+            return table.getTableName().equals(tableName) && (columns.isEmpty() || columns.contains(column));
+        }
     }
 
     private final static Map<BillUpdateField, BillUpdateTable> updateMappings = new HashMap<>();
@@ -56,6 +66,9 @@ public class SqlBillUpdatesDao extends SqlBaseDao implements BillUpdatesDao
         updateMappings.put(LAW, new BillUpdateTable(SqlTable.BILL_AMENDMENT, "law_code", "law_section"));
         updateMappings.put(MEMO, new BillUpdateTable(SqlTable.BILL_AMENDMENT, "sponsor_memo"));
         updateMappings.put(MULTISPONSOR, new BillUpdateTable(SqlTable.BILL_AMENDMENT_MULTISPONSOR));
+        updateMappings.put(PREVIOUS_VERSION, new BillUpdateTable(SqlTable.BILL_PREVIOUS_VERSION));
+        updateMappings.put(PROGRAM_INFO, new BillUpdateTable(SqlTable.BILL, "program_info", "program_info_num"));
+        updateMappings.put(SAME_AS, new BillUpdateTable(SqlTable.BILL_AMENDMENT_SAME_AS));
         updateMappings.put(SPONSOR, new BillUpdateTable(SqlTable.BILL_SPONSOR));
         updateMappings.put(STATUS, new BillUpdateTable(SqlTable.BILL, "status", "status_date", "bill_cal_no",
                                                                       "committee_name", "committee_chamber"));
@@ -66,6 +79,17 @@ public class SqlBillUpdatesDao extends SqlBaseDao implements BillUpdatesDao
         updateMappings.put(VOTE, new BillUpdateTable(SqlTable.BILL_AMENDMENT_VOTE_INFO));
     }
 
+    /** Change log columns that are not used to filter updates but are still modified by a specific field.
+     *  These are needed to attribute changes to the fragments that made them. */
+    private final static List<Pair<BillUpdateField, BillUpdateTable>> changeMappings = Arrays.asList(
+        Pair.of(ACTION, new BillUpdateTable(SqlTable.BILL, "sub_bill_print_no")),
+        Pair.of(ACTION, new BillUpdateTable(SqlTable.BILL_AMENDMENT, "stricken")),
+        Pair.of(FULLTEXT, new BillUpdateTable(SqlTable.BILL_AMENDMENT, "full_text_page_count",
+                                              "full_text_line_count", "full_text_page_lines")),
+        Pair.of(PUBLISHED_BILL, new BillUpdateTable(SqlTable.BILL_AMENDMENT_PUBLISH_STATUS)),
+        Pair.of(SAME_AS, new BillUpdateTable(SqlTable.BILL_AMENDMENT, "uni_bill"))
+    );
+
     /** {@inheritDoc} */
     @Override
     public PaginatedList<UpdateToken<BaseBillId>> getUpdates(Range<LocalDateTime> dateTimeRange, UpdateType type,
@@ -110,8 +134,159 @@ public class SqlBillUpdatesDao extends SqlBaseDao implements BillUpdatesDao
         return handler.getList();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public int getLastChangeId() {
+        return jdbcNamed.queryForObject(SELECT_LAST_CHANGE_ID.getSql(schema()), new MapSqlParameterSource(), Integer.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void attributeChanges(BaseBillId billId, int lastChangeId, SobiFragment fragment,
+                                 List<Pair<SobiFragment, BillChangeSet>> changeHistory) {
+        MapSqlParameterSource params = new MapSqlParameterSource("printNo", billId.getBasePrintNo())
+            .addValue("session", billId.getSession().getYear())
+            .addValue("lastChangeId", lastChangeId)
+            .addValue("fragmentId", fragment.getFragmentId());
+        List<BillChange> changes = jdbcNamed.query(SELECT_BILL_CHANGES_FOR_FRAGMENT.getSql(schema()), params,
+            (rs, rowNum) -> new BillChange(rs.getInt("id"), rs.getString("table_name"), rs.getString("action"),
+                                           getHstoreMap(rs, "data")));
+        // Each change ends up with exactly one row per fragment that made it. The split rows are copied from the
+        // original row before their columns are removed from it, so the statements are run in that order.
+        List<MapSqlParameterSource> splitParams = new ArrayList<>();
+        List<MapSqlParameterSource> removeParams = new ArrayList<>();
+        List<MapSqlParameterSource> attributeParams = new ArrayList<>();
+        for (BillChange change : changes) {
+            // Group the changed columns by the last fragment that modified them
+            Map<SobiFragment, List<String>> fragmentColumns = new LinkedHashMap<>();
+            boolean unmatched = false;
+            for (String column : change.data.keySet()) {
+                Optional<SobiFragment> source = getChangeSource(change, column, changeHistory);
+                if (source.isPresent()) {
+                    fragmentColumns.computeIfAbsent(source.get(), f -> new ArrayList<>()).add(column);
+                }
+                else {
+                    unmatched = true;
+                }
+            }
+            if (fragmentColumns.isEmpty()) {
+                continue;
+            }
+            List<SobiFragment> sources = new ArrayList<>(fragmentColumns.keySet());
+            sources.sort(Comparator.comparingInt(f -> indexOfFragment(f, changeHistory)));
+            if (!change.action.equals("UPDATE") || (!unmatched && sources.size() == 1)) {
+                // Inserted rows are attributed to the fragment that created them, deleted rows to the last one
+                SobiFragment source = (change.action.equals("INSERT")) ? sources.get(0) : sources.get(sources.size() - 1);
+                attributeParams.add(getChangeFragmentParams(change.id, source));
+                continue;
+            }
+            // Split the updated columns up so that each other fragment gets a single row with all of its columns
+            SobiFragment keepSource = (unmatched) ? fragment : sources.get(sources.size() - 1);
+            List<String> movedColumns = new ArrayList<>();
+            for (SobiFragment source : sources) {
+                if (!source.getFragmentId().equals(keepSource.getFragmentId())) {
+                    splitParams.add(getChangeFragmentParams(change.id, source)
+                        .addValue("columns", toPostgresArray(fragmentColumns.get(source))));
+                    movedColumns.addAll(fragmentColumns.get(source));
+                }
+            }
+            removeParams.add(new MapSqlParameterSource("id", change.id)
+                .addValue("columns", toPostgresArray(movedColumns)));
+            attributeParams.add(getChangeFragmentParams(change.id, keepSource));
+        }
+        batchUpdate(INSERT_CHANGE_COLUMNS_FOR_FRAGMENT, splitParams);
+        batchUpdate(DELETE_CHANGE_COLUMNS, removeParams);
+        batchUpdate(UPDATE_CHANGE_FRAGMENT, attributeParams);
+    }
+
     /** --- Internal --- */
 
+    /**
+     * A single entry of the bill change log.
+     */
+    private static class BillChange
+    {
+        private final int id;
+        private final String table;
+        private final String action;
+        private final Map<String, String> data;
+
+        public BillChange(int id, String table, String action, Map<String, String> data) {
+            this.id = id;
+            this.table = table;
+            this.action = action;
+            this.data = data;
+        }
+    }
+
+    /**
+     * Finds the last fragment in the change history that modified a field stored in the given column.
+     */
+    private Optional<SobiFragment> getChangeSource(BillChange change, String column,
+                                                   List<Pair<SobiFragment, BillChangeSet>> changeHistory) {
+        Set<BillUpdateField> fields = getFieldsForColumn(change.table, column);
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        Version version = null;
+        if (change.data.containsKey("bill_amend_version")) {
+            version = Version.of(change.data.get("bill_amend_version"));
+        }
+        for (int i = changeHistory.size() - 1; i >= 0; i--) {
+            BillChangeSet changeSet = changeHistory.get(i).getRight();
+            for (BillUpdateField field : fields) {
+                if (changeSet.affects(version, field)) {
+                    return Optional.of(changeHistory.get(i).getLeft());
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return Set<BillUpdateField> - The fields that are persisted in the given table column.
+     */
+    private static Set<BillUpdateField> getFieldsForColumn(String table, String column) {
+        Set<BillUpdateField> fields = EnumSet.noneOf(BillUpdateField.class);
+        updateMappings.forEach((field, updateTable) -> {
+            if (updateTable.matches(table, column)) {
+                fields.add(field);
+            }
+        });
+        changeMappings.forEach(mapping -> {
+            if (mapping.getRight().matches(table, column)) {
+                fields.add(mapping.getLeft());
+            }
+        });
+        return fields;
+    }
+
+    private static int indexOfFragment(SobiFragment fragment, List<Pair<SobiFragment, BillChangeSet>> changeHistory) {
+        for (int i = 0; i < changeHistory.size(); i++) {
+            if (changeHistory.get(i).getLeft().getFragmentId().equals(fragment.getFragmentId())) {
+                return i;
+            }
+        }
+        return changeHistory.size();
+    }
+
+    private void batchUpdate(SqlBillUpdatesQuery query, List<MapSqlParameterSource> batchParams) {
+        if (!batchParams.isEmpty()) {
+            jdbcNamed.batchUpdate(query.getSql(schema()),
+                batchParams.toArray(new MapSqlParameterSource[batchParams.size()]));
+        }
+    }
+
+    private static MapSqlParameterSource getChangeFragmentParams(int changeId, SobiFragment fragment) {
+        return new MapSqlParameterSource("id", changeId)
+            .addValue("fragmentId", fragment.getFragmentId())
+            .addValue("publishedDateTime", DateUtils.toDate(fragment.getPublishedDateTime()));
+    }
+
+    private static String toPostgresArray(List<String> values) {
+        return "{" + values.stream().map(value -> "\"" + value + "\"").collect(Collectors.joining(",")) + "}";
+    }
+
     /**
      * Generates the appropriate sql query based on the args, to remove code duplication.
      */
@@ -49,6 +49,37 @@ public enum SqlBillUpdatesQuery implements BasicSqlQuery
             "AND bill_print_no = :printNo AND bill_session_year = :session\n",
             // No group by needed for digests due to pagination/performance issues
             "")
+    ),
+
+    /** --- Change Attribution --- */
+
+    SELECT_LAST_CHANGE_ID(
+        "SELECT COALESCE(MAX(id), 0) FROM ${schema}." + SqlTable.BILL_CHANGE_LOG
+    ),
+    SELECT_BILL_CHANGES_FOR_FRAGMENT(
+        "SELECT id, table_name, action, hstore_to_array(data) AS data\n" +
+        "FROM ${schema}." + SqlTable.BILL_CHANGE_LOG + "\n" +
+        "WHERE id > :lastChangeId AND bill_print_no = :printNo AND bill_session_year = :session\n" +
+        "  AND sobi_fragment_id = :fragmentId\n" +
+        "ORDER BY id"
+    ),
+    UPDATE_CHANGE_FRAGMENT(
+        "UPDATE ${schema}." + SqlTable.BILL_CHANGE_LOG + "\n" +
+        "SET sobi_fragment_id = :fragmentId, published_date_time = :publishedDateTime\n" +
+        "WHERE id = :id"
+    ),
+    INSERT_CHANGE_COLUMNS_FOR_FRAGMENT(
+        "INSERT INTO ${schema}." + SqlTable.BILL_CHANGE_LOG + "\n" +
+        "(bill_print_no, bill_session_year, table_name, action, data, action_date_time, sobi_fragment_id, published_date_time)\n" +
+        "SELECT bill_print_no, bill_session_year, table_name, action, slice(data, :columns::text[]), action_date_time,\n" +
+        "       :fragmentId, :publishedDateTime\n" +
+        "FROM ${schema}." + SqlTable.BILL_CHANGE_LOG + "\n" +
+        "WHERE id = :id"
+    ),
+    DELETE_CHANGE_COLUMNS(
+        "UPDATE ${schema}." + SqlTable.BILL_CHANGE_LOG + "\n" +
+        "SET data = delete(data, :columns::text[])\n" +
+        "WHERE id = :id"
     );
 
     private String sql;
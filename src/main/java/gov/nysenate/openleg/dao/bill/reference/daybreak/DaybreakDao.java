@@ -192,6 +192,12 @@ public interface DaybreakDao
      */
     public void updateDaybreakFragment(DaybreakFragment daybreakFragment);
 
+    /**
+     * Updates or inserts the given DaybreakFragments using batched statements
+     * @param daybreakFragments
+     */
+    public void updateDaybreakFragments(List<DaybreakFragment> daybreakFragments);
+
     /**
      * Sets the daybreak fragment designated by the given daybreak fragment id as pending processing
      * @param daybreakBillId
@@ -210,6 +216,12 @@ public interface DaybreakDao
      */
     public void setProcessed(DaybreakBillId daybreakBillId);
 
+    /**
+     * Sets the daybreak fragments designated by the given daybreak fragment ids as processed
+     * @param daybreakBillIds
+     */
+    public void setProcessed(List<DaybreakBillId> daybreakBillIds);
+
     /**
      * Labels the report designaterd by the given report date as processed, sets all fragments as well
      * @param reportDate
@@ -222,12 +234,25 @@ public interface DaybreakDao
      */
     public void updatePageFileEntry(PageFileEntry pageFileEntry);
 
+    /**
+     * Updates or inserts the given PageFileEntries using batched statements
+     * @param pageFileEntries
+     */
+    public void updatePageFileEntries(List<PageFileEntry> pageFileEntries);
+
     /**
      * Updates or inserts the given daybreak bill
      * @param daybreakBill
      */
     public void updateDaybreakBill(DaybreakBill daybreakBill);
 
+    /**
+     * Updates or inserts the given daybreak bills using batched statements. The bills are written in a single
+     * transaction, so none of them are saved if any of them fail.
+     * @param daybreakBills
+     */
+    public void updateDaybreakBills(List<DaybreakBill> daybreakBills);
+
     /**
      * Updates or inserts a new daybreak report entry.
      * @param reportDate
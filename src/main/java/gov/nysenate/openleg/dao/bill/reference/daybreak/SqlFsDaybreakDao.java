@@ -17,11 +17,17 @@ import gov.nysenate.openleg.util.DateUtils;
 import gov.nysenate.openleg.util.FileIOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.annotation.PostConstruct;
 import java.io.File;
@@ -53,10 +59,18 @@ public class SqlFsDaybreakDao extends SqlBaseDao implements DaybreakDao
     /** Directory where daybreak files that have been processed are stored. */
     private File archiveDaybreakDir;
 
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    /** Runs the inserts of a batch upsert within a savepoint when there is an enclosing transaction, so that
+     *  a duplicate key can be recovered from without aborting that transaction. */
+    private TransactionTemplate savepointTemplate;
+
     @PostConstruct
     protected void init() {
         this.incomingDaybreakDir = new File(environment.getStagingDir(), "daybreak");
         this.archiveDaybreakDir = new File(environment.getArchiveDir(), "daybreak");
+        this.savepointTemplate = new TransactionTemplate(transactionManager);
+        this.savepointTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
     }
 
     /** --- Interfaced Methods --- */
@@ -331,6 +345,15 @@ public class SqlFsDaybreakDao extends SqlBaseDao implements DaybreakDao
         }
     }
 
+    /** {@inheritDoc } */
+    @Override
+    public void updateDaybreakFragments(List<DaybreakFragment> daybreakFragments) {
+        MapSqlParameterSource[] batchParams = daybreakFragments.stream()
+                .map(this::getDaybreakFragmentParams)
+                .toArray(MapSqlParameterSource[]::new);
+        batchUpsert(SqlDaybreakQuery.UPDATE_DAYBREAK_FRAGMENT, SqlDaybreakQuery.INSERT_DAYBREAK_FRAGMENT, batchParams);
+    }
+
     /** {@inheritDoc } */
     @Override
     public void setPendingProcessing(DaybreakBillId daybreakBillId) {
@@ -354,6 +377,18 @@ public class SqlFsDaybreakDao extends SqlBaseDao implements DaybreakDao
         jdbcNamed.update(SqlDaybreakQuery.UPDATE_DAYBREAK_FRAGMENT_PROCESSED.getSql(schema()), params);
     }
 
+    /** {@inheritDoc } */
+    @Override
+    public void setProcessed(List<DaybreakBillId> daybreakBillIds) {
+        if (daybreakBillIds.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource[] batchParams = daybreakBillIds.stream()
+                .map(this::getDaybreakBillIdParams)
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcNamed.batchUpdate(SqlDaybreakQuery.UPDATE_DAYBREAK_FRAGMENT_PROCESSED.getSql(schema()), batchParams);
+    }
+
     /** {@inheritDoc } */
     @Override
     public void setProcessed(LocalDate reportDate) {
@@ -374,6 +409,16 @@ public class SqlFsDaybreakDao extends SqlBaseDao implements DaybreakDao
 
     /** {@inheritDoc } */
     @Override
+    public void updatePageFileEntries(List<PageFileEntry> pageFileEntries) {
+        MapSqlParameterSource[] batchParams = pageFileEntries.stream()
+                .map(this::getPageFileEntryParams)
+                .toArray(MapSqlParameterSource[]::new);
+        batchUpsert(SqlDaybreakQuery.UPDATE_PAGE_FILE_ENTRY, SqlDaybreakQuery.INSERT_PAGE_FILE_ENTRY, batchParams);
+    }
+
+    /** {@inheritDoc } */
+    @Override
+    @Transactional
     public void updateDaybreakBill(DaybreakBill daybreakBill) {
         // Update the bill table
         MapSqlParameterSource params = getDaybreakBillParams(daybreakBill);
@@ -387,6 +432,49 @@ public class SqlFsDaybreakDao extends SqlBaseDao implements DaybreakDao
         updateDaybreakBillMultiSponsors(daybreakBill.getDaybreakBillId(), daybreakBill.getMultiSponsors());
     }
 
+    /** {@inheritDoc } */
+    @Override
+    @Transactional
+    public void updateDaybreakBills(List<DaybreakBill> daybreakBills) {
+        if (daybreakBills.isEmpty()) {
+            return;
+        }
+        // Update the bill table
+        MapSqlParameterSource[] billParams = daybreakBills.stream()
+                .map(this::getDaybreakBillParams)
+                .toArray(MapSqlParameterSource[]::new);
+        batchUpsert(SqlDaybreakQuery.UPDATE_DAYBREAK_BILL, SqlDaybreakQuery.INSERT_DAYBREAK_BILL, billParams);
+
+        // Replace the bills' associated rows
+        MapSqlParameterSource[] idParams = daybreakBills.stream()
+                .map(daybreakBill -> getDaybreakBillIdParams(daybreakBill.getDaybreakBillId()))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcNamed.batchUpdate(SqlDaybreakQuery.DELETE_DAYBREAK_BILL_ACTIONS.getSql(schema()), idParams);
+        jdbcNamed.batchUpdate(SqlDaybreakQuery.DELETE_DAYBREAK_BILL_AMENDMENTS.getSql(schema()), idParams);
+        jdbcNamed.batchUpdate(SqlDaybreakQuery.DELETE_DAYBREAK_BILL_COSPONSORS.getSql(schema()), idParams);
+        jdbcNamed.batchUpdate(SqlDaybreakQuery.DELETE_DAYBREAK_BILL_MULTISPONSORS.getSql(schema()), idParams);
+
+        List<MapSqlParameterSource> actionParams = new ArrayList<>();
+        List<MapSqlParameterSource> amendmentParams = new ArrayList<>();
+        List<MapSqlParameterSource> coSponsorParams = new ArrayList<>();
+        List<MapSqlParameterSource> multiSponsorParams = new ArrayList<>();
+        for (DaybreakBill daybreakBill : daybreakBills) {
+            DaybreakBillId daybreakBillId = daybreakBill.getDaybreakBillId();
+            daybreakBill.getActions().forEach(action ->
+                    actionParams.add(getDaybreakBillActionParams(daybreakBillId, action)));
+            daybreakBill.getAmendments().values().forEach(amendment ->
+                    amendmentParams.add(getDaybreakBillAmendmentParams(daybreakBillId, amendment)));
+            daybreakBill.getCosponsors().forEach(sponsor ->
+                    coSponsorParams.add(getDaybreakBillSponsorParams(daybreakBillId, sponsor)));
+            daybreakBill.getMultiSponsors().forEach(sponsor ->
+                    multiSponsorParams.add(getDaybreakBillSponsorParams(daybreakBillId, sponsor)));
+        }
+        batchInsert(SqlDaybreakQuery.INSERT_DAYBREAK_BILL_ACTION, actionParams);
+        batchInsert(SqlDaybreakQuery.INSERT_DAYBREAK_BILL_AMENDMENT, amendmentParams);
+        batchInsert(SqlDaybreakQuery.INSERT_DAYBREAK_BILL_COSPONSOR, coSponsorParams);
+        batchInsert(SqlDaybreakQuery.INSERT_DAYBREAK_BILL_MULTISPONSOR, multiSponsorParams);
+    }
+
     /** {@inheritDoc } */
     @Override
     public void updateDaybreakReport(LocalDate reportDate) {
@@ -405,6 +493,53 @@ public class SqlFsDaybreakDao extends SqlBaseDao implements DaybreakDao
 
     /** --- Internal Methods --- */
 
+    /**
+     * Runs the update query as a single batch, then inserts the rows that were not updated as a second batch.
+     * If any of those rows were inserted concurrently, e.g. by another batch, the insert batch is rolled back
+     * to a savepoint and the rows that were not updated are upserted one at a time instead.
+     * @param updateQuery
+     * @param insertQuery
+     * @param batchParams
+     */
+    private void batchUpsert(SqlDaybreakQuery updateQuery, SqlDaybreakQuery insertQuery,
+                             MapSqlParameterSource[] batchParams) {
+        if (batchParams.length == 0) {
+            return;
+        }
+        int[] updated = jdbcNamed.batchUpdate(updateQuery.getSql(schema()), batchParams);
+        List<MapSqlParameterSource> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                missing.add(batchParams[i]);
+            }
+        }
+        try {
+            savepointTemplate.execute(status -> {
+                batchInsert(insertQuery, missing);
+                return null;
+            });
+        }
+        catch (DuplicateKeyException ex) {
+            for (MapSqlParameterSource params : missing) {
+                if (jdbcNamed.update(updateQuery.getSql(schema()), params) == 0) {
+                    jdbcNamed.update(insertQuery.getSql(schema()), params);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the insert query for all of the given params as a single batch.
+     * @param insertQuery
+     * @param batchParams
+     */
+    private void batchInsert(SqlDaybreakQuery insertQuery, List<MapSqlParameterSource> batchParams) {
+        if (!batchParams.isEmpty()) {
+            jdbcNamed.batchUpdate(insertQuery.getSql(schema()),
+                    batchParams.toArray(new MapSqlParameterSource[batchParams.size()]));
+        }
+    }
+
     /**
      * Retrieves and sets all daybreak bill fields that are not in the primary daybreak bill table
      * @param daybreakBill
@@ -1,5 +1,9 @@
 package gov.nysenate.openleg.dao.bill.reference.senatesite;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import gov.nysenate.openleg.config.Environment;
@@ -20,6 +24,7 @@ import org.springframework.stereotype.Repository;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
 import java.util.regex.Pattern;
 
@@ -41,6 +46,8 @@ public class FsSenateSiteDao implements SenateSiteDao {
     public static final String SENSITE_DUMP_DIRNAME = "sensite-dump";
     private static final String DUMP_FRAG_FILENAME_PREFIX_TEMPL = "_dump-${year}-${refDateTime}-";
     private static final String DUMP_FRAG_FILENAME_TEMPL = "${seqNo}.json";
+    /** Prefix of dump fragments that are still being received. */
+    private static final String TEMP_DUMP_FRAG_PREFIX = "_incoming-dump-";
 
     /** --- Implemented Methods --- */
 
@@ -69,18 +76,27 @@ public class FsSenateSiteDao implements SenateSiteDao {
     }
 
     @Override
-    public void saveDumpFragment(SenateSiteDumpFragment fragment, String fragmentData) throws IOException {
+    public SenateSiteDumpFragment saveDumpFragment(InputStream fragmentData) throws IOException {
+        // The fragment's file name depends on its metadata, which may come after the dumped nodes,
+        // so the fragment is written to a temporary file before its metadata is read.
+        File tempFile = File.createTempFile(TEMP_DUMP_FRAG_PREFIX, ".json", getDumpDir());
+        SenateSiteDumpFragment fragment;
+        try {
+            writePrettyJson(fragmentData, tempFile);
+            fragment = parser.parseFragment(tempFile);
+        } catch (IOException | RuntimeException ex) {
+            FileUtils.deleteQuietly(tempFile);
+            throw ex;
+        }
+
         File fragmentFile = new File(getIncomingDumpDir(fragment.getDumpId().getRefType()), getDumpFragFilename(fragment));
         logger.info("saving senate site dump fragment {}", fragmentFile.getAbsolutePath());
         try {  // Delete existing dump if possible
             FileUtils.forceDelete(fragmentFile);
         } catch (FileNotFoundException ignored) {}
-
-        // Write pretty printed json to a temporary file, then rename it to the desired name
-        File tempFile = FileIOUtils.getTempFile(fragmentFile);
-        Object json = objectMapper.readValue(fragmentData, Object.class);
-        objectMapper.writerWithDefaultPrettyPrinter().writeValue(tempFile, json);
         FileUtils.moveFile(tempFile, fragmentFile);
+        fragment.setFragmentFile(fragmentFile);
+        return fragment;
     }
 
     @Override
@@ -98,11 +114,25 @@ public class FsSenateSiteDao implements SenateSiteDao {
 
     /** --- Internal Methods --- */
 
+    /**
+     * Copies json from the input stream to the file as pretty printed json, one token at a time
+     */
+    private void writePrettyJson(InputStream jsonData, File file) throws IOException {
+        JsonFactory jsonFactory = objectMapper.getFactory();
+        try (JsonParser jsonParser = jsonFactory.createParser(jsonData);
+             JsonGenerator jsonGenerator = jsonFactory.createGenerator(file, JsonEncoding.UTF8)) {
+            jsonGenerator.useDefaultPrettyPrinter();
+            while (jsonParser.nextToken() != null) {
+                jsonGenerator.copyCurrentStructure(jsonParser);
+            }
+        }
+    }
+
     /**
      * Parse dump fragment metadata from a fragment json file
      */
     private SenateSiteDumpFragment getFragmentFromFile(File fragFile) throws IOException {
-        SenateSiteDumpFragment fragment = parser.parseFragment(FileUtils.readFileToString(fragFile, "UTF-8"));
+        SenateSiteDumpFragment fragment = parser.parseFragment(fragFile);
         fragment.setFragmentFile(fragFile);
         return fragment;
     }
@@ -136,6 +166,11 @@ public class FsSenateSiteDao implements SenateSiteDao {
                 .build();
     }
 
+    /** Directory that holds the incoming dump directories of each ref type. */
+    private File getDumpDir() throws IOException {
+        return FileIOUtils.safeGetFolder(environment.getStagingDir(), SENSITE_DUMP_DIRNAME);
+    }
+
     /** Directory where new dumps are placed. */
     private File getIncomingDumpDir(SpotCheckRefType refType) throws IOException {
         return FileIOUtils.safeGetFolder(environment.getStagingDir(), SENSITE_DUMP_DIRNAME + "/" + refType.getRefName());
@@ -5,6 +5,7 @@ import gov.nysenate.openleg.model.spotcheck.senatesite.SenateSiteDump;
 import gov.nysenate.openleg.model.spotcheck.senatesite.SenateSiteDumpFragment;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collection;
 
 public interface SenateSiteDao {
@@ -16,11 +17,13 @@ public interface SenateSiteDao {
     Collection<SenateSiteDump> getPendingDumps(SpotCheckRefType refType) throws IOException;
 
     /**
-     * Persists the given nysenate.gov dump fragment
-     * @param fragment
-     * @param fragmentData
+     * Persists a nysenate.gov dump fragment that is read from the given json stream.
+     * The stream is written to storage as it is read, so the fragment is never held in memory.
+     * @param fragmentData InputStream - the fragment json
+     * @return SenateSiteDumpFragment - the saved fragment
+     * @throws IOException if the fragment could not be read, parsed or saved
      */
-    void saveDumpFragment(SenateSiteDumpFragment fragment, String fragmentData) throws IOException;
+    SenateSiteDumpFragment saveDumpFragment(InputStream fragmentData) throws IOException;
 
     /**
      * Marks the designated dump fragment as processed, ensuring it will not be retrieved with <code>getPendingDumps()</code>
@@ -29,6 +29,21 @@ public interface BillSearchDao
     public SearchResults<BaseBillId> searchBills(QueryBuilder query, QueryBuilder filter, RescoreBuilder.Rescorer rescorer,
                                                  List<SortBuilder> sort, LimitOffset limOff);
 
+    /**
+     * Performs the same search as {@link #searchBills(QueryBuilder, QueryBuilder, RescoreBuilder.Rescorer, List, LimitOffset)}
+     * but pages through the results with a cursor, which allows retrieving results at any depth.
+     *
+     * @param query String - Query Builder
+     * @param filter FilterBuilder - Filter result set
+     * @param rescorer RescoreBuilder.Rescorer - Fine tune the ranking
+     * @param sort String - Sort String
+     * @param limit int - The page size, only used for the first page.
+     * @param cursor String - "*" for the first page, otherwise the cursor returned with the previous page.
+     * @return SearchResults<BillId> - Contains the cursor for the next page if there are more results.
+     */
+    public SearchResults<BaseBillId> searchBills(QueryBuilder query, QueryBuilder filter, RescoreBuilder.Rescorer rescorer,
+                                                 List<SortBuilder> sort, int limit, String cursor);
+
     /**
      * Update the bill index with the content of the supplied bill.
      *
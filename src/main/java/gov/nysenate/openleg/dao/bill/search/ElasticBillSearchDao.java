@@ -20,7 +20,6 @@ import org.elasticsearch.search.sort.SortBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Repository;
-import org.springframework.web.context.request.WebRequest;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -33,8 +32,6 @@ public class ElasticBillSearchDao extends ElasticBaseDao implements BillSearchDa
 {
     private static final Logger logger = LoggerFactory.getLogger(ElasticBillSearchDao.class);
 
-    private static final int billMaxResultWindow = 500000;
-
     protected static final String billIndexName = SearchIndex.BILL.getIndexName();
 
     protected static final List<HighlightBuilder.Field> highlightedFields =
@@ -48,11 +45,20 @@ public class ElasticBillSearchDao extends ElasticBaseDao implements BillSearchDa
                                                  List<SortBuilder> sort, LimitOffset limOff) {
         SearchRequestBuilder searchBuilder =
             getSearchRequest(billIndexName, query, postFilter, highlightedFields, rescorer , sort, limOff, false);
-        SearchResponse response = searchBuilder.execute().actionGet();
+        SearchResponse response = executeSearch(searchBuilder);
         logger.debug("Bill search result with query {} took {} ms", query, response.getTookInMillis());
         return getSearchResults(response, limOff, this::getBaseBillIdFromHit);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public SearchResults<BaseBillId> searchBills(QueryBuilder query, QueryBuilder postFilter, RescoreBuilder.Rescorer rescorer,
+                                                 List<SortBuilder> sort, int limit, String cursor) {
+        SearchRequestBuilder searchBuilder = getSearchRequest(billIndexName, query, postFilter, highlightedFields,
+                                                              rescorer, sort, new LimitOffset(limit), false);
+        return getCursorSearchResults(searchBuilder, cursor, this::getBaseBillIdFromHit);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void updateBillIndex(Bill bill) {
@@ -90,18 +96,6 @@ public class ElasticBillSearchDao extends ElasticBaseDao implements BillSearchDa
         return Lists.newArrayList(billIndexName);
     }
 
-    /**
-     * Increase max result window for bills in order to perform paginated queries on lots of bills.
-     *
-     * @see gov.nysenate.openleg.controller.api.bill.BillGetCtrl#getBills(int, String, boolean, WebRequest)
-     *
-     * @return int
-     */
-    @Override
-    protected int getMaxResultWindow() {
-        return billMaxResultWindow;
-    }
-
     protected BaseBillId getBaseBillIdFromHit(SearchHit hit) {
         return new BaseBillId(hit.getId(), Integer.parseInt(hit.getType()));
     }
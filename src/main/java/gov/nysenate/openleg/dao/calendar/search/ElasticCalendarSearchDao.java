@@ -44,7 +44,7 @@ public class ElasticCalendarSearchDao extends ElasticBaseDao implements Calendar
     public SearchResults<CalendarId> searchCalendars(QueryBuilder query, QueryBuilder postFilter,
                                                      List<SortBuilder> sort, LimitOffset limitOffset) {
         SearchRequestBuilder searchBuilder = getSearchRequest(calIndexName, query, postFilter, sort, limitOffset);
-        SearchResponse response = searchBuilder.execute().actionGet();
+        SearchResponse response = executeSearch(searchBuilder);
         return getSearchResults(response, limitOffset, this::getCalendarId);
     }
 
@@ -54,7 +54,7 @@ public class ElasticCalendarSearchDao extends ElasticBaseDao implements Calendar
         if (calendar != null) {
             BulkRequestBuilder bulkRequest = searchClient.prepareBulk();
             addCalToBulkRequest(calendar, bulkRequest);
-            bulkRequest.execute().actionGet();
+            safeBulkRequestExecute(bulkRequest);
         }
     }
 
@@ -63,7 +63,7 @@ public class ElasticCalendarSearchDao extends ElasticBaseDao implements Calendar
     public void updateCalendarIndexBulk(Collection<Calendar> calendars) {
         BulkRequestBuilder bulkRequest = searchClient.prepareBulk();
         calendars.forEach(cal -> addCalToBulkRequest(cal, bulkRequest));
-        bulkRequest.execute().actionGet();
+        safeBulkRequestExecute(bulkRequest);
     }
 
     /**{@inheritDoc}*/
@@ -52,7 +52,7 @@ public class ElasticCommitteeSearchDao extends ElasticBaseDao implements Committ
     public SearchResults<CommitteeVersionId> searchCommittees(QueryBuilder query, QueryBuilder filter,
                                                               List<SortBuilder> sort, LimitOffset limitOffset) {
         SearchRequestBuilder searchRequest = getSearchRequest(committeeSearchIndexName, query, filter, sort, limitOffset);
-        SearchResponse response = searchRequest.execute().actionGet();
+        SearchResponse response = executeSearch(searchRequest);
         return getSearchResults(response, limitOffset, this::getCommitteeVersionId);
     }
 
@@ -61,7 +61,7 @@ public class ElasticCommitteeSearchDao extends ElasticBaseDao implements Committ
         deleteCommitteeFromIndex(committeeSessionId);
         BulkRequestBuilder bulkRequest = searchClient.prepareBulk();
         committeeHistoryIndexBulkAdd(committeeSessionId, bulkRequest);
-        bulkRequest.execute().actionGet();
+        safeBulkRequestExecute(bulkRequest);
     }
 
     @Override
@@ -73,15 +73,12 @@ public class ElasticCommitteeSearchDao extends ElasticBaseDao implements Committ
         sessionIds.stream()
                 .peek(this::deleteCommitteeFromIndex)
                 .forEach(sessionId -> committeeHistoryIndexBulkAdd(sessionId, bulkRequest));
-        bulkRequest.execute().actionGet();
+        safeBulkRequestExecute(bulkRequest);
     }
 
     @Override
     public void deleteCommitteeFromIndex(CommitteeSessionId committeeSessionId) {
-        BulkRequestBuilder committeeDeleteRequest = getCommitteeDeleteRequest(committeeSessionId);
-        if (committeeDeleteRequest.numberOfActions() > 0) {
-            committeeDeleteRequest.execute().actionGet();
-        }
+        safeBulkRequestExecute(getCommitteeDeleteRequest(committeeSessionId));
     }
 
     @Override
@@ -35,7 +35,7 @@ public class ElasticMemberSearchDao extends ElasticBaseDao implements MemberSear
     @Override
     public SearchResults<Integer> searchMembers(QueryBuilder query, QueryBuilder filter, List<SortBuilder> sort, LimitOffset limOff) {
         SearchRequestBuilder searchBuilder = getSearchRequest(memberIndexName, query, filter, sort, limOff);
-        SearchResponse response = searchBuilder.execute().actionGet();
+        SearchResponse response = executeSearch(searchBuilder);
         logger.debug("Member search result with query {} and filter {} took {} ms", query, filter, response.getTookInMillis());
         return getSearchResults(response, limOff, this::getMemberFromHit);
     }
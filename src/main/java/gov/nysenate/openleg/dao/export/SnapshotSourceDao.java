@@ -0,0 +1,33 @@
+package gov.nysenate.openleg.dao.export;
+
+import gov.nysenate.openleg.model.base.SessionYear;
+import org.springframework.dao.DataAccessException;
+
+import java.util.Map;
+
+/**
+ * Data Access Layer for determining which source data last modified the content written to snapshot files.
+ * A snapshot only needs to be rewritten once the source data that last modified its content changes.
+ */
+public interface SnapshotSourceDao
+{
+    /**
+     * @return Map<SessionYear, String> - The fragment id of the most recently modified bill in each session.
+     */
+    public Map<SessionYear, String> getLastBillFragmentIds() throws DataAccessException;
+
+    /**
+     * @return Map<SessionYear, String> - The fragment id of the most recently modified agenda in each session.
+     */
+    public Map<SessionYear, String> getLastAgendaFragmentIds() throws DataAccessException;
+
+    /**
+     * @return Map<SessionYear, String> - The fragment id of the most recently modified calendar in each session.
+     */
+    public Map<SessionYear, String> getLastCalendarFragmentIds() throws DataAccessException;
+
+    /**
+     * @return Map<String, String> - The name of the law file that most recently modified each law, by law id.
+     */
+    public Map<String, String> getLastLawFileNames() throws DataAccessException;
+}
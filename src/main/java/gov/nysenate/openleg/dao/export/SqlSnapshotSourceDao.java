@@ -0,0 +1,52 @@
+package gov.nysenate.openleg.dao.export;
+
+import gov.nysenate.openleg.dao.base.SqlBaseDao;
+import gov.nysenate.openleg.model.base.SessionYear;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import static gov.nysenate.openleg.dao.export.SqlSnapshotSourceQuery.*;
+
+@Repository
+public class SqlSnapshotSourceDao extends SqlBaseDao implements SnapshotSourceDao
+{
+    /** {@inheritDoc} */
+    @Override
+    public Map<SessionYear, String> getLastBillFragmentIds() throws DataAccessException {
+        return getLastFragmentIds(SELECT_LAST_BILL_FRAGMENT_IDS);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<SessionYear, String> getLastAgendaFragmentIds() throws DataAccessException {
+        return getLastFragmentIds(SELECT_LAST_AGENDA_FRAGMENT_IDS);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<SessionYear, String> getLastCalendarFragmentIds() throws DataAccessException {
+        return getLastFragmentIds(SELECT_LAST_CALENDAR_FRAGMENT_IDS);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, String> getLastLawFileNames() throws DataAccessException {
+        Map<String, String> lawFileNames = new TreeMap<>();
+        jdbc.query(SELECT_LAST_LAW_FILE_NAMES.getSql(schema()), (RowCallbackHandler) rs ->
+            lawFileNames.put(rs.getString("law_id"), rs.getString("law_file_name")));
+        return lawFileNames;
+    }
+
+    /** --- Internal Methods --- */
+
+    private Map<SessionYear, String> getLastFragmentIds(SqlSnapshotSourceQuery query) {
+        Map<SessionYear, String> fragmentIds = new TreeMap<>();
+        jdbc.query(query.getSql(schema()), (RowCallbackHandler) rs ->
+            fragmentIds.put(SessionYear.of(rs.getInt("session_year")), rs.getString("last_fragment_id")));
+        return fragmentIds;
+    }
+}
@@ -0,0 +1,43 @@
+package gov.nysenate.openleg.dao.export;
+
+import gov.nysenate.openleg.dao.base.BasicSqlQuery;
+import gov.nysenate.openleg.dao.base.SqlTable;
+
+public enum SqlSnapshotSourceQuery implements BasicSqlQuery
+{
+    SELECT_LAST_BILL_FRAGMENT_IDS(
+        "SELECT DISTINCT ON (bill_session_year) bill_session_year AS session_year, last_fragment_id\n" +
+        "FROM ${schema}." + SqlTable.BILL + "\n" +
+        "ORDER BY bill_session_year, modified_date_time DESC NULLS LAST"
+    ),
+    /** Agendas and calendars are stored by year, the odd year of each session is the session year. */
+    SELECT_LAST_AGENDA_FRAGMENT_IDS(
+        "SELECT DISTINCT ON (session_year) session_year, last_fragment_id\n" +
+        "FROM (SELECT year - (year + 1) % 2 AS session_year, last_fragment_id, modified_date_time\n" +
+        "      FROM ${schema}." + SqlTable.AGENDA + ") agenda\n" +
+        "ORDER BY session_year, modified_date_time DESC NULLS LAST"
+    ),
+    SELECT_LAST_CALENDAR_FRAGMENT_IDS(
+        "SELECT DISTINCT ON (session_year) session_year, last_fragment_id\n" +
+        "FROM (SELECT calendar_year - (calendar_year + 1) % 2 AS session_year, last_fragment_id, modified_date_time\n" +
+        "      FROM ${schema}." + SqlTable.CALENDAR + ") calendar\n" +
+        "ORDER BY session_year, modified_date_time DESC NULLS LAST"
+    ),
+    SELECT_LAST_LAW_FILE_NAMES(
+        "SELECT DISTINCT ON (law_id) law_id, law_file_name\n" +
+        "FROM ${schema}." + SqlTable.LAW_DOCUMENT + "\n" +
+        "ORDER BY law_id, created_date_time DESC"
+    )
+    ;
+
+    private String sql;
+
+    SqlSnapshotSourceQuery(String sql) {
+        this.sql = sql;
+    }
+
+    @Override
+    public String getSql() {
+        return sql;
+    }
+}
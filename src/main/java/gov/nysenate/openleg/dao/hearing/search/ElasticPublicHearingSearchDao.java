@@ -42,7 +42,7 @@ public class ElasticPublicHearingSearchDao extends ElasticBaseDao implements Pub
     public SearchResults<PublicHearingId> searchPublicHearings(QueryBuilder query, QueryBuilder postFilter,
                                                                List<SortBuilder> sort, LimitOffset limOff) {
         SearchRequestBuilder searchBuilder = getSearchRequest(publicHearingIndexName, query, postFilter, highlightedFields, null, sort, limOff, false);
-        SearchResponse response = searchBuilder.execute().actionGet();
+        SearchResponse response = executeSearch(searchBuilder);
         logger.debug("Public Hearing search result with query {} and filter {} took {} ms", query, postFilter, response.getTookInMillis());
         return getSearchResults(response, limOff, this::getPublicHearingIdFromHit);
     }
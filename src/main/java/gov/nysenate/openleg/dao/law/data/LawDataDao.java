@@ -51,6 +51,16 @@ public interface LawDataDao
      */
     public LawTree getLawTree(String lawId, LocalDate endPublishDate) throws DataAccessException;
 
+    /**
+     * Retrieves every published version of the LawTree for the given lawId in a single pass. Subtrees that do
+     * not change from one version to the next are shared between the versions.
+     *
+     * @param lawId String - The three letter law id. (Case insensitive)
+     * @return LawTreeHistory
+     * @throws DataAccessException - If no matching law id was found or there was an error while retrieving the trees.
+     */
+    public LawTreeHistory getLawTreeHistory(String lawId) throws DataAccessException;
+
     /**
      * Get law documents that were repealed during the given date time range
      *
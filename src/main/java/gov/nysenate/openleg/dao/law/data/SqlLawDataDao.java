@@ -74,6 +74,18 @@ public class SqlLawDataDao extends SqlBaseDao implements LawDataDao
         return lawTree;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public LawTreeHistory getLawTreeHistory(String lawId) throws DataAccessException {
+        ImmutableParams treeParams = ImmutableParams.from(new MapSqlParameterSource("lawId", lawId));
+        OrderBy orderBy = new OrderBy("tree_published_date", SortOrder.ASC, "sequence_no", SortOrder.ASC);
+        LawInfo lawInfo = getLawInfo(lawId);
+        LawTreeHistoryRowCallbackHandler historyHandler = new LawTreeHistoryRowCallbackHandler(lawInfo);
+        jdbcNamed.query(SqlLawDataQuery.SELECT_LAW_TREE_HISTORY.getSql(schema(), orderBy, LimitOffset.ALL),
+                        treeParams, historyHandler);
+        return historyHandler.getLawTreeHistory();
+    }
+
     @Override
     public List<LawDocId> getRepealedLaws(Range<LocalDateTime> dateRange) {
         ImmutableParams params = ImmutableParams.from(new MapSqlParameterSource()
@@ -183,6 +195,50 @@ public class SqlLawDataDao extends SqlBaseDao implements LawDataDao
         }
     }
 
+    /**
+     * Constructs a LawTreeHistory from a result set containing the rows of every version of a law tree, ordered
+     * by the tree published date. Each version is built and added to the history as soon as its rows have been
+     * read so only one unshared version is held in memory at a time.
+     */
+    protected class LawTreeHistoryRowCallbackHandler implements RowCallbackHandler
+    {
+        private LawTreeHistory history;
+        private LawTreeRowCallbackHandler versionHandler = null;
+        private LocalDate versionPublishedDate = null;
+
+        public LawTreeHistoryRowCallbackHandler(LawInfo info) {
+            this.history = new LawTreeHistory(info.getLawId(), info);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            LocalDate treePublishedDate = getLocalDateFromRs(rs, "tree_published_date");
+            if (versionHandler == null || !treePublishedDate.equals(versionPublishedDate)) {
+                addCurrentVersion();
+                versionHandler = new LawTreeRowCallbackHandler(history.getLawInfo());
+                versionPublishedDate = treePublishedDate;
+            }
+            versionHandler.processRow(rs);
+        }
+
+        /**
+         * Returns the history containing all the versions processed from the result set.
+         * @return LawTreeHistory
+         */
+        public LawTreeHistory getLawTreeHistory() {
+            addCurrentVersion();
+            return history;
+        }
+
+        private void addCurrentVersion() {
+            if (versionHandler != null) {
+                history.addVersion(versionHandler.getLawTree());
+                versionHandler = null;
+            }
+        }
+    }
+
     /**
      * Constructs LawDocId from result set.
      */
@@ -63,6 +63,15 @@ public enum SqlLawDataQuery implements BasicSqlQuery
         "     ON t.doc_id = d1.document_id AND t.doc_published_date = d1.published_date\n" +
         "WHERE t.law_id = :lawId AND t.published_date = max_date.pub_date"
     ),
+    SELECT_LAW_TREE_HISTORY(
+        "SELECT t.law_id, t.published_date AS tree_published_date, t.is_root, t.sequence_no, t.repealed_date, " +
+        "       d1.document_id, d1.published_date, d1.document_type, d1.location_id, d1.title, d1.document_type_id, " +
+        "       t.parent_doc_id\n" +
+        "FROM ${schema}." + SqlTable.LAW_TREE + " t\n" +
+        "LEFT JOIN ${schema}." + SqlTable.LAW_DOCUMENT + " d1 \n" +
+        "     ON t.doc_id = d1.document_id AND t.doc_published_date = d1.published_date\n" +
+        "WHERE t.law_id = :lawId"
+    ),
 
     SELECT_REPEALED_LAWS(
         "SELECT t.law_id, t.doc_id AS document_id, t.published_date, t.repealed_date\n" +
@@ -43,7 +43,7 @@ public class ElasticLawSearchDao extends ElasticBaseDao implements LawSearchDao
                                                  RescoreBuilder.Rescorer rescorer, List<SortBuilder> sort, LimitOffset limOff) {
         SearchRequestBuilder searchBuilder =
             getSearchRequest(lawIndexName, query, postFilter, highlightFields, rescorer, sort, limOff, true);
-        SearchResponse response = searchBuilder.execute().actionGet();
+        SearchResponse response = executeSearch(searchBuilder);
         return getSearchResults(response, limOff, this::getLawDocIdFromHit);
     }
 
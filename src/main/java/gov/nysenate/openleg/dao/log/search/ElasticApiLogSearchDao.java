@@ -37,7 +37,7 @@ public class ElasticApiLogSearchDao extends ElasticBaseDao implements ApiLogSear
     public SearchResults<Integer> searchLogs(QueryBuilder query, QueryBuilder filter, List<SortBuilder> sort, LimitOffset limOff) {
         SearchRequestBuilder searchBuilder =
             getSearchRequest(logIndexName, query, filter, null, null, sort, limOff, false);
-        SearchResponse response = searchBuilder.execute().actionGet();
+        SearchResponse response = executeSearch(searchBuilder);
         return getSearchResults(response, limOff, hit -> Integer.parseInt(hit.getId()));
     }
 
@@ -46,7 +46,7 @@ public class ElasticApiLogSearchDao extends ElasticBaseDao implements ApiLogSear
     public SearchResults<ApiLogItemView> searchLogsAndFetchData(QueryBuilder query, QueryBuilder filter, List<SortBuilder> sort, LimitOffset limOff) {
         SearchRequestBuilder searchBuilder =
                 getSearchRequest(logIndexName, query, filter, null, null, sort, limOff, true);
-        SearchResponse response = searchBuilder.execute().actionGet();
+        SearchResponse response = executeSearch(searchBuilder);
         return getSearchResults(response, limOff,
             hit -> objectMapper.convertValue(hit.getSource(), ApiLogItemView.class));
     }
@@ -51,7 +51,7 @@ public class ElasticNotificationSearchDao extends ElasticBaseDao implements Noti
         // Restrict search to only notifications, excluding the id incrementer
         QueryBuilder fullFilter = QueryBuilders.boolQuery().filter(filter).must(QueryBuilders.typeQuery(notificationType));
         SearchRequestBuilder request = getSearchRequest(notificationIndex, query, fullFilter, null, null, sort, limitOffset, true);
-        SearchResponse response = request.execute().actionGet();
+        SearchResponse response = executeSearch(request);
         return getSearchResults(response, limitOffset, hit -> getNotificationFromSourceMap(hit.getSource()));
     }
 
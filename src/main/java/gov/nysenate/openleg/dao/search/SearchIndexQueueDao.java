@@ -0,0 +1,43 @@
+package gov.nysenate.openleg.dao.search;
+
+import gov.nysenate.openleg.dao.base.SearchIndex;
+import org.springframework.dao.DataAccessException;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Access Layer for the durable outbox of content that is queued to be indexed into the search layer.
+ */
+public interface SearchIndexQueueDao
+{
+    /**
+     * Retrieves all queued content ids, in the order they were queued.
+     *
+     * @param index SearchIndex
+     * @return Map<String, LocalDateTime> - Maps each queued content id to the time it was last queued.
+     */
+    public Map<String, LocalDateTime> getQueued(SearchIndex index) throws DataAccessException;
+
+    /**
+     * Adds the given content ids to the queue, or updates their queued time if they are already queued.
+     *
+     * @param index SearchIndex
+     * @param contentIds Collection<String>
+     * @param queuedDateTime LocalDateTime
+     */
+    public void saveQueued(SearchIndex index, Collection<String> contentIds, LocalDateTime queuedDateTime)
+        throws DataAccessException;
+
+    /**
+     * Removes the given content ids from the queue unless they were queued again after the given time.
+     *
+     * @param index SearchIndex
+     * @param contentIds List<String>
+     * @param indexedDateTime LocalDateTime - The time the content began to be indexed.
+     */
+    public void deleteQueued(SearchIndex index, List<String> contentIds, LocalDateTime indexedDateTime)
+        throws DataAccessException;
+}
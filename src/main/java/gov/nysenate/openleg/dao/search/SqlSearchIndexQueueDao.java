@@ -0,0 +1,73 @@
+package gov.nysenate.openleg.dao.search;
+
+import gov.nysenate.openleg.dao.base.SearchIndex;
+import gov.nysenate.openleg.dao.base.SqlBaseDao;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static gov.nysenate.openleg.dao.search.SqlSearchIndexQueueQuery.*;
+import static gov.nysenate.openleg.util.DateUtils.toDate;
+
+@Repository
+public class SqlSearchIndexQueueDao extends SqlBaseDao implements SearchIndexQueueDao
+{
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, LocalDateTime> getQueued(SearchIndex index) throws DataAccessException {
+        MapSqlParameterSource params = new MapSqlParameterSource("indexName", index.name());
+        Map<String, LocalDateTime> queued = new LinkedHashMap<>();
+        jdbcNamed.query(SELECT_QUEUED.getSql(schema()), params, (RowCallbackHandler) rs ->
+            queued.put(rs.getString("content_id"), getLocalDateTimeFromRs(rs, "queued_date_time")));
+        return queued;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void saveQueued(SearchIndex index, Collection<String> contentIds, LocalDateTime queuedDateTime)
+            throws DataAccessException {
+        List<String> ids = new ArrayList<>(contentIds);
+        MapSqlParameterSource[] batchParams = ids.stream()
+            .map(id -> getQueueParams(index, id, queuedDateTime))
+            .toArray(MapSqlParameterSource[]::new);
+        int[] updated = jdbcNamed.batchUpdate(UPDATE_QUEUED.getSql(schema()), batchParams);
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                try {
+                    jdbcNamed.update(INSERT_QUEUED.getSql(schema()), batchParams[i]);
+                }
+                catch (DuplicateKeyException ex) {
+                    // Queued concurrently, so it is already in the queue
+                    jdbcNamed.update(UPDATE_QUEUED.getSql(schema()), batchParams[i]);
+                }
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void deleteQueued(SearchIndex index, List<String> contentIds, LocalDateTime indexedDateTime)
+            throws DataAccessException {
+        if (contentIds.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("indexName", index.name())
+            .addValue("contentIds", contentIds)
+            .addValue("indexedDateTime", toDate(indexedDateTime));
+        jdbcNamed.update(DELETE_QUEUED.getSql(schema()), params);
+    }
+
+    /** --- Param Source Methods --- */
+
+    private static MapSqlParameterSource getQueueParams(SearchIndex index, String contentId,
+                                                        LocalDateTime queuedDateTime) {
+        return new MapSqlParameterSource("indexName", index.name())
+            .addValue("contentId", contentId)
+            .addValue("queuedDateTime", toDate(queuedDateTime));
+    }
+}
@@ -0,0 +1,39 @@
+package gov.nysenate.openleg.dao.search;
+
+import gov.nysenate.openleg.dao.base.BasicSqlQuery;
+import gov.nysenate.openleg.dao.base.SqlTable;
+
+public enum SqlSearchIndexQueueQuery implements BasicSqlQuery
+{
+    SELECT_QUEUED(
+        "SELECT content_id, queued_date_time FROM ${schema}." + SqlTable.SEARCH_INDEX_QUEUE + "\n" +
+        "WHERE index_name = :indexName\n" +
+        "ORDER BY queued_date_time"
+    ),
+    UPDATE_QUEUED(
+        "UPDATE ${schema}." + SqlTable.SEARCH_INDEX_QUEUE + "\n" +
+        "SET queued_date_time = :queuedDateTime\n" +
+        "WHERE index_name = :indexName AND content_id = :contentId"
+    ),
+    INSERT_QUEUED(
+        "INSERT INTO ${schema}." + SqlTable.SEARCH_INDEX_QUEUE + "\n" +
+        "(index_name, content_id, queued_date_time)\n" +
+        "VALUES (:indexName, :contentId, :queuedDateTime)"
+    ),
+    DELETE_QUEUED(
+        "DELETE FROM ${schema}." + SqlTable.SEARCH_INDEX_QUEUE + "\n" +
+        "WHERE index_name = :indexName AND content_id IN (:contentIds) AND queued_date_time <= :indexedDateTime"
+    )
+    ;
+
+    private String sql;
+
+    SqlSearchIndexQueueQuery(String sql) {
+        this.sql = sql;
+    }
+
+    @Override
+    public String getSql() {
+        return sql;
+    }
+}
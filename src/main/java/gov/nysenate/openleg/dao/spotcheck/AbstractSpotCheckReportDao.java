@@ -5,7 +5,6 @@ import gov.nysenate.openleg.dao.base.*;
 import gov.nysenate.openleg.model.base.SessionYear;
 import gov.nysenate.openleg.model.spotcheck.*;
 import gov.nysenate.openleg.service.spotcheck.base.MismatchNotFoundEx;
-import gov.nysenate.openleg.service.spotcheck.base.MismatchUtils;
 import gov.nysenate.openleg.util.SpotCheckReportUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -15,6 +14,7 @@ import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -23,8 +23,7 @@ import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static gov.nysenate.openleg.dao.spotcheck.SqlSpotCheckReportQuery.INSERT_MISMATCH;
-import static gov.nysenate.openleg.dao.spotcheck.SqlSpotCheckReportQuery.INSERT_REPORT;
+import static gov.nysenate.openleg.dao.spotcheck.SqlSpotCheckReportQuery.*;
 import static gov.nysenate.openleg.util.DateUtils.toDate;
 
 /**
@@ -157,8 +156,13 @@ public abstract class AbstractSpotCheckReportDao<ContentKey> extends SqlBaseDao
 
     /**
      * {@inheritDoc}
+     *
+     * The report's mismatches and checked keys are written to session local staging tables and then reconciled
+     * against the previously saved mismatches within the database using a single statement.
+     * See {@link SqlSpotCheckReportQuery#RECONCILE_MISMATCHES}.
      */
     @Override
+    @Transactional
     public void saveReport(SpotCheckReport<ContentKey> report) {
         int reportId = insertReport(report);
         report.setId(reportId);
@@ -167,29 +171,8 @@ public abstract class AbstractSpotCheckReportDao<ContentKey> extends SqlBaseDao
             logger.warn("The observations have not been set on this report.");
             return;
         }
-
-        List<DeNormSpotCheckMismatch> reportMismatches = reportToDeNormMismatches(report);
-        List<DeNormSpotCheckMismatch> savedMismatches = getRelevantSavedMismatches(report);
-
-        reportMismatches.addAll(MismatchUtils.deriveClosedMismatches(reportMismatches, savedMismatches, report));
-        reportMismatches = MismatchUtils.copyIgnoreStatuses(savedMismatches, reportMismatches);
-        reportMismatches = MismatchUtils.updateIgnoreStatus(reportMismatches);
-        reportMismatches = MismatchUtils.updateFirstSeenDateTime(reportMismatches, savedMismatches);
-
-        insertMismatches(reportMismatches);
-    }
-
-    /**
-     * Gets any open mismatches for the content observed in the report
-     */
-    private List<DeNormSpotCheckMismatch> getRelevantSavedMismatches(SpotCheckReport<ContentKey> report) {
-        MismatchQuery<ContentKey> query = new MismatchQuery<ContentKey>(report.getReportDateTime().toLocalDate(),
-                                                report.getReferenceType().getDataSource(),
-                                                MismatchStatus.OPEN,
-                                                Sets.newHashSet(report.getReferenceType().getContentType()))
-                .withIgnoredStatuses(EnumSet.allOf(SpotCheckMismatchIgnore.class))
-                .withKeys(report.getCheckedKeys());
-        return getMismatches(query, LimitOffset.ALL).getResults();
+        stageReport(report);
+        jdbcNamed.update(RECONCILE_MISMATCHES.getSql(schema()), reconcileParams(report));
     }
 
     private int insertReport(SpotCheckReport<ContentKey> report) {
@@ -199,12 +182,37 @@ public abstract class AbstractSpotCheckReportDao<ContentKey> extends SqlBaseDao
         return reportIdHolder.getKey().intValue();
     }
 
-    private void insertMismatches(List<DeNormSpotCheckMismatch> mismatches) {
-        List<MapSqlParameterSource> params = mismatches.stream()
+    /**
+     * Writes the mismatches and checked keys of the report into the staging tables.
+     */
+    private void stageReport(SpotCheckReport<ContentKey> report) {
+        jdbc.execute(CREATE_MISMATCH_STAGING_TABLE.getSql());
+        jdbc.execute(CREATE_CHECKED_KEY_STAGING_TABLE.getSql());
+        jdbc.execute(CLEAR_STAGING_TABLES.getSql());
+        MapSqlParameterSource[] keyParams = report.getCheckedKeys().stream()
+                .map(key -> new MapSqlParameterSource("key", toHstoreString(getMapFromKey(key))))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcNamed.batchUpdate(INSERT_STAGED_CHECKED_KEY.getSql(), keyParams);
+        MapSqlParameterSource[] mismatchParams = reportToDeNormMismatches(report).stream()
                 .map(this::mismatchParams)
-                .collect(Collectors.toList());
-        String sql = INSERT_MISMATCH.getSql(schema());
-        jdbcNamed.batchUpdate(sql, params.stream().toArray(MapSqlParameterSource[]::new));
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcNamed.batchUpdate(INSERT_STAGED_MISMATCH.getSql(), mismatchParams);
+    }
+
+    /**
+     * Parameters used in the {@link SqlSpotCheckReportQuery} RECONCILE_MISMATCHES query.
+     */
+    private MapSqlParameterSource reconcileParams(SpotCheckReport<ContentKey> report) {
+        LocalDateTime reportEndDateTime =
+                SpotCheckReportUtils.getReportEndDateTime(report.getReportDateTime().toLocalDate());
+        Set<String> checkedTypes = extractEnumSetParams(report.getReferenceType().checkedMismatchTypes());
+        return activeMismatchParams(reportEndDateTime, report.getReferenceType().getDataSource())
+                .addValue("reportId", report.getId())
+                .addValue("contentType", report.getReferenceType().getContentType().name())
+                .addValue("referenceType", report.getReferenceType().name())
+                .addValue("reportDateTime", report.getReportDateTime())
+                .addValue("referenceDateTime", report.getReferenceDateTime())
+                .addValue("checkedTypes", toPostgresArray(checkedTypes));
     }
 
     /**
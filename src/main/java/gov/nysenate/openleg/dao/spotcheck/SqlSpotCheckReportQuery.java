@@ -20,15 +20,24 @@ public enum SqlSpotCheckReportQuery implements BasicSqlQuery
 
     GET_MISMATCH(
         "SELECT m.mismatch_id, m.report_id, m.key as key, m.type, m.state, \n" +
-        "m.datasource, m.content_type, m.reference_type, m.reference_active_date_time, m.reference_data, m.observed_data, m.notes, \n" +
+        "m.datasource, m.content_type, m.reference_type, m.reference_active_date_time, \n" +
+        "COALESCE(m.reference_data, d.reference_data) AS reference_data, \n" +
+        "COALESCE(m.observed_data, d.observed_data) AS observed_data, m.notes, \n" +
         "m.observed_date_time, m.report_date_time, m.ignore_status, m.issue_ids \n" +
         "  FROM ${schema}.spotcheck_mismatch m \n" +
+        "  LEFT JOIN ${schema}.spotcheck_mismatch d ON d.mismatch_id = m.data_mismatch_id \n" +
         "  WHERE m.mismatch_id = :mismatchId \n"
     ),
 
+    /** Mismatches stored as state transitions take their data from the row referenced by data_mismatch_id. */
     GET_MISMATCHES(
         "SELECT mismatch_id, report_id, hstore_to_array(key) key_arr, type, state, datasource, content_type, \n" +
-        "  reference_type, reference_active_date_time, reference_data, observed_data, notes, \n" +
+        "  reference_type, reference_active_date_time, \n" +
+        "  COALESCE(reference_data, (SELECT d.reference_data FROM ${schema}.spotcheck_mismatch d \n" +
+        "                            WHERE d.mismatch_id = active_mismatches.data_mismatch_id)) AS reference_data, \n" +
+        "  COALESCE(observed_data, (SELECT d.observed_data FROM ${schema}.spotcheck_mismatch d \n" +
+        "                           WHERE d.mismatch_id = active_mismatches.data_mismatch_id)) AS observed_data, \n" +
+        "  notes, \n" +
         "  observed_date_time, first_seen_date_time, report_date_time, ignore_status, issue_ids, \n" +
         "  count(*) OVER() as total_rows \n" +
         "FROM (" + ACTIVE_MISMATCHES.getSql() + ") active_mismatches \n" +
@@ -41,15 +50,93 @@ public enum SqlSpotCheckReportQuery implements BasicSqlQuery
         "  AND (NOT :filteringKeys OR key::text IN (:keys))\n"
     ),
 
-    INSERT_MISMATCH(
-        "INSERT INTO ${schema}.spotcheck_mismatch\n" +
-        "(key, type, report_id, datasource, content_type, reference_type,\n" +
-        "state, reference_data, observed_data, notes, issue_ids, ignore_status,\n" +
-        "report_date_time, observed_date_time, reference_active_date_time, first_seen_date_time)\n" +
+    /** --- Report Reconciliation --- */
+
+    CREATE_MISMATCH_STAGING_TABLE(
+        "CREATE TEMP TABLE IF NOT EXISTS spotcheck_mismatch_staging (\n" +
+        "  key public.hstore NOT NULL, type text NOT NULL, reference_type text NOT NULL, \n" +
+        "  reference_data text NOT NULL, observed_data text NOT NULL, notes text, issue_ids text[] NOT NULL, \n" +
+        "  ignore_status text NOT NULL, report_date_time timestamp without time zone NOT NULL, \n" +
+        "  observed_date_time timestamp without time zone NOT NULL, \n" +
+        "  reference_active_date_time timestamp without time zone NOT NULL\n" +
+        ") ON COMMIT DELETE ROWS"
+    ),
+    CREATE_CHECKED_KEY_STAGING_TABLE(
+        "CREATE TEMP TABLE IF NOT EXISTS spotcheck_checked_key_staging (key public.hstore NOT NULL) ON COMMIT DELETE ROWS"
+    ),
+    CLEAR_STAGING_TABLES(
+        "TRUNCATE spotcheck_mismatch_staging, spotcheck_checked_key_staging"
+    ),
+    INSERT_STAGED_MISMATCH(
+        "INSERT INTO spotcheck_mismatch_staging\n" +
+        "(key, type, reference_type, reference_data, observed_data, notes, issue_ids, ignore_status,\n" +
+        " report_date_time, observed_date_time, reference_active_date_time)\n" +
         "VALUES\n" +
-        "(:key::hstore, :mismatchType, :reportId, :datasource, :contentType, :referenceType, \n" +
-        ":mismatchStatus, :referenceData, :observedData, :notes, :issueIds::text[], :ignoreLevel, \n" +
-        ":reportDateTime, :observedDateTime, :referenceActiveDateTime, :firstSeenDateTime)\n"
+        "(:key::hstore, :mismatchType, :referenceType, :referenceData, :observedData, :notes, :issueIds::text[], \n" +
+        " :ignoreLevel, :reportDateTime, :observedDateTime, :referenceActiveDateTime)"
+    ),
+    INSERT_STAGED_CHECKED_KEY(
+        "INSERT INTO spotcheck_checked_key_staging (key) VALUES (:key::hstore)"
+    ),
+
+    /**
+     * Merges the staged mismatches of a report with the mismatches saved by prior reports in a single statement.
+     * Staged mismatches carry over the first seen date time and ignore status of the matching open mismatch.
+     * When the reference and observed data are unchanged the new row is stored as a state transition that
+     * references the row holding the data. Open mismatches for checked keys and types that were not observed
+     * by the report are closed.
+     */
+    RECONCILE_MISMATCHES(
+        "WITH current_mismatches AS (\n" +
+        "  SELECT DISTINCT ON (m.key, m.type) m.*\n" +
+        "  FROM ${schema}.spotcheck_mismatch m\n" +
+        "  JOIN spotcheck_checked_key_staging ck ON ck.key = m.key\n" +
+        "  WHERE m.observed_date_time BETWEEN :sessionStartDateTime AND :reportEndDateTime\n" +
+        "    AND m.datasource = :datasource\n" +
+        "  ORDER BY m.key, m.type, m.observed_date_time DESC\n" +
+        "),\n" +
+        "open_mismatches AS (\n" +
+        "  SELECT c.*, COALESCE(c.data_mismatch_id, c.mismatch_id) AS data_source_id,\n" +
+        "         COALESCE(c.reference_data, d.reference_data) AS resolved_reference_data,\n" +
+        "         COALESCE(c.observed_data, d.observed_data) AS resolved_observed_data\n" +
+        "  FROM current_mismatches c\n" +
+        "  LEFT JOIN ${schema}.spotcheck_mismatch d ON d.mismatch_id = c.data_mismatch_id\n" +
+        "  WHERE c.state = 'OPEN' AND c.content_type = :contentType\n" +
+        "),\n" +
+        "staged_mismatches AS (\n" +
+        "  SELECT s.*, o.first_seen_date_time AS open_first_seen_date_time, o.ignore_status AS open_ignore_status,\n" +
+        "         CASE WHEN o.resolved_reference_data = s.reference_data AND o.resolved_observed_data = s.observed_data\n" +
+        "              THEN o.data_source_id END AS data_mismatch_id\n" +
+        "  FROM spotcheck_mismatch_staging s\n" +
+        "  LEFT JOIN open_mismatches o ON o.key = s.key AND o.type = s.type\n" +
+        "),\n" +
+        "reported_mismatches AS (\n" +
+        "  INSERT INTO ${schema}.spotcheck_mismatch\n" +
+        "  (key, type, report_id, datasource, content_type, reference_type, state, reference_data, observed_data,\n" +
+        "   data_mismatch_id, notes, issue_ids, ignore_status, report_date_time, observed_date_time,\n" +
+        "   reference_active_date_time, first_seen_date_time)\n" +
+        "  SELECT key, type, :reportId, :datasource, :contentType, reference_type, 'OPEN',\n" +
+        "         CASE WHEN data_mismatch_id IS NULL THEN reference_data END,\n" +
+        "         CASE WHEN data_mismatch_id IS NULL THEN observed_data END,\n" +
+        "         data_mismatch_id, notes, issue_ids,\n" +
+        "         CASE WHEN COALESCE(open_ignore_status, ignore_status) = 'IGNORE_ONCE' THEN 'NOT_IGNORED'\n" +
+        "              ELSE COALESCE(open_ignore_status, ignore_status) END,\n" +
+        "         report_date_time, observed_date_time, reference_active_date_time,\n" +
+        "         COALESCE(open_first_seen_date_time, observed_date_time)\n" +
+        "  FROM staged_mismatches\n" +
+        "  RETURNING mismatch_id\n" +
+        ")\n" +
+        "INSERT INTO ${schema}.spotcheck_mismatch\n" +
+        "(key, type, report_id, datasource, content_type, reference_type, state, reference_data, observed_data,\n" +
+        " data_mismatch_id, notes, issue_ids, ignore_status, report_date_time, observed_date_time,\n" +
+        " reference_active_date_time, first_seen_date_time)\n" +
+        "SELECT o.key, o.type, :reportId, o.datasource, o.content_type, :referenceType, 'CLOSED', NULL, NULL,\n" +
+        "       o.data_source_id, o.notes, o.issue_ids,\n" +
+        "       CASE WHEN o.ignore_status = 'IGNORE_PERMANENTLY' THEN 'IGNORE_PERMANENTLY' ELSE 'NOT_IGNORED' END,\n" +
+        "       :reportDateTime, :reportDateTime, :referenceDateTime, o.first_seen_date_time\n" +
+        "FROM open_mismatches o\n" +
+        "WHERE o.type = ANY(:checkedTypes::text[])\n" +
+        "  AND NOT EXISTS (SELECT 1 FROM spotcheck_mismatch_staging s WHERE s.key = o.key AND s.type = o.type)"
     ),
 
     MISMATCH_STATUS_SUMMARY(
@@ -42,7 +42,7 @@ public class ElasticTranscriptSearchDao extends ElasticBaseDao implements Transc
                                                          List<SortBuilder> sort, LimitOffset limOff) {
         SearchRequestBuilder searchBuilder = getSearchRequest(transcriptIndexName, query, postFilter,
                 highlightedFields, null, sort, limOff, false);
-        SearchResponse response = searchBuilder.execute().actionGet();
+        SearchResponse response = executeSearch(searchBuilder);
         logger.debug("Transcript search result with query {} and filter {} took {} ms", query, postFilter, response.getTookInMillis());
         return getSearchResults(response, limOff, this::getTranscriptIdFromHit);
     }
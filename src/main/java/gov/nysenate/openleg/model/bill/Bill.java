@@ -93,6 +93,14 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
     /** Year this bill was signed into law. */
     protected Integer chapterYear;
 
+    /** The fields that were modified since change tracking was started. If changes are not being tracked
+     *  this is null and every field is considered modified. */
+    protected EnumSet<BillUpdateField> dirtyFields;
+
+    /** The fields that were modified since the recent changes were last taken, regardless of whether changes
+     *  are being tracked. Used to attribute modifications to the source data that made them. */
+    protected EnumSet<BillUpdateField> recentFields;
+
     /** --- Constructors --- */
 
     public Bill() {}
@@ -114,6 +122,7 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
      */
     @Override
     public void setPublishedDateTime(LocalDateTime publishDateTime) {
+        trackChange(BillUpdateField.PUBLISHED_BILL, this.publishedDateTime, publishDateTime);
         super.setPublishedDateTime(publishDateTime);
         if (this.publishedDateTime != null) {
             // Sometimes bills are pre-filed before the session actually starts so we account for this.
@@ -131,17 +140,118 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
 
     /**
      * Creates a shallow clone for caching purposes. This is not a true clone so references will stay
-     * intact except for the amendment list.
+     * intact except for the amendment list. The clone does not track changes.
      * @return Bill
      * @throws CloneNotSupportedException
      */
     public Bill shallowClone() throws CloneNotSupportedException {
         Bill cloneBill = (Bill) this.clone();
+        cloneBill.dirtyFields = null;
+        cloneBill.recentFields = null;
         cloneBill.amendmentMap = new TreeMap<>();
         this.getAmendmentList().stream().forEach(a -> cloneBill.addAmendment(a.shallowClone()));
         return cloneBill;
     }
 
+    /** --- Change Tracking --- */
+
+    /**
+     * Starts tracking the fields of this bill and its current amendments that are modified from this point on,
+     * so that only the modified data needs to be persisted. Amendments added afterwards are not tracked and
+     * are always considered fully modified.
+     *
+     * Setters record a modification when the new value differs from the current one. Callers that modify
+     * collections in place must record the modification via {@link #markDirty(BillUpdateField)}. Modifying data
+     * that is not covered by a {@link BillUpdateField} stops the tracking, so that the whole bill is persisted.
+     */
+    public void startChangeTracking() {
+        this.dirtyFields = EnumSet.noneOf(BillUpdateField.class);
+        this.recentFields = null;
+        this.amendmentMap.values().forEach(BillAmendment::startChangeTracking);
+    }
+
+    /**
+     * Records that the given field was modified. The field is always recorded as a recent change, but is only
+     * recorded as dirty if changes are being tracked.
+     */
+    public void markDirty(BillUpdateField field) {
+        if (this.dirtyFields != null) {
+            this.dirtyFields.add(field);
+        }
+        if (this.recentFields == null) {
+            this.recentFields = EnumSet.noneOf(BillUpdateField.class);
+        }
+        this.recentFields.add(field);
+    }
+
+    /**
+     * Returns the fields of this bill and its amendments that were modified since the last time this method
+     * was called (or since change tracking was started) and resets them. Unlike the dirty fields, the recent
+     * changes can be taken several times while the bill is being updated, e.g. once for each piece of source data.
+     *
+     * @return BillChangeSet - The recently modified fields, empty if there were no modifications.
+     */
+    public BillChangeSet takeRecentChanges() {
+        BillChangeSet changeSet = new BillChangeSet();
+        if (this.recentFields != null) {
+            changeSet.getBillFields().addAll(this.recentFields);
+            this.recentFields = null;
+        }
+        this.amendmentMap.forEach((version, amendment) -> {
+            Set<BillUpdateField> amendmentFields = amendment.takeRecentFields();
+            if (!amendmentFields.isEmpty()) {
+                changeSet.getAmendmentFields(version).addAll(amendmentFields);
+            }
+        });
+        return changeSet;
+    }
+
+    /**
+     * @return boolean - True if any of the given bill level fields may have been modified.
+     */
+    public boolean isDirty(BillUpdateField... fields) {
+        return this.dirtyFields == null || Arrays.stream(fields).anyMatch(this.dirtyFields::contains);
+    }
+
+    /**
+     * @return boolean - True if this bill or any of its amendments may have been modified.
+     */
+    public boolean hasDirtyFields() {
+        return this.dirtyFields == null || !this.dirtyFields.isEmpty() ||
+               this.amendmentMap.values().stream().anyMatch(BillAmendment::hasDirtyFields);
+    }
+
+    /**
+     * @return Set<BillUpdateField> - The bill level fields recorded as modified, empty if changes are not tracked.
+     */
+    public Set<BillUpdateField> getDirtyFields() {
+        return (this.dirtyFields != null) ? Collections.unmodifiableSet(this.dirtyFields) : Collections.emptySet();
+    }
+
+    /**
+     * @return boolean - True if the full text and memo of every amendment are loaded.
+     * @see BillAmendment#unloadText()
+     */
+    public boolean isTextLoaded() {
+        return this.amendmentMap.values().stream().allMatch(BillAmendment::isTextLoaded);
+    }
+
+    private void trackChange(BillUpdateField field, Object oldValue, Object newValue) {
+        if (!Objects.equals(oldValue, newValue)) {
+            markDirty(field);
+        }
+    }
+
+    /**
+     * Stops tracking changes if data that is not covered by any {@link BillUpdateField} was modified,
+     * since the modification could otherwise not be persisted.
+     */
+    private void trackUncoveredChange(Object oldValue, Object newValue) {
+        if (!Objects.equals(oldValue, newValue)) {
+            this.dirtyFields = null;
+        }
+    }
+
     /** --- Functional Getters/Setters --- */
 
     /**
@@ -254,7 +364,7 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
      */
     public void updatePublishStatus(Version version, PublishStatus publishStatus) {
         if (publishStatus != null) {
-            this.amendPublishStatusMap.put(version, publishStatus);
+            trackChange(BillUpdateField.PUBLISHED_BILL, this.amendPublishStatusMap.put(version, publishStatus), publishStatus);
         }
         else {
             throw new IllegalArgumentException("Supplied PublishStatus cannot be null.");
@@ -262,15 +372,22 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
     }
 
     /**
-     * Clears the existing publishStatusMap and then delegates each entry to
-     * {@link #updatePublishStatus(Version, PublishStatus)}
+     * Replaces the existing publishStatusMap with the entries of the given map. The publish statuses are only
+     * recorded as modified if the resulting map differs from the existing one.
      *
      * @param publishStatusMap Map<String, PublishStatus>
      */
     public void setPublishStatuses(Map<Version, PublishStatus> publishStatusMap) {
+        Map<Version, PublishStatus> existingStatusMap = new TreeMap<>(this.amendPublishStatusMap);
         this.amendPublishStatusMap.clear();
         if (publishStatusMap != null) {
-            publishStatusMap.forEach(this::updatePublishStatus);
+            publishStatusMap.forEach((version, publishStatus) -> {
+                if (publishStatus == null) {
+                    throw new IllegalArgumentException("Supplied PublishStatus cannot be null.");
+                }
+                this.amendPublishStatusMap.put(version, publishStatus);
+            });
+            trackChange(BillUpdateField.PUBLISHED_BILL, existingStatusMap, this.amendPublishStatusMap);
         }
         else {
             throw new IllegalArgumentException("Supplied PublishStatusMap cannot be null.");
@@ -311,6 +428,7 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
      * @param activeVersion Version
      */
     public void setActiveVersion(Version activeVersion) {
+        trackChange(BillUpdateField.ACTIVE_VERSION, this.activeVersion, activeVersion);
         this.activeVersion = activeVersion;
         if (!this.amendmentMap.containsKey(activeVersion)) {
             this.amendmentMap.put(activeVersion, new BillAmendment(this.baseBillId, activeVersion));
@@ -332,13 +450,16 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
      */
     public void addAction(BillAction action) {
         actions.add(action);
+        markDirty(BillUpdateField.ACTION);
     }
 
     /**
      * Adds a committee to the list of past committees.
      */
     public void addPastCommittee(CommitteeVersionId committeeVersionId) {
-        pastCommittees.add(committeeVersionId);
+        if (pastCommittees.add(committeeVersionId)) {
+            markDirty(BillUpdateField.ACTION);
+        }
     }
 
     /** --- Delegates --- */
@@ -365,6 +486,7 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
     }
 
     public void setTitle(String title) {
+        trackChange(BillUpdateField.TITLE, this.title, title);
         this.title = title;
     }
 
@@ -373,6 +495,7 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
     }
 
     public void setSummary(String summary) {
+        trackChange(BillUpdateField.SUMMARY, this.summary, summary);
         this.summary = summary;
     }
 
@@ -393,6 +516,7 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
     }
 
     public void setStatus(BillStatus status) {
+        trackChange(BillUpdateField.STATUS, this.status, status);
         this.status = status;
     }
 
@@ -401,6 +525,7 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
     }
 
     public void setMilestones(LinkedList<BillStatus> milestones) {
+        trackChange(BillUpdateField.STATUS, this.milestones, milestones);
         this.milestones = milestones;
     }
 
@@ -409,6 +534,7 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
     }
 
     public void setVetoMessages(Map<VetoId,VetoMessage> vetoMessages) {
+        trackChange(BillUpdateField.VETO, this.vetoMessages, vetoMessages);
         this.vetoMessages = vetoMessages;
     }
 
@@ -417,6 +543,7 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
     }
 
     public void setApprovalMessage(ApprovalMessage approvalMessage) {
+        trackChange(BillUpdateField.APPROVAL, this.approvalMessage, approvalMessage);
         this.approvalMessage = approvalMessage;
     }
 
@@ -425,6 +552,7 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
     }
 
     public void setDirectPreviousVersion(BillId directPreviousVersion) {
+        trackChange(BillUpdateField.PREVIOUS_VERSION, this.directPreviousVersion, directPreviousVersion);
         this.directPreviousVersion = directPreviousVersion;
     }
 
@@ -433,6 +561,7 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
     }
 
     public void setAllPreviousVersions(Set<BillId> previousVersions) {
+        trackChange(BillUpdateField.PREVIOUS_VERSION, this.allPreviousVersions, previousVersions);
         this.allPreviousVersions = previousVersions;
     }
 
@@ -441,6 +570,7 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
     }
 
     public void setSubstitutedBy(BaseBillId substitutedBy) {
+        trackChange(BillUpdateField.ACTION, this.substitutedBy, substitutedBy);
         this.substitutedBy = substitutedBy;
     }
 
@@ -449,6 +579,7 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
     }
 
     public void setActions(List<BillAction> actions) {
+        trackChange(BillUpdateField.ACTION, this.actions, actions);
         this.actions = actions;
     }
 
@@ -457,6 +588,7 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
     }
 
     public void setSponsor(BillSponsor sponsor) {
+        trackChange(BillUpdateField.SPONSOR, this.sponsor, sponsor);
         this.sponsor = sponsor;
     }
 
@@ -465,6 +597,7 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
     }
 
     public void setPastCommittees(SortedSet<CommitteeVersionId> pastCommittees) {
+        trackChange(BillUpdateField.ACTION, this.pastCommittees, pastCommittees);
         this.pastCommittees = pastCommittees;
     }
 
@@ -473,6 +606,7 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
     }
 
     public void setAdditionalSponsors(List<SessionMember> additionalSponsors) {
+        trackChange(BillUpdateField.SPONSOR, this.additionalSponsors, additionalSponsors);
         this.additionalSponsors = additionalSponsors;
     }
 
@@ -481,6 +615,7 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
     }
 
     public void setProgramInfo(ProgramInfo programInfo) {
+        trackChange(BillUpdateField.PROGRAM_INFO, this.programInfo, programInfo);
         this.programInfo = programInfo;
     }
 
@@ -489,6 +624,7 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
     }
 
     public void setCommitteeAgendas(List<CommitteeAgendaId> committeeAgendas) {
+        trackUncoveredChange(this.committeeAgendas, committeeAgendas);
         this.committeeAgendas = committeeAgendas;
     }
 
@@ -497,6 +633,7 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
     }
 
     public void setCalendars(List<CalendarId> calendars) {
+        trackUncoveredChange(this.calendars, calendars);
         this.calendars = calendars;
     }
 
@@ -505,6 +642,7 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
     }
 
     public void setChapterNum(Integer chapterNum) {
+        trackUncoveredChange(this.chapterNum, chapterNum);
         this.chapterNum = chapterNum;
     }
 
@@ -513,6 +651,7 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
     }
 
     public void setChapterYear(Integer chapterYear) {
+        trackUncoveredChange(this.chapterYear, chapterYear);
         this.chapterYear = chapterYear;
     }
 }
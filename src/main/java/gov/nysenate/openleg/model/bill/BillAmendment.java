@@ -5,6 +5,7 @@ import gov.nysenate.openleg.model.base.Version;
 import gov.nysenate.openleg.model.entity.Chamber;
 import gov.nysenate.openleg.model.entity.CommitteeVersionId;
 import gov.nysenate.openleg.model.entity.SessionMember;
+import gov.nysenate.openleg.util.BillTextUtils;
 
 import java.io.Serializable;
 import java.util.*;
@@ -44,6 +45,10 @@ public class BillAmendment implements Serializable, Cloneable
     /** The full text of the amendment. */
     protected String fullText = "";
 
+    /** Page and line information for the full text, computed when the full text is set.
+     *  These are kept when the text is unloaded. */
+    protected BillTextMetrics textMetrics = BillTextMetrics.EMPTY;
+
     /** The committee the bill is currently referred to, if any. */
     protected CommitteeVersionId currentCommittee = null;
 
@@ -64,6 +69,18 @@ public class BillAmendment implements Serializable, Cloneable
     /** A flag marking this bill as introduced in unison in both houses */
     protected Boolean uniBill = false;
 
+    /** The fields that were modified since change tracking was started. If changes are not being tracked
+     *  this is null and every field is considered modified. */
+    protected EnumSet<BillUpdateField> dirtyFields;
+
+    /** The fields that were modified since the recent changes were last taken.
+     *  @see Bill#takeRecentChanges() */
+    protected EnumSet<BillUpdateField> recentFields;
+
+    /** The text fields (full text and memo) whose stored values have not been loaded into this amendment.
+     *  @see #unloadText() */
+    protected EnumSet<BillUpdateField> unloadedText = EnumSet.noneOf(BillUpdateField.class);
+
     /** --- Constructors --- */
 
     public BillAmendment(BaseBillId baseBillId, Version version) {
@@ -83,17 +100,134 @@ public class BillAmendment implements Serializable, Cloneable
 
     /**
      * Creates a shallow clone for this amendment. This should only be used for caching purposes.
+     * The clone does not track changes.
      * @return BillAmendment
      */
     public BillAmendment shallowClone() {
         try {
-            return (BillAmendment) this.clone();
+            BillAmendment cloneAmendment = (BillAmendment) this.clone();
+            cloneAmendment.dirtyFields = null;
+            cloneAmendment.recentFields = null;
+            cloneAmendment.unloadedText = EnumSet.copyOf(this.unloadedText);
+            return cloneAmendment;
         }
         catch (CloneNotSupportedException e) {
             throw new RuntimeException("Failed to clone bill amendment!");
         }
     }
 
+    /** --- Change Tracking --- */
+
+    /**
+     * Starts tracking the fields of this amendment that are modified from this point on.
+     * @see Bill#startChangeTracking()
+     */
+    public void startChangeTracking() {
+        this.dirtyFields = EnumSet.noneOf(BillUpdateField.class);
+        this.recentFields = null;
+    }
+
+    /**
+     * Records that the given field was modified. The field is always recorded as a recent change, but is only
+     * recorded as dirty if changes are being tracked.
+     */
+    public void markDirty(BillUpdateField field) {
+        if (this.dirtyFields != null) {
+            this.dirtyFields.add(field);
+        }
+        if (this.recentFields == null) {
+            this.recentFields = EnumSet.noneOf(BillUpdateField.class);
+        }
+        this.recentFields.add(field);
+    }
+
+    /**
+     * Returns the fields of this amendment that were modified since the last time this method was called
+     * and resets them.
+     * @see Bill#takeRecentChanges()
+     */
+    public Set<BillUpdateField> takeRecentFields() {
+        if (this.recentFields == null) {
+            return Collections.emptySet();
+        }
+        Set<BillUpdateField> fields = this.recentFields;
+        this.recentFields = null;
+        return fields;
+    }
+
+    /**
+     * @return boolean - True if any of the given amendment level fields may have been modified.
+     */
+    public boolean isDirty(BillUpdateField... fields) {
+        return this.dirtyFields == null || Arrays.stream(fields).anyMatch(this.dirtyFields::contains);
+    }
+
+    /**
+     * @return boolean - True if any field of this amendment may have been modified.
+     */
+    public boolean hasDirtyFields() {
+        return this.dirtyFields == null || !this.dirtyFields.isEmpty();
+    }
+
+    /** --- Text Loading --- */
+
+    /**
+     * Drops the full text and memo from this amendment and marks them as not loaded. The stored text is
+     * retained when the amendment is persisted unless the text is set in the meantime.
+     */
+    public void unloadText() {
+        this.memo = "";
+        this.fullText = "";
+        this.unloadedText = EnumSet.of(BillUpdateField.FULLTEXT, BillUpdateField.MEMO);
+    }
+
+    /**
+     * Sets the stored full text and memo for the text fields that are not loaded. Fields that were set
+     * since the text was unloaded are kept and no changes are recorded.
+     *
+     * @param memo String - The stored sponsor memo.
+     * @param fullText String - The stored full text.
+     */
+    public void loadText(String memo, String fullText) {
+        if (this.unloadedText.remove(BillUpdateField.MEMO)) {
+            this.memo = memo;
+        }
+        if (this.unloadedText.remove(BillUpdateField.FULLTEXT)) {
+            this.fullText = fullText;
+        }
+    }
+
+    /**
+     * @return boolean - True if the full text and memo of this amendment are loaded.
+     */
+    public boolean isTextLoaded() {
+        return this.unloadedText.isEmpty();
+    }
+
+    /**
+     * @param field BillUpdateField - Either {@link BillUpdateField#FULLTEXT} or {@link BillUpdateField#MEMO}.
+     * @return boolean - True if the given text field is loaded.
+     */
+    public boolean isTextLoaded(BillUpdateField field) {
+        return !this.unloadedText.contains(field);
+    }
+
+    private void setText(BillUpdateField field, Object oldValue, Object newValue) {
+        // The stored value of an unloaded field is unknown, so setting it is always a change
+        if (this.unloadedText.remove(field)) {
+            markDirty(field);
+        }
+        else {
+            trackChange(field, oldValue, newValue);
+        }
+    }
+
+    private void trackChange(BillUpdateField field, Object oldValue, Object newValue) {
+        if (!Objects.equals(oldValue, newValue)) {
+            markDirty(field);
+        }
+    }
+
     /** --- Functional Getters/Setters --- */
 
     public String getBasePrintNo() {
@@ -121,7 +255,7 @@ public class BillAmendment implements Serializable, Cloneable
     }
 
     public void updateVote(BillVote vote) {
-        this.votesMap.put(vote.getVoteId(), vote);
+        trackChange(BillUpdateField.VOTE, this.votesMap.put(vote.getVoteId(), vote), vote);
     }
 
     public boolean isBaseVersion() {
@@ -147,6 +281,7 @@ public class BillAmendment implements Serializable, Cloneable
     }
 
     public void setSameAs(Set<BillId> sameAs) {
+        trackChange(BillUpdateField.SAME_AS, this.sameAs, sameAs);
         this.sameAs = sameAs;
     }
 
@@ -155,6 +290,7 @@ public class BillAmendment implements Serializable, Cloneable
     }
 
     public void setMemo(String memo) {
+        setText(BillUpdateField.MEMO, this.memo, memo);
         this.memo = memo;
     }
 
@@ -163,6 +299,7 @@ public class BillAmendment implements Serializable, Cloneable
     }
 
     public void setActClause(String actClause) {
+        trackChange(BillUpdateField.ACT_CLAUSE, this.actClause, actClause);
         this.actClause = actClause;
     }
 
@@ -170,8 +307,37 @@ public class BillAmendment implements Serializable, Cloneable
         return fullText;
     }
 
+    /**
+     * Sets the full text and computes its page and line metrics. The metrics are only recomputed
+     * if the text has changed.
+     */
     public void setFullText(String fullText) {
+        BillTextMetrics metrics = isTextLoaded(BillUpdateField.FULLTEXT) && Objects.equals(this.fullText, fullText)
+                ? this.textMetrics
+                : BillTextUtils.getTextMetrics(fullText);
+        setFullText(fullText, metrics);
+    }
+
+    /**
+     * Sets the full text along with metrics that were already computed for it, e.g. when loading a stored amendment.
+     */
+    public void setFullText(String fullText, BillTextMetrics textMetrics) {
+        setText(BillUpdateField.FULLTEXT, this.fullText, fullText);
         this.fullText = fullText;
+        this.textMetrics = textMetrics;
+    }
+
+    public BillTextMetrics getTextMetrics() {
+        return textMetrics;
+    }
+
+    /**
+     * Restores the metrics of the stored full text for an amendment whose text is not loaded.
+     * @see #unloadText()
+     */
+    public void setTextMetrics(BillTextMetrics textMetrics) {
+        trackChange(BillUpdateField.FULLTEXT, this.textMetrics, textMetrics);
+        this.textMetrics = textMetrics;
     }
 
     public CommitteeVersionId getCurrentCommittee() {
@@ -179,6 +345,7 @@ public class BillAmendment implements Serializable, Cloneable
     }
 
     public void setCurrentCommittee(CommitteeVersionId currentCommittee) {
+        trackChange(BillUpdateField.ACTION, this.currentCommittee, currentCommittee);
         this.currentCommittee = currentCommittee;
     }
 
@@ -187,6 +354,7 @@ public class BillAmendment implements Serializable, Cloneable
     }
 
     public void setCoSponsors(List<SessionMember> coSponsors) {
+        trackChange(BillUpdateField.COSPONSOR, this.coSponsors, coSponsors);
         this.coSponsors = coSponsors;
     }
 
@@ -195,6 +363,7 @@ public class BillAmendment implements Serializable, Cloneable
     }
 
     public void setMultiSponsors(List<SessionMember> multiSponsors) {
+        trackChange(BillUpdateField.MULTISPONSOR, this.multiSponsors, multiSponsors);
         this.multiSponsors = multiSponsors;
     }
 
@@ -203,6 +372,7 @@ public class BillAmendment implements Serializable, Cloneable
     }
 
     public void setStricken(Boolean stricken) {
+        trackChange(BillUpdateField.ACTION, this.stricken, stricken);
         this.stricken = stricken;
     }
 
@@ -216,7 +386,7 @@ public class BillAmendment implements Serializable, Cloneable
 
     public void setVotesMap(List<BillVote> votesMap) {
         for (BillVote vote : votesMap) {
-            this.votesMap.put(vote.getVoteId(), vote);
+            updateVote(vote);
         }
     }
 
@@ -225,6 +395,7 @@ public class BillAmendment implements Serializable, Cloneable
     }
 
     public void setUniBill(Boolean uniBill) {
+        trackChange(BillUpdateField.SAME_AS, this.uniBill, uniBill);
         this.uniBill = uniBill;
     }
 
@@ -233,6 +404,7 @@ public class BillAmendment implements Serializable, Cloneable
     }
 
     public void setLawSection(String lawSection) {
+        trackChange(BillUpdateField.LAW, this.lawSection, lawSection);
         this.lawSection = lawSection;
     }
 
@@ -241,6 +413,7 @@ public class BillAmendment implements Serializable, Cloneable
     }
 
     public void setLaw(String law) {
+        trackChange(BillUpdateField.LAW, this.law, law);
         this.law = law;
     }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package gov.nysenate.openleg.model.bill;
+
+import gov.nysenate.openleg.model.base.Version;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The fields of a bill and its amendments that were modified by a single piece of source data.
+ * @see Bill#takeRecentChanges()
+ */
+public class BillChangeSet
+{
+    /** The modified bill level fields. */
+    private final EnumSet<BillUpdateField> billFields = EnumSet.noneOf(BillUpdateField.class);
+
+    /** The modified amendment level fields for each amendment version. */
+    private final Map<Version, EnumSet<BillUpdateField>> amendmentFields = new TreeMap<>();
+
+    /** A snapshot of the bill once the fields were modified. This is used to log the values set by this change set
+     *  when they are overwritten by a later one before the bill is persisted. */
+    private Bill values;
+
+    /** --- Constructors --- */
+
+    public BillChangeSet() {}
+
+    /** --- Methods --- */
+
+    /**
+     * @return boolean - True if no fields were modified.
+     */
+    public boolean isEmpty() {
+        return billFields.isEmpty() && amendmentFields.values().stream().allMatch(EnumSet::isEmpty);
+    }
+
+    /**
+     * Adds all the modified fields of the given change set to this one. The values of the given change set
+     * are kept if it has any, since they were taken after the values of this one.
+     */
+    public void merge(BillChangeSet other) {
+        billFields.addAll(other.billFields);
+        other.amendmentFields.forEach((version, fields) -> getAmendmentFields(version).addAll(fields));
+        if (other.values != null) {
+            values = other.values;
+        }
+    }
+
+    /**
+     * Checks if the given field was modified. A field is considered to be modified for an amendment version
+     * if it was modified on that amendment or on the bill itself.
+     *
+     * @param version Version - The amendment version, or null to check all amendments.
+     * @param field BillUpdateField
+     * @return boolean
+     */
+    public boolean affects(Version version, BillUpdateField field) {
+        if (billFields.contains(field)) {
+            return true;
+        }
+        if (version == null) {
+            return amendmentFields.values().stream().anyMatch(fields -> fields.contains(field));
+        }
+        return amendmentFields.containsKey(version) && amendmentFields.get(version).contains(field);
+    }
+
+    /** --- Basic Getters --- */
+
+    public EnumSet<BillUpdateField> getBillFields() {
+        return billFields;
+    }
+
+    public EnumSet<BillUpdateField> getAmendmentFields(Version version) {
+        return amendmentFields.computeIfAbsent(version, v -> EnumSet.noneOf(BillUpdateField.class));
+    }
+
+    public Map<Version, EnumSet<BillUpdateField>> getAmendmentFields() {
+        return amendmentFields;
+    }
+
+    public Bill getValues() {
+        return values;
+    }
+
+    public void setValues(Bill values) {
+        this.values = values;
+    }
+
+    @Override
+    public String toString() {
+        return "BillChangeSet{billFields=" + billFields + ", amendmentFields=" + amendmentFields + '}';
+    }
+}
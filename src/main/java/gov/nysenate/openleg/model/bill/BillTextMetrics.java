@@ -0,0 +1,73 @@
+package gov.nysenate.openleg.model.bill;
+
+import com.google.common.collect.ImmutableList;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Page and line information derived from the full text of a bill amendment. These are computed once when the
+ * full text is set and stored alongside it, so that page counts and page breaks can be read without
+ * re-scanning the text.
+ *
+ * @see gov.nysenate.openleg.util.BillTextUtils#getTextMetrics(String)
+ */
+public class BillTextMetrics implements Serializable
+{
+    private static final long serialVersionUID = 3326548519744125815L;
+
+    /** Metrics for an empty full text. */
+    public static final BillTextMetrics EMPTY = new BillTextMetrics(0, 0, ImmutableList.of());
+
+    /** The number of pages, as indicated by the page number of the last page. */
+    private final int pageCount;
+
+    /** The number of lines in the full text. */
+    private final int lineCount;
+
+    /** The (0 based) indices of the lines that start a new page. */
+    private final ImmutableList<Integer> newPageLines;
+
+    public BillTextMetrics(int pageCount, int lineCount, List<Integer> newPageLines) {
+        this.pageCount = pageCount;
+        this.lineCount = lineCount;
+        this.newPageLines = ImmutableList.copyOf(newPageLines);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        final BillTextMetrics other = (BillTextMetrics) obj;
+        return Objects.equals(this.pageCount, other.pageCount) &&
+               Objects.equals(this.lineCount, other.lineCount) &&
+               Objects.equals(this.newPageLines, other.newPageLines);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pageCount, lineCount, newPageLines);
+    }
+
+    @Override
+    public String toString() {
+        return "BillTextMetrics{" +
+                "pageCount=" + pageCount +
+                ", lineCount=" + lineCount +
+                ", newPageLines=" + newPageLines +
+                '}';
+    }
+
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    public ImmutableList<Integer> getNewPageLines() {
+        return newPageLines;
+    }
+}
@@ -12,6 +12,9 @@ public enum BillUpdateField
     LAW,
     MEMO,
     MULTISPONSOR,
+    PREVIOUS_VERSION,
+    PROGRAM_INFO,
+    SAME_AS,
     SPONSOR,
     STATUS,
     STATUS_CODE,
@@ -7,6 +7,9 @@ public abstract class BaseCacheEvent
 {
     protected Set<ContentCache> affectedCaches = new HashSet<>();
 
+    /** True if this event was received from another application node. */
+    protected boolean remote = false;
+
     protected BaseCacheEvent(Set<ContentCache> affectedCaches) {
         this.affectedCaches = affectedCaches;
     }
@@ -18,4 +21,12 @@ public abstract class BaseCacheEvent
     public Set<ContentCache> getAffectedCaches() {
         return affectedCaches;
     }
+
+    public boolean isRemote() {
+        return remote;
+    }
+
+    public void setRemote(boolean remote) {
+        this.remote = remote;
+    }
 }
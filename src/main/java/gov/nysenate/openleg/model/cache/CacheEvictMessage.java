@@ -0,0 +1,45 @@
+package gov.nysenate.openleg.model.cache;
+
+import java.util.*;
+
+/**
+ * A batch of cache evictions that is sent between application nodes. Evicted content is identified by the
+ * string form of its cache key, since the key objects themselves are not sent.
+ */
+public class CacheEvictMessage
+{
+    /** Identifies the node that sent this message. */
+    protected String nodeId;
+
+    /** Caches that should be cleared entirely. */
+    protected EnumSet<ContentCache> evictedCaches = EnumSet.noneOf(ContentCache.class);
+
+    /** The string form of the keys that should be evicted from each cache. */
+    protected EnumMap<ContentCache, Set<String>> evictedKeys = new EnumMap<>(ContentCache.class);
+
+    /** --- Constructors --- */
+
+    public CacheEvictMessage(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    /** --- Methods --- */
+
+    public boolean isEmpty() {
+        return evictedCaches.isEmpty() && evictedKeys.isEmpty();
+    }
+
+    /** --- Basic Getters --- */
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public EnumSet<ContentCache> getEvictedCaches() {
+        return evictedCaches;
+    }
+
+    public EnumMap<ContentCache, Set<String>> getEvictedKeys() {
+        return evictedKeys;
+    }
+}
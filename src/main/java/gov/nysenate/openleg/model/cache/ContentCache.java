@@ -18,7 +18,10 @@ public enum ContentCache
     MEMBER,
     APIUSER,
     SHIRO,
-    NOTIFICATION_SUBSCRIPTION;
+    NOTIFICATION_SUBSCRIPTION,
+    MISMATCH_DIFF,
+    TRANSCRIPT,
+    PUBLIC_HEARING;
 
     private static final ImmutableSet<ContentCache> allContentCaches = ImmutableSet.copyOf(ContentCache.values());
 
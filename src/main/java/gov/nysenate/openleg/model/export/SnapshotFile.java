@@ -0,0 +1,117 @@
+package gov.nysenate.openleg.model.export;
+
+import java.time.LocalDateTime;
+
+/**
+ * Manifest entry for a precomputed snapshot file. A snapshot file contains all of the content of a single
+ * {@link SnapshotType} for either a session or a law, as gzip compressed newline delimited json.
+ */
+public class SnapshotFile
+{
+    /** The type of content in the snapshot. */
+    private SnapshotType type;
+
+    /** The session year for sessional snapshots, or the law id for law snapshots. */
+    private String key;
+
+    /** The path of the file relative to the snapshot directory. */
+    private String path;
+
+    /** The size of the compressed file in bytes. */
+    private long size;
+
+    /** The number of items (lines) in the snapshot. */
+    private int itemCount;
+
+    /** Hex encoded SHA-256 checksum of the compressed file. */
+    private String sha256;
+
+    /** The last source fragment or file that modified the content when the snapshot was written.
+     *  Null for content that is not tracked by source, i.e. members. */
+    private String lastSourceId;
+
+    /** When the snapshot file was written. */
+    private LocalDateTime generatedDateTime;
+
+    /** --- Constructors --- */
+
+    public SnapshotFile() {}
+
+    public SnapshotFile(SnapshotType type, String key, String path, long size, int itemCount, String sha256,
+                        String lastSourceId, LocalDateTime generatedDateTime) {
+        this.type = type;
+        this.key = key;
+        this.path = path;
+        this.size = size;
+        this.itemCount = itemCount;
+        this.sha256 = sha256;
+        this.lastSourceId = lastSourceId;
+        this.generatedDateTime = generatedDateTime;
+    }
+
+    /** --- Basic Getters/Setters --- */
+
+    public SnapshotType getType() {
+        return type;
+    }
+
+    public void setType(SnapshotType type) {
+        this.type = type;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public void setItemCount(int itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    public String getLastSourceId() {
+        return lastSourceId;
+    }
+
+    public void setLastSourceId(String lastSourceId) {
+        this.lastSourceId = lastSourceId;
+    }
+
+    public LocalDateTime getGeneratedDateTime() {
+        return generatedDateTime;
+    }
+
+    public void setGeneratedDateTime(LocalDateTime generatedDateTime) {
+        this.generatedDateTime = generatedDateTime;
+    }
+}
@@ -0,0 +1,31 @@
+package gov.nysenate.openleg.model.export;
+
+/**
+ * The types of content that are written to precomputed snapshot files.
+ */
+public enum SnapshotType
+{
+    BILLS(true),
+    AGENDAS(true),
+    CALENDARS(true),
+    MEMBERS(true),
+    LAWS(false);
+
+    /** True if a snapshot holds the content of a session, false if it holds the content of a single law. */
+    private final boolean sessional;
+
+    SnapshotType(boolean sessional) {
+        this.sessional = sessional;
+    }
+
+    /**
+     * @return String - The name used for this type in snapshot file names and api paths.
+     */
+    public String getName() {
+        return name().toLowerCase();
+    }
+
+    public boolean isSessional() {
+        return sessional;
+    }
+}
@@ -47,6 +47,11 @@ public class PublicHearingId implements Serializable, Comparable<PublicHearingId
         return fileName != null ? fileName.hashCode() : 0;
     }
 
+    @Override
+    public String toString() {
+        return fileName;
+    }
+
     /** --- Basic Getters/Setters --- */
 
     public String getFileName() {
@@ -31,6 +31,11 @@ public class LawDocInfo extends LawDocId
         this.publishedDate = publishedDate;
     }
 
+    public LawDocInfo(LawDocInfo other) {
+        this(other.documentId, other.lawId, other.locationId, other.title, other.docType, other.docTypeId,
+             other.publishedDate);
+    }
+
     public LawDocInfo(LawBlock lawBlock) {
         this.setDocumentId(lawBlock.getDocumentId());
         this.setLawId(lawBlock.getLawId());
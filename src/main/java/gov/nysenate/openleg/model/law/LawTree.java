@@ -1,12 +1,7 @@
 package gov.nysenate.openleg.model.law;
 
 import java.time.LocalDate;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.*;
 
 /**
  * Container for the root node that comprises the hierarchy of components within a law. Tree traversal methods
@@ -30,6 +25,10 @@ public class LawTree
     /** Map of doc id to all nodes within this law tree. Necessary for quick lookup. */
     private Map<String, LawTreeNode> nodeLookupMap;
 
+    /** Map of doc id to the parent node within this law tree. Nodes may be shared among several versions of
+     *  a law (see {@link LawTreeHistory}) so the parent must be resolved relative to this tree. */
+    private Map<String, LawTreeNode> parentLookupMap;
+
     /** --- Constructors --- */
 
     public LawTree(LawVersionId lawVersionId, LawTreeNode rootNode, LawInfo lawInfo) {
@@ -45,8 +44,11 @@ public class LawTree
     /** --- Method --- */
 
     public void rebuildLookupMap() {
-        this.nodeLookupMap = this.rootNode.getAllNodes().stream()
-            .collect(Collectors.toMap(LawTreeNode::getDocumentId, Function.identity()));
+        Map<String, LawTreeNode> nodeMap = new HashMap<>();
+        Map<String, LawTreeNode> parentMap = new HashMap<>();
+        addToLookupMaps(this.rootNode, null, nodeMap, parentMap);
+        this.parentLookupMap = parentMap;
+        this.nodeLookupMap = nodeMap;
     }
 
     public Optional<LawTreeNode> find(String documentId) {
@@ -54,6 +56,75 @@ public class LawTree
         return Optional.ofNullable(this.nodeLookupMap.get(documentId));
     }
 
+    /**
+     * Returns the parent of the node with the given document id within this tree.
+     *
+     * @param documentId String
+     * @return Optional<LawTreeNode> - The parent node or empty if the document is the root or not in this tree.
+     */
+    public Optional<LawTreeNode> getParent(String documentId) {
+        if (this.nodeLookupMap == null) rebuildLookupMap();
+        return Optional.ofNullable(this.parentLookupMap.get(documentId));
+    }
+
+    /**
+     * Return a list of all the parent nodes for the node with the given document id, starting from the root.
+     *
+     * @param documentId String
+     * @return LinkedList<LawTreeNode>
+     */
+    public LinkedList<LawTreeNode> getAllParents(String documentId) {
+        LinkedList<LawTreeNode> parents = new LinkedList<>();
+        Optional<LawTreeNode> parent = getParent(documentId);
+        while (parent.isPresent()) {
+            parents.addFirst(parent.get());
+            parent = getParent(parent.get().getDocumentId());
+        }
+        return parents;
+    }
+
+    /**
+     * Returns an optional containing the previous law tree node within the same level as the given document.
+     *
+     * @param documentId String
+     * @return Optional<LawTreeNode>
+     */
+    public Optional<LawTreeNode> getPrevSibling(String documentId) {
+        return getSibling(documentId, -1);
+    }
+
+    /**
+     * Returns an optional containing the next law tree node within the same level as the given document.
+     *
+     * @param documentId String
+     * @return Optional<LawTreeNode>
+     */
+    public Optional<LawTreeNode> getNextSibling(String documentId) {
+        return getSibling(documentId, 1);
+    }
+
+    private Optional<LawTreeNode> getSibling(String documentId, int offset) {
+        Optional<LawTreeNode> parent = getParent(documentId);
+        Optional<LawTreeNode> node = find(documentId);
+        if (parent.isPresent() && node.isPresent()) {
+            List<LawTreeNode> childNodeList = parent.get().getChildNodeList();
+            int index = childNodeList.indexOf(node.get()) + offset;
+            if (index >= 0 && index < childNodeList.size()) {
+                return Optional.of(childNodeList.get(index));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static void addToLookupMaps(LawTreeNode node, LawTreeNode parent, Map<String, LawTreeNode> nodeMap,
+                                        Map<String, LawTreeNode> parentMap) {
+        nodeMap.put(node.getDocumentId(), node);
+        if (parent != null) {
+            parentMap.put(node.getDocumentId(), parent);
+        }
+        node.getChildren().values().forEach(child -> addToLookupMaps(child, node, nodeMap, parentMap));
+    }
+
     /** --- Delegates --- */
 
     public String getLawId() {
@@ -0,0 +1,67 @@
+package gov.nysenate.openleg.model.law;
+
+import java.util.TreeSet;
+
+/**
+ * Represents the structural differences between two versions of a law tree.
+ */
+public class LawTreeDiff
+{
+    /** The version the differences are computed from. */
+    protected LawVersionId fromVersionId;
+
+    /** The version the differences are computed to. */
+    protected LawVersionId toVersionId;
+
+    /** Document ids that are present in the 'to' version but not in the 'from' version. */
+    protected TreeSet<String> addedDocIds = new TreeSet<>();
+
+    /** Document ids that are present in the 'from' version but not in the 'to' version. */
+    protected TreeSet<String> removedDocIds = new TreeSet<>();
+
+    /** Document ids present in both versions whose document, position, sequence or repeal date changed. */
+    protected TreeSet<String> changedDocIds = new TreeSet<>();
+
+    /** --- Constructors --- */
+
+    public LawTreeDiff(LawVersionId fromVersionId, LawVersionId toVersionId) {
+        this.fromVersionId = fromVersionId;
+        this.toVersionId = toVersionId;
+    }
+
+    /** --- Methods --- */
+
+    public boolean isEmpty() {
+        return addedDocIds.isEmpty() && removedDocIds.isEmpty() && changedDocIds.isEmpty();
+    }
+
+    /** --- Overrides --- */
+
+    @Override
+    public String toString() {
+        return "LawTreeDiff{" + fromVersionId + " -> " + toVersionId + ", added=" + addedDocIds +
+               ", removed=" + removedDocIds + ", changed=" + changedDocIds + '}';
+    }
+
+    /** --- Basic Getters/Setters --- */
+
+    public LawVersionId getFromVersionId() {
+        return fromVersionId;
+    }
+
+    public LawVersionId getToVersionId() {
+        return toVersionId;
+    }
+
+    public TreeSet<String> getAddedDocIds() {
+        return addedDocIds;
+    }
+
+    public TreeSet<String> getRemovedDocIds() {
+        return removedDocIds;
+    }
+
+    public TreeSet<String> getChangedDocIds() {
+        return changedDocIds;
+    }
+}
@@ -0,0 +1,232 @@
+package gov.nysenate.openleg.model.law;
+
+import com.google.common.collect.ImmutableList;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Holds every published version of the tree for a single law. Versions are stored in a persistent fashion,
+ * meaning that any subtree that is unchanged from the preceding version is shared by reference instead of
+ * being copied. This allows point-in-time lookups for any date to be answered from a single in-memory
+ * structure per law and allows the differences between two versions to be computed by only visiting the
+ * portions of the trees that actually changed.
+ *
+ * Since a shared node can belong to several versions, the parent reference on a {@link LawTreeNode} only
+ * reflects the version that first introduced the node. Use the parent and sibling lookups on {@link LawTree}
+ * when navigating a particular version.
+ */
+public class LawTreeHistory
+{
+    /** The three letter law identifier. */
+    protected String lawId;
+
+    /** Information about the law. */
+    protected LawInfo lawInfo;
+
+    /** Each version of the law tree, keyed by its published date. */
+    protected ConcurrentNavigableMap<LocalDate, LawTree> versions = new ConcurrentSkipListMap<>();
+
+    /** Ordered list of published dates, shared among all of the versions. */
+    protected volatile List<LocalDate> publishedDates = ImmutableList.of();
+
+    /** --- Constructors --- */
+
+    public LawTreeHistory(String lawId, LawInfo lawInfo) {
+        if (lawId == null) throw new IllegalArgumentException("Cannot construct a LawTreeHistory with a null lawId");
+        if (lawInfo == null) throw new IllegalArgumentException("Cannot construct a LawTreeHistory with a null lawInfo");
+        this.lawId = lawId;
+        this.lawInfo = lawInfo;
+    }
+
+    /** --- Methods --- */
+
+    /**
+     * Adds a version of the law tree to this history, replacing any existing version with the same published date.
+     * Nodes of the given tree that are identical to the nodes of the preceding version (including all of their
+     * descendants) are replaced with the existing nodes. Note that the given tree is not safe to modify after it
+     * has been added since its nodes may now be shared with other versions.
+     *
+     * @param lawTree LawTree - A tree for this law.
+     */
+    public synchronized void addVersion(LawTree lawTree) {
+        if (lawTree == null) throw new IllegalArgumentException("Cannot add a null lawTree");
+        if (!lawId.equals(lawTree.getLawId())) {
+            throw new IllegalArgumentException("Cannot add tree for law " + lawTree.getLawId() + " to " + lawId + " history");
+        }
+        Map.Entry<LocalDate, LawTree> priorEntry = versions.lowerEntry(lawTree.getPublishedDate());
+        LawTree version = lawTree;
+        if (priorEntry != null) {
+            LawTreeNode rootNode = shareNodes(lawTree.getRootNode(), priorEntry.getValue());
+            version = new LawTree(lawTree.getLawVersionId(), rootNode, lawInfo);
+        }
+        versions.put(version.getPublishedDate(), version);
+        this.publishedDates = ImmutableList.copyOf(versions.keySet());
+        versions.values().forEach(tree -> tree.setPublishedDates(publishedDates));
+    }
+
+    /**
+     * Returns the version of the law tree with the most recent published date that is prior to or on the
+     * given date.
+     *
+     * @param endPublishedDate LocalDate - The upper bound for published date, null to get the latest version.
+     * @return Optional<LawTree> - The matching tree or empty if no version was published by the given date.
+     */
+    public Optional<LawTree> getTree(LocalDate endPublishedDate) {
+        Map.Entry<LocalDate, LawTree> entry = (endPublishedDate != null)
+                ? versions.floorEntry(endPublishedDate) : versions.lastEntry();
+        return (entry != null) ? Optional.of(entry.getValue()) : Optional.empty();
+    }
+
+    /**
+     * Computes the structural differences between the versions of the law tree that were in effect on the two
+     * given dates. Subtrees shared between the two versions are skipped without being visited.
+     *
+     * @param fromDate LocalDate - Published date of the earlier version.
+     * @param toDate LocalDate - Published date of the later version.
+     * @return LawTreeDiff
+     * @throws IllegalArgumentException - If no version was published on or before either date.
+     */
+    public LawTreeDiff diff(LocalDate fromDate, LocalDate toDate) {
+        LawTree fromTree = getTree(fromDate).orElseThrow(() ->
+                new IllegalArgumentException("No version of " + lawId + " was published on or before " + fromDate));
+        LawTree toTree = getTree(toDate).orElseThrow(() ->
+                new IllegalArgumentException("No version of " + lawId + " was published on or before " + toDate));
+        Map<String, LawTreeNode> fromNodes = new HashMap<>();
+        Map<String, LawTreeNode> toNodes = new HashMap<>();
+        Map<String, String> fromParents = new HashMap<>();
+        Map<String, String> toParents = new HashMap<>();
+        collectChangedNodes(fromTree.getRootNode(), toTree.getRootNode(), null, fromNodes, toNodes, fromParents, toParents);
+
+        LawTreeDiff diff = new LawTreeDiff(fromTree.getLawVersionId(), toTree.getLawVersionId());
+        fromNodes.forEach((docId, fromNode) -> {
+            LawTreeNode toNode = toNodes.get(docId);
+            if (toNode == null) {
+                diff.getRemovedDocIds().add(docId);
+            }
+            else if (toNode != fromNode && (!isSameNodeData(fromNode, toNode) ||
+                                            !Objects.equals(fromParents.get(docId), toParents.get(docId)))) {
+                diff.getChangedDocIds().add(docId);
+            }
+        });
+        toNodes.keySet().stream()
+                .filter(docId -> !fromNodes.containsKey(docId))
+                .forEach(diff.getAddedDocIds()::add);
+        return diff;
+    }
+
+    /** --- Internal --- */
+
+    /**
+     * Recursively replaces the given node and its descendants with nodes from the prior tree wherever the
+     * subtrees are identical. Children are handled first so that an unchanged subtree can be detected by
+     * reference equality of its children.
+     *
+     * @return LawTreeNode - Either the node from the prior tree or the given node with shared descendants.
+     */
+    private static LawTreeNode shareNodes(LawTreeNode node, LawTree priorTree) {
+        LinkedHashMap<String, LawTreeNode> sharedChildren = new LinkedHashMap<>();
+        node.getChildren().forEach((docId, child) -> sharedChildren.put(docId, shareNodes(child, priorTree)));
+        Optional<LawTreeNode> priorNode = priorTree.find(node.getDocumentId());
+        if (priorNode.isPresent()) {
+            LawTreeNode prior = priorNode.get();
+            String priorParentId = priorTree.getParent(prior.getDocumentId())
+                    .map(LawTreeNode::getDocumentId).orElse(null);
+            String parentId = (node.getParent() != null) ? node.getParent().getDocumentId() : null;
+            if (isSameNodeData(node, prior) && Objects.equals(parentId, priorParentId) &&
+                    isSameChildren(sharedChildren, prior.getChildren())) {
+                return prior;
+            }
+            // The node itself changed but the document info may still be reused
+            if (isSameDocInfo(node.getLawDocInfo(), prior.getLawDocInfo())) {
+                node.lawDocInfo = prior.getLawDocInfo();
+            }
+        }
+        node.getChildren().clear();
+        node.getChildren().putAll(sharedChildren);
+        return node;
+    }
+
+    /**
+     * Walks both trees in parallel, skipping positions where the same node instance is present in both, and
+     * records every node (along with its parent's document id) that was not part of a shared subtree.
+     */
+    private static void collectChangedNodes(LawTreeNode fromNode, LawTreeNode toNode, String parentId,
+                                            Map<String, LawTreeNode> fromNodes, Map<String, LawTreeNode> toNodes,
+                                            Map<String, String> fromParents, Map<String, String> toParents) {
+        if (fromNode != null && fromNode == toNode) {
+            return;
+        }
+        if (fromNode != null && toNode != null && !fromNode.getDocumentId().equals(toNode.getDocumentId())) {
+            collectChangedNodes(fromNode, null, parentId, fromNodes, toNodes, fromParents, toParents);
+            collectChangedNodes(null, toNode, parentId, fromNodes, toNodes, fromParents, toParents);
+            return;
+        }
+        if (fromNode != null) {
+            fromNodes.put(fromNode.getDocumentId(), fromNode);
+            fromParents.put(fromNode.getDocumentId(), parentId);
+        }
+        if (toNode != null) {
+            toNodes.put(toNode.getDocumentId(), toNode);
+            toParents.put(toNode.getDocumentId(), parentId);
+        }
+        String nodeId = (fromNode != null) ? fromNode.getDocumentId() : toNode.getDocumentId();
+        Set<String> childIds = new LinkedHashSet<>();
+        if (fromNode != null) childIds.addAll(fromNode.getChildren().keySet());
+        if (toNode != null) childIds.addAll(toNode.getChildren().keySet());
+        for (String childId : childIds) {
+            LawTreeNode fromChild = (fromNode != null) ? fromNode.getChildren().get(childId) : null;
+            LawTreeNode toChild = (toNode != null) ? toNode.getChildren().get(childId) : null;
+            if (fromChild != null && toChild != null) {
+                collectChangedNodes(fromChild, toChild, nodeId, fromNodes, toNodes, fromParents, toParents);
+            }
+            else if (fromChild != null) {
+                collectChangedNodes(fromChild, null, nodeId, fromNodes, toNodes, fromParents, toParents);
+            }
+            else {
+                collectChangedNodes(null, toChild, nodeId, fromNodes, toNodes, fromParents, toParents);
+            }
+        }
+    }
+
+    private static boolean isSameNodeData(LawTreeNode a, LawTreeNode b) {
+        return a.getSequenceNo() == b.getSequenceNo() &&
+               Objects.equals(a.getRepealedDate(), b.getRepealedDate()) &&
+               isSameDocInfo(a.getLawDocInfo(), b.getLawDocInfo());
+    }
+
+    private static boolean isSameDocInfo(LawDocInfo a, LawDocInfo b) {
+        return Objects.equals(a, b) && Objects.equals(a.getTitle(), b.getTitle()) &&
+               a.getDocType() == b.getDocType() && Objects.equals(a.getDocTypeId(), b.getDocTypeId());
+    }
+
+    private static boolean isSameChildren(Map<String, LawTreeNode> children, Map<String, LawTreeNode> priorChildren) {
+        if (children.size() != priorChildren.size()) {
+            return false;
+        }
+        Iterator<Map.Entry<String, LawTreeNode>> priorItr = priorChildren.entrySet().iterator();
+        for (Map.Entry<String, LawTreeNode> child : children.entrySet()) {
+            Map.Entry<String, LawTreeNode> priorChild = priorItr.next();
+            if (!child.getKey().equals(priorChild.getKey()) || child.getValue() != priorChild.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** --- Basic Getters/Setters --- */
+
+    public String getLawId() {
+        return lawId;
+    }
+
+    public LawInfo getLawInfo() {
+        return lawInfo;
+    }
+
+    public List<LocalDate> getPublishedDates() {
+        return publishedDates;
+    }
+}
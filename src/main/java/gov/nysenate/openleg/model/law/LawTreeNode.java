@@ -16,7 +16,8 @@ public class LawTreeNode implements Comparable<LawTreeNode>
     /** Reference to the law info which contains details about this node. */
     protected LawDocInfo lawDocInfo;
 
-    /** Reference to the parent node, null if this is the chapter node. */
+    /** Reference to the parent node, null if this is the chapter node. If this node is shared among several
+     *  versions of a law, this refers to the parent within the version that first introduced the node. */
     protected LawTreeNode parent;
 
     /** Contains references to all the immediate children of this node. The key is the document id
@@ -51,6 +52,20 @@ public class LawTreeNode implements Comparable<LawTreeNode>
         children.put(node.lawDocInfo.documentId, node);
     }
 
+    /**
+     * Returns a copy of this node along with copies of all its descendants. Nodes returned from the law data
+     * service can be shared among several published versions of a law, so a tree should be copied before
+     * it is modified.
+     *
+     * @return LawTreeNode
+     */
+    public LawTreeNode deepCopy() {
+        LawTreeNode copy = new LawTreeNode(new LawDocInfo(this.lawDocInfo), this.sequenceNo);
+        copy.setRepealedDate(this.repealedDate);
+        this.children.values().forEach(child -> copy.addChild(child.deepCopy()));
+        return copy;
+    }
+
     /**
      * Returns a range of the sections that span the range of this node. For example if this is an article node,
      * this method will return the start and end sections contained under this article.
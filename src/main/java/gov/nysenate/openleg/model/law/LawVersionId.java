@@ -1,10 +1,13 @@
 package gov.nysenate.openleg.model.law;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.Objects;
 
-public class LawVersionId
+public class LawVersionId implements Serializable
 {
+    private static final long serialVersionUID = 2961873004455267091L;
+
     /** The three letter law identifier. */
     protected String lawId;
 
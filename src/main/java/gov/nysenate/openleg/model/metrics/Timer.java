@@ -0,0 +1,93 @@
+package gov.nysenate.openleg.model.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the durations of a single operation into a fixed set of histogram buckets.
+ * Recording only increments striped counters, so it is lock free and cheap enough to use on every
+ * request or query. Reads are not atomic with respect to concurrent recording, which is fine for
+ * periodically exported metrics.
+ */
+public class Timer
+{
+    /** Upper bounds of the histogram buckets in seconds, the last bucket is unbounded. */
+    private static final double[] bucketBounds =
+        {0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30};
+
+    private static final long[] bucketBoundsNanos = new long[bucketBounds.length];
+    static {
+        for (int i = 0; i < bucketBounds.length; i++) {
+            bucketBoundsNanos[i] = (long) (bucketBounds[i] * TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+
+    /** The number of durations that fell into each bucket, the last one holding those above every bound. */
+    private final LongAdder[] buckets = new LongAdder[bucketBounds.length + 1];
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    public Timer() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /** --- Methods --- */
+
+    /**
+     * Records a single duration.
+     *
+     * @param nanos long - The duration in nanoseconds.
+     */
+    public void record(long nanos) {
+        int bucket = 0;
+        while (bucket < bucketBoundsNanos.length && nanos > bucketBoundsNanos[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        totalNanos.add(nanos);
+    }
+
+    /**
+     * Records the time elapsed since the given start time.
+     *
+     * @param startNanos long - A start time obtained from {@link System#nanoTime()}
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * @return long[] - The number of recorded durations that are less than or equal to each bucket bound,
+     *                  followed by the total number of recorded durations.
+     */
+    public long[] getCumulativeCounts() {
+        long[] counts = new long[buckets.length];
+        long count = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            count += buckets[i].sum();
+            counts[i] = count;
+        }
+        return counts;
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public double getTotalSeconds() {
+        return totalNanos.sum() / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    /**
+     * @return double[] - The upper bound of each bucket in seconds, excluding the final unbounded bucket.
+     */
+    public static double[] getBucketBounds() {
+        return bucketBounds.clone();
+    }
+}
@@ -0,0 +1,43 @@
+package gov.nysenate.openleg.model.metrics;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * The types of operations that are timed by the {@link gov.nysenate.openleg.service.metrics.MetricsRegistry}.
+ * Each type is exported as a histogram with the given metric name, and each distinct combination of label
+ * values for a type is tracked by its own {@link Timer}.
+ */
+public enum TimerType
+{
+    API_REQUEST("openleg_api_request_seconds", "Time spent handling api requests, by controller method.",
+                "handler"),
+    SQL_QUERY("openleg_sql_query_seconds", "Time spent executing sql queries and reading their results, by query.",
+              "query"),
+    SOBI_PROCESS("openleg_sobi_process_seconds", "Time spent processing sobi fragments, by fragment type.",
+                 "fragment_type", "stage"),
+    SEARCH_REQUEST("openleg_search_request_seconds", "Time spent on elastic search requests, by operation and index.",
+                   "operation", "index"),
+    ;
+
+    private final String metricName;
+    private final String help;
+    private final ImmutableList<String> labelNames;
+
+    TimerType(String metricName, String help, String... labelNames) {
+        this.metricName = metricName;
+        this.help = help;
+        this.labelNames = ImmutableList.copyOf(labelNames);
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+
+    public ImmutableList<String> getLabelNames() {
+        return labelNames;
+    }
+}
@@ -0,0 +1,76 @@
+package gov.nysenate.openleg.model.search;
+
+import gov.nysenate.openleg.dao.base.SearchIndex;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * A snapshot of the indexing queue for a single search index.
+ */
+public class IndexQueueStats
+{
+    /** The search index that the queued content belongs to. */
+    private final SearchIndex index;
+
+    /** The number of content ids waiting to be indexed. */
+    private final int queuedCount;
+
+    /** The number of content ids currently being indexed. */
+    private final int inProgressCount;
+
+    /** When the longest waiting content id was queued, null if nothing is queued. */
+    private final LocalDateTime oldestQueuedDateTime;
+
+    /** The number of content ids indexed since startup. */
+    private final long indexedCount;
+
+    /** The number of failed attempts to index a bulk of content ids since startup. */
+    private final long failureCount;
+
+    public IndexQueueStats(SearchIndex index, int queuedCount, int inProgressCount, LocalDateTime oldestQueuedDateTime,
+                           long indexedCount, long failureCount) {
+        this.index = index;
+        this.queuedCount = queuedCount;
+        this.inProgressCount = inProgressCount;
+        this.oldestQueuedDateTime = oldestQueuedDateTime;
+        this.indexedCount = indexedCount;
+        this.failureCount = failureCount;
+    }
+
+    /**
+     * @return Duration - How far behind the search index is, i.e. how long the longest waiting content id
+     *                    has been queued for. Zero if nothing is queued.
+     */
+    public Duration getLag() {
+        return (oldestQueuedDateTime != null)
+            ? Duration.between(oldestQueuedDateTime, LocalDateTime.now())
+            : Duration.ZERO;
+    }
+
+    /** --- Basic Getters --- */
+
+    public SearchIndex getIndex() {
+        return index;
+    }
+
+    public int getQueuedCount() {
+        return queuedCount;
+    }
+
+    public int getInProgressCount() {
+        return inProgressCount;
+    }
+
+    public LocalDateTime getOldestQueuedDateTime() {
+        return oldestQueuedDateTime;
+    }
+
+    public long getIndexedCount() {
+        return indexedCount;
+    }
+
+    public long getFailureCount() {
+        return failureCount;
+    }
+}
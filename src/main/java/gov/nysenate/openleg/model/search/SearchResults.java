@@ -24,12 +24,22 @@ public class SearchResults<ResultType>
     /** The limit offset value used to generate the results listing. */
     private LimitOffset limitOffset;
 
+    /** An opaque cursor used to retrieve the next page of a cursor based search.
+     *  Null if the results were not retrieved via a cursor or if there are no more results. */
+    private String cursor;
+
     /** --- Constructors --- */
 
     public SearchResults(int totalResults, List<SearchResult<ResultType>> results, LimitOffset limitOffset) {
+        this(totalResults, results, limitOffset, null);
+    }
+
+    public SearchResults(int totalResults, List<SearchResult<ResultType>> results, LimitOffset limitOffset,
+                         String cursor) {
         this.totalResults = totalResults;
         this.results = results;
         this.limitOffset = limitOffset;
+        this.cursor = cursor;
     }
 
     /** --- Methods --- */
@@ -71,4 +81,8 @@ public class SearchResults<ResultType>
     public LimitOffset getLimitOffset() {
         return limitOffset;
     }
+
+    public String getCursor() {
+        return cursor;
+    }
 }
\ No newline at end of file
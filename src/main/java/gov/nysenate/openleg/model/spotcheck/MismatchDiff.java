@@ -0,0 +1,156 @@
+package gov.nysenate.openleg.model.spotcheck;
+
+import com.google.common.hash.Hashing;
+import gov.nysenate.openleg.util.StringDiffer;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * A compact representation of the diff between the reference and observed data of a mismatch.
+ * Only the operation and length of each diff segment is stored, since the segment text can always be
+ * recovered from the two source strings. This keeps cached diffs small regardless of how large the
+ * compared texts are.
+ */
+public class MismatchDiff implements Serializable
+{
+    private static final long serialVersionUID = 4519472398701928563L;
+
+    private static final StringDiffer.Operation[] operations = StringDiffer.Operation.values();
+
+    /** A hash of the reference and observed data that this diff was computed from. */
+    private final long contentHash;
+
+    /** True if the cleaned up (less granular) form of the diff was computed. */
+    private final boolean simple;
+
+    /** True if the texts were too large to diff and a full replacement was recorded instead. */
+    private final boolean truncated;
+
+    /** The ordinal of the operation for each diff segment. */
+    private final byte[] segmentOps;
+
+    /** The text length of each diff segment. */
+    private final int[] segmentLengths;
+
+    /** --- Constructors --- */
+
+    private MismatchDiff(long contentHash, boolean simple, boolean truncated, List<StringDiffer.Diff> diffs) {
+        this.contentHash = contentHash;
+        this.simple = simple;
+        this.truncated = truncated;
+        this.segmentOps = new byte[diffs.size()];
+        this.segmentLengths = new int[diffs.size()];
+        int i = 0;
+        for (StringDiffer.Diff diff : diffs) {
+            segmentOps[i] = (byte) diff.operation.ordinal();
+            segmentLengths[i] = diff.text.length();
+            i++;
+        }
+    }
+
+    /**
+     * Computes the diff between the given reference and observed data.
+     *
+     * @param referenceData String
+     * @param observedData String
+     * @param simple boolean - Set to true to make the results of the diff less granular.
+     * @param maxLength int - If the combined length of the texts exceeds this value, the diff is not computed and
+     *                        the reference data is instead recorded as entirely replaced by the observed data.
+     *                        A value less than 1 disables the limit.
+     * @return MismatchDiff
+     */
+    public static MismatchDiff compute(String referenceData, String observedData, boolean simple, int maxLength) {
+        long contentHash = getContentHash(referenceData, observedData);
+        if (maxLength > 0 && referenceData.length() + observedData.length() > maxLength) {
+            LinkedList<StringDiffer.Diff> replacement = new LinkedList<>();
+            if (!referenceData.isEmpty()) {
+                replacement.add(new StringDiffer.Diff(StringDiffer.Operation.DELETE, referenceData));
+            }
+            if (!observedData.isEmpty()) {
+                replacement.add(new StringDiffer.Diff(StringDiffer.Operation.INSERT, observedData));
+            }
+            return new MismatchDiff(contentHash, simple, true, replacement);
+        }
+        StringDiffer stringDiffer = new StringDiffer();
+        LinkedList<StringDiffer.Diff> diffs = stringDiffer.diff_main(referenceData, observedData);
+        if (simple) {
+            stringDiffer.diff_cleanupSemantic(diffs);
+        }
+        return new MismatchDiff(contentHash, simple, false, diffs);
+    }
+
+    /**
+     * @return long - A hash identifying the given reference and observed data.
+     */
+    public static long getContentHash(String referenceData, String observedData) {
+        return Hashing.murmur3_128().newHasher()
+                .putString(referenceData, StandardCharsets.UTF_8)
+                .putInt(referenceData.length())
+                .putString(observedData, StandardCharsets.UTF_8)
+                .hash().asLong();
+    }
+
+    /** --- Methods --- */
+
+    /**
+     * @return boolean - True if this diff was computed from the given reference and observed data.
+     */
+    public boolean matches(String referenceData, String observedData) {
+        return contentHash == getContentHash(referenceData, observedData);
+    }
+
+    /**
+     * Expands this diff back into a list of diff segments using the data it was computed from.
+     *
+     * @param referenceData String - The reference data this diff was computed from.
+     * @param observedData String - The observed data this diff was computed from.
+     * @return LinkedList<StringDiffer.Diff>
+     */
+    public LinkedList<StringDiffer.Diff> toDiffs(String referenceData, String observedData) {
+        LinkedList<StringDiffer.Diff> diffs = new LinkedList<>();
+        int refIndex = 0;
+        int obsIndex = 0;
+        for (int i = 0; i < segmentOps.length; i++) {
+            StringDiffer.Operation operation = operations[segmentOps[i]];
+            int length = segmentLengths[i];
+            String text;
+            switch (operation) {
+                case INSERT:
+                    text = observedData.substring(obsIndex, obsIndex + length);
+                    obsIndex += length;
+                    break;
+                case DELETE:
+                    text = referenceData.substring(refIndex, refIndex + length);
+                    refIndex += length;
+                    break;
+                default:
+                    text = referenceData.substring(refIndex, refIndex + length);
+                    refIndex += length;
+                    obsIndex += length;
+            }
+            diffs.add(new StringDiffer.Diff(operation, text));
+        }
+        return diffs;
+    }
+
+    /** --- Basic Getters --- */
+
+    public long getContentHash() {
+        return contentHash;
+    }
+
+    public boolean isSimple() {
+        return simple;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public int getSegmentCount() {
+        return segmentOps.length;
+    }
+}
@@ -34,6 +34,10 @@ public class SpotCheckMismatch
     /** A list of related issue tracker ids */
     protected LinkedHashSet<String> issueIds = new LinkedHashSet<>();
 
+    /** Lazily computed diffs between the reference and observed data, which never change once set. */
+    private volatile MismatchDiff simpleDiff;
+    private volatile MismatchDiff fullDiff;
+
     /** --- Constructor --- */
 
     public SpotCheckMismatch(SpotCheckMismatchType mismatchType, Object observedData, Object referenceData) {
@@ -55,17 +59,30 @@ public class SpotCheckMismatch
 
     /**
      * Computes the difference between the reference and target data.
+     * The diff is only computed on the first call and kept in compact form for subsequent calls.
      *
      * @param simple boolean - Set to true to make the results of the diff less granular.
      * @return LinkedList<StringDiffer.Diff>
      */
     public LinkedList<StringDiffer.Diff> getDiff(boolean simple) {
-        StringDiffer stringDiffer = new StringDiffer();
-        LinkedList<StringDiffer.Diff> diffs = stringDiffer.diff_main(referenceData, observedData);
-        if (simple) {
-            stringDiffer.diff_cleanupSemantic(diffs);
+        return getCompactDiff(simple).toDiffs(referenceData, observedData);
+    }
+
+    /**
+     * @param simple boolean - Set to true to make the results of the diff less granular.
+     * @return MismatchDiff - The lazily computed diff between the reference and target data.
+     */
+    public MismatchDiff getCompactDiff(boolean simple) {
+        MismatchDiff diff = simple ? simpleDiff : fullDiff;
+        if (diff == null) {
+            diff = MismatchDiff.compute(referenceData, observedData, simple, 0);
+            if (simple) {
+                simpleDiff = diff;
+            } else {
+                fullDiff = diff;
+            }
         }
-        return diffs;
+        return diff;
     }
 
     /** --- Functional Getters / Setters --- */
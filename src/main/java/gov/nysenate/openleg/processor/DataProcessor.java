@@ -10,6 +10,7 @@ import gov.nysenate.openleg.processor.hearing.PublicHearingProcessService;
 import gov.nysenate.openleg.processor.law.LawProcessService;
 import gov.nysenate.openleg.processor.sobi.SobiProcessService;
 import gov.nysenate.openleg.processor.transcript.TranscriptProcessService;
+import gov.nysenate.openleg.service.export.SnapshotService;
 import gov.nysenate.openleg.service.process.DataProcessLogService;
 import gov.nysenate.openleg.service.spotcheck.base.BaseSpotcheckProcessService;
 import gov.nysenate.openleg.util.AsyncUtils;
@@ -48,6 +49,8 @@ public class DataProcessor
 
     @Autowired private List<BaseSpotcheckProcessService> spotcheckProcessServices;
 
+    @Autowired private SnapshotService snapshotService;
+
     private List<ProcessService> processServices;
 
     /** Hold a reference to the current data process run instance for event-based logging purposes. */
@@ -146,6 +149,15 @@ public class DataProcessor
     /* --- Processing methods --- */
 
     public synchronized void collate() {
+        collateByType();
+    }
+
+    /**
+     * Collates all incoming data.
+     *
+     * @return Map<String, Integer> - The number of files collated by each process service, keyed by collate type.
+     */
+    public synchronized Map<String, Integer> collateByType() {
         logger.debug("Begin collating data");
         Map<String, Integer> collatedCounts = new LinkedHashMap<>();
         for (ProcessService processor : processServices) {
@@ -164,9 +176,27 @@ public class DataProcessor
         else {
             logger.info("Nothing to collate");
         }
+        return collatedCounts;
     }
 
-    public synchronized void ingest() throws IOException {
+    /**
+     * Ingests all collated data.
+     *
+     * @return int - The total number of source files or fragments that were ingested.
+     * @throws IOException - If source data could not be read.
+     */
+    public synchronized int ingest() throws IOException {
+        return ingestByType().values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Ingests all collated data.
+     *
+     * @return Map<String, Integer> - The number of source files or fragments ingested by each process service,
+     *                                keyed by ingest type.
+     * @throws IOException - If source data could not be read.
+     */
+    public synchronized Map<String, Integer> ingestByType() throws IOException {
         logger.debug("Begin ingesting data");
         Map<String, Integer> ingestedCounts = new LinkedHashMap<>();
         for (ProcessService processor : processServices) {
@@ -184,6 +214,7 @@ public class DataProcessor
         else {
             logger.info("Nothing to ingest");
         }
+        return ingestedCounts;
     }
 
     public Optional<DataProcessRun> getCurrentRun() {
@@ -198,7 +229,11 @@ public class DataProcessor
     private synchronized void doRun() {
         try {
             collate();
-            ingest();
+            // Snapshots only need to be checked for changes if something was ingested.
+            // Writing them can take a while, so they are updated without holding up the process run.
+            if (ingest() > 0 || snapshotService.getManifest().isEmpty()) {
+                asyncUtils.run(snapshotService::updateSnapshots);
+            }
         }
         catch (Exception ex) {
             eventBus.post(new DataProcessErrorEvent("Unexpected Processing Error", ex, currentRun.getProcessId()));
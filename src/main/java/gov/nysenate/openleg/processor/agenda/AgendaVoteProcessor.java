@@ -155,6 +155,7 @@ public class AgendaVoteProcessor extends AbstractDataProcessor implements SobiPr
             logger.error("Failed to parse Agenda Vote.", ex);
             unit.addException("Failed to parse Agenda Vote: " + ex.getMessage());
         }
+        checkpointBillUpdates(sobiFragment);
         // Notify the data processor that an agenda vote fragment has finished processing
         postDataUnitEvent(unit);
 
@@ -1,5 +1,6 @@
 package gov.nysenate.openleg.processor.base;
 
+import com.google.common.base.Stopwatch;
 import com.google.common.eventbus.EventBus;
 import gov.nysenate.openleg.model.agenda.Agenda;
 import gov.nysenate.openleg.model.agenda.AgendaId;
@@ -67,7 +68,7 @@ public abstract class AbstractDataProcessor
     /** --- Ingest Caches --- */
 
     @Resource(name = "agendaIngestCache") protected IngestCache<AgendaId, Agenda, SobiFragment> agendaIngestCache;
-    @Resource(name = "billIngestCache") protected IngestCache<BaseBillId, Bill, SobiFragment> billIngestCache;
+    @Resource(name = "billIngestCache") protected BillIngestCache billIngestCache;
     @Resource(name = "calendarIngestCache") protected IngestCache<CalendarId, Calendar, SobiFragment> calendarIngestCache;
 
     public abstract void init();
@@ -99,6 +100,9 @@ public abstract class AbstractDataProcessor
      * If this base bill does not exist, it will be created. The amendment instance will also be created
      * if it does not exist.
      *
+     * The full text and memo of an existing bill are not loaded, so {@link #loadBillText(Bill)} must be called
+     * before reading them. Setting the text does not require it to be loaded.
+     *
      * @param publishDate Date - Typically the date of the source data file. Only used when bill information
      *                           does not already exist and must be created.
      * @param billId BillId - The BillId to find a matching Bill for.
@@ -114,7 +118,10 @@ public abstract class AbstractDataProcessor
         }
         else {
             try {
-                baseBill = billDataService.getBill(baseBillId);
+                // The text is only loaded if a processor needs it, see loadBillText
+                baseBill = billDataService.getBillWithoutText(baseBillId);
+                // Only the changes made during ingest need to be persisted for an existing bill
+                baseBill.startChangeTracking();
             }
             catch (BillNotFoundEx ex) {
                 // Create the bill since it does not exist and add it to the ingest cache.
@@ -163,13 +170,42 @@ public abstract class AbstractDataProcessor
     }
 
     /**
-     * Flushes all bills stored in the cache to the persistence layer and clears the cache.
+     * Loads the full text and memo of a bill retrieved via {@link #getOrCreateBaseBill}, keeping any text
+     * that was already set during ingest. This is a no-op if the text is already loaded.
+     *
+     * @param bill Bill
+     */
+    protected void loadBillText(Bill bill) {
+        billDataService.loadText(bill);
+    }
+
+    /**
+     * Attributes the changes made to the cached bills since the last checkpoint to the given fragment. This
+     * should be called once a fragment has been applied so that the change log remains accurate when several
+     * fragments are flushed to the persistence layer together.
+     *
+     * @param fragment SobiFragment
+     */
+    protected void checkpointBillUpdates(SobiFragment fragment) {
+        billIngestCache.checkpoint(fragment);
+    }
+
+    /**
+     * Flushes all bills stored in the cache to the persistence layer along with the fragments that
+     * modified them and clears the cache.
      */
     protected void flushBillUpdates() {
         if (billIngestCache.getSize() > 0) {
             logger.info("Flushing {} bills", billIngestCache.getSize());
-            billIngestCache.getCurrentCache().forEach(entry ->
-                billDataService.saveBill(entry.getLeft(), entry.getRight(), false));
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            billIngestCache.getCurrentCache().forEach(entry -> {
+                Bill bill = entry.getLeft();
+                // Changes made since the last checkpoint are attributed to the latest source of the bill
+                billIngestCache.recordChanges(bill, entry.getRight());
+                billDataService.saveBill(bill, entry.getRight(),
+                                         billIngestCache.getChangeHistory(bill.getBaseBillId()), false);
+            });
+            logger.info("Persisted {} bills in {}", billIngestCache.getSize(), stopwatch.stop());
             logger.debug("Broadcasting bill updates...");
             List<Bill> bills =
                 billIngestCache.getCurrentCache().stream().map(entry -> entry.getLeft()).collect(Collectors.toList());
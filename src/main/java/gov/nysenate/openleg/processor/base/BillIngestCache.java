@@ -0,0 +1,82 @@
+package gov.nysenate.openleg.processor.base;
+
+import gov.nysenate.openleg.model.bill.BaseBillId;
+import gov.nysenate.openleg.model.bill.Bill;
+import gov.nysenate.openleg.model.bill.BillChangeSet;
+import gov.nysenate.openleg.model.sobi.SobiFragment;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.*;
+
+/**
+ * An ingest cache for bills that also records which fields of each cached bill were modified by each
+ * sobi fragment. Since the bills are only persisted when the cache is flushed, this history is needed
+ * to attribute the persisted changes to the fragments that made them.
+ *
+ * Processors should call {@link #checkpoint(SobiFragment)} once they are done applying a fragment.
+ */
+public class BillIngestCache extends IngestCache<BaseBillId, Bill, SobiFragment>
+{
+    /** The ordered history of modified fields for each cached bill. */
+    private final Map<BaseBillId, List<Pair<SobiFragment, BillChangeSet>>> changeHistory = new HashMap<>();
+
+    public BillIngestCache(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Attributes the changes made to all cached bills since the last checkpoint to the given fragment.
+     *
+     * @param fragment SobiFragment - The fragment that was just applied.
+     */
+    public void checkpoint(SobiFragment fragment) {
+        getCurrentCache().forEach(entry -> recordChanges(entry.getLeft(), fragment));
+    }
+
+    /**
+     * Attributes the changes made to the given bill since the last checkpoint to the given fragment, along with
+     * a snapshot of the bill's values at this point. Consecutive changes from the same fragment are merged together.
+     *
+     * @param bill Bill
+     * @param fragment SobiFragment
+     */
+    public void recordChanges(Bill bill, SobiFragment fragment) {
+        BillChangeSet changes = bill.takeRecentChanges();
+        if (changes.isEmpty() || fragment == null) {
+            return;
+        }
+        try {
+            changes.setValues(bill.shallowClone());
+        }
+        catch (CloneNotSupportedException ex) {
+            throw new IllegalStateException("Failed to snapshot bill " + bill, ex);
+        }
+        List<Pair<SobiFragment, BillChangeSet>> history =
+            changeHistory.computeIfAbsent(bill.getBaseBillId(), id -> new ArrayList<>());
+        if (!history.isEmpty()) {
+            Pair<SobiFragment, BillChangeSet> last = history.get(history.size() - 1);
+            if (last.getLeft().getFragmentId().equals(fragment.getFragmentId())) {
+                last.getRight().merge(changes);
+                return;
+            }
+        }
+        history.add(Pair.of(fragment, changes));
+    }
+
+    /**
+     * @param baseBillId BaseBillId
+     * @return List<Pair<SobiFragment, BillChangeSet>> - The fields modified by each fragment for the given bill
+     *                                                   and its values afterwards, in the order the fragments
+     *                                                   were applied.
+     */
+    public List<Pair<SobiFragment, BillChangeSet>> getChangeHistory(BaseBillId baseBillId) {
+        return changeHistory.getOrDefault(baseBillId, Collections.emptyList());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearCache() {
+        super.clearCache();
+        changeHistory.clear();
+    }
+}
@@ -15,12 +15,14 @@ import gov.nysenate.openleg.processor.sobi.SobiProcessor;
 import gov.nysenate.openleg.service.bill.event.BillFieldUpdateEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import javax.annotation.PostConstruct;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
@@ -57,6 +59,9 @@ public abstract class AbstractBillProcessor extends AbstractDataProcessor implem
     /** The format for program info lines. */
     protected static final Pattern programInfoPattern = Pattern.compile("(\\d+)\\s+(.+)");
 
+    /** Checkpoints of the last action analysis of recently updated bills, shared by the bill processors. */
+    @Autowired private BillActionCheckpoints actionCheckpoints;
+
     /** --- Constructors --- */
 
     @PostConstruct
@@ -194,7 +199,7 @@ public abstract class AbstractBillProcessor extends AbstractDataProcessor implem
         // Use the BillActionAnalyzer to derive other data from the actions list.
         Optional<PublishStatus> defaultPubStatus = baseBill.getPublishStatus(Version.DEFAULT);
         BillActionAnalyzer analyzer = new BillActionAnalyzer(specificBillId, billActions, defaultPubStatus);
-        analyzer.analyze();
+        actionCheckpoints.analyze(baseBill.getBaseBillId(), analyzer);
 
         // Apply the results to the bill
         baseBill.setSubstitutedBy(analyzer.getSubstitutedBy().orElse(null));
@@ -204,8 +209,8 @@ public abstract class AbstractBillProcessor extends AbstractDataProcessor implem
         baseBill.setPastCommittees(analyzer.getPastCommittees());
         baseBill.setPublishStatuses(analyzer.getPublishStatusMap());
         analyzer.getSameAsMap().forEach((k, v) -> {
-            if (baseBill.hasAmendment(k)) {
-                baseBill.getAmendment(k).getSameAs().add(v);
+            if (baseBill.hasAmendment(k) && baseBill.getAmendment(k).getSameAs().add(v)) {
+                baseBill.getAmendment(k).markDirty(BillUpdateField.SAME_AS);
             }
         });
         baseBill.getAmendment(version).setStricken(analyzer.isStricken());
@@ -219,7 +224,7 @@ public abstract class AbstractBillProcessor extends AbstractDataProcessor implem
      * @param fragment SobiFragment
      */
     protected void clearSameAs(Bill baseBill, Version version, SobiFragment fragment) {
-        baseBill.getAmendment(version).getSameAs().clear();
+        baseBill.getAmendment(version).setSameAs(new HashSet<>());
         baseBill.getAmendment(version).setUniBill(false);
         setModifiedDateTime(baseBill, fragment);
     }
@@ -242,9 +247,11 @@ public abstract class AbstractBillProcessor extends AbstractDataProcessor implem
             String matches = sameAsMatcher.group(2).replaceAll(" / ", ", ");
             List<String> sameAsMatches = new ArrayList<>(Arrays.asList(matches.split(", ")));
             // We're adding the same as bills to the existing list. Same as bills are explicitly cleared.
-            billAmendment.getSameAs().addAll(sameAsMatches.stream()
+            if (billAmendment.getSameAs().addAll(sameAsMatches.stream()
                     .map(sameAs -> new BillId(sameAs.replace("-", "").replace(" ", ""), baseBill.getSession()))
-                    .collect(Collectors.toList()));
+                    .collect(Collectors.toList()))) {
+                billAmendment.markDirty(BillUpdateField.SAME_AS);
+            }
             // Check for uni-bill and sync
             if (sameAsMatcher.group(1) != null && !sameAsMatcher.group(1).isEmpty()) {
                 billAmendment.setUniBill(true);
@@ -305,8 +312,12 @@ public abstract class AbstractBillProcessor extends AbstractDataProcessor implem
      * have a uni-bill designator are kept in sync.
      */
     protected void syncUniBillText(BillAmendment billAmendment, SobiFragment sobiFragment) {
+        if (!billAmendment.isTextLoaded(BillUpdateField.FULLTEXT)) {
+            loadBillText(getOrCreateBaseBill(sobiFragment.getPublishedDateTime(), billAmendment.getBillId(), sobiFragment));
+        }
         billAmendment.getSameAs().forEach(uniBillId -> {
             Bill uniBill = getOrCreateBaseBill(sobiFragment.getPublishedDateTime(), uniBillId, sobiFragment);
+            loadBillText(uniBill);
             BillAmendment uniBillAmend = uniBill.getAmendment(uniBillId.getVersion());
             // If this is the senate bill amendment and same as is assembly, copy text to the assembly bill amendment.
             if (billAmendment.isSenateBill() && uniBillAmend.isAssemblyBill()) {
@@ -20,6 +20,10 @@ import static gov.nysenate.openleg.model.bill.BillStatusType.*;
 /**
  * Performs pattern matching against a list of BillActions to determine various derived properties
  * such as the status of a bill, same as references, etc.
+ *
+ * The analysis is a fold over the actions in order, so the state of an analyzer can be kept as a checkpoint
+ * (see {@link #checkpoint()}) and resumed when more actions are appended to the bill (see
+ * {@link #analyze(BillActionAnalyzer)}). Only the appended actions need to be matched against the patterns.
  */
 public class BillActionAnalyzer
 {
@@ -93,6 +97,7 @@ public class BillActionAnalyzer
 
     private final List<BillAction> actions;
     private BillId billId;
+    private final Optional<PublishStatus> defaultPubStatus;
 
     /** --- Derived properties --- */
 
@@ -110,7 +115,7 @@ public class BillActionAnalyzer
     private Table<Integer, Chamber, Integer> calNoTable = HashBasedTable.create(2, 2);
 
     /** PublishStatus associated with each non-base amendment version listed in the actions. */
-    private final TreeMap<Version, PublishStatus> publishStatusMap = new TreeMap<>();
+    private TreeMap<Version, PublishStatus> publishStatusMap = new TreeMap<>();
 
     /** True if the last action encountered was an enacting clause stricken. */
     private boolean stricken = false;
@@ -143,6 +148,7 @@ public class BillActionAnalyzer
     public BillActionAnalyzer(BillId billId, List<BillAction> actions, Optional<PublishStatus> defaultPubStatus) {
         this.actions = actions;
         this.billId = billId;
+        this.defaultPubStatus = defaultPubStatus;
         if (defaultPubStatus.isPresent()) {
             this.publishStatusMap.put(Version.DEFAULT, defaultPubStatus.get());
             this.billStatus = new BillStatus(INTRODUCED, defaultPubStatus.get().getEffectDateTime().toLocalDate());
@@ -152,15 +158,48 @@ public class BillActionAnalyzer
     /** --- Methods --- */
 
     public void analyze() {
-        this.actions.forEach(a -> {
-            updatePublishStatus(a);
-            updateBillStatus(a);
-            updateSubstituted(a);
-        });
+        this.actions.forEach(this::analyzeAction);
     }
 
-    protected void matchPublishVersion( List<BillAction> actions, BaseBillId baseBillId ) {
-        
+    /**
+     * Analyzes the actions, resuming from the given checkpoint if it was taken from an analysis of the same
+     * bill whose actions are a prefix of this analyzer's actions. In that case only the appended actions are
+     * analyzed. Otherwise, e.g. if actions were removed or reordered, all of the actions are analyzed.
+     *
+     * @param checkpoint BillActionAnalyzer - A checkpoint of a prior analysis, may be null.
+     * @return boolean - True if the analysis was resumed from the checkpoint.
+     */
+    public boolean analyze(BillActionAnalyzer checkpoint) {
+        if (!canResumeFrom(checkpoint)) {
+            analyze();
+            return false;
+        }
+        restoreState(checkpoint);
+        // The analyzed actions are assigned the amendment that was active when they occurred
+        for (int i = 0; i < checkpoint.actions.size(); i++) {
+            this.actions.get(i).setBillId(checkpoint.actions.get(i).getBillId());
+        }
+        this.actions.subList(checkpoint.actions.size(), this.actions.size()).forEach(this::analyzeAction);
+        return true;
+    }
+
+    /**
+     * Returns a copy of the current state of this analyzer that can be used to resume the analysis of
+     * this bill once more actions are appended. The copy is not affected by later changes to this analyzer,
+     * its actions list or its derived collections.
+     *
+     * @return BillActionAnalyzer
+     */
+    public BillActionAnalyzer checkpoint() {
+        BillActionAnalyzer checkpoint = new BillActionAnalyzer(billId, new ArrayList<>(actions), defaultPubStatus);
+        checkpoint.restoreState(this);
+        return checkpoint;
+    }
+
+    protected void analyzeAction(BillAction action) {
+        updatePublishStatus(action);
+        updateBillStatus(action);
+        updateSubstituted(action);
     }
 
     /**
@@ -311,6 +350,45 @@ public class BillActionAnalyzer
         }
     }
 
+    /**
+     * A checkpoint can be resumed if it belongs to the same base bill, started with the same default publish
+     * status, and analyzed actions that match the first actions of this analyzer.
+     */
+    private boolean canResumeFrom(BillActionAnalyzer checkpoint) {
+        if (checkpoint == null || !BaseBillId.of(checkpoint.billId).equals(BaseBillId.of(billId))
+                || !checkpoint.defaultPubStatus.equals(defaultPubStatus)
+                || checkpoint.actions.size() > actions.size()) {
+            return false;
+        }
+        for (int i = 0; i < checkpoint.actions.size(); i++) {
+            BillAction analyzed = checkpoint.actions.get(i);
+            BillAction action = actions.get(i);
+            if (analyzed.getSequenceNo() != action.getSequenceNo() || analyzed.getChamber() != action.getChamber()
+                    || !Objects.equals(analyzed.getDate(), action.getDate())
+                    || !Objects.equals(analyzed.getText(), action.getText())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies the derived state of the given analyzer into this one.
+     */
+    private void restoreState(BillActionAnalyzer other) {
+        this.activeVersion = other.activeVersion;
+        this.statuses = new LinkedList<>(other.statuses);
+        this.billStatus = other.billStatus;
+        this.calNoTable = HashBasedTable.create(other.calNoTable);
+        this.publishStatusMap = new TreeMap<>(other.publishStatusMap);
+        this.stricken = other.stricken;
+        this.currentCommittee = other.currentCommittee;
+        this.pastCommittees = new TreeSet<>(other.pastCommittees);
+        this.sameAsMap = new TreeMap<>(other.sameAsMap);
+        this.substitutedBy = other.substitutedBy;
+        this.chapterYearAndNum = other.chapterYearAndNum;
+    }
+
     /** --- Functional Getters --- */
 
     /**
@@ -0,0 +1,34 @@
+package gov.nysenate.openleg.processor.bill;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import gov.nysenate.openleg.model.bill.BaseBillId;
+import org.springframework.stereotype.Service;
+
+/**
+ * Holds the checkpoint of the last action analysis of recently updated bills, so that when actions are appended
+ * to a bill only the new actions have to be analyzed (see {@link BillActionAnalyzer#checkpoint()}).
+ * A single instance is shared by all of the bill processors so that each bill has at most one checkpoint.
+ */
+@Service
+public class BillActionCheckpoints
+{
+    /** The number of bills whose last action analysis is kept so that appended actions can be analyzed alone. */
+    private static final int actionCheckpointCount = 2000;
+
+    /** Checkpoints of the last action analysis of recently updated bills. */
+    private final Cache<BaseBillId, BillActionAnalyzer> actionCheckpoints =
+        CacheBuilder.newBuilder().maximumSize(actionCheckpointCount).build();
+
+    /**
+     * Runs the given analyzer for the given bill, resuming from the bill's checkpoint when it is still valid,
+     * and saves the result as the bill's new checkpoint.
+     *
+     * @param billId BaseBillId - The bill whose actions are analyzed.
+     * @param analyzer BillActionAnalyzer - A new analyzer for all of the bill's current actions.
+     */
+    public void analyze(BaseBillId billId, BillActionAnalyzer analyzer) {
+        analyzer.analyze(actionCheckpoints.getIfPresent(billId));
+        actionCheckpoints.put(billId, analyzer.checkpoint());
+    }
+}
@@ -21,6 +21,7 @@ import gov.nysenate.openleg.service.bill.event.BillFieldUpdateEvent;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
@@ -51,10 +52,10 @@ public class BillSobiProcessor extends AbstractDataProcessor implements SobiProc
     public static final Pattern voteHeaderPattern = Pattern.compile("Senate Vote    Bill: (.{18}) Date: (.{10}).*");
 
     /** The expected format for recorded votes in the SobiBlock[V] vote memo blocks; e.g. 'AYE  ADAMS' */
-    protected static final Pattern votePattern = Pattern.compile("(Aye|Nay|Abs|Exc|Abd) (.{1,16})");
+    public static final Pattern votePattern = Pattern.compile("(Aye|Nay|Abs|Exc|Abd) (.{1,16})");
 
     /** The expected format for SameAs [5] block data. Same as Uni A 372, S 210 */
-    protected static final Pattern sameAsPattern =
+    public static final Pattern sameAsPattern =
         Pattern.compile("Same as( Uni\\.)? (([A-Z] ?[0-9]{1,5}-?[A-Z]?(, *)?)+)");
 
     /** The expected format for Bill Info [1] block data. */
@@ -62,7 +63,7 @@ public class BillSobiProcessor extends AbstractDataProcessor implements SobiProc
         Pattern.compile("(.{20})([0-9]{5}[ A-Z])(.{33})([ A-Z][0-9]{5}[ `\\-A-Z0-9])(.{8})(.*)");
 
     /** RULES Sponsors are formatted as RULES COM followed by the name of the sponsor that requested passage. */
-    protected static final Pattern rulesSponsorPattern =
+    public static final Pattern rulesSponsorPattern =
         Pattern.compile("RULES COM \\(?([a-zA-Z-']+)( [A-Z])?\\)?(.*)");
 
     /** The format for program info lines. */
@@ -72,6 +73,9 @@ public class BillSobiProcessor extends AbstractDataProcessor implements SobiProc
     protected static final String vetoApprovalSplitter =
         "(?<=00000.SO DOC (?:VETO\\d{4}|APPR\\d{3}\\s)\\s{8}(?:\\*END\\*.{3}|\\*DELETE\\*).{42})\\n";
 
+    /** Checkpoints of the last action analysis of recently updated bills, shared by the bill processors. */
+    @Autowired private BillActionCheckpoints actionCheckpoints;
+
     /** --- Constructors --- */
 
     public BillSobiProcessor() {}
@@ -140,9 +144,12 @@ public class BillSobiProcessor extends AbstractDataProcessor implements SobiProc
 
             if (billIngestCache.exceedsCapacity()) {
                 logger.info("Flushing bill ingest cache with {} bills!", billIngestCache.getSize());
+                checkpointBillUpdates(sobiFragment);
                 flushBillUpdates();
             }
         }
+        // Attribute the bill changes to this fragment in case they are flushed along with other fragments
+        checkpointBillUpdates(sobiFragment);
         // Notify the data processor that a bill fragment has finished processing
         postDataUnitEvent(unit);
 
@@ -300,7 +307,7 @@ public class BillSobiProcessor extends AbstractDataProcessor implements SobiProc
         // Use the BillActionAnalyzer to derive other data from the actions list.
         Optional<PublishStatus> defaultPubStatus = baseBill.getPublishStatus(Version.DEFAULT);
         BillActionAnalyzer analyzer = new BillActionAnalyzer(specifiedAmendment.getBillId(), billActions, defaultPubStatus);
-        analyzer.analyze();
+        actionCheckpoints.analyze(baseBill.getBaseBillId(), analyzer);
 
         // Apply the results to the bill
         baseBill.setSubstitutedBy(analyzer.getSubstitutedBy().orElse(null));
@@ -342,18 +349,19 @@ public class BillSobiProcessor extends AbstractDataProcessor implements SobiProc
      */
     private void applySameAs(String data, BillAmendment specifiedAmendment, SobiFragment fragment, DataProcessUnit unit) {
         if (data.trim().equalsIgnoreCase("No same as") || data.trim().equalsIgnoreCase("DELETE")) {
-            specifiedAmendment.getSameAs().clear();
+            specifiedAmendment.setSameAs(new HashSet<>());
             specifiedAmendment.setUniBill(false);
         }
         else {
             Matcher sameAsMatcher = sameAsPattern.matcher(data);
             if (sameAsMatcher.find()) {
-                specifiedAmendment.getSameAs().clear();
+                Set<BillId> sameAsBillIds = new HashSet<>();
                 List<String> sameAsMatches = new ArrayList<>(Arrays.asList(sameAsMatcher.group(2).split(", ")));
                 for (String sameAs : sameAsMatches) {
-                    specifiedAmendment.getSameAs().add(new BillId(sameAs.replace("-", "").replace(" ",""),
-                                                       specifiedAmendment.getSession()));
+                    sameAsBillIds.add(new BillId(sameAs.replace("-", "").replace(" ",""),
+                                                 specifiedAmendment.getSession()));
                 }
+                specifiedAmendment.setSameAs(sameAsBillIds);
                 // Check for uni-bill and sync
                 if (sameAsMatcher.group(1) != null && !sameAsMatcher.group(1).isEmpty()) {
                     specifiedAmendment.setUniBill(true);
@@ -599,7 +607,9 @@ public class BillSobiProcessor extends AbstractDataProcessor implements SobiProc
         VetoMemoParser vetoMemoParser = new VetoMemoParser(data, date);
         vetoMemoParser.extractText();
         if (vetoMemoParser.isDeleted()) {
-            baseBill.getVetoMessages().remove(vetoMemoParser.getVetoId());
+            if (baseBill.getVetoMessages().remove(vetoMemoParser.getVetoId()) != null) {
+                baseBill.markDirty(BillUpdateField.VETO);
+            }
         } else {
             VetoMessage vetoMessage = vetoMemoParser.getVetoMessage();
             vetoMessage.setSession(baseBill.getSession());
@@ -608,6 +618,7 @@ public class BillSobiProcessor extends AbstractDataProcessor implements SobiProc
             vetoMessage.setPublishedDateTime(date);
 
             baseBill.getVetoMessages().put(vetoMessage.getVetoId(), vetoMessage);
+            baseBill.markDirty(BillUpdateField.VETO);
         }
     }
 
@@ -725,8 +736,12 @@ public class BillSobiProcessor extends AbstractDataProcessor implements SobiProc
      * have a uni-bill designator are kept in sync.
      */
     protected void syncUniBillText(BillAmendment billAmendment, SobiFragment sobiFragment) {
+        if (!billAmendment.isTextLoaded(BillUpdateField.FULLTEXT)) {
+            loadBillText(getOrCreateBaseBill(sobiFragment.getPublishedDateTime(), billAmendment.getBillId(), sobiFragment));
+        }
         billAmendment.getSameAs().forEach(uniBillId -> {
             Bill uniBill = getOrCreateBaseBill(sobiFragment.getPublishedDateTime(), uniBillId, sobiFragment);
+            loadBillText(uniBill);
             BillAmendment uniBillAmend = uniBill.getAmendment(uniBillId.getVersion());
             // If this is the senate bill amendment, copy text to the assembly bill amendment
             if (billAmendment.getBillType().getChamber().equals(Chamber.SENATE)) {
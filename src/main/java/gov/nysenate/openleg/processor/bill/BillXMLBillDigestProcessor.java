@@ -60,6 +60,7 @@ public class BillXMLBillDigestProcessor extends AbstractDataProcessor implements
                 baseBill.setDirectPreviousVersion(new BillId(oldhse+oldno, SessionYear.of(sess),Version.of(oldamd)));
             }
             billIngestCache.set(baseBill.getBaseBillId(), baseBill, sobiFragment);
+            checkpointBillUpdates(sobiFragment);
             System.out.println("abc");
         } catch (Exception e) {
             e.printStackTrace();
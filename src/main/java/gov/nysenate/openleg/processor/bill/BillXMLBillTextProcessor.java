@@ -62,6 +62,7 @@ public class BillXMLBillTextProcessor extends AbstractDataProcessor implements S
             final Bill baseBill = getOrCreateBaseBill(sobiFragment.getPublishedDateTime(), new BillId(senhse.isEmpty() ? asmhse+asmno : senhse+senno, new SessionYear(sessionYear),version) ,sobiFragment);
             baseBill.getAmendment(version).setFullText(billText);
             billIngestCache.set(baseBill.getBaseBillId(), baseBill, sobiFragment);
+            checkpointBillUpdates(sobiFragment);
             System.out.println("abc");
         } catch (Exception e) {
             e.printStackTrace();
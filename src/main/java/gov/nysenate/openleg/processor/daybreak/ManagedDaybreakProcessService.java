@@ -1,30 +1,37 @@
 package gov.nysenate.openleg.processor.daybreak;
 
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.Lists;
 import gov.nysenate.openleg.dao.bill.reference.daybreak.DaybreakDao;
 import gov.nysenate.openleg.model.spotcheck.daybreak.*;
-import gov.nysenate.openleg.util.OpenlegThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.Resource;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 @Service
 public class ManagedDaybreakProcessService implements DaybreakProcessService{
 
     private static Logger logger = LoggerFactory.getLogger(ManagedDaybreakProcessService.class);
 
+    /** The number of fragments, entries or bills that are written to the database in a single batch. */
+    private static final int writeBatchSize = 500;
+
     @Autowired
     private DaybreakDao daybreakDao;
 
-    private ThreadFactory threadFactory = new OpenlegThreadFactory("daybreak-process");
+    @Resource(name = "daybreakExecutor")
+    private ThreadPoolTaskExecutor daybreakExecutor;
 
     /** --- Interfaced Methods --- */
 
@@ -92,18 +99,8 @@ public class ManagedDaybreakProcessService implements DaybreakProcessService{
     @Override
     public int processFragments(List<DaybreakFragment> fragments) {
         if (fragments.size() > 0) {
-            ExecutorService executorService = Executors.newFixedThreadPool(4, threadFactory);
             logger.info("Processing " + fragments.size() + " daybreak fragments");
-            for (DaybreakFragment daybreakFragment : fragments) {
-                executorService.submit(() -> processFragment(daybreakFragment));
-            }
-            executorService.shutdown();
-            try {
-                // Allow maximum of 30 minutes before un-blocking
-                executorService.awaitTermination(30, TimeUnit.MINUTES);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
+            writeInBatches("daybreak bills", fragments, this::processFragmentBatch);
         }
         return fragments.size();
     }
@@ -148,6 +145,7 @@ public class ManagedDaybreakProcessService implements DaybreakProcessService{
         List<PageFileEntry> pageFileEntries = new ArrayList<>();
 
         logger.info("Collating " + daybreakReport.getReportDate());
+        Stopwatch stopwatch = Stopwatch.createStarted();
 
         for (DaybreakFile daybreakFile : daybreakReport.getReportDocs().values()) {
             // Add each file reference to the store
@@ -172,9 +170,9 @@ public class ManagedDaybreakProcessService implements DaybreakProcessService{
         daybreakDao.updateDaybreakReport(daybreakReport.getReportDate());
         // Add all fragments and entries to the store
         logger.info("Saving daybreak fragments");
-        daybreakFragments.parallelStream().forEach(daybreakDao::updateDaybreakFragment);
+        writeInBatches("daybreak fragments", daybreakFragments, daybreakDao::updateDaybreakFragments);
         logger.info("Saving page file entries");
-        pageFileEntries.parallelStream().forEach(daybreakDao::updatePageFileEntry);
+        writeInBatches("page file entries", pageFileEntries, daybreakDao::updatePageFileEntries);
 
         // Archive the report files
         daybreakReport.getReportDocs().values().forEach(daybreakFile ->{
@@ -185,24 +183,71 @@ public class ManagedDaybreakProcessService implements DaybreakProcessService{
                 logger.error("An error occurred while archiving " + daybreakFile.getFileName());
             }
         });
+
+        logger.info("Collated daybreak report {} with {} fragments and {} page file entries in {}",
+                daybreakReport.getReportDate(), daybreakFragments.size(), pageFileEntries.size(), stopwatch);
+    }
+
+    /**
+     * Splits the given items into batches that are written in parallel on the daybreak executor,
+     * and waits for all of the batches to be written.
+     * @param type a description of the items, used for logging
+     * @param items
+     * @param batchWriter writes a single batch of items
+     */
+    private <T> void writeInBatches(String type, List<T> items, Consumer<List<T>> batchWriter) {
+        List<Future<?>> writes = new ArrayList<>();
+        for (List<T> batch : Lists.partition(items, writeBatchSize)) {
+            writes.add(daybreakExecutor.submit(() -> batchWriter.accept(batch)));
+        }
+        for (Future<?> write : writes) {
+            try {
+                write.get();
+            }
+            catch (ExecutionException ex) {
+                logger.error("An error occurred while saving a batch of " + type, ex.getCause());
+            }
+            catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while saving " + type, ex);
+            }
+        }
     }
 
     /**
-     * Processes an individual daybreak fragment and updates teh persistence layer
-     * @param daybreakFragment
+     * Parses a batch of daybreak fragments into daybreak bills, then saves the bills and sets
+     * the fragments as processed. If the batch cannot be saved, the bills are saved one at a time
+     * so that a single bad fragment does not keep the rest of the batch from being processed.
+     * Fragments whose bills could not be saved are left pending.
+     * @param daybreakFragments
      */
-    private void processFragment(DaybreakFragment daybreakFragment){
-        // This method is called by the ExecutorService which does not pass exceptions to the calling code.
-        // Log them here so we have visibility into any errors occurring.
+    private void processFragmentBatch(List<DaybreakFragment> daybreakFragments) {
+        List<DaybreakBill> daybreakBills = new ArrayList<>();
+        for (DaybreakFragment daybreakFragment : daybreakFragments) {
+            try {
+                daybreakBills.add(DaybreakFragmentParser.extractDaybreakBill(daybreakFragment));
+            } catch(Exception ex) {
+                logger.error("An error has occured while processing a daybreak fragment.", ex);
+            }
+        }
+        List<DaybreakBillId> processedIds = new ArrayList<>();
         try {
-            // Parse the fragment into a bill
-            DaybreakBill daybreakBill = DaybreakFragmentParser.extractDaybreakBill(daybreakFragment);
-            // Update the persistence layer
-            daybreakDao.updateDaybreakBill(daybreakBill);
-            // Set the fragment as processed
-            daybreakDao.setProcessed(daybreakFragment.getDaybreakBillId());
-        } catch(Exception ex) {
-            logger.error("An error has occured while processing a daybreak fragment.", ex);
+            daybreakDao.updateDaybreakBills(daybreakBills);
+            daybreakBills.forEach(daybreakBill -> processedIds.add(daybreakBill.getDaybreakBillId()));
+        }
+        catch (DataAccessException ex) {
+            logger.warn("Could not save a batch of " + daybreakBills.size() + " daybreak bills, " +
+                        "saving them individually", ex);
+            for (DaybreakBill daybreakBill : daybreakBills) {
+                try {
+                    daybreakDao.updateDaybreakBill(daybreakBill);
+                    processedIds.add(daybreakBill.getDaybreakBillId());
+                }
+                catch (DataAccessException billEx) {
+                    logger.error("Could not save daybreak bill " + daybreakBill.getDaybreakBillId(), billEx);
+                }
+            }
         }
+        daybreakDao.setProcessed(processedIds);
     }
 }
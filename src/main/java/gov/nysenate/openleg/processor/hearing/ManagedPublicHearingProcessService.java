@@ -1,19 +1,32 @@
 package gov.nysenate.openleg.processor.hearing;
 
+import com.google.common.eventbus.EventBus;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.dao.hearing.PublicHearingFileDao;
+import gov.nysenate.openleg.model.hearing.PublicHearing;
 import gov.nysenate.openleg.model.hearing.PublicHearingFile;
 import gov.nysenate.openleg.model.hearing.PublicHearingId;
+import gov.nysenate.openleg.model.process.DataProcessAction;
+import gov.nysenate.openleg.model.process.DataProcessUnit;
+import gov.nysenate.openleg.model.process.DataProcessUnitEvent;
+import gov.nysenate.openleg.service.hearing.data.PublicHearingDataService;
+import gov.nysenate.openleg.service.hearing.event.BulkPublicHearingUpdateEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.Resource;
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 @Service
 public class ManagedPublicHearingProcessService implements PublicHearingProcessService
@@ -26,6 +39,15 @@ public class ManagedPublicHearingProcessService implements PublicHearingProcessS
     @Autowired
     private PublicHearingParser publicHearingParser;
 
+    @Autowired
+    private PublicHearingDataService publicHearingDataService;
+
+    @Autowired
+    private EventBus eventBus;
+
+    @Resource(name = "fileIngestExecutor")
+    private ThreadPoolTaskExecutor fileIngestExecutor;
+
     /** --- Implemented Methods --- */
 
     /** {@inheritDoc} */
@@ -77,35 +99,78 @@ public class ManagedPublicHearingProcessService implements PublicHearingProcessS
         return publicHearingFileDao.getPendingPublicHearingFile(limitOffset);
     }
 
-    /** {@inheritDoc} */
+    /**
+     * {@inheritDoc}
+     *
+     * The files are parsed in parallel. The parsed public hearings are then saved in order on the calling thread,
+     * and indexed together once every file has been saved.
+     */
     @Override
     public int processPublicHearingFiles(List<PublicHearingFile> publicHearingFiles) {
-        int processCount = 0;
+        List<Future<PublicHearing>> parsedHearings = new ArrayList<>();
         for (PublicHearingFile file : publicHearingFiles) {
-            try {
-                logger.info("Processing PublicHearingFile: " + file.getFileName());
-                publicHearingParser.process(file);
-                file.setProcessedCount(file.getProcessedCount() + 1);
-                file.setPendingProcessing(false);
-                file.setProcessedDateTime(LocalDateTime.now());
-                publicHearingFileDao.updatePublicHearingFile(file);
-                processCount++;
+            logger.info("Processing PublicHearingFile: " + file.getFileName());
+            parsedHearings.add(fileIngestExecutor.submit(() -> publicHearingParser.parse(file)));
+        }
+        List<PublicHearing> savedHearings = new ArrayList<>();
+        LocalDateTime startDateTime = LocalDateTime.now();
+        try {
+            for (int i = 0; i < publicHearingFiles.size(); i++) {
+                PublicHearingFile file = publicHearingFiles.get(i);
+                DataProcessUnit unit = new DataProcessUnit("PUBLIC_HEARING_FILE", file.getFileName(), startDateTime,
+                                                           DataProcessAction.INGEST);
+                try {
+                    PublicHearing publicHearing = parsedHearings.get(i).get();
+                    publicHearingDataService.savePublicHearing(publicHearing, file, false);
+                    file.setProcessedCount(file.getProcessedCount() + 1);
+                    file.setPendingProcessing(false);
+                    file.setProcessedDateTime(LocalDateTime.now());
+                    publicHearingFileDao.updatePublicHearingFile(file);
+                    savedHearings.add(publicHearing);
+                }
+                catch (ExecutionException ex) {
+                    logger.error("Error reading from PublicHearingFile: " + file.getFileName(), ex.getCause());
+                    unit.addException("Error processing public hearing file:", ex);
+                }
+                catch (RuntimeException ex) {
+                    logger.error("Error saving public hearing file " + file.getFileName() + ".", ex);
+                    unit.addException("Error saving public hearing file:", ex);
+                }
+                catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while processing public hearing files", ex);
+                }
+                unit.setEndDateTime(LocalDateTime.now());
+                eventBus.post(new DataProcessUnitEvent(unit));
             }
-            catch (IOException ex) {
-                logger.error("Error reading from PublicHearingFile: " + file.getFileName(), ex);
+        }
+        finally {
+            // Index whatever was saved, even if the batch was cut short
+            if (!savedHearings.isEmpty()) {
+                eventBus.post(new BulkPublicHearingUpdateEvent(savedHearings, LocalDateTime.now()));
             }
         }
-        return processCount;
+        return savedHearings.size();
     }
 
     /** {@inheritDoc} */
     @Override
     public int processPendingPublicHearingFiles() {
+        // Failed files are left pending, so they are skipped for the rest of this run
+        Set<String> failedFileNames = new HashSet<>();
         List<PublicHearingFile> publicHearingFiles;
         int processCount = 0;
         do {
-            publicHearingFiles = getPendingPublicHearingFiles(LimitOffset.FIFTY);
+            // Enough files are read to fill a batch even if every failed file is among them
+            publicHearingFiles = getPendingPublicHearingFiles(new LimitOffset(LimitOffset.FIFTY.getLimit() + failedFileNames.size()))
+                .stream()
+                .filter(file -> !failedFileNames.contains(file.getFileName()))
+                .limit(LimitOffset.FIFTY.getLimit())
+                .collect(Collectors.toList());
             processCount += processPublicHearingFiles(publicHearingFiles);
+            publicHearingFiles.stream()
+                .filter(PublicHearingFile::isPendingProcessing)
+                .forEach(file -> failedFileNames.add(file.getFileName()));
         }
         while (!publicHearingFiles.isEmpty());
         return processCount;
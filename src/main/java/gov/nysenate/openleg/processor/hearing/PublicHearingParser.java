@@ -6,11 +6,14 @@ import gov.nysenate.openleg.model.hearing.PublicHearingFile;
 import gov.nysenate.openleg.model.hearing.PublicHearingId;
 import gov.nysenate.openleg.service.hearing.data.PublicHearingDataService;
 import gov.nysenate.openleg.util.PublicHearingTextUtils;
-import org.apache.commons.io.FileUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -39,12 +42,26 @@ public class PublicHearingParser
 
     /**
      * Parses a {@link PublicHearingFile}, extracting a
-     * {@link gov.nysenate.openleg.model.hearing.PublicHearing PublicHearing}.
+     * {@link gov.nysenate.openleg.model.hearing.PublicHearing PublicHearing} and saving it.
      * @param publicHearingFile
      * @throws IOException
      */
     public void process(PublicHearingFile publicHearingFile) throws IOException {
-        final List<List<String>> pages = PublicHearingTextUtils.getPages(FileUtils.readFileToString(publicHearingFile.getFile()));
+        dataService.savePublicHearing(parse(publicHearingFile), publicHearingFile, true);
+    }
+
+    /**
+     * Parses a {@link PublicHearingFile} without saving the extracted
+     * {@link gov.nysenate.openleg.model.hearing.PublicHearing PublicHearing}.
+     * This method is thread safe, so several files can be parsed at once.
+     * @param publicHearingFile
+     * @throws IOException
+     */
+    public PublicHearing parse(PublicHearingFile publicHearingFile) throws IOException {
+        final List<List<String>> pages;
+        try (Reader reader = new InputStreamReader(new FileInputStream(publicHearingFile.getFile()), Charset.defaultCharset())) {
+            pages = PublicHearingTextUtils.getPages(reader);
+        }
         final List<String> firstPage = pages.get(0);
 
         String title = titleParser.parse(firstPage);
@@ -66,7 +83,6 @@ public class PublicHearingParser
         LocalDateTime now = LocalDateTime.now();
         publicHearing.setModifiedDateTime(now);
         publicHearing.setPublishedDateTime(now);
-
-        dataService.savePublicHearing(publicHearing, publicHearingFile, true);
+        return publicHearing;
     }
 }
@@ -61,7 +61,8 @@ public abstract class AbstractLawBuilder implements LawBuilder
     public AbstractLawBuilder(LawVersionId lawVersionId, LawTree previousTree) {
         this(lawVersionId);
         if (previousTree != null) {
-            this.rootNode = previousTree.getRootNode();
+            // The previous tree may be shared with other cached versions, so work on a copy of it
+            this.rootNode = previousTree.getRootNode().deepCopy();
             this.lawInfo = previousTree.getLawInfo();
         }
     }
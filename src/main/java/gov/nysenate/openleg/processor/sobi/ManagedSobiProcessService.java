@@ -7,6 +7,7 @@ import gov.nysenate.openleg.config.Environment;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.dao.base.SortOrder;
 import gov.nysenate.openleg.dao.sobi.SobiDao;
+import gov.nysenate.openleg.model.metrics.TimerType;
 import gov.nysenate.openleg.model.process.DataProcessAction;
 import gov.nysenate.openleg.model.process.DataProcessUnit;
 import gov.nysenate.openleg.model.process.DataProcessUnitEvent;
@@ -19,6 +20,7 @@ import gov.nysenate.openleg.processor.bill.BillXMLBillTextProcessor;
 import gov.nysenate.openleg.processor.calendar.ActiveListProcessor;
 import gov.nysenate.openleg.processor.calendar.CalendarProcessor;
 import gov.nysenate.openleg.processor.entity.CommitteeProcessor;
+import gov.nysenate.openleg.service.metrics.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -49,6 +51,7 @@ public class ManagedSobiProcessService implements SobiProcessService
     @Autowired private SobiDao sobiDao;
     @Autowired private EventBus eventBus;
     @Autowired private Environment env;
+    @Autowired private MetricsRegistry metricsRegistry;
 
     /** --- Processor Dependencies --- */
 
@@ -159,7 +162,10 @@ public class ManagedSobiProcessService implements SobiProcessService
             sobiDao.updateSobiFragment(fragment);
             // Hand off processing to specific implementations based on fragment type.
             if (processorMap.containsKey(fragment.getType())) {
+                long start = System.nanoTime();
                 processorMap.get(fragment.getType()).process(fragment);
+                metricsRegistry.getTimer(TimerType.SOBI_PROCESS, fragment.getType().name(), "process")
+                    .recordSince(start);
             }
             else {
                 logger.error("No processors have been registered to handle: " + fragment);
@@ -168,7 +174,11 @@ public class ManagedSobiProcessService implements SobiProcessService
             fragment.setProcessedDateTime(LocalDateTime.now());
         }
         // Perform any necessary post-processing/cleanup
-        processorMap.values().forEach(p -> p.postProcess());
+        processorMap.forEach((type, processor) -> {
+            long start = System.nanoTime();
+            processor.postProcess();
+            metricsRegistry.getTimer(TimerType.SOBI_PROCESS, type.name(), "post_process").recordSince(start);
+        });
         // Set the fragments as processed and update
         fragments.forEach(f -> {
             f.setPendingProcessing(false);
@@ -210,12 +220,10 @@ public class ManagedSobiProcessService implements SobiProcessService
         }
     }
 
-    /** --- Internal Methods --- */
-
     /**
      * Extracts a list of SobiFragments from the given SobiFile.
      */
-    private List<SobiFragment> createFragments(SobiFile sobiFile) throws IOException {
+    public List<SobiFragment> createFragments(SobiFile sobiFile) throws IOException {
         List<SobiFragment> sobiFragments = new ArrayList<>();
         StringBuilder billBuffer = new StringBuilder();
 
@@ -273,6 +281,8 @@ public class ManagedSobiProcessService implements SobiProcessService
         return sobiFragments;
     }
 
+    /** --- Internal Methods --- */
+
     /**
      * Check the given SOBI line to determine if it matches the start of a SOBI Fragment type.
      *
@@ -1,17 +1,32 @@
 package gov.nysenate.openleg.processor.transcript;
 
+import com.google.common.eventbus.EventBus;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.dao.transcript.TranscriptFileDao;
+import gov.nysenate.openleg.model.process.DataProcessAction;
+import gov.nysenate.openleg.model.process.DataProcessUnit;
+import gov.nysenate.openleg.model.process.DataProcessUnitEvent;
+import gov.nysenate.openleg.model.transcript.Transcript;
 import gov.nysenate.openleg.model.transcript.TranscriptFile;
 import gov.nysenate.openleg.model.transcript.TranscriptId;
+import gov.nysenate.openleg.service.transcript.data.TranscriptDataService;
+import gov.nysenate.openleg.service.transcript.event.BulkTranscriptUpdateEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.Resource;
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 @Service
 public class ManagedTranscriptProcessService implements TranscriptProcessService
@@ -24,6 +39,15 @@ public class ManagedTranscriptProcessService implements TranscriptProcessService
     @Autowired
     private TranscriptParser transcriptParser;
 
+    @Autowired
+    private TranscriptDataService transcriptDataService;
+
+    @Autowired
+    private EventBus eventBus;
+
+    @Resource(name = "fileIngestExecutor")
+    private ThreadPoolTaskExecutor fileIngestExecutor;
+
 
     /** --- Implemented Methods --- */
 
@@ -74,35 +98,78 @@ public class ManagedTranscriptProcessService implements TranscriptProcessService
         return transcriptFileDao.getPendingTranscriptFiles(limitOffset);
     }
 
-    /** {@inheritDoc} */
+    /**
+     * {@inheritDoc}
+     *
+     * The files are parsed in parallel. The parsed transcripts are then saved in order on the calling thread,
+     * and indexed together once every file has been saved.
+     */
     @Override
     public int processTranscriptFiles(List<TranscriptFile> transcriptFiles) {
-        int processCount = 0;
+        List<Future<Transcript>> parsedTranscripts = new ArrayList<>();
         for (TranscriptFile file : transcriptFiles) {
-            try {
-                logger.info("Processing transcript file {}", file.getFileName());
-                transcriptParser.process(file);
-                file.setProcessedCount(file.getProcessedCount() + 1);
-                file.setPendingProcessing(false);
-                file.setProcessedDateTime(LocalDateTime.now());
-                transcriptFileDao.updateTranscriptFile(file);
-                processCount++;
+            logger.info("Processing transcript file {}", file.getFileName());
+            parsedTranscripts.add(fileIngestExecutor.submit(() -> transcriptParser.parse(file)));
+        }
+        List<Transcript> savedTranscripts = new ArrayList<>();
+        LocalDateTime startDateTime = LocalDateTime.now();
+        try {
+            for (int i = 0; i < transcriptFiles.size(); i++) {
+                TranscriptFile file = transcriptFiles.get(i);
+                DataProcessUnit unit = new DataProcessUnit("TRANSCRIPT_FILE", file.getFileName(), startDateTime,
+                                                           DataProcessAction.INGEST);
+                try {
+                    Transcript transcript = parsedTranscripts.get(i).get();
+                    transcriptDataService.saveTranscript(transcript, file, false);
+                    file.setProcessedCount(file.getProcessedCount() + 1);
+                    file.setPendingProcessing(false);
+                    file.setProcessedDateTime(LocalDateTime.now());
+                    transcriptFileDao.updateTranscriptFile(file);
+                    savedTranscripts.add(transcript);
+                }
+                catch (ExecutionException ex) {
+                    logger.error("Error processing TranscriptFile " + file.getFileName() + ".", ex.getCause());
+                    unit.addException("Error processing transcript file:", ex);
+                }
+                catch (RuntimeException ex) {
+                    logger.error("Error saving transcript file " + file.getFileName() + ".", ex);
+                    unit.addException("Error saving transcript file:", ex);
+                }
+                catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while processing transcript files", ex);
+                }
+                unit.setEndDateTime(LocalDateTime.now());
+                eventBus.post(new DataProcessUnitEvent(unit));
             }
-            catch (IOException ex) {
-                logger.error("Error processing TranscriptFile " + file.getFileName() + ".", ex);
+        }
+        finally {
+            // Index whatever was saved, even if the batch was cut short
+            if (!savedTranscripts.isEmpty()) {
+                eventBus.post(new BulkTranscriptUpdateEvent(savedTranscripts, LocalDateTime.now()));
             }
         }
-        return processCount;
+        return savedTranscripts.size();
     }
 
     /** {@inheritDoc} */
     @Override
     public int processPendingTranscriptFiles() {
+        // Failed files are left pending, so they are skipped for the rest of this run
+        Set<String> failedFileNames = new HashSet<>();
         List<TranscriptFile> transcriptFiles;
         int processCount = 0;
         do {
-            transcriptFiles = getPendingTranscriptFiles(LimitOffset.FIFTY);
+            // Enough files are read to fill a batch even if every failed file is among them
+            transcriptFiles = getPendingTranscriptFiles(new LimitOffset(LimitOffset.FIFTY.getLimit() + failedFileNames.size()))
+                .stream()
+                .filter(file -> !failedFileNames.contains(file.getFileName()))
+                .limit(LimitOffset.FIFTY.getLimit())
+                .collect(Collectors.toList());
             processCount += processTranscriptFiles(transcriptFiles);
+            transcriptFiles.stream()
+                .filter(TranscriptFile::isPendingProcessing)
+                .forEach(file -> failedFileNames.add(file.getFileName()));
         }
         while (!transcriptFiles.isEmpty());
         return processCount;
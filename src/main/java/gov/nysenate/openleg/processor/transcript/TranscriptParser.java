@@ -26,7 +26,25 @@ public class TranscriptParser
     @Autowired
     private TranscriptDataService transcriptDataService;
 
+    /**
+     * Parses a {@link TranscriptFile} and saves the extracted transcript.
+     *
+     * @param transcriptFile TranscriptFile
+     * @throws IOException
+     */
     public void process(TranscriptFile transcriptFile) throws IOException {
+        transcriptDataService.saveTranscript(parse(transcriptFile), transcriptFile, true);
+    }
+
+    /**
+     * Parses a {@link TranscriptFile} without saving the extracted transcript.
+     * This method is thread safe, so several files can be parsed at once.
+     *
+     * @param transcriptFile TranscriptFile
+     * @return Transcript
+     * @throws IOException
+     */
+    public Transcript parse(TranscriptFile transcriptFile) throws IOException {
         String sessionType = null;
         String location = null;
         String date = null;
@@ -40,55 +58,51 @@ public class TranscriptParser
         boolean skipFirstThreeLines = false;
 
         String lineText;
-        BufferedReader reader = new BufferedReader(new InputStreamReader(
-            new FileInputStream(transcriptFile.getFile()), TRANSCRIPT_ENCODING));
-
-        while ((lineText = reader.readLine()) != null) {
-            TranscriptLine line = new TranscriptLine(lineText);
-
-            if (!firstPageParsed) {
-                // Handle transcripts with 3 incorrect lines at start of transcript.
-                if (!firstLineParsed) {
-                    if (lineText.contains("SESSION")) {
-                        skipFirstThreeLines = true;
-                        numSkipped = 1;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(transcriptFile.getFile()), TRANSCRIPT_ENCODING))) {
+            while ((lineText = reader.readLine()) != null) {
+                TranscriptLine line = new TranscriptLine(lineText);
+
+                if (!firstPageParsed) {
+                    // Handle transcripts with 3 incorrect lines at start of transcript.
+                    if (!firstLineParsed) {
+                        if (lineText.contains("SESSION")) {
+                            skipFirstThreeLines = true;
+                            numSkipped = 1;
+                            continue;
+                        }
+                    }
+                    // Continue skipping lines 2 and 3 if first 3 lines are incorrect.
+                    if (skipFirstThreeLines && numSkipped <= 3) {
+                        numSkipped++;
                         continue;
                     }
-                }
-                // Continue skipping lines 2 and 3 if first 3 lines are incorrect.
-                if (skipFirstThreeLines && numSkipped <= 3) {
-                    numSkipped++;
-                    continue;
-                }
 
-                if (line.isLocation())
-                    location = line.getLocation();
+                    if (line.isLocation())
+                        location = line.getLocation();
 
-                if (line.isDate())
-                    date = line.getDateString();
+                    if (line.isDate())
+                        date = line.getDateString();
 
-                if (line.isTime())
-                    time = line.getTimeString();
+                    if (line.isTime())
+                        time = line.getTimeString();
 
-                if (line.isSession())
-                    sessionType = line.removeLineNumber().trim();
+                    if (line.isSession())
+                        sessionType = line.removeLineNumber().trim();
 
-                firstPageParsed = areWeDoneWithFirstPage(sessionType, location, date, time);
-            }
+                    firstPageParsed = areWeDoneWithFirstPage(sessionType, location, date, time);
+                }
 
-            firstLineParsed = true;
-            transcriptText.append(line.fullText()).append("\n");
+                firstLineParsed = true;
+                transcriptText.append(line.fullText()).append("\n");
+            }
         }
 
-        reader.close();
-
         DateTimeFormatter dtf = DateTimeFormatter.ofPattern("MMMM d yyyy hmma");
         LocalDateTime dateTime = LocalDateTime.parse(date + " " + time, dtf);
 
         TranscriptId transcriptId = new TranscriptId(transcriptFile.getFileName());
-        Transcript transcript = new Transcript(transcriptId, sessionType, dateTime, location, transcriptText.toString());
-
-        transcriptDataService.saveTranscript(transcript, transcriptFile, true);
+        return new Transcript(transcriptId, sessionType, dateTime, location, transcriptText.toString());
     }
 
     private boolean areWeDoneWithFirstPage(String sessionType, String location, String date, String time) {
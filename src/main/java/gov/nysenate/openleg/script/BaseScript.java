@@ -4,6 +4,7 @@ import gov.nysenate.openleg.config.ConsoleApplicationConfig;
 import org.apache.commons.cli.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 /**
@@ -25,10 +26,22 @@ abstract public class BaseScript
      * @return AnnotationConfigApplicationContext
      */
     public static AnnotationConfigApplicationContext init() {
+        return init(new BeanPostProcessor[0]);
+    }
+
+    /**
+     * Boots up the Spring Application with the given post processors applied to every bean.
+     * @param beanPostProcessors BeanPostProcessor...
+     * @return AnnotationConfigApplicationContext
+     */
+    public static AnnotationConfigApplicationContext init(BeanPostProcessor... beanPostProcessors) {
         AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
         String profile = System.getProperty("spring.profiles.active");
         logger.info("Using spring profile: {}", profile);
         ctx.getEnvironment().setActiveProfiles(profile);
+        for (BeanPostProcessor beanPostProcessor : beanPostProcessors) {
+            ctx.getBeanFactory().addBeanPostProcessor(beanPostProcessor);
+        }
         ctx.register(ConsoleApplicationConfig.class);
         ctx.refresh();
         ctx.start();
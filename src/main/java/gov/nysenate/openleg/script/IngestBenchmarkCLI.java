@@ -0,0 +1,245 @@
+package gov.nysenate.openleg.script;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableList;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import gov.nysenate.openleg.config.Environment;
+import gov.nysenate.openleg.model.process.DataProcessUnit;
+import gov.nysenate.openleg.model.process.DataProcessUnitEvent;
+import gov.nysenate.openleg.processor.DataProcessor;
+import gov.nysenate.openleg.processor.sobi.SobiProcessService;
+import gov.nysenate.openleg.util.OutputUtils;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.stereotype.Component;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.File;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Replays a recorded directory of source files through the collate and ingest steps of the {@link DataProcessor}
+ * and writes out an {@link IngestBenchmarkReport} with the throughput, per processor time, sql statement counts,
+ * heap usage and gc pauses of the run.
+ *
+ * The recorded directory uses the same layout as the staging directory, e.g. 'sobis', 'laws',
+ * 'session_transcripts' and 'hearing_transcripts'. Its files are copied into the staging directory
+ * before the run and are left as is. This should be pointed at a local database, since everything
+ * is ingested as usual. Search indexing is disabled unless the --index option is given.
+ */
+@Component
+public class IngestBenchmarkCLI extends BaseScript
+{
+    private static final Logger logger = LoggerFactory.getLogger(IngestBenchmarkCLI.class);
+
+    /** The staging directories that recorded files are copied into. */
+    private static final ImmutableList<String> sourceDirs =
+        ImmutableList.of("sobis", "laws", "session_transcripts", "hearing_transcripts");
+
+    @Autowired private Environment env;
+    @Autowired private EventBus eventBus;
+    @Autowired private DataProcessor dataProcessor;
+    @Autowired private SobiProcessService sobiProcessService;
+
+    /** Counts the statements executed through the application's data source. */
+    private StatementCounter statementCounter;
+
+    /** The report for the current run. */
+    private IngestBenchmarkReport report;
+
+    /** Names of the heap memory pools, used to sum the heap usage reported by gc notifications. */
+    private Set<String> heapPools;
+
+    /** Records each garbage collection while a run is in progress. */
+    private final NotificationListener gcListener = this::handleGcNotification;
+
+    public static void main(String[] args) throws Exception {
+        SCRIPT_NAME = IngestBenchmarkCLI.class.getName();
+        StatementCounter statementCounter = new StatementCounter();
+        AnnotationConfigApplicationContext ctx = init(statementCounter);
+        IngestBenchmarkCLI ingestBenchmarkCLI = ctx.getBean(IngestBenchmarkCLI.class);
+        ingestBenchmarkCLI.statementCounter = statementCounter;
+        CommandLine cmd = getCommandLine(ingestBenchmarkCLI.getOptions(), args);
+        ingestBenchmarkCLI.execute(cmd);
+        shutdown(ctx);
+    }
+
+    @Override
+    protected Options getOptions() {
+        Options options = new Options();
+        options.addOption("d", "data-dir", true, "Directory of recorded source files to replay.");
+        options.addOption("o", "output", true, "File to write the json report to. (default: ingest-benchmark.json)");
+        options.addOption("l", "label", true, "A label for this run, included in the report.");
+        options.addOption(null, "batch-sobis", false, "Queue updates from SOBI files to minimize the number of writes.");
+        options.addOption(null, "index", false, "Update the search indices during ingest.");
+        options.addOption("h", "help", false, "Display help");
+        return options;
+    }
+
+    @Override
+    protected void execute(CommandLine opts) throws Exception {
+        if (opts.hasOption("help") || !opts.hasOption("data-dir")) {
+            HelpFormatter formatter = new HelpFormatter();
+            formatter.printHelp(SCRIPT_NAME,
+                "\nReplays a directory of recorded source files through collate and ingest, " +
+                "writing out timings and resource usage as json.\n",
+                getOptions(), "", true);
+            return;
+        }
+
+        if (!env.isProcessingEnabled()) {
+            logger.error("Data processing is disabled! Set 'data.process.enabled' to 'true' in your app.properties.");
+            return;
+        }
+
+        File dataDir = new File(opts.getOptionValue("data-dir"));
+        File outputFile = new File(opts.getOptionValue("output", "ingest-benchmark.json"));
+
+        env.setElasticIndexing(opts.hasOption("index"));
+        env.setSobiBatchEnabled(opts.hasOption("batch-sobis"));
+
+        report = new IngestBenchmarkReport();
+        report.setLabel(opts.getOptionValue("label", dataDir.getName()));
+        report.setCorpus(dataDir.getAbsolutePath());
+        report.setSobiBatchEnabled(env.isSobiBatchEnabled());
+        report.setIndexingEnabled(env.isElasticIndexing());
+
+        stageSourceFiles(dataDir);
+
+        eventBus.register(this);
+        startGcMonitoring();
+        report.setStartDateTime(LocalDateTime.now());
+        try {
+            long statements = statementCounter.getCount();
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            report.setCollatedCounts(dataProcessor.collateByType());
+            report.setCollateMillis(stopwatch.elapsed(TimeUnit.MILLISECONDS));
+            report.setCollateStatements(statementCounter.getCount() - statements);
+
+            statements = statementCounter.getCount();
+            stopwatch.reset().start();
+            report.setIngestedCounts(dataProcessor.ingestByType());
+            report.setIngestMillis(stopwatch.elapsed(TimeUnit.MILLISECONDS));
+            report.setIngestStatements(statementCounter.getCount() - statements);
+        }
+        finally {
+            report.setEndDateTime(LocalDateTime.now());
+            stopGcMonitoring();
+            eventBus.unregister(this);
+        }
+
+        int fragments = report.getIngestedCounts().getOrDefault(sobiProcessService.getIngestType(), 0);
+        if (report.getIngestMillis() > 0) {
+            report.setFragmentsPerSecond(fragments * 1000.0 / report.getIngestMillis());
+        }
+        if (fragments > 0) {
+            report.setIngestStatementsPerFragment((double) report.getIngestStatements() / fragments);
+        }
+        updatePeakHeap(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+
+        OutputUtils.getJsonMapper().writeValue(outputFile, report);
+        logger.info("Ingested {} in {} ms ({} fragments/sec, {} statements/fragment). Report written to {}",
+                    report.getIngestedCounts(), report.getIngestMillis(),
+                    String.format("%.2f", report.getFragmentsPerSecond()),
+                    String.format("%.2f", report.getIngestStatementsPerFragment()), outputFile.getAbsolutePath());
+    }
+
+    /** --- Event Handlers --- */
+
+    @Subscribe
+    public void handleDataProcessUnitEvent(DataProcessUnitEvent ev) {
+        DataProcessUnit unit = ev.getUnit();
+        if (report != null && unit.getStartDateTime() != null && unit.getEndDateTime() != null) {
+            String processor = unit.getSourceType() + "/" + unit.getAction();
+            long millis = Duration.between(unit.getStartDateTime(), unit.getEndDateTime()).toMillis();
+            report.getProcessors()
+                .computeIfAbsent(processor, k -> new IngestBenchmarkReport.ProcessorStats())
+                .addUnit(millis);
+        }
+    }
+
+    /** --- Internal Methods --- */
+
+    /**
+     * Copies the recorded source files into the corresponding staging directories.
+     */
+    private void stageSourceFiles(File dataDir) throws Exception {
+        if (!dataDir.isDirectory()) {
+            throw new IllegalArgumentException("The data directory " + dataDir + " does not exist.");
+        }
+        for (String sourceDir : sourceDirs) {
+            File recordedDir = new File(dataDir, sourceDir);
+            if (recordedDir.isDirectory()) {
+                File stagingDir = new File(env.getStagingDir(), sourceDir);
+                logger.info("Copying {} files from {} to {}",
+                            FileUtils.listFiles(recordedDir, null, true).size(), recordedDir, stagingDir);
+                FileUtils.copyDirectory(recordedDir, stagingDir);
+            }
+        }
+    }
+
+    private void startGcMonitoring() {
+        heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .map(MemoryPoolMXBean::getName)
+            .collect(Collectors.toSet());
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gcBean instanceof NotificationEmitter) {
+                ((NotificationEmitter) gcBean).addNotificationListener(gcListener, null, null);
+            }
+        }
+    }
+
+    private void stopGcMonitoring() throws Exception {
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gcBean instanceof NotificationEmitter) {
+                ((NotificationEmitter) gcBean).removeNotificationListener(gcListener);
+            }
+        }
+    }
+
+    /**
+     * Records the duration of each collection along with the heap usage prior to it.
+     */
+    private void handleGcNotification(Notification notification, Object handback) {
+        if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            long heapUsed = info.getGcInfo().getMemoryUsageBeforeGc().entrySet().stream()
+                .filter(pool -> heapPools.contains(pool.getKey()))
+                .mapToLong(pool -> pool.getValue().getUsed())
+                .sum();
+            synchronized (report) {
+                report.getGarbageCollectors()
+                    .computeIfAbsent(info.getGcName(), k -> new IngestBenchmarkReport.GcStats())
+                    .addCollection(info.getGcInfo().getDuration());
+            }
+            updatePeakHeap(heapUsed);
+        }
+    }
+
+    private void updatePeakHeap(long heapUsed) {
+        synchronized (report) {
+            report.setPeakHeapBytes(Math.max(report.getPeakHeapBytes(), heapUsed));
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package gov.nysenate.openleg.script;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The results of an ingest benchmark run, see {@link IngestBenchmarkCLI}.
+ * This is written out as json so that runs can be compared with one another.
+ */
+public class IngestBenchmarkReport
+{
+    /** A label for the run, e.g. the branch or change that was tested. */
+    private String label;
+
+    /** The directory of recorded source files that was replayed. */
+    private String corpus;
+
+    private LocalDateTime startDateTime;
+    private LocalDateTime endDateTime;
+
+    /** Whether sobi fragments were processed in batches and whether the search indices were updated. */
+    private boolean sobiBatchEnabled;
+    private boolean indexingEnabled;
+
+    /** Wall clock time of the collate and ingest steps. */
+    private long collateMillis;
+    private long ingestMillis;
+
+    /** The number of files/fragments collated and ingested, keyed by the collate and ingest types. */
+    private Map<String, Integer> collatedCounts = new TreeMap<>();
+    private Map<String, Integer> ingestedCounts = new TreeMap<>();
+
+    /** The number of sobi fragments ingested per second of ingest time. */
+    private double fragmentsPerSecond;
+
+    /** Sql statements executed during the collate and ingest steps. */
+    private long collateStatements;
+    private long ingestStatements;
+    private double ingestStatementsPerFragment;
+
+    /** Processing time of each type of source data, as recorded by the data process units. */
+    private Map<String, ProcessorStats> processors = new TreeMap<>();
+
+    /** The largest heap usage seen before a collection, or at the end of the run. */
+    private long peakHeapBytes;
+
+    /** Collection counts and times for each garbage collector. */
+    private Map<String, GcStats> garbageCollectors = new TreeMap<>();
+
+    /** --- Stats --- */
+
+    public static class ProcessorStats
+    {
+        private int units;
+        private long totalMillis;
+        private long maxMillis;
+
+        public void addUnit(long millis) {
+            units++;
+            totalMillis += millis;
+            maxMillis = Math.max(maxMillis, millis);
+        }
+
+        public int getUnits() {
+            return units;
+        }
+
+        public long getTotalMillis() {
+            return totalMillis;
+        }
+
+        public long getMaxMillis() {
+            return maxMillis;
+        }
+
+        public double getAverageMillis() {
+            return (units > 0) ? (double) totalMillis / units : 0;
+        }
+    }
+
+    public static class GcStats
+    {
+        private int collections;
+        private long totalMillis;
+        private long maxMillis;
+
+        public void addCollection(long millis) {
+            collections++;
+            totalMillis += millis;
+            maxMillis = Math.max(maxMillis, millis);
+        }
+
+        public int getCollections() {
+            return collections;
+        }
+
+        public long getTotalMillis() {
+            return totalMillis;
+        }
+
+        public long getMaxMillis() {
+            return maxMillis;
+        }
+    }
+
+    /** --- Basic Getters/Setters --- */
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    public String getCorpus() {
+        return corpus;
+    }
+
+    public void setCorpus(String corpus) {
+        this.corpus = corpus;
+    }
+
+    public LocalDateTime getStartDateTime() {
+        return startDateTime;
+    }
+
+    public void setStartDateTime(LocalDateTime startDateTime) {
+        this.startDateTime = startDateTime;
+    }
+
+    public LocalDateTime getEndDateTime() {
+        return endDateTime;
+    }
+
+    public void setEndDateTime(LocalDateTime endDateTime) {
+        this.endDateTime = endDateTime;
+    }
+
+    public boolean isSobiBatchEnabled() {
+        return sobiBatchEnabled;
+    }
+
+    public void setSobiBatchEnabled(boolean sobiBatchEnabled) {
+        this.sobiBatchEnabled = sobiBatchEnabled;
+    }
+
+    public boolean isIndexingEnabled() {
+        return indexingEnabled;
+    }
+
+    public void setIndexingEnabled(boolean indexingEnabled) {
+        this.indexingEnabled = indexingEnabled;
+    }
+
+    public long getCollateMillis() {
+        return collateMillis;
+    }
+
+    public void setCollateMillis(long collateMillis) {
+        this.collateMillis = collateMillis;
+    }
+
+    public long getIngestMillis() {
+        return ingestMillis;
+    }
+
+    public void setIngestMillis(long ingestMillis) {
+        this.ingestMillis = ingestMillis;
+    }
+
+    public Map<String, Integer> getCollatedCounts() {
+        return collatedCounts;
+    }
+
+    public void setCollatedCounts(Map<String, Integer> collatedCounts) {
+        this.collatedCounts = new TreeMap<>(collatedCounts);
+    }
+
+    public Map<String, Integer> getIngestedCounts() {
+        return ingestedCounts;
+    }
+
+    public void setIngestedCounts(Map<String, Integer> ingestedCounts) {
+        this.ingestedCounts = new TreeMap<>(ingestedCounts);
+    }
+
+    public double getFragmentsPerSecond() {
+        return fragmentsPerSecond;
+    }
+
+    public void setFragmentsPerSecond(double fragmentsPerSecond) {
+        this.fragmentsPerSecond = fragmentsPerSecond;
+    }
+
+    public long getCollateStatements() {
+        return collateStatements;
+    }
+
+    public void setCollateStatements(long collateStatements) {
+        this.collateStatements = collateStatements;
+    }
+
+    public long getIngestStatements() {
+        return ingestStatements;
+    }
+
+    public void setIngestStatements(long ingestStatements) {
+        this.ingestStatements = ingestStatements;
+    }
+
+    public double getIngestStatementsPerFragment() {
+        return ingestStatementsPerFragment;
+    }
+
+    public void setIngestStatementsPerFragment(double ingestStatementsPerFragment) {
+        this.ingestStatementsPerFragment = ingestStatementsPerFragment;
+    }
+
+    public Map<String, ProcessorStats> getProcessors() {
+        return processors;
+    }
+
+    public long getPeakHeapBytes() {
+        return peakHeapBytes;
+    }
+
+    public void setPeakHeapBytes(long peakHeapBytes) {
+        this.peakHeapBytes = peakHeapBytes;
+    }
+
+    public Map<String, GcStats> getGarbageCollectors() {
+        return garbageCollectors;
+    }
+}
@@ -0,0 +1,96 @@
+package gov.nysenate.openleg.script;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the sql statements executed through any data source bean in the application context.
+ * Each statement execution is counted once, and each statement added to a batch is counted separately.
+ *
+ * This is meant for scripts that measure database usage and should be registered when creating
+ * the context, see {@link BaseScript#init(BeanPostProcessor...)}.
+ */
+public class StatementCounter implements BeanPostProcessor
+{
+    private final AtomicLong count = new AtomicLong();
+
+    /** --- Methods --- */
+
+    /**
+     * @return long - The number of statements executed so far.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /** --- Overrides --- */
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof DataSource) {
+            return proxy(DataSource.class, bean, (method, result) ->
+                (result instanceof Connection) ? proxy(Connection.class, result, this::wrapStatement) : result);
+        }
+        return bean;
+    }
+
+    /** --- Internal Methods --- */
+
+    private Object wrapStatement(Method method, Object result) {
+        if (result instanceof CallableStatement) {
+            return proxy(CallableStatement.class, result, this::countExecution);
+        }
+        if (result instanceof PreparedStatement) {
+            return proxy(PreparedStatement.class, result, this::countExecution);
+        }
+        if (result instanceof Statement) {
+            return proxy(Statement.class, result, this::countExecution);
+        }
+        return result;
+    }
+
+    private Object countExecution(Method method, Object result) {
+        String name = method.getName();
+        if (name.equals("addBatch") || (name.startsWith("execute") && !name.equals("executeBatch"))) {
+            count.incrementAndGet();
+        }
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface ResultHandler
+    {
+        Object handle(Method method, Object result);
+    }
+
+    /**
+     * Proxies the given target as the given interface, passing the result of each method call to the handler.
+     */
+    private static <T> T proxy(Class<T> iface, Object target, ResultHandler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            try {
+                return handler.handle(method, method.invoke(target, args));
+            }
+            catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        };
+        return iface.cast(Proxy.newProxyInstance(iface.getClassLoader(), new Class<?>[]{iface}, invocationHandler));
+    }
+}
@@ -12,6 +12,7 @@ import gov.nysenate.openleg.model.sobi.SobiFragment;
 import gov.nysenate.openleg.model.cache.CacheEvictEvent;
 import gov.nysenate.openleg.model.cache.CacheWarmEvent;
 import gov.nysenate.openleg.service.agenda.event.AgendaUpdateEvent;
+import gov.nysenate.openleg.service.base.data.CacheEvictionBus;
 import gov.nysenate.openleg.service.base.data.CachingService;
 import gov.nysenate.openleg.model.cache.ContentCache;
 import net.sf.ehcache.Cache;
@@ -42,6 +43,7 @@ public class CachedAgendaDataService implements AgendaDataService, CachingServic
     @Autowired private CacheManager cacheManager;
     @Autowired private AgendaDao agendaDao;
     @Autowired private EventBus eventBus;
+    @Autowired private CacheEvictionBus cacheEvictionBus;
 
     @Value("${agenda.cache.size}") private long agendaCacheSizeMb;
 
@@ -169,6 +171,7 @@ public class CachedAgendaDataService implements AgendaDataService, CachingServic
         logger.debug("Persisting agenda {}", agenda.getId());
         agendaDao.updateAgenda(agenda, sobiFragment);
         agendaCache.put(agenda.getId(), agenda);
+        cacheEvictionBus.publish(new CacheEvictIdEvent<>(ContentCache.AGENDA, agenda.getId()));
         if (postUpdateEvent) {
             eventBus.post(new AgendaUpdateEvent(agenda, LocalDateTime.now()));
         }
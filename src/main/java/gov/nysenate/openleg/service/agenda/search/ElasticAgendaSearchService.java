@@ -8,6 +8,7 @@ import gov.nysenate.openleg.dao.base.SearchIndex;
 import gov.nysenate.openleg.dao.base.SortOrder;
 import gov.nysenate.openleg.model.agenda.Agenda;
 import gov.nysenate.openleg.model.agenda.AgendaId;
+import gov.nysenate.openleg.model.agenda.AgendaNotFoundEx;
 import gov.nysenate.openleg.model.agenda.CommitteeAgendaId;
 import gov.nysenate.openleg.config.Environment;
 import gov.nysenate.openleg.model.base.SessionYear;
@@ -16,7 +17,9 @@ import gov.nysenate.openleg.service.agenda.data.AgendaDataService;
 import gov.nysenate.openleg.service.agenda.event.AgendaUpdateEvent;
 import gov.nysenate.openleg.service.agenda.event.BulkAgendaUpdateEvent;
 import gov.nysenate.openleg.service.base.search.ElasticSearchServiceUtils;
+import gov.nysenate.openleg.service.base.search.IndexQueueHandler;
 import gov.nysenate.openleg.service.base.search.IndexedSearchService;
+import gov.nysenate.openleg.service.base.search.SearchIndexQueue;
 import org.elasticsearch.ElasticsearchException;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
@@ -28,13 +31,15 @@ import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import static java.util.stream.Collectors.toList;
 
 @Service
-public class ElasticAgendaSearchService implements AgendaSearchService, IndexedSearchService<Agenda>
+public class ElasticAgendaSearchService implements AgendaSearchService, IndexedSearchService<Agenda>, IndexQueueHandler
 {
     private static final Logger logger = LoggerFactory.getLogger(ElasticAgendaSearchService.class);
 
@@ -42,10 +47,12 @@ public class ElasticAgendaSearchService implements AgendaSearchService, IndexedS
     @Autowired private EventBus eventBus;
     @Autowired private ElasticAgendaSearchDao agendaSearchDao;
     @Autowired private AgendaDataService agendaDataService;
+    @Autowired private SearchIndexQueue indexQueue;
 
     @PostConstruct
     protected void init() {
         eventBus.register(this);
+        indexQueue.registerHandler(this);
     }
 
     /** {@inheritDoc} */
@@ -140,7 +147,12 @@ public class ElasticAgendaSearchService implements AgendaSearchService, IndexedS
     @Override
     public synchronized void handleAgendaUpdateEvent(AgendaUpdateEvent agendaUpdateEvent) {
         if (agendaUpdateEvent != null && agendaUpdateEvent.getAgenda() != null) {
-            updateIndex(agendaUpdateEvent.getAgenda());
+            if (indexQueue.isEnabled()) {
+                queueAgendas(Collections.singletonList(agendaUpdateEvent.getAgenda()));
+            }
+            else {
+                updateIndex(agendaUpdateEvent.getAgenda());
+            }
         }
     }
 
@@ -149,12 +161,59 @@ public class ElasticAgendaSearchService implements AgendaSearchService, IndexedS
     @Override
     public synchronized void handleBulkAgendaUpdateEvent(BulkAgendaUpdateEvent bulkAgendaUpdateEvent) {
         if (bulkAgendaUpdateEvent != null && !bulkAgendaUpdateEvent.getAgendas().isEmpty()) {
-            updateIndex(bulkAgendaUpdateEvent.getAgendas());
+            if (indexQueue.isEnabled()) {
+                queueAgendas(bulkAgendaUpdateEvent.getAgendas());
+            }
+            else {
+                updateIndex(bulkAgendaUpdateEvent.getAgendas());
+            }
+        }
+    }
+
+    /** --- IndexQueueHandler implementation --- */
+
+    /** {@inheritDoc} */
+    @Override
+    public SearchIndex getQueueIndex() {
+        return SearchIndex.AGENDA;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void indexQueued(Collection<String> contentIds) {
+        List<Agenda> agendas = new ArrayList<>();
+        for (String contentId : contentIds) {
+            AgendaId agendaId = toAgendaId(contentId);
+            try {
+                agendas.add(agendaDataService.getAgenda(agendaId));
+            }
+            catch (AgendaNotFoundEx ex) {
+                logger.warn("Queued agenda {} no longer exists", agendaId);
+            }
+        }
+        if (!agendas.isEmpty()) {
+            updateIndex(agendas);
         }
     }
 
     /** --- Internal Methods --- */
 
+    /**
+     * Queues the given agendas to be indexed asynchronously.
+     */
+    private void queueAgendas(Collection<Agenda> agendas) {
+        if (env.isElasticIndexing()) {
+            indexQueue.enqueue(SearchIndex.AGENDA, agendas.stream()
+                .map(agenda -> agenda.getId().getNumber() + "-" + agenda.getId().getYear())
+                .collect(toList()));
+        }
+    }
+
+    private static AgendaId toAgendaId(String queueId) {
+        String[] parts = queueId.split("-");
+        return new AgendaId(Long.parseLong(parts[0]), Integer.parseInt(parts[1]));
+    }
+
     private SearchResults<CommitteeAgendaId> searchCommitteeAgendas(QueryBuilder query, QueryBuilder postFilter,
                                                       String sort, LimitOffset limitOffset) throws SearchException {
         if (limitOffset == null) {
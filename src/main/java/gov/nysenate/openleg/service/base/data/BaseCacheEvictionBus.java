@@ -0,0 +1,260 @@
+package gov.nysenate.openleg.service.base.data;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import gov.nysenate.openleg.model.cache.*;
+import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.Ehcache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Base implementation of {@link CacheEvictionBus} that handles coalescing evictions into batches, encoding them
+ * into text payloads, and posting received evictions to the local event bus. Implementations only need to
+ * provide a way to send payloads to the other nodes and call {@link #receive(String)} with the payloads sent
+ * by the other nodes.
+ *
+ * Payloads are small json messages that identify the evicted content by cache name and the string form of its
+ * cache key, e.g. {"node":"...","caches":["LAW"],"keys":{"BILL":["S1234-2015"]}}. A receiving node evicts the
+ * entries of its own caches whose keys have a matching string form.
+ */
+public abstract class BaseCacheEvictionBus implements CacheEvictionBus
+{
+    private static final Logger logger = LoggerFactory.getLogger(BaseCacheEvictionBus.class);
+
+    /** Payloads longer than this are split up so that they fit within the limits of the transport. */
+    protected static final int maxPayloadLength = 7800;
+
+    private static final ObjectMapper jsonMapper = new ObjectMapper();
+
+    @Autowired protected EventBus eventBus;
+    @Autowired protected CacheManager cacheManager;
+
+    /** If more than this many ids are queued for a single cache, the whole cache is evicted instead. */
+    @Value("${cache.evict.bus.max_ids:200}") protected int maxIdsPerCache;
+
+    /** Identifies this node, so that it can ignore the messages that it sent. */
+    protected final String nodeId = UUID.randomUUID().toString();
+
+    /** The evictions that have been published since the last flush. */
+    private CacheEvictMessage pending = new CacheEvictMessage(nodeId);
+
+    @PostConstruct
+    public void init() {
+        eventBus.register(this);
+    }
+
+    /**
+     * Sends the given payload to the other application nodes.
+     *
+     * @param payload String - An encoded {@link CacheEvictMessage} no longer than {@link #maxPayloadLength}.
+     */
+    protected abstract void send(String payload);
+
+    /** --- CacheEvictionBus Implementation --- */
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void publish(BaseCacheEvent event) {
+        if (event instanceof CacheEvictEvent) {
+            pending.getEvictedCaches().addAll(event.getAffectedCaches());
+            event.getAffectedCaches().forEach(pending.getEvictedKeys()::remove);
+        }
+        else if (event instanceof CacheEvictIdEvent) {
+            Object contentId = ((CacheEvictIdEvent<?>) event).getContentId();
+            for (ContentCache cache : event.getAffectedCaches()) {
+                if (pending.getEvictedCaches().contains(cache)) {
+                    continue;
+                }
+                Set<String> keys = pending.getEvictedKeys().computeIfAbsent(cache, c -> new HashSet<>());
+                if (contentId != null && keys.size() < maxIdsPerCache) {
+                    keys.add(contentId.toString());
+                }
+                else {
+                    pending.getEvictedKeys().remove(cache);
+                    pending.getEvictedCaches().add(cache);
+                }
+            }
+        }
+        else {
+            throw new IllegalArgumentException("Only cache evict events can be published, got " + event);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush() {
+        CacheEvictMessage message;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            message = pending;
+            pending = new CacheEvictMessage(nodeId);
+        }
+        for (String payload : encode(message)) {
+            try {
+                send(payload);
+            }
+            catch (RuntimeException ex) {
+                logger.error("Failed to send cache evictions to other nodes", ex);
+            }
+        }
+    }
+
+    /** --- Event Handlers --- */
+
+    /**
+     * Forwards evict events that originated on this node to the other nodes.
+     */
+    @Subscribe
+    public void handleCacheEvictEvent(CacheEvictEvent evictEvent) {
+        if (!evictEvent.isRemote()) {
+            publish(evictEvent);
+        }
+    }
+
+    /**
+     * Forwards evict id events that originated on this node to the other nodes.
+     */
+    @Subscribe
+    public void handleCacheEvictIdEvent(CacheEvictIdEvent<?> evictIdEvent) {
+        if (!evictIdEvent.isRemote()) {
+            publish(evictIdEvent);
+        }
+    }
+
+    /** --- Internal Methods --- */
+
+    /**
+     * Handles a payload sent by a node, ignoring payloads sent by this node.
+     *
+     * @param payload String
+     */
+    protected void receive(String payload) {
+        CacheEvictMessage message = decode(payload);
+        if (message != null && !nodeId.equals(message.getNodeId())) {
+            dispatch(message);
+        }
+    }
+
+    /**
+     * Posts the evictions in the given message to the local event bus. Evicted keys are matched against the keys
+     * held in the caches of this node, so content that is not cached here is not evicted.
+     */
+    protected void dispatch(CacheEvictMessage message) {
+        logger.debug("Applying remote cache evictions from node {}: caches {} keys {}",
+                message.getNodeId(), message.getEvictedCaches(), message.getEvictedKeys());
+        List<BaseCacheEvent> events = new ArrayList<>();
+        if (!message.getEvictedCaches().isEmpty()) {
+            events.add(new CacheEvictEvent(EnumSet.copyOf(message.getEvictedCaches())));
+        }
+        message.getEvictedKeys().forEach((cache, keys) ->
+            getCachedKeys(cache).stream()
+                .filter(key -> key != null && keys.contains(key.toString()))
+                .forEach(key -> events.add(new CacheEvictIdEvent<>(cache, key))));
+        events.forEach(event -> {
+            event.setRemote(true);
+            eventBus.post(event);
+        });
+    }
+
+    /**
+     * @return List<?> - The keys currently held in the given cache, empty if this node does not have the cache.
+     */
+    protected List<?> getCachedKeys(ContentCache cache) {
+        Ehcache ehcache = cacheManager.getEhcache(cache.name());
+        return (ehcache != null) ? ehcache.getKeys() : Collections.emptyList();
+    }
+
+    /**
+     * Encodes the message into one or more payloads that fit within the maximum payload length. A message that
+     * is too large is split up by cache, and if the keys for a single cache still do not fit, that cache
+     * is evicted entirely instead.
+     */
+    protected List<String> encode(CacheEvictMessage message) {
+        String payload = serialize(message);
+        if (payload.length() <= maxPayloadLength) {
+            return Collections.singletonList(payload);
+        }
+        List<String> payloads = new ArrayList<>();
+        CacheEvictMessage evictAll = new CacheEvictMessage(nodeId);
+        evictAll.getEvictedCaches().addAll(message.getEvictedCaches());
+        message.getEvictedKeys().forEach((cache, keys) -> {
+            CacheEvictMessage cacheMessage = new CacheEvictMessage(nodeId);
+            cacheMessage.getEvictedKeys().put(cache, keys);
+            String cachePayload = serialize(cacheMessage);
+            if (cachePayload.length() <= maxPayloadLength) {
+                payloads.add(cachePayload);
+            }
+            else {
+                evictAll.getEvictedCaches().add(cache);
+            }
+        });
+        if (!evictAll.isEmpty()) {
+            payloads.add(serialize(evictAll));
+        }
+        return payloads;
+    }
+
+    /**
+     * @return CacheEvictMessage - The decoded message or null if the payload could not be decoded. Caches that
+     *                             are unknown to this node are ignored.
+     */
+    protected CacheEvictMessage decode(String payload) {
+        try {
+            JsonNode root = jsonMapper.readTree(payload);
+            if (root == null || !root.path("node").isTextual()) {
+                throw new IOException("Payload is not a cache eviction message");
+            }
+            CacheEvictMessage message = new CacheEvictMessage(root.get("node").asText());
+            for (JsonNode cacheName : root.path("caches")) {
+                toContentCache(cacheName.asText()).ifPresent(message.getEvictedCaches()::add);
+            }
+            Iterator<Map.Entry<String, JsonNode>> cacheKeys = root.path("keys").fields();
+            while (cacheKeys.hasNext()) {
+                Map.Entry<String, JsonNode> entry = cacheKeys.next();
+                Optional<ContentCache> cache = toContentCache(entry.getKey());
+                if (cache.isPresent()) {
+                    Set<String> keys = message.getEvictedKeys().computeIfAbsent(cache.get(), c -> new HashSet<>());
+                    entry.getValue().forEach(key -> keys.add(key.asText()));
+                }
+            }
+            return message;
+        }
+        catch (IOException ex) {
+            logger.warn("Could not decode cache eviction payload", ex);
+            return null;
+        }
+    }
+
+    private static String serialize(CacheEvictMessage message) {
+        ObjectNode root = jsonMapper.createObjectNode();
+        root.put("node", message.getNodeId());
+        ArrayNode caches = root.putArray("caches");
+        message.getEvictedCaches().forEach(cache -> caches.add(cache.name()));
+        ObjectNode cacheKeys = root.putObject("keys");
+        message.getEvictedKeys().forEach((cache, keys) -> keys.forEach(cacheKeys.withArray(cache.name())::add));
+        return root.toString();
+    }
+
+    private static Optional<ContentCache> toContentCache(String cacheName) {
+        try {
+            return Optional.of(ContentCache.valueOf(cacheName));
+        }
+        catch (IllegalArgumentException ex) {
+            logger.warn("Ignoring cache evictions for unknown cache {}", cacheName);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package gov.nysenate.openleg.service.base.data;
+
+import gov.nysenate.openleg.model.cache.BaseCacheEvent;
+
+/**
+ * Propagates cache evictions to the other nodes running the application, so that caching services on
+ * those nodes do not continue to serve data that was modified elsewhere. Evictions are delivered to the
+ * other nodes as {@link gov.nysenate.openleg.model.cache.CacheEvictEvent}s and
+ * {@link gov.nysenate.openleg.model.cache.CacheEvictIdEvent}s marked as remote on their local event bus.
+ *
+ * Evict events posted to the local event bus are published automatically. Services that update their own
+ * cache in place after saving data should call {@link #publish(BaseCacheEvent)} directly.
+ */
+public interface CacheEvictionBus
+{
+    /**
+     * Queues the given eviction to be sent to the other nodes. Evictions are coalesced and sent in batches,
+     * so several evictions of the same content in a short period result in a single remote eviction.
+     * The eviction is not applied to the local caches.
+     *
+     * @param event BaseCacheEvent - Either a CacheEvictEvent or a CacheEvictIdEvent.
+     * @throws IllegalArgumentException - If the event is not an eviction event.
+     */
+    void publish(BaseCacheEvent event);
+
+    /**
+     * Sends all queued evictions immediately.
+     */
+    void flush();
+}
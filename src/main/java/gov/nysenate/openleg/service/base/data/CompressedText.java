@@ -0,0 +1,94 @@
+package gov.nysenate.openleg.service.base.data;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * An immutable, deflate compressed string. Used by caches to hold large documents such as transcript
+ * and public hearing text, which compress several times over. Since the text is held in a byte array,
+ * the size of the cached entry reflects the compressed size of the text.
+ */
+public final class CompressedText implements Serializable
+{
+    private static final long serialVersionUID = 4297308640574815287L;
+
+    private static final CompressedText NULL = new CompressedText(null, 0);
+
+    /** The compressed utf-8 bytes of the text, null if the text is null. */
+    private final byte[] bytes;
+
+    /** The length of the uncompressed utf-8 bytes. */
+    private final int length;
+
+    private CompressedText(byte[] bytes, int length) {
+        this.bytes = bytes;
+        this.length = length;
+    }
+
+    /**
+     * Compresses the given text.
+     *
+     * @param text String - may be null
+     * @return CompressedText
+     */
+    public static CompressedText of(String text) {
+        if (text == null) {
+            return NULL;
+        }
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return new CompressedText(out.toByteArray(), raw.length);
+        }
+        finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * @return String - The decompressed text.
+     */
+    public String getText() {
+        if (bytes == null) {
+            return null;
+        }
+        byte[] raw = new byte[length];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes);
+            int offset = 0;
+            while (offset < length && !inflater.finished()) {
+                int inflated = inflater.inflate(raw, offset, length - offset);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Unexpected end of compressed text");
+                }
+                offset += inflated;
+            }
+            return new String(raw, StandardCharsets.UTF_8);
+        }
+        catch (DataFormatException ex) {
+            throw new IllegalStateException("Compressed text is corrupt", ex);
+        }
+        finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * @return int - The number of bytes used to store the compressed text.
+     */
+    public int getCompressedSize() {
+        return bytes == null ? 0 : bytes.length;
+    }
+}
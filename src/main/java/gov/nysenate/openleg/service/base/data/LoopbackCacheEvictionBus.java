@@ -0,0 +1,36 @@
+package gov.nysenate.openleg.service.base.data;
+
+import gov.nysenate.openleg.model.cache.CacheEvictMessage;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link CacheEvictionBus} for tests that delivers sent evictions back to the local event bus as if they
+ * had been received from another node. Evictions are only sent when {@link #flush()} is called.
+ */
+@Service
+@Profile({"test"})
+public class LoopbackCacheEvictionBus extends BaseCacheEvictionBus
+{
+    /** Every message that has been delivered, in order. */
+    private final List<CacheEvictMessage> deliveredMessages = new ArrayList<>();
+
+    /** {@inheritDoc} */
+    @Override
+    protected void send(String payload) {
+        CacheEvictMessage message = decode(payload);
+        synchronized (deliveredMessages) {
+            deliveredMessages.add(message);
+        }
+        dispatch(message);
+    }
+
+    public List<CacheEvictMessage> getDeliveredMessages() {
+        synchronized (deliveredMessages) {
+            return new ArrayList<>(deliveredMessages);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package gov.nysenate.openleg.service.base.data;
+
+import gov.nysenate.openleg.model.cache.BaseCacheEvent;
+import gov.nysenate.openleg.model.cache.CacheEvictMessage;
+import gov.nysenate.openleg.model.cache.ContentCache;
+import gov.nysenate.openleg.util.OpenlegThreadFactory;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends cache evictions between application nodes using Postgres LISTEN/NOTIFY. Each node listens on a
+ * dedicated connection and notifications are sent on the shared connection pool. Since notifications are
+ * only delivered to connected listeners, a node that was disconnected clears all of its caches when it
+ * reconnects.
+ *
+ * Disabled unless {@code cache.evict.bus.enabled} is set, which should be the case for every node of a
+ * deployment that runs more than one node against the same database.
+ */
+@Service
+@Profile({"dev", "prod"})
+public class PostgresCacheEvictionBus extends BaseCacheEvictionBus
+{
+    private static final Logger logger = LoggerFactory.getLogger(PostgresCacheEvictionBus.class);
+
+    private static final String channel = "openleg_cache_evict";
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Value("${cache.evict.bus.enabled:false}") private boolean enabled;
+    @Value("${cache.evict.bus.poll.ms:250}") private long pollIntervalMs;
+
+    @Value("${postgresdb.type}") private String dbType;
+    @Value("${postgresdb.host}") private String dbHost;
+    @Value("${postgresdb.name}") private String dbName;
+    @Value("${postgresdb.user}") private String dbUser;
+    @Value("${postgresdb.pass}") private String dbPass;
+
+    private ExecutorService listenerExecutor;
+
+    private volatile boolean running;
+
+    @Override
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        super.init();
+        running = true;
+        listenerExecutor = Executors.newSingleThreadExecutor(new OpenlegThreadFactory("cache-evict-listener"));
+        listenerExecutor.submit(this::listen);
+        logger.info("Listening for cache evictions from other nodes as node {}", nodeId);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        flush();
+        listenerExecutor.shutdownNow();
+        listenerExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void publish(BaseCacheEvent event) {
+        if (enabled) {
+            super.publish(event);
+        }
+    }
+
+    /**
+     * Sends the evictions published since the last flush.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${cache.evict.bus.flush.ms:500}")
+    public void flush() {
+        if (enabled) {
+            super.flush();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void send(String payload) {
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, payload);
+    }
+
+    /** --- Internal Methods --- */
+
+    /**
+     * Holds a connection that listens for notifications, reconnecting if the connection is lost.
+     */
+    private void listen() {
+        boolean reconnect = false;
+        while (running) {
+            try (Connection conn = DriverManager.getConnection(
+                    String.format("jdbc:%s//%s/%s", dbType, dbHost, dbName), dbUser, dbPass)) {
+                PGConnection pgConn = conn.unwrap(PGConnection.class);
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("LISTEN " + channel);
+                }
+                if (reconnect) {
+                    // Evictions sent while disconnected were missed
+                    logger.warn("Reconnected cache eviction listener, clearing all caches");
+                    dispatchEvictAll();
+                }
+                reconnect = true;
+                while (running) {
+                    // The driver only reads notifications when a query is made
+                    try (Statement stmt = conn.createStatement()) {
+                        stmt.execute("SELECT 1");
+                    }
+                    PGNotification[] notifications = pgConn.getNotifications();
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                    Thread.sleep(pollIntervalMs);
+                }
+            }
+            catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            catch (SQLException | RuntimeException ex) {
+                logger.error("Cache eviction listener lost its connection, retrying", ex);
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+                }
+                catch (InterruptedException iex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatchEvictAll() {
+        CacheEvictMessage message = new CacheEvictMessage(nodeId);
+        message.getEvictedCaches().addAll(ContentCache.getAllContentCaches());
+        dispatch(message);
+    }
+}
@@ -0,0 +1,318 @@
+package gov.nysenate.openleg.service.base.search;
+
+import gov.nysenate.openleg.dao.base.SearchIndex;
+import gov.nysenate.openleg.dao.search.SearchIndexQueueDao;
+import gov.nysenate.openleg.model.search.IndexQueueStats;
+import gov.nysenate.openleg.util.OpenlegThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SearchIndexQueue} implementation that indexes queued content in bulks on a pool of worker threads.
+ *
+ * Content ids are coalesced in memory while they wait to be indexed and are also recorded in a database table
+ * so that content queued before a shutdown is still indexed after a restart. Content is never indexed by two
+ * workers at once, and a bulk that fails to index is put back at the front of the queue and retried after a delay.
+ */
+@Service
+public class AsyncSearchIndexQueue implements SearchIndexQueue
+{
+    private static final Logger logger = LoggerFactory.getLogger(AsyncSearchIndexQueue.class);
+
+    @Autowired protected SearchIndexQueueDao queueDao;
+
+    /** If disabled, content is indexed directly by the search services. */
+    @Value("${elastic.search.index.queue.enabled:true}") protected boolean enabled;
+
+    /** The maximum number of content ids that are indexed together. */
+    @Value("${elastic.search.index.queue.bulk_size:500}") protected int bulkSize;
+
+    /** The number of worker threads that index queued content. */
+    @Value("${elastic.search.index.queue.threads:2}") protected int threads;
+
+    /** How long to wait before retrying a search index after it failed to index a bulk. */
+    @Value("${elastic.search.index.queue.retry.ms:10000}") protected long retryDelayMs;
+
+    /** How long an idle worker waits for content to be queued before checking again. */
+    private static final long pollIntervalMs = 1000;
+
+    private final Map<SearchIndex, IndexQueueHandler> handlers = new EnumMap<>(SearchIndex.class);
+
+    /** Content ids waiting to be indexed, mapped to the time they were first queued. */
+    private final Map<SearchIndex, LinkedHashMap<String, LocalDateTime>> queued = new EnumMap<>(SearchIndex.class);
+
+    /** Content ids that are currently being indexed, mapped to the time they were first queued. */
+    private final Map<SearchIndex, Map<String, LocalDateTime>> inProgress = new EnumMap<>(SearchIndex.class);
+
+    /** Search indices that failed to index a bulk are not indexed again until the mapped time. */
+    private final Map<SearchIndex, LocalDateTime> retryAfter = new EnumMap<>(SearchIndex.class);
+
+    private final Map<SearchIndex, Long> indexedCounts = new EnumMap<>(SearchIndex.class);
+    private final Map<SearchIndex, Long> failureCounts = new EnumMap<>(SearchIndex.class);
+
+    private ExecutorService workerExecutor;
+
+    private volatile boolean running;
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        restoreQueue();
+        running = true;
+        if (threads > 0) {
+            workerExecutor = Executors.newFixedThreadPool(threads, new OpenlegThreadFactory("search-index-queue"));
+            for (int i = 0; i < threads; i++) {
+                workerExecutor.submit(this::work);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (workerExecutor != null) {
+            workerExecutor.shutdownNow();
+            workerExecutor.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+
+    /** --- SearchIndexQueue Implementation --- */
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void registerHandler(IndexQueueHandler handler) {
+        handlers.put(handler.getQueueIndex(), handler);
+        notifyAll();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void enqueue(SearchIndex index, Collection<String> contentIds) {
+        if (contentIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            queueDao.saveQueued(index, contentIds, now);
+        }
+        catch (DataAccessException ex) {
+            logger.warn("Failed to persist {} queued {} index updates, they will be lost on restart",
+                        contentIds.size(), index, ex);
+        }
+        synchronized (this) {
+            LinkedHashMap<String, LocalDateTime> indexQueue = getQueue(index);
+            contentIds.forEach(id -> indexQueue.putIfAbsent(id, now));
+            notifyAll();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized List<IndexQueueStats> getStats() {
+        Set<SearchIndex> indices = EnumSet.noneOf(SearchIndex.class);
+        indices.addAll(handlers.keySet());
+        indices.addAll(queued.keySet());
+        List<IndexQueueStats> stats = new ArrayList<>();
+        for (SearchIndex index : indices) {
+            Map<String, LocalDateTime> indexQueue = getQueue(index);
+            Map<String, LocalDateTime> indexInProgress = inProgress.getOrDefault(index, Collections.emptyMap());
+            LocalDateTime oldest = null;
+            for (LocalDateTime queuedDateTime : indexInProgress.values()) {
+                oldest = (oldest == null || queuedDateTime.isBefore(oldest)) ? queuedDateTime : oldest;
+            }
+            for (LocalDateTime queuedDateTime : indexQueue.values()) {
+                oldest = (oldest == null || queuedDateTime.isBefore(oldest)) ? queuedDateTime : oldest;
+            }
+            stats.add(new IndexQueueStats(index, indexQueue.size(), indexInProgress.size(), oldest,
+                indexedCounts.getOrDefault(index, 0L), failureCounts.getOrDefault(index, 0L)));
+        }
+        return stats;
+    }
+
+    /** --- Internal Methods --- */
+
+    /**
+     * Indexes the next bulk of queued content, waiting up to the given time for content to be queued.
+     *
+     * @param waitMs long
+     * @return boolean - True if a bulk was indexed, false if there was nothing to index.
+     * @throws InterruptedException - If interrupted while waiting.
+     */
+    protected boolean processNext(long waitMs) throws InterruptedException {
+        IndexBulk bulk = takeBulk(waitMs);
+        if (bulk == null) {
+            return false;
+        }
+        List<String> contentIds = new ArrayList<>(bulk.entries.keySet());
+        try {
+            bulk.handler.indexQueued(contentIds);
+        }
+        catch (RuntimeException ex) {
+            logger.error("Failed to index {} queued {} updates, retrying in {} ms",
+                         contentIds.size(), bulk.index, retryDelayMs, ex);
+            completeBulk(bulk, false);
+            return true;
+        }
+        try {
+            queueDao.deleteQueued(bulk.index, contentIds, bulk.startDateTime);
+        }
+        catch (DataAccessException ex) {
+            logger.warn("Failed to remove {} indexed {} updates from the queue", contentIds.size(), bulk.index, ex);
+        }
+        completeBulk(bulk, true);
+        return true;
+    }
+
+    private void work() {
+        logger.info("Started search index queue worker");
+        while (running) {
+            try {
+                processNext(pollIntervalMs);
+            }
+            catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            catch (RuntimeException ex) {
+                logger.error("Unexpected error in search index queue worker", ex);
+            }
+        }
+    }
+
+    /**
+     * Loads the content that was queued but not indexed before the last shutdown.
+     */
+    private void restoreQueue() {
+        for (SearchIndex index : SearchIndex.values()) {
+            try {
+                Map<String, LocalDateTime> persisted = queueDao.getQueued(index);
+                if (!persisted.isEmpty()) {
+                    logger.info("Restoring {} queued {} index updates", persisted.size(), index);
+                    synchronized (this) {
+                        LinkedHashMap<String, LocalDateTime> indexQueue = getQueue(index);
+                        persisted.forEach(indexQueue::putIfAbsent);
+                    }
+                }
+            }
+            catch (DataAccessException ex) {
+                logger.error("Failed to restore queued {} index updates", index, ex);
+            }
+        }
+    }
+
+    /**
+     * Removes the next bulk of content ids from the queue. Content is taken from the search index that has
+     * waited the longest, skipping search indices without a handler or that are waiting to be retried.
+     */
+    private synchronized IndexBulk takeBulk(long waitMs) throws InterruptedException {
+        IndexBulk bulk = nextBulk();
+        if (bulk == null && waitMs > 0) {
+            wait(waitMs);
+            bulk = nextBulk();
+        }
+        return bulk;
+    }
+
+    private IndexBulk nextBulk() {
+        LocalDateTime now = LocalDateTime.now();
+        SearchIndex nextIndex = null;
+        LocalDateTime nextQueuedDateTime = null;
+        for (Map.Entry<SearchIndex, LinkedHashMap<String, LocalDateTime>> entry : queued.entrySet()) {
+            SearchIndex index = entry.getKey();
+            if (entry.getValue().isEmpty() || !handlers.containsKey(index)
+                    || (retryAfter.containsKey(index) && now.isBefore(retryAfter.get(index)))) {
+                continue;
+            }
+            LocalDateTime first = entry.getValue().values().iterator().next();
+            if (nextQueuedDateTime == null || first.isBefore(nextQueuedDateTime)) {
+                nextIndex = index;
+                nextQueuedDateTime = first;
+            }
+        }
+        if (nextIndex == null) {
+            return null;
+        }
+        Map<String, LocalDateTime> indexInProgress = inProgress.computeIfAbsent(nextIndex, i -> new HashMap<>());
+        Map<String, LocalDateTime> entries = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, LocalDateTime>> queueIterator = queued.get(nextIndex).entrySet().iterator();
+        while (queueIterator.hasNext() && entries.size() < bulkSize) {
+            Map.Entry<String, LocalDateTime> queueEntry = queueIterator.next();
+            // Content that is being indexed by another worker is indexed again once that worker is done
+            if (!indexInProgress.containsKey(queueEntry.getKey())) {
+                entries.put(queueEntry.getKey(), queueEntry.getValue());
+                queueIterator.remove();
+            }
+        }
+        if (entries.isEmpty()) {
+            return null;
+        }
+        indexInProgress.putAll(entries);
+        return new IndexBulk(nextIndex, handlers.get(nextIndex), entries, now);
+    }
+
+    /**
+     * Marks the bulk as no longer in progress. The content ids of a failed bulk are put back at the front of
+     * the queue, keeping the time they were first queued.
+     */
+    private synchronized void completeBulk(IndexBulk bulk, boolean success) {
+        inProgress.get(bulk.index).keySet().removeAll(bulk.entries.keySet());
+        if (success) {
+            indexedCounts.merge(bulk.index, (long) bulk.entries.size(), Long::sum);
+            retryAfter.remove(bulk.index);
+        }
+        else {
+            failureCounts.merge(bulk.index, 1L, Long::sum);
+            retryAfter.put(bulk.index, LocalDateTime.now().plus(retryDelayMs, ChronoUnit.MILLIS));
+            LinkedHashMap<String, LocalDateTime> indexQueue = getQueue(bulk.index);
+            LinkedHashMap<String, LocalDateTime> requeued = new LinkedHashMap<>(bulk.entries);
+            indexQueue.forEach(requeued::putIfAbsent);
+            indexQueue.clear();
+            indexQueue.putAll(requeued);
+        }
+        notifyAll();
+    }
+
+    private LinkedHashMap<String, LocalDateTime> getQueue(SearchIndex index) {
+        return queued.computeIfAbsent(index, i -> new LinkedHashMap<>());
+    }
+
+    /**
+     * A bulk of content ids from a single search index that is being indexed.
+     */
+    private static class IndexBulk
+    {
+        private final SearchIndex index;
+        private final IndexQueueHandler handler;
+        private final Map<String, LocalDateTime> entries;
+        private final LocalDateTime startDateTime;
+
+        private IndexBulk(SearchIndex index, IndexQueueHandler handler, Map<String, LocalDateTime> entries,
+                          LocalDateTime startDateTime) {
+            this.index = index;
+            this.handler = handler;
+            this.entries = entries;
+            this.startDateTime = startDateTime;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package gov.nysenate.openleg.service.base.search;
+
+import gov.nysenate.openleg.dao.base.SearchIndex;
+
+import java.util.Collection;
+
+/**
+ * Indexes the content that was queued for a single search index via a {@link SearchIndexQueue}.
+ */
+public interface IndexQueueHandler
+{
+    /**
+     * @return SearchIndex - The search index whose queued content is indexed by this handler.
+     */
+    public SearchIndex getQueueIndex();
+
+    /**
+     * Indexes the latest version of the content identified by each of the given content ids, removing content
+     * that no longer exists or should no longer be indexed. Exceptions should be thrown if the content could
+     * not be indexed so that it can be retried.
+     *
+     * @param contentIds Collection<String> - Content ids as passed to {@link SearchIndexQueue#enqueue}.
+     */
+    public void indexQueued(Collection<String> contentIds);
+}
@@ -0,0 +1,42 @@
+package gov.nysenate.openleg.service.base.search;
+
+import gov.nysenate.openleg.dao.base.SearchIndex;
+import gov.nysenate.openleg.model.search.IndexQueueStats;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Queues content to be indexed into the search layer asynchronously, so that data processing does not have to
+ * wait on the search layer. Content is identified by a content id string that the {@link IndexQueueHandler} for
+ * the search index knows how to load, so queuing the same content several times before it is indexed only
+ * causes it to be indexed once, using its latest version.
+ */
+public interface SearchIndexQueue
+{
+    /**
+     * @return boolean - False if content should be indexed directly instead of being queued.
+     */
+    public boolean isEnabled();
+
+    /**
+     * Registers the handler that indexes the queued content of its search index.
+     *
+     * @param handler IndexQueueHandler
+     */
+    public void registerHandler(IndexQueueHandler handler);
+
+    /**
+     * Queues the given content to be indexed.
+     *
+     * @param index SearchIndex
+     * @param contentIds Collection<String>
+     */
+    public void enqueue(SearchIndex index, Collection<String> contentIds);
+
+    /**
+     * @return List<IndexQueueStats> - The current state of the queue for each search index that has a handler
+     *                                 or queued content.
+     */
+    public List<IndexQueueStats> getStats();
+}
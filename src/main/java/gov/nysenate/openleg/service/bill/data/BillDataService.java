@@ -5,12 +5,17 @@ import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.model.base.SessionYear;
 import gov.nysenate.openleg.model.bill.BaseBillId;
 import gov.nysenate.openleg.model.bill.Bill;
+import gov.nysenate.openleg.model.bill.BillAmendment;
+import gov.nysenate.openleg.model.bill.BillChangeSet;
 import gov.nysenate.openleg.model.bill.BillId;
 import gov.nysenate.openleg.model.bill.BillInfo;
 import gov.nysenate.openleg.model.sobi.SobiFragment;
+import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.dao.DataAccessException;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -30,6 +35,45 @@ public interface BillDataService
      */
     public Bill getBill(BaseBillId billId) throws BillNotFoundEx;
 
+    /**
+     * Retrieve a Bill instance for the matching BillId without adding it to the cache if it is not cached.
+     * This is intended for reads over many bills, e.g. exports, that should not evict frequently requested bills.
+     *
+     * @param billId BaseBillId
+     * @return Bill
+     * @throws BillNotFoundEx - If no Bill matching the BillId was found.
+     */
+    public Bill getUncachedBill(BaseBillId billId) throws BillNotFoundEx;
+
+    /**
+     * Retrieve a Bill instance for the matching BillId without necessarily loading the full text and memo
+     * of its amendments. This is intended for processors that update bills without reading their text.
+     * The text that is not loaded is kept when the bill is saved, and can be loaded via {@link #loadText(Bill)}.
+     *
+     * @param billId BaseBillId
+     * @return Bill
+     * @throws BillNotFoundEx - If no Bill matching the BillId was found.
+     * @see BillAmendment#isTextLoaded()
+     */
+    public Bill getBillWithoutText(BaseBillId billId) throws BillNotFoundEx;
+
+    /**
+     * Loads the full text and memo of any amendments of the given bill whose text is not loaded.
+     * Text that was set on the bill since it was retrieved is not replaced.
+     *
+     * @param bill Bill
+     */
+    public void loadText(Bill bill);
+
+    /**
+     * Retrieve the Bill instances for each of the given BillIds. Ids that do not match a Bill
+     * are omitted from the result rather than causing an exception.
+     *
+     * @param billIds Collection<BaseBillId>
+     * @return Map<BaseBillId, Bill> - The found bills, in the iteration order of the given ids.
+     */
+    public Map<BaseBillId, Bill> getBills(Collection<BaseBillId> billIds);
+
     /**
      * Retrieve a BillInfo instance for the matching BillId. This contains
      * less information that the Bill for purposes of displaying in listings.
@@ -83,6 +127,23 @@ public interface BillDataService
      */
     public void saveBill(Bill bill, SobiFragment fragment, boolean postUpdateEvent);
 
+    /**
+     * Saves the Bill in the persistence layer after it was modified by several fragments at once. The
+     * persisted changes are attributed to the fragments that made them, as if each fragment was saved
+     * separately. A bill or amendment field that was modified by more than one of the fragments is logged
+     * once for each of them, with the value each fragment set.
+     *
+     * @param bill Bill
+     * @param fragment SobiFragment - The latest fragment that modified the bill.
+     * @param changeHistory List<Pair<SobiFragment, BillChangeSet>> - The fields modified by each fragment and the
+     *                                                               bill's values afterwards, in the order the
+     *                                                               fragments were applied.
+     * @param postUpdateEvent boolean - Set to true if this method should post a BillUpdateEvent
+     *                                  to the event bus indicating to subscribers that the bill may have changed.
+     */
+    public void saveBill(Bill bill, SobiFragment fragment, List<Pair<SobiFragment, BillChangeSet>> changeHistory,
+                         boolean postUpdateEvent);
+
     /**
      * Returns a closed Range containing the session years for which bill data exists.
      * If there are no bills in the database, an empty Optional will be returned instead.
@@ -6,25 +6,31 @@ import com.google.common.eventbus.Subscribe;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.dao.base.SortOrder;
 import gov.nysenate.openleg.dao.bill.data.BillDao;
+import gov.nysenate.openleg.dao.bill.data.BillUpdatesDao;
 import gov.nysenate.openleg.model.base.SessionYear;
 import gov.nysenate.openleg.model.base.Version;
 import gov.nysenate.openleg.model.bill.BaseBillId;
 import gov.nysenate.openleg.model.bill.Bill;
+import gov.nysenate.openleg.model.bill.BillChangeSet;
 import gov.nysenate.openleg.model.bill.BillId;
 import gov.nysenate.openleg.model.bill.BillInfo;
 import gov.nysenate.openleg.model.cache.CacheEvictIdEvent;
 import gov.nysenate.openleg.model.sobi.SobiFragment;
 import gov.nysenate.openleg.model.cache.CacheEvictEvent;
 import gov.nysenate.openleg.model.cache.CacheWarmEvent;
+import gov.nysenate.openleg.service.base.data.CacheEvictionBus;
 import gov.nysenate.openleg.service.base.data.CachingService;
 import gov.nysenate.openleg.model.cache.ContentCache;
+import gov.nysenate.openleg.model.entity.MemberNotFoundEx;
 import gov.nysenate.openleg.service.bill.event.BillUpdateEvent;
+import gov.nysenate.openleg.service.entity.member.data.MemberService;
 import gov.nysenate.openleg.util.OutputUtils;
 import net.sf.ehcache.*;
 import net.sf.ehcache.Cache;
 import net.sf.ehcache.CacheManager;
 import net.sf.ehcache.config.CacheConfiguration;
 import net.sf.ehcache.config.MemoryUnit;
+import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,13 +38,13 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 /**
  * Data service layer for retrieving and updating bill data. This implementation makes use of
@@ -51,7 +57,11 @@ public class CachedBillDataService implements BillDataService, CachingService<Ba
 
     @Autowired private CacheManager cacheManager;
     @Autowired private BillDao billDao;
+    @Autowired private BillUpdatesDao billUpdatesDao;
     @Autowired private EventBus eventBus;
+    @Autowired private CacheEvictionBus cacheEvictionBus;
+    @Autowired private MemberService memberService;
+    @Autowired private PlatformTransactionManager transactionManager;
 
     @Value("${bill.cache.size}") private long billCacheSizeMb;
     @Value("${bill-info.cache.size}") private long billInfoCacheSizeMb;
@@ -59,9 +69,13 @@ public class CachedBillDataService implements BillDataService, CachingService<Ba
     private Cache billCache;
     private Cache billInfoCache;
 
+    /** Saves a bill and attributes its change log entries in a single transaction. */
+    private TransactionTemplate transactionTemplate;
+
     @PostConstruct
     private void init() {
         setupCaches();
+        transactionTemplate = new TransactionTemplate(transactionManager);
         eventBus.register(this);
     }
 
@@ -83,7 +97,7 @@ public class CachedBillDataService implements BillDataService, CachingService<Ba
     /** {@inheritDoc} */
     @Override
     public void setupCaches() {
-        // Partial bill cache will store Bill instances with the full text fields stripped to save space.
+        // Partial bill cache will store compact encodings of Bill instances without the full text fields to save space.
         this.billCache = new Cache(new CacheConfiguration().name(ContentCache.BILL.name())
             .eternal(true)
             .maxBytesLocalHeap(billCacheSizeMb, MemoryUnit.MEGABYTES)
@@ -170,9 +184,9 @@ public class CachedBillDataService implements BillDataService, CachingService<Ba
             throw new IllegalArgumentException("BillId cannot be null");
         }
         try {
-            Bill bill;
-            if (billCache.get(billId) != null) {
-                bill = constructBillFromCache(billId);
+            Bill bill = getCachedBill(billId);
+            if (bill != null) {
+                billDao.applyText(bill);
                 logger.debug("Cache hit for bill {}", bill);
             }
             else {
@@ -185,11 +199,76 @@ public class CachedBillDataService implements BillDataService, CachingService<Ba
         catch (EmptyResultDataAccessException ex) {
             throw new BillNotFoundEx(billId, ex);
         }
-        catch (CloneNotSupportedException e) {
-            throw new CacheException("Failed to cache retrieved Bill: " + e.getMessage());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Bill getUncachedBill(BaseBillId billId) throws BillNotFoundEx {
+        if (billId == null) {
+            throw new IllegalArgumentException("BillId cannot be null");
+        }
+        try {
+            Bill bill = getCachedBill(billId);
+            if (bill != null) {
+                billDao.applyText(bill);
+                return bill;
+            }
+            return billDao.getBill(billId);
+        }
+        catch (EmptyResultDataAccessException ex) {
+            throw new BillNotFoundEx(billId, ex);
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Bill getBillWithoutText(BaseBillId billId) throws BillNotFoundEx {
+        if (billId == null) {
+            throw new IllegalArgumentException("BillId cannot be null");
+        }
+        Bill bill = getCachedBill(billId);
+        if (bill == null) {
+            // The bill is read in full on a cache miss, which also caches it for subsequent retrievals
+            return getBill(billId);
+        }
+        logger.debug("Cache hit for bill {} (without text)", billId);
+        return bill;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void loadText(Bill bill) {
+        if (!bill.isTextLoaded()) {
+            logger.debug("Loading text for bill {}", bill);
+            billDao.applyText(bill);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<BaseBillId, Bill> getBills(Collection<BaseBillId> billIds) {
+        Map<Object, Element> cachedElements = billCache.getAll(billIds);
+        Map<BaseBillId, Bill> bills = new LinkedHashMap<>();
+        for (BaseBillId billId : billIds) {
+            try {
+                Bill cachedBill = inflate(billId, cachedElements.get(billId));
+                if (cachedBill != null) {
+                    billDao.applyText(cachedBill);
+                    bills.put(billId, cachedBill);
+                }
+                else {
+                    Bill bill = billDao.getBill(billId);
+                    putStrippedBillInCache(bill);
+                    bills.put(billId, bill);
+                }
+            }
+            catch (EmptyResultDataAccessException ex) {
+                logger.debug("Bill {} was not found", billId);
+            }
+        }
+        return bills;
+    }
+
     /** {@inheritDoc} */
     @Override
     public BillInfo getBillInfo(BaseBillId billId) throws BillNotFoundEx {
@@ -197,8 +276,9 @@ public class CachedBillDataService implements BillDataService, CachingService<Ba
         if (billId == null) {
             throw new IllegalArgumentException("BillId cannot be null");
         }
-        if (billCache.get(billId) != null) {
-            return new BillInfo((Bill) billCache.get(billId).getObjectValue());
+        Bill cachedBill = getCachedBill(billId);
+        if (cachedBill != null) {
+            return new BillInfo(cachedBill);
         }
         if (billInfoCache.get(billId) != null) {
             return (BillInfo) billInfoCache.get(billId).getObjectValue();
@@ -254,10 +334,33 @@ public class CachedBillDataService implements BillDataService, CachingService<Ba
     public synchronized void saveBill(Bill bill, SobiFragment fragment, boolean postUpdateEvent) {
         logger.debug("Persisting bill {}", bill);
         billDao.updateBill(bill, fragment);
-        putStrippedBillInCache(bill);
-        if (postUpdateEvent) {
-            eventBus.post(new BillUpdateEvent(bill, LocalDateTime.now()));
+        onBillSaved(bill, postUpdateEvent);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void saveBill(Bill bill, SobiFragment fragment,
+                                      List<Pair<SobiFragment, BillChangeSet>> changeHistory, boolean postUpdateEvent) {
+        // The change log only needs to be corrected if other fragments modified the bill
+        if (fragment == null || changeHistory.stream()
+                .allMatch(change -> change.getLeft().getFragmentId().equals(fragment.getFragmentId()))) {
+            saveBill(bill, fragment, postUpdateEvent);
+            return;
         }
+        logger.debug("Persisting bill {} with changes from {} fragments", bill, changeHistory.size());
+        // If the attribution fails the bill is not saved either, so the change log is never left misattributed
+        transactionTemplate.execute(status -> {
+            int lastChangeId = billUpdatesDao.getLastChangeId();
+            // The values set by the earlier fragments are persisted first, so that the change log records
+            // the values that were overwritten by a later fragment
+            changeHistory.subList(0, changeHistory.size() - 1).stream()
+                .filter(change -> change.getRight().getValues() != null)
+                .forEach(change -> billDao.updateBillValues(change.getRight().getValues(), change.getLeft()));
+            billDao.updateBill(bill, fragment);
+            billUpdatesDao.attributeChanges(bill.getBaseBillId(), lastChangeId, fragment, changeHistory);
+            return null;
+        });
+        onBillSaved(bill, postUpdateEvent);
     }
 
     /** {@inheritDoc} */
@@ -285,39 +388,63 @@ public class CachedBillDataService implements BillDataService, CachingService<Ba
     /** --- Internal Methods --- */
 
     /**
-     * Retrieves the bill from the cache. You must check that the bill exists prior to calling this
-     * method. The fulltext and memo are put back into a copy of the cached bill.
+     * Updates the caches with a bill that was just saved and posts an update event if requested.
+     */
+    private void onBillSaved(Bill bill, boolean postUpdateEvent) {
+        putStrippedBillInCache(bill);
+        cacheEvictionBus.publish(new CacheEvictIdEvent<>(ContentCache.BILL, bill.getBaseBillId()));
+        cacheEvictionBus.publish(new CacheEvictIdEvent<>(ContentCache.BILL_INFO, bill.getBaseBillId()));
+        if (postUpdateEvent) {
+            eventBus.post(new BillUpdateEvent(bill, LocalDateTime.now()));
+        }
+    }
+
+    /**
+     * Retrieves a new copy of the bill from the cache, without its full text and memos.
      *
      * @param billId BaseBillId
-     * @return Bill
-     * @throws CloneNotSupportedException
+     * @return Bill - The cached bill or null if the bill is not cached.
      */
-    private Bill constructBillFromCache(BaseBillId billId) throws CloneNotSupportedException {
-        Bill cachedBill = (Bill) billCache.get(billId).getObjectValue();
-        cachedBill = cachedBill.shallowClone();
-        billDao.applyText(cachedBill);
-        return cachedBill;
+    private Bill getCachedBill(BaseBillId billId) {
+        return inflate(billId, billCache.get(billId));
+    }
+
+    /**
+     * Inflates the compact bill stored in the given cache element. If a member referenced by the cached bill
+     * can no longer be found, the bill is removed from the cache so that it is read from the database instead.
+     *
+     * @return Bill - The inflated bill or null if the element is null or could not be inflated.
+     */
+    private Bill inflate(BaseBillId billId, Element element) {
+        if (element == null) {
+            return null;
+        }
+        try {
+            return ((CompactBill) element.getObjectValue()).inflate(memberService::getMemberBySessionId);
+        }
+        catch (MemberNotFoundEx ex) {
+            logger.warn("Could not inflate cached bill {}, removing it from the cache", billId, ex);
+            billCache.remove(billId);
+            return null;
+        }
     }
 
     /**
-     * In order to cache bills effectively, we strip out the memos and full text from the bill first
-     * to save some heap space.
+     * In order to cache bills effectively, we store a compact encoding of the bill without the memos
+     * and full text to save some heap space.
      * @param bill Bill
      */
     private void putStrippedBillInCache(final Bill bill) {
         if (bill != null) {
             try {
-                Bill cacheBill = bill.shallowClone();
-                cacheBill.getAmendmentList().stream().forEach(ba -> {
-                    ba.setMemo("");
-                    ba.setFullText("");
-                });
-                this.billCache.put(new Element(cacheBill.getBaseBillId(), cacheBill));
+                this.billCache.put(new Element(bill.getBaseBillId(), new CompactBill(bill)));
                 // Remove entry from the bill info cache if it exists
-                this.billInfoCache.remove(cacheBill.getBaseBillId());
+                this.billInfoCache.remove(bill.getBaseBillId());
             }
-            catch (CloneNotSupportedException e) {
-                logger.error("Failed to cache bill!", e);
+            catch (IllegalArgumentException ex) {
+                // Bills that reference members that are not yet persisted are read from the database instead
+                logger.warn("Failed to cache bill {}", bill, ex);
+                this.billCache.remove(bill.getBaseBillId());
             }
         }
     }
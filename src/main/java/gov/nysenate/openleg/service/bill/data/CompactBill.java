@@ -0,0 +1,334 @@
+package gov.nysenate.openleg.service.bill.data;
+
+import gov.nysenate.openleg.model.agenda.CommitteeAgendaId;
+import gov.nysenate.openleg.model.base.PublishStatus;
+import gov.nysenate.openleg.model.base.SessionYear;
+import gov.nysenate.openleg.model.base.Version;
+import gov.nysenate.openleg.model.bill.*;
+import gov.nysenate.openleg.model.calendar.CalendarId;
+import gov.nysenate.openleg.model.entity.Chamber;
+import gov.nysenate.openleg.model.entity.CommitteeId;
+import gov.nysenate.openleg.model.entity.CommitteeVersionId;
+import gov.nysenate.openleg.model.entity.SessionMember;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * A compact, immutable encoding of a {@link Bill} that is used to store bills in the bill cache.
+ *
+ * Members are referenced by their session member id instead of holding a copy of each member, votes are stored as
+ * an array of member ids per vote code, and frequently repeated strings such as action text are interned so that
+ * every cached bill shares the same instance. Ehcache does not count interned strings or enums towards the size of
+ * the cache, so many more bills fit within the configured cache size. The full text and memos are not stored.
+ *
+ * A new, fully mutable bill is inflated from the encoding on every read, so changes made to a bill that was
+ * retrieved from the cache can never affect the cached copy.
+ */
+public final class CompactBill implements Serializable
+{
+    private static final long serialVersionUID = -3261839013371850377L;
+
+    private static final int NO_MEMBER = 0;
+
+    private final BaseBillId baseBillId;
+    private final int year;
+    private final LocalDateTime modifiedDateTime;
+    private final LocalDateTime publishedDateTime;
+    private final String title;
+    private final String summary;
+    private final BillStatus status;
+    private final BillStatus[] milestones;
+    private final Version activeVersion;
+    private final CompactAmendment[] amendments;
+    private final Version[] publishStatusVersions;
+    private final PublishStatus[] publishStatuses;
+    private final VetoId[] vetoIds;
+    private final VetoMessage[] vetoMessages;
+    private final ApprovalMessage approvalMessage;
+
+    /** Null if the bill has no sponsor, the member id is {@link #NO_MEMBER} if the sponsor has no member. */
+    private final int[] sponsor;
+    private final boolean sponsorBudget;
+    private final boolean sponsorRules;
+    private final int[] additionalSponsorIds;
+
+    private final CommitteeVersionId[] pastCommittees;
+
+    /** Actions are stored column-wise, dates as epoch days. */
+    private final int[] actionDates;
+    private final Chamber[] actionChambers;
+    private final int[] actionSequenceNos;
+    private final Version[] actionVersions;
+    private final String[] actionTexts;
+
+    private final BaseBillId substitutedBy;
+    private final BillId directPreviousVersion;
+    private final BillId[] allPreviousVersions;
+    private final ProgramInfo programInfo;
+    private final CommitteeAgendaId[] committeeAgendas;
+    private final CalendarId[] calendars;
+    private final Integer chapterNum;
+    private final Integer chapterYear;
+
+    /** --- Constructors --- */
+
+    /**
+     * Encodes the given bill. The full text and memos of the bill are not encoded.
+     *
+     * @param bill Bill
+     * @throws IllegalArgumentException - If the bill references a member that has not been persisted.
+     */
+    public CompactBill(Bill bill) {
+        this.baseBillId = bill.getBaseBillId();
+        this.year = bill.getYear();
+        this.modifiedDateTime = bill.getModifiedDateTime();
+        this.publishedDateTime = bill.getPublishedDateTime();
+        this.title = bill.getTitle();
+        this.summary = bill.getSummary();
+        this.status = bill.getStatus();
+        this.milestones = bill.getMilestones().toArray(new BillStatus[0]);
+        this.activeVersion = bill.getActiveVersion();
+        this.amendments = bill.getAmendmentList().stream().map(CompactAmendment::new).toArray(CompactAmendment[]::new);
+        Map<Version, PublishStatus> publishStatusMap = new TreeMap<>(bill.getAmendPublishStatusMap());
+        this.publishStatusVersions = publishStatusMap.keySet().toArray(new Version[0]);
+        this.publishStatuses = publishStatusMap.values().toArray(new PublishStatus[0]);
+        Map<VetoId, VetoMessage> vetoMessageMap = new LinkedHashMap<>(bill.getVetoMessages());
+        this.vetoIds = vetoMessageMap.keySet().toArray(new VetoId[0]);
+        this.vetoMessages = vetoMessageMap.values().toArray(new VetoMessage[0]);
+        this.approvalMessage = bill.getApprovalMessage();
+
+        BillSponsor billSponsor = bill.getSponsor();
+        this.sponsor = (billSponsor != null)
+            ? new int[] {billSponsor.hasMember() ? toMemberId(billSponsor.getMember()) : NO_MEMBER}
+            : null;
+        this.sponsorBudget = billSponsor != null && billSponsor.isBudget();
+        this.sponsorRules = billSponsor != null && billSponsor.isRules();
+        this.additionalSponsorIds = toMemberIds(bill.getAdditionalSponsors());
+
+        this.pastCommittees = bill.getPastCommittees().toArray(new CommitteeVersionId[0]);
+
+        List<BillAction> actions = new ArrayList<>(bill.getActions());
+        this.actionDates = new int[actions.size()];
+        this.actionChambers = new Chamber[actions.size()];
+        this.actionSequenceNos = new int[actions.size()];
+        this.actionVersions = new Version[actions.size()];
+        this.actionTexts = new String[actions.size()];
+        for (int i = 0; i < actions.size(); i++) {
+            BillAction action = actions.get(i);
+            this.actionDates[i] = (int) action.getDate().toEpochDay();
+            this.actionChambers[i] = action.getChamber();
+            this.actionSequenceNos[i] = action.getSequenceNo();
+            this.actionVersions[i] = action.getBillId().getVersion();
+            this.actionTexts[i] = intern(action.getText());
+        }
+
+        this.substitutedBy = bill.getSubstitutedBy();
+        this.directPreviousVersion = bill.getDirectPreviousVersion();
+        this.allPreviousVersions = bill.getAllPreviousVersions().toArray(new BillId[0]);
+        this.programInfo = bill.getProgramInfo();
+        this.committeeAgendas = bill.getCommitteeAgendas().toArray(new CommitteeAgendaId[0]);
+        this.calendars = bill.getCalendars().toArray(new CalendarId[0]);
+        this.chapterNum = bill.getChapterNum();
+        this.chapterYear = bill.getChapterYear();
+    }
+
+    /** --- Methods --- */
+
+    /**
+     * Creates a new bill from this encoding. The full text and memos of the amendments are not loaded and
+     * the bill does not track changes.
+     *
+     * @param memberResolver IntFunction<SessionMember> - Retrieves a member by session member id.
+     * @return Bill
+     */
+    public Bill inflate(IntFunction<SessionMember> memberResolver) {
+        Bill bill = new Bill(baseBillId);
+        bill.setPublishedDateTime(publishedDateTime);
+        bill.setYear(year);
+        bill.setModifiedDateTime(modifiedDateTime);
+        bill.setTitle(title);
+        bill.setSummary(summary);
+        bill.setStatus(status);
+        bill.getMilestones().addAll(Arrays.asList(milestones));
+        for (CompactAmendment amendment : amendments) {
+            bill.addAmendment(amendment.inflate(baseBillId, memberResolver));
+        }
+        bill.setActiveVersion(activeVersion);
+        for (int i = 0; i < publishStatusVersions.length; i++) {
+            bill.getAmendPublishStatusMap().put(publishStatusVersions[i], publishStatuses[i]);
+        }
+        for (int i = 0; i < vetoIds.length; i++) {
+            bill.getVetoMessages().put(vetoIds[i], vetoMessages[i]);
+        }
+        bill.setApprovalMessage(approvalMessage);
+
+        if (sponsor != null) {
+            BillSponsor billSponsor = new BillSponsor();
+            if (sponsor[0] != NO_MEMBER) {
+                billSponsor.setMember(memberResolver.apply(sponsor[0]));
+            }
+            billSponsor.setBudget(sponsorBudget);
+            billSponsor.setRules(sponsorRules);
+            bill.setSponsor(billSponsor);
+        }
+        bill.getAdditionalSponsors().addAll(toMembers(additionalSponsorIds, memberResolver));
+
+        bill.getPastCommittees().addAll(Arrays.asList(pastCommittees));
+
+        for (int i = 0; i < actionTexts.length; i++) {
+            bill.getActions().add(new BillAction(LocalDate.ofEpochDay(actionDates[i]), actionTexts[i],
+                actionChambers[i], actionSequenceNos[i], new BillId(baseBillId, actionVersions[i])));
+        }
+
+        bill.setSubstitutedBy(substitutedBy);
+        bill.setDirectPreviousVersion(directPreviousVersion);
+        bill.getAllPreviousVersions().addAll(Arrays.asList(allPreviousVersions));
+        bill.setProgramInfo(programInfo);
+        bill.getCommitteeAgendas().addAll(Arrays.asList(committeeAgendas));
+        bill.getCalendars().addAll(Arrays.asList(calendars));
+        bill.setChapterNum(chapterNum);
+        bill.setChapterYear(chapterYear);
+        // Setting the fields is not a modification of the bill
+        bill.takeRecentChanges();
+        return bill;
+    }
+
+    public BaseBillId getBaseBillId() {
+        return baseBillId;
+    }
+
+    /** --- Internal Methods --- */
+
+    private static String intern(String value) {
+        return (value != null) ? value.intern() : null;
+    }
+
+    private static int toMemberId(SessionMember member) {
+        if (member.getSessionMemberId() <= 0) {
+            throw new IllegalArgumentException("Cannot encode member without a session member id: " + member);
+        }
+        return member.getSessionMemberId();
+    }
+
+    private static int[] toMemberIds(Collection<SessionMember> members) {
+        return members.stream().mapToInt(CompactBill::toMemberId).toArray();
+    }
+
+    private static List<SessionMember> toMembers(int[] memberIds, IntFunction<SessionMember> memberResolver) {
+        List<SessionMember> members = new ArrayList<>(memberIds.length);
+        for (int memberId : memberIds) {
+            members.add(memberResolver.apply(memberId));
+        }
+        return members;
+    }
+
+    /**
+     * Compact encoding of a {@link BillAmendment}, without its full text and memo.
+     */
+    private static final class CompactAmendment implements Serializable
+    {
+        private static final long serialVersionUID = 4473412286516618846L;
+
+        private final Version version;
+        private final BillId[] sameAs;
+        private final String lawSection;
+        private final String law;
+        private final String actClause;
+        private final CommitteeVersionId currentCommittee;
+        private final int[] coSponsorIds;
+        private final int[] multiSponsorIds;
+        private final Boolean stricken;
+        private final Boolean uniBill;
+        private final CompactVote[] votes;
+        private final BillTextMetrics textMetrics;
+
+        private CompactAmendment(BillAmendment amendment) {
+            this.version = amendment.getVersion();
+            this.sameAs = amendment.getSameAs().toArray(new BillId[0]);
+            this.lawSection = intern(amendment.getLawSection());
+            this.law = amendment.getLaw();
+            this.actClause = amendment.getActClause();
+            this.currentCommittee = amendment.getCurrentCommittee();
+            this.coSponsorIds = toMemberIds(amendment.getCoSponsors());
+            this.multiSponsorIds = toMemberIds(amendment.getMultiSponsors());
+            this.stricken = amendment.isStricken();
+            this.uniBill = amendment.isUniBill();
+            this.votes = amendment.getVotesList().stream().map(CompactVote::new).toArray(CompactVote[]::new);
+            this.textMetrics = amendment.getTextMetrics();
+        }
+
+        private BillAmendment inflate(BaseBillId baseBillId, IntFunction<SessionMember> memberResolver) {
+            BillAmendment amendment = new BillAmendment(baseBillId, version);
+            amendment.getSameAs().addAll(Arrays.asList(sameAs));
+            amendment.setLawSection(lawSection);
+            amendment.setLaw(law);
+            amendment.setActClause(actClause);
+            amendment.setCurrentCommittee(currentCommittee);
+            amendment.getCoSponsors().addAll(toMembers(coSponsorIds, memberResolver));
+            amendment.getMultiSponsors().addAll(toMembers(multiSponsorIds, memberResolver));
+            amendment.setStricken(stricken);
+            amendment.setUniBill(uniBill);
+            for (CompactVote vote : votes) {
+                amendment.updateVote(vote.inflate(baseBillId, memberResolver));
+            }
+            amendment.unloadText();
+            amendment.setTextMetrics(textMetrics);
+            return amendment;
+        }
+    }
+
+    /**
+     * Compact encoding of a {@link BillVote}, storing the member ids that voted for each vote code.
+     */
+    private static final class CompactVote implements Serializable
+    {
+        private static final long serialVersionUID = -1942580623190537411L;
+
+        private final Version version;
+        private final BillVoteType voteType;
+        private final int voteDate;
+        private final CommitteeId committeeId;
+        private final int sequenceNo;
+        private final SessionYear session;
+        private final int year;
+        private final LocalDateTime modifiedDateTime;
+        private final LocalDateTime publishedDateTime;
+        private final BillVoteCode[] voteCodes;
+        private final int[][] memberIds;
+
+        private CompactVote(BillVote vote) {
+            this.version = vote.getBillId().getVersion();
+            this.voteType = vote.getVoteType();
+            this.voteDate = (int) vote.getVoteDate().toEpochDay();
+            this.committeeId = vote.getCommitteeId();
+            this.sequenceNo = vote.getSequenceNo();
+            this.session = vote.getSession();
+            this.year = vote.getYear();
+            this.modifiedDateTime = vote.getModifiedDateTime();
+            this.publishedDateTime = vote.getPublishedDateTime();
+            Map<BillVoteCode, Collection<SessionMember>> memberVotes = new EnumMap<>(BillVoteCode.class);
+            memberVotes.putAll(vote.getMemberVotes().asMap());
+            this.voteCodes = memberVotes.keySet().toArray(new BillVoteCode[0]);
+            this.memberIds = memberVotes.values().stream().map(CompactBill::toMemberIds).toArray(int[][]::new);
+        }
+
+        private BillVote inflate(BaseBillId baseBillId, IntFunction<SessionMember> memberResolver) {
+            BillVote vote = new BillVote(new BillId(baseBillId, version), LocalDate.ofEpochDay(voteDate), voteType,
+                                         sequenceNo, committeeId);
+            vote.setSession(session);
+            vote.setYear(year);
+            vote.setModifiedDateTime(modifiedDateTime);
+            vote.setPublishedDateTime(publishedDateTime);
+            for (int i = 0; i < voteCodes.length; i++) {
+                for (SessionMember member : toMembers(memberIds[i], memberResolver)) {
+                    vote.addMemberVote(voteCodes[i], member);
+                }
+            }
+            return vote;
+        }
+    }
+}
@@ -39,6 +39,37 @@ public interface BillSearchService
     public SearchResults<BaseBillId> searchBills(String query, SessionYear session, String sort, LimitOffset limOff)
         throws SearchException;
 
+    /**
+     * Performs a search across all bill data, paging through the results with a cursor.
+     *
+     * @see #searchBills(String, SessionYear, String, int, String)
+     */
+    public SearchResults<BaseBillId> searchBills(String query, String sort, int limit, String cursor)
+        throws SearchException;
+
+    /**
+     * Matches all bills for the given session year, paging through the results with a cursor.
+     *
+     * @see #searchBills(String, SessionYear, String, int, String)
+     */
+    public SearchResults<BaseBillId> searchBills(SessionYear session, String sort, int limit, String cursor)
+        throws SearchException;
+
+    /**
+     * Performs search across bills in a given session year, paging through the results with a cursor.
+     * Unlike offset based paging, the cost of retrieving a page does not depend on its depth.
+     *
+     * @param query String - General search term
+     * @param session SessionYear - Filter by session year
+     * @param sort String - Sort by field(s)
+     * @param limit int - The page size, only used for the first page.
+     * @param cursor String - "*" for the first page, otherwise the cursor returned with the previous page.
+     * @return SearchResults<BaseBillId> - Contains the cursor for the next page if there are more results.
+     * @throws SearchException - If the query or cursor is not valid, or if the cursor has expired.
+     */
+    public SearchResults<BaseBillId> searchBills(String query, SessionYear session, String sort, int limit,
+                                                 String cursor) throws SearchException;
+
     /**
      * Handle a bill update event by indexing the supplied bill in the update.
      *
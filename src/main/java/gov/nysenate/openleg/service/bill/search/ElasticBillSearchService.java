@@ -3,7 +3,9 @@ package gov.nysenate.openleg.service.bill.search;
 import com.google.common.collect.Range;
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
+import gov.nysenate.openleg.dao.base.ElasticBaseDao;
 import gov.nysenate.openleg.dao.base.LimitOffset;
+import gov.nysenate.openleg.dao.base.ResultWindowExceededEx;
 import gov.nysenate.openleg.dao.base.SearchIndex;
 import gov.nysenate.openleg.dao.bill.search.ElasticBillSearchDao;
 import gov.nysenate.openleg.config.Environment;
@@ -13,7 +15,9 @@ import gov.nysenate.openleg.model.bill.Bill;
 import gov.nysenate.openleg.model.bill.BillId;
 import gov.nysenate.openleg.model.search.*;
 import gov.nysenate.openleg.service.base.search.ElasticSearchServiceUtils;
+import gov.nysenate.openleg.service.base.search.IndexQueueHandler;
 import gov.nysenate.openleg.service.base.search.IndexedSearchService;
+import gov.nysenate.openleg.service.base.search.SearchIndexQueue;
 import gov.nysenate.openleg.service.bill.data.BillDataService;
 import gov.nysenate.openleg.service.bill.event.BillUpdateEvent;
 import gov.nysenate.openleg.service.bill.event.BulkBillUpdateEvent;
@@ -28,15 +32,13 @@ import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
 import java.time.LocalDate;
-import java.util.Collection;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.regex.Matcher;
 
 import static java.util.stream.Collectors.toList;
 
 @Service
-public class ElasticBillSearchService implements BillSearchService, IndexedSearchService<Bill>
+public class ElasticBillSearchService implements BillSearchService, IndexedSearchService<Bill>, IndexQueueHandler
 {
     private static final Logger logger = LoggerFactory.getLogger(ElasticBillSearchService.class);
 
@@ -44,10 +46,12 @@ public class ElasticBillSearchService implements BillSearchService, IndexedSearc
     @Autowired protected EventBus eventBus;
     @Autowired protected ElasticBillSearchDao billSearchDao;
     @Autowired protected BillDataService billDataService;
+    @Autowired protected SearchIndexQueue indexQueue;
 
     @PostConstruct
     protected void init() {
         eventBus.register(this);
+        indexQueue.registerHandler(this);
     }
 
     /** --- BillSearchService implementation --- */
@@ -82,6 +86,37 @@ public class ElasticBillSearchService implements BillSearchService, IndexedSearc
                 null, null, sort, limOff);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public SearchResults<BaseBillId> searchBills(SessionYear session, String sort, int limit, String cursor)
+            throws SearchException {
+        return searchBills(
+            QueryBuilders.boolQuery()
+                    .must(QueryBuilders.matchAllQuery())
+                    .filter(QueryBuilders.termQuery("session", session.getYear())),
+            null, null, sort, limit, cursor);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SearchResults<BaseBillId> searchBills(String query, String sort, int limit, String cursor)
+            throws SearchException {
+        query = smartSearch(query);
+        return searchBills(QueryBuilders.queryStringQuery(query), null, null, sort, limit, cursor);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SearchResults<BaseBillId> searchBills(String query, SessionYear session, String sort, int limit,
+                                                 String cursor) throws SearchException {
+        query = smartSearch(query);
+        return searchBills(
+            QueryBuilders.boolQuery()
+                    .must(QueryBuilders.queryStringQuery(query))
+                    .filter(QueryBuilders.termQuery("session", session.getYear())),
+                null, null, sort, limit, cursor);
+    }
+
     /**
      * Delegates to the underlying bill search dao.
      */
@@ -93,10 +128,39 @@ public class ElasticBillSearchService implements BillSearchService, IndexedSearc
             return billSearchDao.searchBills(query, postFilter, rescorer,
                     ElasticSearchServiceUtils.extractSortBuilders(sort), limOff);
         }
+        catch (ResultWindowExceededEx ex) {
+            throw new SearchException(ex.getMessage() + ". Use a cursor to page through deeper results.", ex);
+        }
+        catch (SearchParseException ex) {
+            throw new SearchException("Invalid query string", ex);
+        }
+        catch (ElasticsearchException ex) {
+            throw new UnexpectedSearchException(ex);
+        }
+    }
+
+    /**
+     * Delegates a cursor based search to the underlying bill search dao.
+     */
+    private SearchResults<BaseBillId> searchBills(QueryBuilder query, QueryBuilder postFilter, RescoreBuilder.Rescorer rescorer,
+                                                  String sort, int limit, String cursor)
+        throws SearchException {
+        boolean firstPage = ElasticBaseDao.FIRST_PAGE_CURSOR.equals(cursor);
+        try {
+            return billSearchDao.searchBills(query, postFilter, rescorer,
+                    ElasticSearchServiceUtils.extractSortBuilders(sort), limit, cursor);
+        }
+        catch (IllegalArgumentException ex) {
+            throw new SearchException(ex.getMessage(), ex);
+        }
         catch (SearchParseException ex) {
             throw new SearchException("Invalid query string", ex);
         }
         catch (ElasticsearchException ex) {
+            if (!firstPage) {
+                // The search context of the cursor is gone, typically because it was not used for a while
+                throw new SearchException("The search cursor is no longer valid, start again from the first page", ex);
+            }
             throw new UnexpectedSearchException(ex);
         }
     }
@@ -117,7 +181,12 @@ public class ElasticBillSearchService implements BillSearchService, IndexedSearc
     @Subscribe
     public void handleBillUpdate(BillUpdateEvent billUpdateEvent) {
         if (billUpdateEvent.getBill() != null) {
-            updateIndex(billUpdateEvent.getBill());
+            if (indexQueue.isEnabled()) {
+                queueBills(Collections.singletonList(billUpdateEvent.getBill()));
+            }
+            else {
+                updateIndex(withText(billUpdateEvent.getBill()));
+            }
         }
     }
 
@@ -126,10 +195,38 @@ public class ElasticBillSearchService implements BillSearchService, IndexedSearc
     @Subscribe
     public void handleBulkBillUpdate(BulkBillUpdateEvent bulkBillUpdateEvent) {
         if (bulkBillUpdateEvent.getBills() != null) {
-            updateIndex(bulkBillUpdateEvent.getBills());
+            if (indexQueue.isEnabled()) {
+                queueBills(bulkBillUpdateEvent.getBills());
+            }
+            else {
+                updateIndex(bulkBillUpdateEvent.getBills().stream().map(this::withText).collect(toList()));
+            }
         }
     }
 
+    /** --- IndexQueueHandler implementation --- */
+
+    /** {@inheritDoc} */
+    @Override
+    public SearchIndex getQueueIndex() {
+        return SearchIndex.BILL;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void indexQueued(Collection<String> contentIds) {
+        List<BaseBillId> billIds = contentIds.stream().map(ElasticBillSearchService::toBaseBillId).collect(toList());
+        Map<BaseBillId, Bill> bills = billDataService.getBills(billIds);
+        updateIndex(bills.values());
+        // Bills that no longer exist should not remain in the index
+        billIds.stream()
+            .filter(billId -> !bills.containsKey(billId))
+            .forEach(billId -> {
+                logger.info("Deleting {} from index.", billId);
+                billSearchDao.deleteBillFromIndex(billId);
+            });
+    }
+
     /** --- IndexedSearchService implementation --- */
 
     /** {@inheritDoc} */
@@ -227,6 +324,38 @@ public class ElasticBillSearchService implements BillSearchService, IndexedSearc
 
     /** --- Internal --- */
 
+    /**
+     * Bills updated during ingest may not have their text loaded. The text is loaded for such bills
+     * so that it is not removed from the index.
+     */
+    private Bill withText(Bill bill) {
+        if (bill != null && !bill.isTextLoaded()) {
+            billDataService.loadText(bill);
+        }
+        return bill;
+    }
+
+    /**
+     * Queues the given bills to be indexed asynchronously.
+     */
+    private void queueBills(Collection<Bill> bills) {
+        if (env.isElasticIndexing()) {
+            indexQueue.enqueue(SearchIndex.BILL, bills.stream()
+                .filter(Objects::nonNull)
+                .map(bill -> toQueueId(bill.getBaseBillId()))
+                .collect(toList()));
+        }
+    }
+
+    private static String toQueueId(BaseBillId billId) {
+        return billId.getBasePrintNo() + "-" + billId.getSession().getYear();
+    }
+
+    private static BaseBillId toBaseBillId(String queueId) {
+        int separator = queueId.lastIndexOf('-');
+        return new BaseBillId(queueId.substring(0, separator), Integer.parseInt(queueId.substring(separator + 1)));
+    }
+
     /**
      * Returns true if the given bill meets the criteria for being indexed in the search layer.
      *
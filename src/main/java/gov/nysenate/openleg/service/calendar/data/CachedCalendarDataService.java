@@ -12,6 +12,7 @@ import gov.nysenate.openleg.model.calendar.*;
 import gov.nysenate.openleg.model.sobi.SobiFragment;
 import gov.nysenate.openleg.model.cache.CacheEvictEvent;
 import gov.nysenate.openleg.model.cache.CacheWarmEvent;
+import gov.nysenate.openleg.service.base.data.CacheEvictionBus;
 import gov.nysenate.openleg.service.base.data.CachingService;
 import gov.nysenate.openleg.service.calendar.event.CalendarUpdateEvent;
 import net.sf.ehcache.Cache;
@@ -44,6 +45,7 @@ public class CachedCalendarDataService implements CalendarDataService, CachingSe
     @Autowired private CacheManager cacheManager;
     @Autowired private CalendarDao calendarDao;
     @Autowired private EventBus eventBus;
+    @Autowired private CacheEvictionBus cacheEvictionBus;
 
     @Value("${calendar.cache.size}") private long calendarCacheSizeMb;
 
@@ -261,6 +263,7 @@ public class CachedCalendarDataService implements CalendarDataService, CachingSe
         logger.debug("Persisting {}", calendar);
         calendarDao.updateCalendar(calendar, sobiFragment);
         calendarCache.put(new Element(calendar.getId(), calendar));
+        cacheEvictionBus.publish(new CacheEvictIdEvent<>(ContentCache.CALENDAR, calendar.getId()));
         if (postUpdateEvent) {
             eventBus.post(new CalendarUpdateEvent(calendar));
         }
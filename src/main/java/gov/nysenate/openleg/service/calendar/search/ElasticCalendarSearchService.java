@@ -12,7 +12,10 @@ import gov.nysenate.openleg.model.calendar.Calendar;
 import gov.nysenate.openleg.model.calendar.CalendarId;
 import gov.nysenate.openleg.model.search.*;
 import gov.nysenate.openleg.service.base.search.ElasticSearchServiceUtils;
+import gov.nysenate.openleg.service.base.search.IndexQueueHandler;
+import gov.nysenate.openleg.service.base.search.SearchIndexQueue;
 import gov.nysenate.openleg.service.calendar.data.CalendarDataService;
+import gov.nysenate.openleg.service.calendar.data.CalendarNotFoundEx;
 import gov.nysenate.openleg.service.calendar.event.BulkCalendarUpdateEvent;
 import gov.nysenate.openleg.service.calendar.event.CalendarUpdateEvent;
 import org.elasticsearch.ElasticsearchException;
@@ -25,13 +28,12 @@ import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
 import java.time.LocalDate;
-import java.util.Collection;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.regex.Matcher;
+import java.util.stream.Collectors;
 
 @Service
-public class ElasticCalendarSearchService implements CalendarSearchService {
+public class ElasticCalendarSearchService implements CalendarSearchService, IndexQueueHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(ElasticCalendarSearchService.class);
 
@@ -39,10 +41,12 @@ public class ElasticCalendarSearchService implements CalendarSearchService {
     @Autowired private CalendarDataService calendarDataService;
     @Autowired private Environment env;
     @Autowired private EventBus eventBus;
+    @Autowired private SearchIndexQueue indexQueue;
 
     @PostConstruct
     private void init() {
         eventBus.register(this);
+        indexQueue.registerHandler(this);
     }
 
     /** {@inheritDoc} */
@@ -62,15 +66,49 @@ public class ElasticCalendarSearchService implements CalendarSearchService {
     @Subscribe
     @Override
     public synchronized void handleCalendarUpdateEvent(CalendarUpdateEvent calendarUpdateEvent) {
-
-        updateIndex(calendarUpdateEvent.getCalendar());
+        if (indexQueue.isEnabled()) {
+            queueCalendars(Collections.singletonList(calendarUpdateEvent.getCalendar()));
+        }
+        else {
+            updateIndex(calendarUpdateEvent.getCalendar());
+        }
     }
 
     /** {@inheritDoc} */
     @Subscribe
     @Override
     public void handleBulkCalendarUpdateEvent(BulkCalendarUpdateEvent bulkCalendarUpdateEvent) {
-        updateIndex(bulkCalendarUpdateEvent.getCalendars());
+        if (indexQueue.isEnabled()) {
+            queueCalendars(bulkCalendarUpdateEvent.getCalendars());
+        }
+        else {
+            updateIndex(bulkCalendarUpdateEvent.getCalendars());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SearchIndex getQueueIndex() {
+        return SearchIndex.CALENDAR;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void indexQueued(Collection<String> contentIds) {
+        List<Calendar> calendars = new ArrayList<>();
+        for (String contentId : contentIds) {
+            String[] parts = contentId.split("-");
+            CalendarId calendarId = new CalendarId(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+            try {
+                calendars.add(calendarDataService.getCalendar(calendarId));
+            }
+            catch (CalendarNotFoundEx ex) {
+                logger.warn("Queued calendar {} no longer exists", calendarId);
+            }
+        }
+        if (!calendars.isEmpty()) {
+            updateIndex(calendars);
+        }
     }
 
     /** {@inheritDoc} */
@@ -140,6 +178,17 @@ public class ElasticCalendarSearchService implements CalendarSearchService {
 
     /** --- Helper Methods --- */
 
+    /**
+     * Queues the given calendars to be indexed asynchronously.
+     */
+    private void queueCalendars(Collection<Calendar> calendars) {
+        if (env.isElasticIndexing()) {
+            indexQueue.enqueue(SearchIndex.CALENDAR, calendars.stream()
+                .map(calendar -> calendar.getId().getCalNo() + "-" + calendar.getId().getYear())
+                .collect(Collectors.toList()));
+        }
+    }
+
     /**
      * Returns a query that can be used for all calendar types that matches calendars for the given year
      * in addition to the criteria specified by the given query string
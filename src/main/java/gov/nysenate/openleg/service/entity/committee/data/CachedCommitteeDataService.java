@@ -13,6 +13,7 @@ import gov.nysenate.openleg.model.cache.CacheWarmEvent;
 import gov.nysenate.openleg.model.cache.ContentCache;
 import gov.nysenate.openleg.model.entity.*;
 import gov.nysenate.openleg.model.sobi.SobiFragment;
+import gov.nysenate.openleg.service.base.data.CacheEvictionBus;
 import gov.nysenate.openleg.service.base.data.CachingService;
 import gov.nysenate.openleg.service.entity.committee.event.CommitteeUpdateEvent;
 import net.sf.ehcache.Cache;
@@ -43,6 +44,7 @@ public class CachedCommitteeDataService implements CommitteeDataService, Caching
     @Autowired private CacheManager cacheManager;
     @Autowired private CommitteeDao committeeDao;
     @Autowired private EventBus eventBus;
+    @Autowired private CacheEvictionBus cacheEvictionBus;
 
     @Value("${committee.cache.size}") private long committeeCacheSizeMb;
 
@@ -257,6 +259,7 @@ public class CachedCommitteeDataService implements CommitteeDataService, Caching
         }
         committeeDao.updateCommittee(committee, sobiFragment);
         committeeCache.remove(committee.getSessionId());
+        cacheEvictionBus.publish(new CacheEvictIdEvent<>(ContentCache.COMMITTEE, committee.getSessionId()));
         eventBus.post(new CommitteeUpdateEvent(committee, LocalDateTime.now()));
     }
 
@@ -14,6 +14,7 @@ import gov.nysenate.openleg.model.cache.ContentCache;
 import gov.nysenate.openleg.model.entity.*;
 import gov.nysenate.openleg.model.search.RebuildIndexEvent;
 import gov.nysenate.openleg.processor.base.ParseError;
+import gov.nysenate.openleg.service.base.data.CacheEvictionBus;
 import gov.nysenate.openleg.service.base.data.CachingService;
 import gov.nysenate.openleg.service.entity.member.event.UnverifiedMemberEvent;
 import net.sf.ehcache.Cache;
@@ -44,6 +45,9 @@ public class CachedMemberService implements MemberService, CachingService<Intege
     @Autowired
     private EventBus eventBus;
 
+    @Autowired
+    private CacheEvictionBus cacheEvictionBus;
+
     private Cache memberCache;
 
     @Autowired
@@ -223,6 +227,7 @@ public class CachedMemberService implements MemberService, CachingService<Intege
         // We need to rebuild cache and search index to account for session members that were
         //      tangentially modified via a person or member update
         eventBus.post(new CacheWarmEvent(Collections.singleton(ContentCache.MEMBER)));
+        cacheEvictionBus.publish(new CacheEvictEvent(Collections.singleton(ContentCache.MEMBER)));
         eventBus.post(new RebuildIndexEvent(Collections.singleton(SearchIndex.MEMBER)));
 
     }
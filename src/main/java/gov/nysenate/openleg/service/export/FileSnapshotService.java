@@ -0,0 +1,262 @@
+package gov.nysenate.openleg.service.export;
+
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingOutputStream;
+import gov.nysenate.openleg.config.Environment;
+import gov.nysenate.openleg.dao.export.SnapshotSourceDao;
+import gov.nysenate.openleg.model.base.SessionYear;
+import gov.nysenate.openleg.model.export.SnapshotFile;
+import gov.nysenate.openleg.model.export.SnapshotType;
+import gov.nysenate.openleg.util.OutputUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * {@link SnapshotService} implementation that writes gzip compressed newline delimited json snapshots into
+ * a 'snapshots' directory within the archive directory, using the {@link SessionExportService} to write the content.
+ *
+ * Each snapshot records the last source fragment (or law file) that modified its content. A snapshot is only
+ * rewritten once that changes, so most data process runs only rewrite the snapshots of the current session.
+ * Snapshots are written to a temporary file and then moved into place so that a snapshot that is being
+ * downloaded is never partially written.
+ */
+@Service
+public class FileSnapshotService implements SnapshotService
+{
+    private static final Logger logger = LoggerFactory.getLogger(FileSnapshotService.class);
+
+    private static final String SNAPSHOT_DIR_NAME = "snapshots";
+    private static final String MANIFEST_FILE_NAME = "manifest.json";
+    private static final String SNAPSHOT_FILE_EXT = ".ndjson.gz";
+
+    @Autowired private Environment env;
+    @Autowired private SnapshotSourceDao snapshotSourceDao;
+    @Autowired private SessionExportService exportService;
+
+    /** If disabled, no snapshots are written. */
+    @Value("${data.snapshot.enabled:false}") private boolean enabled;
+
+    /** Manifest entries keyed by their path relative to the snapshot directory. */
+    private final Map<String, SnapshotFile> manifest = new ConcurrentSkipListMap<>();
+
+    /** Set when an update is requested and cleared once an update starts, so waiting requests share one update. */
+    private final AtomicBoolean updateRequested = new AtomicBoolean(false);
+
+    /** Held while a snapshot file is replaced or opened, so that its file and manifest entry always match. */
+    private final Object fileLock = new Object();
+
+    private Path snapshotDir;
+
+    @PostConstruct
+    public void init() {
+        snapshotDir = env.getArchiveDir().toPath().resolve(SNAPSHOT_DIR_NAME);
+        Path manifestPath = snapshotDir.resolve(MANIFEST_FILE_NAME);
+        if (Files.exists(manifestPath)) {
+            try {
+                SnapshotFile[] snapshotFiles =
+                    OutputUtils.getJsonMapper().readValue(manifestPath.toFile(), SnapshotFile[].class);
+                Arrays.stream(snapshotFiles).forEach(snapshotFile -> manifest.put(snapshotFile.getPath(), snapshotFile));
+            }
+            catch (IOException ex) {
+                logger.warn("Could not read the snapshot manifest, all snapshots will be rewritten", ex);
+            }
+        }
+    }
+
+    /** --- SnapshotService Implementation --- */
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateSnapshots() {
+        if (!enabled) {
+            return;
+        }
+        updateRequested.set(true);
+        synchronized (this) {
+            if (updateRequested.getAndSet(false)) {
+                doUpdateSnapshots();
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<SnapshotFile> getManifest() {
+        return new ArrayList<>(manifest.values());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SnapshotFile getSnapshot(SnapshotType type, String key) throws SnapshotNotFoundEx {
+        SnapshotFile snapshotFile = manifest.get(getRelativePath(type, key));
+        if (snapshotFile == null) {
+            throw new SnapshotNotFoundEx(type, key);
+        }
+        return snapshotFile;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public OpenSnapshot openSnapshot(SnapshotType type, String key) throws SnapshotNotFoundEx, IOException {
+        synchronized (fileLock) {
+            SnapshotFile snapshotFile = getSnapshot(type, key);
+            try {
+                return new OpenSnapshot(snapshotFile, FileChannel.open(getSnapshotPath(snapshotFile)));
+            }
+            catch (NoSuchFileException ex) {
+                throw new SnapshotNotFoundEx(type, key);
+            }
+        }
+    }
+
+    /** --- Internal Methods --- */
+
+    private void doUpdateSnapshots() {
+        Map<SnapshotType, Map<String, String>> sourceIds = new EnumMap<>(SnapshotType.class);
+        sourceIds.put(SnapshotType.BILLS, bySessionKey(snapshotSourceDao.getLastBillFragmentIds()));
+        sourceIds.put(SnapshotType.AGENDAS, bySessionKey(snapshotSourceDao.getLastAgendaFragmentIds()));
+        sourceIds.put(SnapshotType.CALENDARS, bySessionKey(snapshotSourceDao.getLastCalendarFragmentIds()));
+        sourceIds.put(SnapshotType.LAWS, snapshotSourceDao.getLastLawFileNames());
+
+        int written = 0;
+        Set<String> modifiedSessions = new TreeSet<>();
+        for (Map.Entry<SnapshotType, Map<String, String>> typeSourceIds : sourceIds.entrySet()) {
+            SnapshotType type = typeSourceIds.getKey();
+            for (Map.Entry<String, String> keySourceId : typeSourceIds.getValue().entrySet()) {
+                if (isStale(type, keySourceId.getKey(), keySourceId.getValue())
+                        && writeSnapshot(type, keySourceId.getKey(), keySourceId.getValue())) {
+                    written++;
+                    if (type.isSessional()) {
+                        modifiedSessions.add(keySourceId.getKey());
+                    }
+                }
+            }
+        }
+        // Members are not tracked by source, so they are rewritten along with the other content of their session
+        for (String session : sourceIds.get(SnapshotType.BILLS).keySet()) {
+            if ((modifiedSessions.contains(session) || isStale(SnapshotType.MEMBERS, session, null))
+                    && writeSnapshot(SnapshotType.MEMBERS, session, null)) {
+                written++;
+            }
+        }
+        if (written > 0) {
+            saveManifest();
+            logger.info("Wrote {} snapshot files", written);
+        }
+    }
+
+    private Path getSnapshotPath(SnapshotFile snapshotFile) {
+        return snapshotDir.resolve(snapshotFile.getPath());
+    }
+
+    private static Map<String, String> bySessionKey(Map<SessionYear, String> sessionSourceIds) {
+        Map<String, String> keySourceIds = new TreeMap<>();
+        sessionSourceIds.forEach((session, sourceId) -> keySourceIds.put(String.valueOf(session.getYear()), sourceId));
+        return keySourceIds;
+    }
+
+    private static String getRelativePath(SnapshotType type, String key) {
+        return (type.isSessional())
+            ? key + "/" + type.getName() + SNAPSHOT_FILE_EXT
+            : type.getName() + "/" + key + SNAPSHOT_FILE_EXT;
+    }
+
+    /**
+     * @return boolean - True if the snapshot has not been written, or was written before the given source
+     *                   last modified its content.
+     */
+    private boolean isStale(SnapshotType type, String key, String lastSourceId) {
+        SnapshotFile snapshotFile = manifest.get(getRelativePath(type, key));
+        return snapshotFile == null
+            || !Objects.equals(snapshotFile.getLastSourceId(), lastSourceId)
+            || !Files.exists(getSnapshotPath(snapshotFile));
+    }
+
+    /**
+     * Writes the snapshot and updates its manifest entry. The source id is read before the content, so content
+     * modified while the snapshot is being written is picked up the next time the snapshots are updated.
+     *
+     * @return boolean - True if the snapshot was written, false if it failed.
+     */
+    private boolean writeSnapshot(SnapshotType type, String key, String lastSourceId) {
+        String relativePath = getRelativePath(type, key);
+        Path path = snapshotDir.resolve(relativePath);
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(path.getParent());
+            int itemCount;
+            String sha256;
+            try (HashingOutputStream hashOut = new HashingOutputStream(Hashing.sha256(),
+                     new BufferedOutputStream(Files.newOutputStream(tempPath), 64 * 1024));
+                 GZIPOutputStream gzipOut = new GZIPOutputStream(hashOut, 64 * 1024)) {
+                itemCount = export(type, key, gzipOut);
+                gzipOut.finish();
+                sha256 = hashOut.hash().toString();
+            }
+            SnapshotFile snapshotFile = new SnapshotFile(type, key, relativePath, Files.size(tempPath), itemCount,
+                sha256, lastSourceId, LocalDateTime.now());
+            synchronized (fileLock) {
+                Files.move(tempPath, path, REPLACE_EXISTING, ATOMIC_MOVE);
+                manifest.put(relativePath, snapshotFile);
+            }
+            return true;
+        }
+        catch (IOException | RuntimeException ex) {
+            logger.error("Failed to write {} snapshot for {}", type.getName(), key, ex);
+            try {
+                Files.deleteIfExists(tempPath);
+            }
+            catch (IOException deleteEx) {
+                logger.warn("Could not delete temporary snapshot file {}", tempPath, deleteEx);
+            }
+            return false;
+        }
+    }
+
+    private int export(SnapshotType type, String key, OutputStream out) throws IOException {
+        switch (type) {
+            case BILLS: return exportService.exportBills(SessionYear.of(Integer.parseInt(key)), out);
+            case AGENDAS: return exportService.exportAgendas(SessionYear.of(Integer.parseInt(key)), out);
+            case CALENDARS: return exportService.exportCalendars(SessionYear.of(Integer.parseInt(key)), out);
+            case MEMBERS: return exportService.exportMembers(SessionYear.of(Integer.parseInt(key)), out);
+            case LAWS: return exportService.exportLaw(key, out);
+            default: throw new IllegalArgumentException("Unhandled snapshot type " + type);
+        }
+    }
+
+    /**
+     * Writes the manifest, replacing the previous manifest once it is completely written.
+     */
+    private void saveManifest() {
+        Path manifestPath = snapshotDir.resolve(MANIFEST_FILE_NAME);
+        Path tempPath = manifestPath.resolveSibling(MANIFEST_FILE_NAME + ".tmp");
+        try {
+            Files.createDirectories(snapshotDir);
+            OutputUtils.getJsonMapper().writeValue(tempPath.toFile(), getManifest());
+            Files.move(tempPath, manifestPath, REPLACE_EXISTING, ATOMIC_MOVE);
+        }
+        catch (IOException ex) {
+            logger.error("Failed to write the snapshot manifest", ex);
+        }
+    }
+}
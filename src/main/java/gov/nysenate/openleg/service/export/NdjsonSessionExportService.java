@@ -0,0 +1,158 @@
+package gov.nysenate.openleg.service.export;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import gov.nysenate.openleg.client.view.agenda.AgendaView;
+import gov.nysenate.openleg.client.view.bill.BillView;
+import gov.nysenate.openleg.client.view.calendar.CalendarViewFactory;
+import gov.nysenate.openleg.client.view.entity.ExtendedMemberView;
+import gov.nysenate.openleg.client.view.law.LawDocView;
+import gov.nysenate.openleg.dao.agenda.data.AgendaDao;
+import gov.nysenate.openleg.dao.base.LimitOffset;
+import gov.nysenate.openleg.dao.base.SortOrder;
+import gov.nysenate.openleg.dao.bill.data.BillDao;
+import gov.nysenate.openleg.dao.calendar.data.CalendarDao;
+import gov.nysenate.openleg.dao.entity.member.data.MemberDao;
+import gov.nysenate.openleg.dao.law.data.LawDataDao;
+import gov.nysenate.openleg.model.agenda.AgendaId;
+import gov.nysenate.openleg.model.base.SessionYear;
+import gov.nysenate.openleg.model.bill.BaseBillId;
+import gov.nysenate.openleg.model.calendar.CalendarId;
+import gov.nysenate.openleg.model.entity.SessionMember;
+import gov.nysenate.openleg.model.law.LawDocument;
+import gov.nysenate.openleg.service.bill.data.BillDataService;
+import gov.nysenate.openleg.util.OutputUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * {@link SessionExportService} implementation that reads the content directly from the database rather than
+ * through the search indices, so that exporting a session does not depend on elastic search. The content is
+ * read without being added to the caches, so that an export does not evict frequently requested content.
+ * Each item is serialized as soon as it is read, so only one item is held in memory at a time.
+ */
+@Service
+public class NdjsonSessionExportService implements SessionExportService
+{
+    private static final Logger logger = LoggerFactory.getLogger(NdjsonSessionExportService.class);
+
+    /** The number of bill ids that are read at a time when exporting bills. */
+    private static final int billIdBatchSize = 500;
+
+    /** Each item must be written on a single line. */
+    private static final ObjectWriter jsonWriter =
+        OutputUtils.getJsonMapper().writer().without(SerializationFeature.INDENT_OUTPUT);
+
+    @Autowired private BillDao billDao;
+    @Autowired private AgendaDao agendaDao;
+    @Autowired private CalendarDao calendarDao;
+    @Autowired private MemberDao memberDao;
+    @Autowired private LawDataDao lawDataDao;
+    @Autowired private BillDataService billDataService;
+    @Autowired private CalendarViewFactory calendarViewFactory;
+
+    /** {@inheritDoc} */
+    @Override
+    public int exportBills(SessionYear sessionYear, OutputStream out) throws IOException {
+        Writer writer = getWriter(out);
+        int count = 0;
+        String lastPrintNo = "";
+        List<BaseBillId> billIds;
+        do {
+            // Each batch of ids is a short query of its own, so no connection is held while the bills are loaded
+            billIds = billDao.getBillIdsAfter(sessionYear, lastPrintNo, billIdBatchSize);
+            for (BaseBillId billId : billIds) {
+                writeLine(writer, new BillView(billDataService.getUncachedBill(billId)));
+                lastPrintNo = billId.getBasePrintNo();
+                count++;
+            }
+        }
+        while (billIds.size() == billIdBatchSize);
+        writer.flush();
+        logger.info("Exported {} bills for session {}", count, sessionYear);
+        return count;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int exportAgendas(SessionYear sessionYear, OutputStream out) throws IOException {
+        Writer writer = getWriter(out);
+        int count = 0;
+        for (int year = sessionYear.getSessionStartYear(); year <= sessionYear.getSessionEndYear(); year++) {
+            for (AgendaId agendaId : agendaDao.getAgendaIds(year, SortOrder.ASC)) {
+                writeLine(writer, new AgendaView(agendaDao.getAgenda(agendaId), billDataService));
+                count++;
+            }
+        }
+        writer.flush();
+        logger.info("Exported {} agendas for session {}", count, sessionYear);
+        return count;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int exportCalendars(SessionYear sessionYear, OutputStream out) throws IOException {
+        Writer writer = getWriter(out);
+        int count = 0;
+        for (int year = sessionYear.getSessionStartYear(); year <= sessionYear.getSessionEndYear(); year++) {
+            for (CalendarId calendarId : calendarDao.getCalendarIds(year, SortOrder.ASC, LimitOffset.ALL)) {
+                writeLine(writer, calendarViewFactory.getCalendarView(calendarDao.getCalendar(calendarId)));
+                count++;
+            }
+        }
+        writer.flush();
+        logger.info("Exported {} calendars for session {}", count, sessionYear);
+        return count;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int exportMembers(SessionYear sessionYear, OutputStream out) throws IOException {
+        Writer writer = getWriter(out);
+        int count = 0;
+        for (SessionMember member : memberDao.getAllMembers(SortOrder.ASC, LimitOffset.ALL)) {
+            if (sessionYear.equals(member.getSessionYear()) && !member.isAlternate()) {
+                writeLine(writer, new ExtendedMemberView(member));
+                count++;
+            }
+        }
+        writer.flush();
+        logger.info("Exported {} members for session {}", count, sessionYear);
+        return count;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int exportLaw(String lawId, OutputStream out) throws IOException {
+        Writer writer = getWriter(out);
+        int count = 0;
+        for (LawDocument document : lawDataDao.getLawDocuments(lawId, LocalDate.now()).values()) {
+            writeLine(writer, new LawDocView(document));
+            count++;
+        }
+        writer.flush();
+        logger.info("Exported {} documents for law {}", count, lawId);
+        return count;
+    }
+
+    /** --- Internal Methods --- */
+
+    private static Writer getWriter(OutputStream out) {
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes the given view as a single line of json.
+     */
+    private static void writeLine(Writer writer, Object view) throws IOException {
+        writer.write(jsonWriter.writeValueAsString(view));
+        writer.write('\n');
+    }
+}
@@ -0,0 +1,38 @@
+package gov.nysenate.openleg.service.export;
+
+import gov.nysenate.openleg.model.export.SnapshotFile;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+
+/**
+ * A snapshot file that has been opened for reading, along with the manifest entry that describes it.
+ * The channel keeps the opened file readable even if the snapshot is rewritten while it is being read,
+ * so the manifest entry always describes the content that is read from the channel.
+ */
+public class OpenSnapshot implements Closeable
+{
+    private final SnapshotFile snapshotFile;
+    private final FileChannel channel;
+
+    public OpenSnapshot(SnapshotFile snapshotFile, FileChannel channel) {
+        this.snapshotFile = snapshotFile;
+        this.channel = channel;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /** --- Basic Getters --- */
+
+    public SnapshotFile getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    public FileChannel getChannel() {
+        return channel;
+    }
+}
@@ -0,0 +1,54 @@
+package gov.nysenate.openleg.service.export;
+
+import gov.nysenate.openleg.model.base.SessionYear;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service for exporting all of the content of a given type for a session in bulk.
+ * The content is written as newline delimited json, i.e. one json object per line.
+ */
+public interface SessionExportService
+{
+    /**
+     * Writes the full bill view of every bill in the given session.
+     *
+     * @param sessionYear SessionYear
+     * @param out OutputStream - The stream is flushed but not closed.
+     * @return int - The number of bills that were written.
+     * @throws IOException - If the output could not be written.
+     */
+    public int exportBills(SessionYear sessionYear, OutputStream out) throws IOException;
+
+    /**
+     * Writes the agenda view of every agenda in both years of the given session.
+     *
+     * @see #exportBills(SessionYear, OutputStream)
+     */
+    public int exportAgendas(SessionYear sessionYear, OutputStream out) throws IOException;
+
+    /**
+     * Writes the calendar view of every calendar in both years of the given session.
+     *
+     * @see #exportBills(SessionYear, OutputStream)
+     */
+    public int exportCalendars(SessionYear sessionYear, OutputStream out) throws IOException;
+
+    /**
+     * Writes the extended member view of every member of the given session. Alternate short names are excluded.
+     *
+     * @see #exportBills(SessionYear, OutputStream)
+     */
+    public int exportMembers(SessionYear sessionYear, OutputStream out) throws IOException;
+
+    /**
+     * Writes the current version of every document of the given law. Laws are not tied to a session.
+     *
+     * @param lawId String - The three letter law id, e.g. EDN
+     * @param out OutputStream - The stream is flushed but not closed.
+     * @return int - The number of law documents that were written.
+     * @throws IOException - If the output could not be written.
+     */
+    public int exportLaw(String lawId, OutputStream out) throws IOException;
+}
@@ -0,0 +1,25 @@
+package gov.nysenate.openleg.service.export;
+
+import gov.nysenate.openleg.model.export.SnapshotType;
+
+public class SnapshotNotFoundEx extends RuntimeException
+{
+    private static final long serialVersionUID = -2786391745107203156L;
+
+    protected SnapshotType type;
+    protected String key;
+
+    public SnapshotNotFoundEx(SnapshotType type, String key) {
+        super("No " + type.getName() + " snapshot has been generated for " + key);
+        this.type = type;
+        this.key = key;
+    }
+
+    public SnapshotType getType() {
+        return type;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,46 @@
+package gov.nysenate.openleg.service.export;
+
+import gov.nysenate.openleg.model.export.SnapshotFile;
+import gov.nysenate.openleg.model.export.SnapshotType;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Service for maintaining precomputed snapshot files of whole-session datasets and laws, so that consumers that
+ * want all of the content for a session can download a single file instead of making many api requests.
+ */
+public interface SnapshotService
+{
+    /**
+     * Rewrites each snapshot whose content was modified since it was last written, along with the manifest.
+     * Does nothing if snapshots are disabled. If an update is already running, this waits for it to finish and
+     * then runs one more update, which also covers any other calls made in the meantime.
+     */
+    public void updateSnapshots();
+
+    /**
+     * @return List<SnapshotFile> - The manifest entries of all written snapshots, ordered by type and key.
+     */
+    public List<SnapshotFile> getManifest();
+
+    /**
+     * @param type SnapshotType
+     * @param key String - The session year for sessional snapshot types, or the law id for law snapshots.
+     * @return SnapshotFile - The manifest entry for the snapshot.
+     * @throws SnapshotNotFoundEx - If the snapshot has not been written.
+     */
+    public SnapshotFile getSnapshot(SnapshotType type, String key) throws SnapshotNotFoundEx;
+
+    /**
+     * Opens a snapshot for reading. The returned manifest entry always describes the opened file, even if the
+     * snapshot is rewritten before it is closed.
+     *
+     * @param type SnapshotType
+     * @param key String - The session year for sessional snapshot types, or the law id for law snapshots.
+     * @return OpenSnapshot - The opened snapshot, which must be closed by the caller.
+     * @throws SnapshotNotFoundEx - If the snapshot has not been written.
+     * @throws IOException - If the snapshot file could not be opened.
+     */
+    public OpenSnapshot openSnapshot(SnapshotType type, String key) throws SnapshotNotFoundEx, IOException;
+}
@@ -1,46 +1,164 @@
 package gov.nysenate.openleg.service.hearing.data;
 
 import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.dao.base.SortOrder;
 import gov.nysenate.openleg.dao.hearing.PublicHearingDao;
+import gov.nysenate.openleg.model.cache.CacheEvictEvent;
+import gov.nysenate.openleg.model.cache.CacheEvictIdEvent;
+import gov.nysenate.openleg.model.cache.CacheWarmEvent;
+import gov.nysenate.openleg.model.cache.ContentCache;
+import gov.nysenate.openleg.model.entity.Chamber;
 import gov.nysenate.openleg.model.hearing.PublicHearing;
+import gov.nysenate.openleg.model.hearing.PublicHearingCommittee;
 import gov.nysenate.openleg.model.hearing.PublicHearingFile;
 import gov.nysenate.openleg.model.hearing.PublicHearingId;
+import gov.nysenate.openleg.service.base.data.CacheEvictionBus;
+import gov.nysenate.openleg.service.base.data.CachingService;
+import gov.nysenate.openleg.service.base.data.CompressedText;
 import gov.nysenate.openleg.service.hearing.event.PublicHearingUpdateEvent;
+import net.sf.ehcache.Cache;
+import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.Element;
+import net.sf.ehcache.config.CacheConfiguration;
+import net.sf.ehcache.config.MemoryUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.Serializable;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Public hearing data service that caches public hearings with their text compressed. The cache is bounded
+ * by the heap size of its entries, so it holds more short hearings than long ones.
+ */
 @Service
-public class CachedPublicHearingDataService implements PublicHearingDataService
+public class CachedPublicHearingDataService implements PublicHearingDataService, CachingService<PublicHearingId>
 {
-    private static final String publicHearingCache = "publicHearingCache";
+    private static final Logger logger = LoggerFactory.getLogger(CachedPublicHearingDataService.class);
+
+    /** The number of most recent public hearings that are loaded when the cache is warmed. */
+    private static final int warmCount = 50;
+
+    @Autowired private EventBus eventBus;
+    @Autowired private CacheManager cacheManager;
+    @Autowired private CacheEvictionBus cacheEvictionBus;
+    @Autowired private PublicHearingDao publicHearingDao;
 
-    @Autowired
-    private EventBus eventBus;
+    @Value("${hearing.cache.size:20}") private long hearingCacheSizeMb;
 
-    @Autowired
-    private PublicHearingDao publicHearingDao;
+    private Cache publicHearingCache;
 
     @PostConstruct
     private void init() {
         eventBus.register(this);
+        setupCaches();
+    }
+
+    @PreDestroy
+    private void cleanUp() {
+        evictCaches();
+        cacheManager.removeCache(ContentCache.PUBLIC_HEARING.name());
+    }
+
+    /** --- CachingService implementation --- */
+
+    /** {@inheritDoc} */
+    @Override
+    public void setupCaches() {
+        publicHearingCache = new Cache(new CacheConfiguration().name(ContentCache.PUBLIC_HEARING.name())
+            .eternal(true)
+            .maxBytesLocalHeap(hearingCacheSizeMb, MemoryUnit.MEGABYTES)
+            .sizeOfPolicy(defaultSizeOfPolicy()));
+        cacheManager.addCache(publicHearingCache);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Ehcache> getCaches() {
+        return Collections.singletonList(publicHearingCache);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void evictContent(PublicHearingId publicHearingId) {
+        publicHearingCache.remove(publicHearingId);
+    }
+
+    /** {@inheritDoc} */
+    @Subscribe
+    @Override
+    public void handleCacheEvictEvent(CacheEvictEvent evictEvent) {
+        if (evictEvent.affects(ContentCache.PUBLIC_HEARING)) {
+            evictCaches();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Subscribe
+    @Override
+    public void handleCacheEvictIdEvent(CacheEvictIdEvent<PublicHearingId> evictIdEvent) {
+        if (evictIdEvent.affects(ContentCache.PUBLIC_HEARING)) {
+            evictContent(evictIdEvent.getContentId());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void warmCaches() {
+        evictCaches();
+        logger.info("Warming up public hearing cache..");
+        for (PublicHearingId publicHearingId : getPublicHearingIds(SortOrder.DESC, new LimitOffset(warmCount))) {
+            try {
+                getPublicHearing(publicHearingId);
+            }
+            catch (PublicHearingNotFoundEx ex) {
+                logger.warn("Failed to warm public hearing {}", publicHearingId, ex);
+            }
+        }
+        logger.info("Finished warming up public hearing cache..");
     }
 
+    /** {@inheritDoc} */
+    @Subscribe
+    @Override
+    public void handleCacheWarmEvent(CacheWarmEvent warmEvent) {
+        if (warmEvent.affects(ContentCache.PUBLIC_HEARING)) {
+            warmCaches();
+        }
+    }
+
+    /** --- PublicHearingDataService implementation --- */
+
     /** {@inheritDoc */
     @Override
     public PublicHearing getPublicHearing(PublicHearingId publicHearingId) throws PublicHearingNotFoundEx {
         if (publicHearingId == null) {
             throw new IllegalArgumentException("PublicHearingId cannot be null");
         }
-
+        Element element = publicHearingCache.get(publicHearingId);
+        if (element != null) {
+            return ((CachedPublicHearing) element.getObjectValue()).inflate();
+        }
         try {
-            return publicHearingDao.getPublicHearing(publicHearingId);
+            PublicHearing publicHearing = publicHearingDao.getPublicHearing(publicHearingId);
+            publicHearingCache.put(new Element(publicHearingId, new CachedPublicHearing(publicHearing)));
+            return publicHearing;
         } catch (EmptyResultDataAccessException ex) {
             throw new PublicHearingNotFoundEx(publicHearingId, ex);
         }
@@ -59,8 +177,70 @@ public class CachedPublicHearingDataService implements PublicHearingDataService
             throw new IllegalArgumentException("publicHearing cannot be null");
         }
         publicHearingDao.updatePublicHearing(publicHearing, publicHearingFile);
+        cacheEvictionBus.publish(new CacheEvictIdEvent<>(ContentCache.PUBLIC_HEARING, publicHearing.getId()));
         if (postUpdateEvent) {
             eventBus.post(new PublicHearingUpdateEvent(publicHearing, LocalDateTime.now()));
         }
     }
+
+    /** --- Internal --- */
+
+    /**
+     * The cached form of a public hearing. A new public hearing is created on each cache hit, so callers
+     * can never modify the cached copy.
+     */
+    private static class CachedPublicHearing implements Serializable
+    {
+        private static final long serialVersionUID = 6193724407315162258L;
+
+        private final PublicHearingId id;
+        private final String title;
+        private final LocalDate date;
+        private final String address;
+        private final String[] committeeNames;
+        private final Chamber[] committeeChambers;
+        private final CompressedText text;
+        private final LocalTime startTime;
+        private final LocalTime endTime;
+        private final LocalDateTime modifiedDateTime;
+        private final LocalDateTime publishedDateTime;
+
+        private CachedPublicHearing(PublicHearing publicHearing) {
+            this.id = publicHearing.getId();
+            this.title = publicHearing.getTitle();
+            this.date = publicHearing.getDate();
+            this.address = publicHearing.getAddress();
+            List<PublicHearingCommittee> committees = publicHearing.getCommittees();
+            this.committeeNames = committees == null ? null
+                : committees.stream().map(PublicHearingCommittee::getName).toArray(String[]::new);
+            this.committeeChambers = committees == null ? null
+                : committees.stream().map(PublicHearingCommittee::getChamber).toArray(Chamber[]::new);
+            this.text = CompressedText.of(publicHearing.getText());
+            this.startTime = publicHearing.getStartTime();
+            this.endTime = publicHearing.getEndTime();
+            this.modifiedDateTime = publicHearing.getModifiedDateTime();
+            this.publishedDateTime = publicHearing.getPublishedDateTime();
+        }
+
+        private PublicHearing inflate() {
+            PublicHearing publicHearing = new PublicHearing(id, date, text.getText());
+            publicHearing.setTitle(title);
+            publicHearing.setAddress(address);
+            if (committeeNames != null) {
+                publicHearing.setCommittees(IntStream.range(0, committeeNames.length)
+                    .mapToObj(i -> {
+                        PublicHearingCommittee committee = new PublicHearingCommittee();
+                        committee.setName(committeeNames[i]);
+                        committee.setChamber(committeeChambers[i]);
+                        return committee;
+                    })
+                    .collect(toList()));
+            }
+            publicHearing.setStartTime(startTime);
+            publicHearing.setEndTime(endTime);
+            publicHearing.setModifiedDateTime(modifiedDateTime);
+            publicHearing.setPublishedDateTime(publishedDateTime);
+            return publicHearing;
+        }
+    }
 }
@@ -9,6 +9,7 @@ import gov.nysenate.openleg.model.cache.CacheEvictIdEvent;
 import gov.nysenate.openleg.model.cache.CacheWarmEvent;
 import gov.nysenate.openleg.model.cache.ContentCache;
 import gov.nysenate.openleg.model.law.*;
+import gov.nysenate.openleg.service.base.data.CacheEvictionBus;
 import gov.nysenate.openleg.service.base.data.CachingService;
 import net.sf.ehcache.Cache;
 import net.sf.ehcache.CacheManager;
@@ -35,32 +36,30 @@ import static java.util.stream.Collectors.toList;
  * Service interface for retrieving and saving NYS Law data.
  */
 @Service
-public class CachedLawDataService implements LawDataService, CachingService<LawVersionId>
+public class CachedLawDataService implements LawDataService, CachingService<String>
 {
     private static final Logger logger = LoggerFactory.getLogger(CachedLawDataService.class);
 
     @Autowired private LawDataDao lawDataDao;
     @Autowired private CacheManager cacheManager;
     @Autowired private EventBus eventBus;
+    @Autowired private CacheEvictionBus cacheEvictionBus;
 
     @Value("${law.cache.size}") private long lawTreeCacheHeapSize;
 
+    /** Caches a LawTreeHistory containing every published version of a law's tree, keyed by the law id. */
     private EhCacheCache lawTreeCache;
 
-    private Map<String, LocalDate> maxPubDates = new HashMap<>();
-
     @PostConstruct
     private void init() {
         eventBus.register(this);
         setupCaches();
-        maxPubDates = lawDataDao.getLastPublishedMap();
     }
 
     @PreDestroy
     private void cleanUp() {
         evictCaches();
         cacheManager.removeCache(ContentCache.LAW.name());
-        maxPubDates.clear();
     }
 
     /** --- CachingService implementation --- */
@@ -88,24 +87,26 @@ public class CachedLawDataService implements LawDataService, CachingService<LawV
     public void handleCacheEvictEvent(CacheEvictEvent evictEvent) {
         if (evictEvent.affects(ContentCache.LAW)) {
             evictCaches();
-            maxPubDates.clear();
         }
     }
 
     /** {@inheritDoc} */
     @Subscribe
     @Override
-    public void handleCacheEvictIdEvent(CacheEvictIdEvent<LawVersionId> evictIdEvent) {
+    public void handleCacheEvictIdEvent(CacheEvictIdEvent<String> evictIdEvent) {
         if (evictIdEvent.affects(ContentCache.LAW)) {
             evictContent(evictIdEvent.getContentId());
         }
     }
 
-    /** {@inheritDoc} */
+    /**
+     * Evicts the cached law tree history of the given law.
+     *
+     * @param lawId String - The three letter law id, e.g. EDN
+     */
     @Override
-    public void evictContent(LawVersionId lawVersionId) {
-        lawTreeCache.evict(lawVersionId);
-        maxPubDates.clear();
+    public void evictContent(String lawId) {
+        lawTreeCache.evict(lawId.toUpperCase());
     }
 
     /** {@inheritDoc} */
@@ -142,26 +143,44 @@ public class CachedLawDataService implements LawDataService, CachingService<LawV
     @Override
     public LawTree getLawTree(String lawId, LocalDate endPublishedDate) throws LawTreeNotFoundEx {
         if (lawId == null) throw new IllegalArgumentException("Supplied lawId cannot be null");
+        return getLawTreeHistory(lawId).getTree(endPublishedDate)
+            .orElseThrow(() -> new LawTreeNotFoundEx(lawId, endPublishedDate, "No tree was published on or before this date"));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LawTreeDiff getLawTreeDiff(String lawId, LocalDate fromPublishedDate, LocalDate toPublishedDate)
+                                      throws LawTreeNotFoundEx {
+        if (lawId == null) throw new IllegalArgumentException("Supplied lawId cannot be null");
+        LawTreeHistory history = getLawTreeHistory(lawId);
+        if (!history.getTree(fromPublishedDate).isPresent()) {
+            throw new LawTreeNotFoundEx(lawId, fromPublishedDate, "No tree was published on or before this date");
+        }
+        if (!history.getTree(toPublishedDate).isPresent()) {
+            throw new LawTreeNotFoundEx(lawId, toPublishedDate, "No tree was published on or before this date");
+        }
+        return history.diff(fromPublishedDate, toPublishedDate);
+    }
+
+    /**
+     * Retrieves the history of the given law from the cache, loading every version from the backing store on a miss.
+     *
+     * @param lawId String - Three letter law id
+     * @return LawTreeHistory
+     * @throws LawTreeNotFoundEx - If the law does not exist.
+     */
+    private LawTreeHistory getLawTreeHistory(String lawId) throws LawTreeNotFoundEx {
+        String cacheKey = lawId.toUpperCase();
+        if (lawTreeCache.get(cacheKey) != null) {
+            return (LawTreeHistory) lawTreeCache.get(cacheKey).get();
+        }
         try {
-            if (endPublishedDate == null) {
-                if (maxPubDates.isEmpty()) {
-                    maxPubDates = lawDataDao.getLastPublishedMap();
-                }
-                endPublishedDate = maxPubDates.get(lawId);
-            }
-            LawVersionId lawVersionId = new LawVersionId(lawId.toUpperCase(), endPublishedDate);
-            LawTree lawTree;
-            if (lawTreeCache.get(lawVersionId) != null) {
-                lawTree = (LawTree) lawTreeCache.get(lawVersionId).get();
-            }
-            else {
-                lawTree = lawDataDao.getLawTree(lawId, endPublishedDate);
-                lawTreeCache.put(lawTree.getLawVersionId(), lawTree);
-            }
-            return lawTree;
+            LawTreeHistory history = lawDataDao.getLawTreeHistory(cacheKey);
+            lawTreeCache.put(cacheKey, history);
+            return history;
         }
         catch (EmptyResultDataAccessException ex) {
-            throw new LawTreeNotFoundEx(lawId, endPublishedDate, ex.getMessage());
+            throw new LawTreeNotFoundEx(lawId, null, ex.getMessage());
         }
     }
 
@@ -214,8 +233,12 @@ public class CachedLawDataService implements LawDataService, CachingService<LawV
     public void saveLawTree(LawFile lawFile, LawTree lawTree) {
         if (lawTree == null) throw new IllegalArgumentException("Supplied lawTree cannot be null");
         lawDataDao.updateLawTree(lawFile, lawTree);
-        lawTreeCache.put(lawTree.getLawVersionId(), lawTree);
-        maxPubDates.clear();
+        String lawId = lawTree.getLawId().toUpperCase();
+        if (lawTreeCache.get(lawId) != null) {
+            ((LawTreeHistory) lawTreeCache.get(lawId).get()).addVersion(lawTree);
+        }
+        // The law tree history is cached by law id, so other nodes evict their copy of the whole history
+        cacheEvictionBus.publish(new CacheEvictIdEvent<>(ContentCache.LAW, lawId));
     }
 
     /** {@inheritDoc} */
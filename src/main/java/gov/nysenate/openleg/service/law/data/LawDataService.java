@@ -30,6 +30,18 @@ public interface LawDataService
      */
     public LawTree getLawTree(String lawId, LocalDate endPublishedDate) throws LawTreeNotFoundEx;
 
+    /**
+     * Computes the structural differences between the law trees that were in effect on the two given dates.
+     *
+     * @param lawId String - Three letter law id
+     * @param fromPublishedDate LocalDate - The upper bound for published date of the earlier tree
+     * @param toPublishedDate LocalDate - The upper bound for published date of the later tree
+     * @return LawTreeDiff
+     * @throws LawTreeNotFoundEx - If there is no law tree for either of the dates.
+     */
+    public LawTreeDiff getLawTreeDiff(String lawId, LocalDate fromPublishedDate, LocalDate toPublishedDate)
+                                      throws LawTreeNotFoundEx;
+
     /**
      * Retrieves the LawDocument from the backing store given the document id and an endPublishedDate. The most recent
      * law document with a published date prior to or on 'endPublishedDate' will be returned. Otherwise a
@@ -11,7 +11,9 @@ import gov.nysenate.openleg.model.law.LawDocId;
 import gov.nysenate.openleg.model.law.LawDocument;
 import gov.nysenate.openleg.model.search.*;
 import gov.nysenate.openleg.service.base.search.ElasticSearchServiceUtils;
+import gov.nysenate.openleg.service.base.search.IndexQueueHandler;
 import gov.nysenate.openleg.service.base.search.IndexedSearchService;
+import gov.nysenate.openleg.service.base.search.SearchIndexQueue;
 import gov.nysenate.openleg.service.law.event.BulkLawUpdateEvent;
 import gov.nysenate.openleg.service.law.event.LawUpdateEvent;
 import org.elasticsearch.ElasticsearchException;
@@ -21,16 +23,16 @@ import org.elasticsearch.search.SearchParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
 import java.time.LocalDate;
-import java.util.Arrays;
-import java.util.Collection;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
-public class ElasticLawSearchService implements LawSearchService, IndexedSearchService<LawDocument>
+public class ElasticLawSearchService implements LawSearchService, IndexedSearchService<LawDocument>, IndexQueueHandler
 {
     private static final Logger logger = LoggerFactory.getLogger(ElasticLawSearchService.class);
 
@@ -38,10 +40,12 @@ public class ElasticLawSearchService implements LawSearchService, IndexedSearchS
     @Autowired private Environment env;
     @Autowired private ElasticLawSearchDao lawSearchDao;
     @Autowired private LawDataDao lawDataDao;
+    @Autowired private SearchIndexQueue indexQueue;
 
     @PostConstruct
     private void init() {
         eventBus.register(this);
+        indexQueue.registerHandler(this);
     }
 
     /** --- LawSearchService implementation --- */
@@ -76,7 +80,12 @@ public class ElasticLawSearchService implements LawSearchService, IndexedSearchS
     @Override
     public void handleLawUpdate(LawUpdateEvent lawUpdateEvent) {
         if (lawUpdateEvent != null && lawUpdateEvent.getLawDoc() != null) {
-            updateIndex(lawUpdateEvent.getLawDoc());
+            if (indexQueue.isEnabled()) {
+                queueLawDocs(Collections.singletonList(lawUpdateEvent.getLawDoc()));
+            }
+            else {
+                updateIndex(lawUpdateEvent.getLawDoc());
+            }
         }
     }
 
@@ -85,7 +94,37 @@ public class ElasticLawSearchService implements LawSearchService, IndexedSearchS
     @Override
     public void handleBulkLawUpdate(BulkLawUpdateEvent bulkLawUpdateEvent) {
         if (bulkLawUpdateEvent != null && !bulkLawUpdateEvent.getLawDocuments().isEmpty()) {
-            updateIndex(bulkLawUpdateEvent.getLawDocuments());
+            if (indexQueue.isEnabled()) {
+                queueLawDocs(bulkLawUpdateEvent.getLawDocuments());
+            }
+            else {
+                updateIndex(bulkLawUpdateEvent.getLawDocuments());
+            }
+        }
+    }
+
+    /** --- IndexQueueHandler implementation --- */
+
+    /** {@inheritDoc} */
+    @Override
+    public SearchIndex getQueueIndex() {
+        return SearchIndex.LAW;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void indexQueued(Collection<String> contentIds) {
+        List<LawDocument> lawDocs = new ArrayList<>();
+        for (String documentId : contentIds) {
+            try {
+                lawDocs.add(lawDataDao.getLawDocument(documentId, LocalDate.now()));
+            }
+            catch (EmptyResultDataAccessException ex) {
+                logger.warn("Queued law document {} no longer exists", documentId);
+            }
+        }
+        if (!lawDocs.isEmpty()) {
+            updateIndex(lawDocs);
         }
     }
 
@@ -139,4 +178,16 @@ public class ElasticLawSearchService implements LawSearchService, IndexedSearchS
             clearIndex();
         }
     }
-}
\ No newline at end of file
+
+    /** --- Internal --- */
+
+    /**
+     * Queues the given law documents to be indexed asynchronously.
+     */
+    private void queueLawDocs(Collection<LawDocument> lawDocs) {
+        if (env.isElasticIndexing()) {
+            indexQueue.enqueue(SearchIndex.LAW,
+                lawDocs.stream().map(LawDocument::getDocumentId).collect(Collectors.toList()));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package gov.nysenate.openleg.service.metrics;
+
+import gov.nysenate.openleg.model.metrics.Timer;
+import gov.nysenate.openleg.model.metrics.TimerType;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds the timers for the hot paths of the application, e.g. api requests, sql queries, sobi processing
+ * and search requests. Timers are created on first use and kept for the life of the application. Looking up
+ * an existing timer and recording to it does not lock, so this can be used freely on any thread.
+ *
+ * The recorded values are exported through {@link gov.nysenate.openleg.controller.api.admin.MetricsCtrl}.
+ */
+@Service
+public class MetricsRegistry
+{
+    private final Map<TimerType, ConcurrentMap<List<String>, Timer>> timers = new EnumMap<>(TimerType.class);
+
+    public MetricsRegistry() {
+        for (TimerType type : TimerType.values()) {
+            timers.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    /** --- Methods --- */
+
+    /**
+     * Gets the timer for the given type and label values, creating it if it does not exist yet.
+     *
+     * @param type TimerType
+     * @param labelValues String... - A value for each of the type's labels, in the same order.
+     * @return Timer
+     * @throws IllegalArgumentException - If the number of label values does not match the type's labels.
+     */
+    public Timer getTimer(TimerType type, String... labelValues) {
+        if (labelValues.length != type.getLabelNames().size()) {
+            throw new IllegalArgumentException(type + " timers require values for the labels " + type.getLabelNames());
+        }
+        ConcurrentMap<List<String>, Timer> typeTimers = timers.get(type);
+        List<String> key = Arrays.asList(labelValues);
+        Timer timer = typeTimers.get(key);
+        return (timer != null) ? timer : typeTimers.computeIfAbsent(key, k -> new Timer());
+    }
+
+    /**
+     * @param type TimerType
+     * @return Map<List<String>, Timer> - A read only view of the timers of the given type, keyed by their label values.
+     */
+    public Map<List<String>, Timer> getTimers(TimerType type) {
+        return Collections.unmodifiableMap(timers.get(type));
+    }
+}
@@ -0,0 +1,101 @@
+package gov.nysenate.openleg.service.metrics;
+
+import gov.nysenate.openleg.model.metrics.Timer;
+import gov.nysenate.openleg.model.metrics.TimerType;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes metrics in the Prometheus text exposition format (version 0.0.4).
+ * Timers are written as histograms, with a bucket for each of the {@link Timer} bucket bounds.
+ */
+public class PrometheusTextWriter
+{
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final StringBuilder text = new StringBuilder();
+
+    /** --- Methods --- */
+
+    /**
+     * Writes a histogram for each of the given timers, along with their sums and counts.
+     *
+     * @param type TimerType - Determines the metric name, help text and label names.
+     * @param timers Map<List<String>, Timer> - The timers keyed by their label values.
+     */
+    public PrometheusTextWriter writeTimers(TimerType type, Map<List<String>, Timer> timers) {
+        String name = type.getMetricName();
+        writeHeader(name, type.getHelp(), "histogram");
+        double[] bounds = Timer.getBucketBounds();
+        for (Map.Entry<List<String>, Timer> entry : timers.entrySet()) {
+            String labels = getLabels(type.getLabelNames(), entry.getKey());
+            long[] counts = entry.getValue().getCumulativeCounts();
+            for (int i = 0; i < counts.length; i++) {
+                String bound = (i < bounds.length) ? Double.toString(bounds[i]) : "+Inf";
+                writeSample(name + "_bucket", labels + ",le=\"" + bound + "\"", Long.toString(counts[i]));
+            }
+            writeSample(name + "_sum", labels, Double.toString(entry.getValue().getTotalSeconds()));
+            writeSample(name + "_count", labels, Long.toString(counts[counts.length - 1]));
+        }
+        return this;
+    }
+
+    /**
+     * Writes a metric with a single label, e.g. a counter or gauge with a value for each cache.
+     *
+     * @param name String - The metric name
+     * @param help String - A description of the metric
+     * @param type String - The Prometheus metric type e.g. 'counter' or 'gauge'
+     * @param labelName String - The name of the label that distinguishes the values
+     * @param values Map<String, ? extends Number> - The values keyed by label value
+     */
+    public PrometheusTextWriter writeMetric(String name, String help, String type, String labelName,
+                                            Map<String, ? extends Number> values) {
+        writeHeader(name, help, type);
+        values.forEach((labelValue, value) ->
+            writeSample(name, labelName + "=\"" + escape(labelValue) + "\"", value.toString()));
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+
+    /** --- Internal Methods --- */
+
+    private void writeHeader(String name, String help, String type) {
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        text.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private void writeSample(String name, String labels, String value) {
+        text.append(name);
+        if (!labels.isEmpty()) {
+            text.append('{').append(labels).append('}');
+        }
+        text.append(' ').append(value).append('\n');
+    }
+
+    private static String getLabels(List<String> names, List<String> values) {
+        StringBuilder labels = new StringBuilder();
+        for (int i = 0; i < names.size(); i++) {
+            if (i > 0) {
+                labels.append(',');
+            }
+            labels.append(names.get(i)).append("=\"").append(escape(values.get(i))).append('"');
+        }
+        return labels.toString();
+    }
+
+    /**
+     * Escapes backslashes, double quotes and line feeds in a label value.
+     */
+    private static String escape(String labelValue) {
+        if (labelValue == null) {
+            return "";
+        }
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -23,6 +23,12 @@ public abstract class BaseSpotCheckReportService<ContentKey> implements SpotChec
      */
     protected abstract SpotCheckReportDao<ContentKey> getReportDao();
 
+    /** {@inheritDoc} */
+    @Override
+    public DeNormSpotCheckMismatch getMismatch(int mismatchId) {
+        return getReportDao().getMismatch(mismatchId);
+    }
+
     /** {@inheritDoc} */
     @Override
     public PaginatedList<DeNormSpotCheckMismatch> getMismatches(MismatchQuery<ContentKey> query, LimitOffset limitOffset){
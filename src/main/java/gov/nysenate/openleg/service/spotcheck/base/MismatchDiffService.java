@@ -0,0 +1,147 @@
+package gov.nysenate.openleg.service.spotcheck.base;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import gov.nysenate.openleg.model.cache.CacheEvictEvent;
+import gov.nysenate.openleg.model.cache.CacheEvictIdEvent;
+import gov.nysenate.openleg.model.cache.CacheWarmEvent;
+import gov.nysenate.openleg.model.cache.ContentCache;
+import gov.nysenate.openleg.model.spotcheck.DeNormSpotCheckMismatch;
+import gov.nysenate.openleg.model.spotcheck.MismatchDiff;
+import gov.nysenate.openleg.service.base.data.CachingService;
+import net.sf.ehcache.Cache;
+import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.Element;
+import net.sf.ehcache.config.CacheConfiguration;
+import net.sf.ehcache.config.MemoryUnit;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Computes diffs between the reference and observed data of spotcheck mismatches. Since mismatch data never
+ * changes for a given mismatch id, diffs are computed once and cached in compact form. Each cached diff
+ * is validated against a hash of the mismatch content before it is used.
+ */
+@Service
+public class MismatchDiffService implements CachingService<Integer>
+{
+    private static final Logger logger = LoggerFactory.getLogger(MismatchDiffService.class);
+
+    @Autowired private CacheManager cacheManager;
+    @Autowired private EventBus eventBus;
+
+    @Value("${mismatch-diff.cache.size:20}") private long diffCacheSizeMb;
+    @Value("${spotcheck.mismatch.diff.max_length:200000}") private int maxDiffLength;
+
+    private Cache diffCache;
+
+    @PostConstruct
+    private void init() {
+        setupCaches();
+        eventBus.register(this);
+    }
+
+    @PreDestroy
+    private void cleanUp() {
+        evictCaches();
+        cacheManager.removeCache(ContentCache.MISMATCH_DIFF.name());
+    }
+
+    /**
+     * Gets the diff between the reference and observed data of the given mismatch.
+     *
+     * @param mismatch DeNormSpotCheckMismatch
+     * @param simple boolean - Set to true to make the results of the diff less granular.
+     * @return MismatchDiff
+     */
+    public MismatchDiff getDiff(DeNormSpotCheckMismatch<?> mismatch, boolean simple) {
+        String referenceData = Objects.toString(mismatch.getReferenceData(), "");
+        String observedData = Objects.toString(mismatch.getObservedData(), "");
+        Pair<Integer, Boolean> cacheKey = Pair.of(mismatch.getMismatchId(), simple);
+        Element element = diffCache.get(cacheKey);
+        if (element != null) {
+            MismatchDiff cachedDiff = (MismatchDiff) element.getObjectValue();
+            if (cachedDiff.matches(referenceData, observedData)) {
+                return cachedDiff;
+            }
+        }
+        MismatchDiff diff = MismatchDiff.compute(referenceData, observedData, simple, maxDiffLength);
+        if (diff.isTruncated()) {
+            logger.info("Mismatch {} data exceeds the max diff length of {}, skipping diff",
+                    mismatch.getMismatchId(), maxDiffLength);
+        }
+        diffCache.put(new Element(cacheKey, diff));
+        return diff;
+    }
+
+    /** --- CachingService implementation --- */
+
+    /** {@inheritDoc} */
+    @Override
+    public void setupCaches() {
+        diffCache = new Cache(new CacheConfiguration().name(ContentCache.MISMATCH_DIFF.name())
+                .eternal(true)
+                .maxBytesLocalHeap(diffCacheSizeMb, MemoryUnit.MEGABYTES)
+                .sizeOfPolicy(defaultSizeOfPolicy()));
+        cacheManager.addCache(diffCache);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Ehcache> getCaches() {
+        return Collections.singletonList(diffCache);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void evictContent(Integer mismatchId) {
+        diffCache.remove(Pair.of(mismatchId, true));
+        diffCache.remove(Pair.of(mismatchId, false));
+    }
+
+    /** {@inheritDoc} */
+    @Subscribe
+    @Override
+    public void handleCacheEvictEvent(CacheEvictEvent evictEvent) {
+        if (evictEvent.affects(ContentCache.MISMATCH_DIFF)) {
+            evictCaches();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Subscribe
+    @Override
+    public void handleCacheEvictIdEvent(CacheEvictIdEvent<Integer> evictIdEvent) {
+        if (evictIdEvent.affects(ContentCache.MISMATCH_DIFF)) {
+            evictContent(evictIdEvent.getContentId());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Diffs are only computed on request, so there is nothing to warm.
+     */
+    @Override
+    public void warmCaches() {}
+
+    /** {@inheritDoc} */
+    @Subscribe
+    @Override
+    public void handleCacheWarmEvent(CacheWarmEvent warmEvent) {
+        if (warmEvent.affects(ContentCache.MISMATCH_DIFF)) {
+            warmCaches();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package gov.nysenate.openleg.service.spotcheck.base;
+
+import com.google.common.collect.Lists;
+import gov.nysenate.openleg.config.Environment;
+import gov.nysenate.openleg.model.bill.BaseBillId;
+import gov.nysenate.openleg.model.bill.Bill;
+import gov.nysenate.openleg.model.spotcheck.SpotCheckObservation;
+import gov.nysenate.openleg.service.bill.data.BillDataService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.Resource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Runs spotcheck checks in parallel. References are split into shards of {@code spotcheck.check.shard_size}
+ * which are processed concurrently on the bounded spotcheck executor. The check functions passed in must
+ * be free of side effects since they will be invoked from multiple threads at once.
+ */
+@Service
+public class ParallelCheckExecutor
+{
+    private static final Logger logger = LoggerFactory.getLogger(ParallelCheckExecutor.class);
+
+    @Resource(name = "spotcheckExecutor") private ThreadPoolTaskExecutor executor;
+    @Autowired private Environment env;
+    @Autowired private BillDataService billDataService;
+
+    /**
+     * Applies the shard check function to each shard of the given references in parallel.
+     *
+     * @param references List<R> - The reference data to check.
+     * @param shardCheck Function<List<R>, List<O>> - Produces the results for a single shard.
+     * @return List<O> - The combined results of every shard, in the order of the given references.
+     * @throws SpotCheckExecutionEx - If interrupted or a shard check throws a checked exception.
+     *                                Runtime exceptions thrown by a shard are rethrown as is.
+     */
+    public <R, O> List<O> checkSharded(List<R> references, Function<List<R>, List<O>> shardCheck) {
+        List<List<R>> shards = Lists.partition(references, Math.max(1, env.getSpotcheckShardSize()));
+        logger.info("Checking {} references in {} shards", references.size(), shards.size());
+        List<Future<List<O>>> futures = shards.stream()
+                .map(shard -> executor.submit(() -> shardCheck.apply(shard)))
+                .collect(toList());
+        List<O> results = new ArrayList<>(references.size());
+        try {
+            for (Future<List<O>> future : futures) {
+                results.addAll(future.get());
+            }
+        }
+        catch (InterruptedException ex) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new SpotCheckExecutionEx("Interrupted while waiting for spotcheck shards", ex);
+        }
+        catch (ExecutionException ex) {
+            futures.forEach(future -> future.cancel(true));
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new SpotCheckExecutionEx("A spotcheck shard failed", ex.getCause());
+        }
+        return results;
+    }
+
+    /**
+     * Checks each reference against its corresponding bill in parallel. The bills for each shard are
+     * loaded together by the thread that checks the shard.
+     *
+     * @param references List<R> - The reference data to check.
+     * @param billIdFn Function<R, BaseBillId> - Gets the id of the bill that a reference corresponds to.
+     * @param checkFn BiFunction<Bill, R, SpotCheckObservation<K>> - Checks a bill against its reference.
+     * @param missingFn Function<R, SpotCheckObservation<K>> - Produces an observation for a reference
+     *                                                          whose bill does not exist.
+     * @return List<SpotCheckObservation<K>> - An observation for each reference.
+     */
+    public <R, K> List<SpotCheckObservation<K>> checkBills(List<R> references,
+                                                           Function<R, BaseBillId> billIdFn,
+                                                           BiFunction<Bill, R, SpotCheckObservation<K>> checkFn,
+                                                           Function<R, SpotCheckObservation<K>> missingFn) {
+        return checkSharded(references, shard -> {
+            Map<BaseBillId, Bill> bills = billDataService.getBills(shard.stream().map(billIdFn).distinct().collect(toList()));
+            return shard.stream()
+                    .map(reference -> {
+                        Bill bill = bills.get(billIdFn.apply(reference));
+                        return (bill != null) ? checkFn.apply(bill, reference) : missingFn.apply(reference);
+                    })
+                    .collect(toList());
+        });
+    }
+}
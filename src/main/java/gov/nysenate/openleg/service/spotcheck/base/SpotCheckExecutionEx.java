@@ -0,0 +1,13 @@
+package gov.nysenate.openleg.service.spotcheck.base;
+
+/**
+ * Thrown when the parallel execution of a spotcheck could not be completed.
+ */
+public class SpotCheckExecutionEx extends RuntimeException
+{
+    private static final long serialVersionUID = -2784311564830926173L;
+
+    public SpotCheckExecutionEx(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -45,6 +45,14 @@ public interface SpotCheckReportService<ContentKey>
      */
     void saveReport(SpotCheckReport<ContentKey> report);
 
+    /**
+     * Get a single mismatch by its id.
+     * @param mismatchId int
+     * @return DeNormSpotCheckMismatch
+     * @throws MismatchNotFoundEx - If no mismatch exists with the given id.
+     */
+    DeNormSpotCheckMismatch getMismatch(int mismatchId);
+
     /**
      * Get mismatches matching the given MismatchQuery.
      * Defaults to Not ignored open mismatches for the current session.
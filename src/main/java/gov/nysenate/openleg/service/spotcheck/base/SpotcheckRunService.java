@@ -1,5 +1,6 @@
 package gov.nysenate.openleg.service.spotcheck.base;
 
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.*;
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
@@ -23,18 +24,28 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static gov.nysenate.openleg.model.spotcheck.SpotCheckRefType.*;
 
 /**
- * Runs spotcheck reports based on scheduling and events
+ * Runs spotcheck reports based on scheduling and events.
+ * Reports of different types may run concurrently, while runs of the same report type are serialized.
  */
 @Service
 public class SpotcheckRunService {
@@ -53,6 +64,11 @@ public class SpotcheckRunService {
     /** A set of reports are automatically ran based on the scheduler.spotcheck.interval.cron */
     Set<SpotCheckReportService> intervalReports;
 
+    /** Prevents concurrent runs of the same report type while allowing different report types to overlap */
+    private final ConcurrentMap<SpotCheckRefType, Lock> reportLocks = new ConcurrentHashMap<>();
+
+    @Resource(name = "openlegAsync") private ThreadPoolTaskExecutor asyncExecutor;
+
     /** --- Report Services --- */
 
     /** Agenda Report Services */
@@ -95,7 +111,7 @@ public class SpotcheckRunService {
      * Only runs if spotcheck processing is enabled/scheduled.
      */
     @Scheduled(cron = "${scheduler.spotcheck.interval.cron:0 45 23 * * *}")
-    public synchronized void runIntervalReports() {
+    public void runIntervalReports() {
         if (env.isSpotcheckScheduled()) {
             runIntervalReports(LocalDate.now().getYear());
         }
@@ -105,16 +121,16 @@ public class SpotcheckRunService {
      * Runs all interval reports, checking all data in the specified year.
      * @param year
      */
-    public synchronized void runIntervalReports(int year) {
+    public void runIntervalReports(int year) {
         Range<LocalDateTime> yearRange = Range.closed(LocalDateTime.of(year, 1, 1, 0, 0), LocalDateTime.of(year, 12, 31, 0, 0));
-        intervalReports.forEach(reportService -> runReport(reportService, yearRange));
+        runConcurrently(intervalReports, yearRange);
     }
 
     /**
      * Runs Calendar reports, checking all data in the specified year.
      * @param year
      */
-    public synchronized void runCalendarIntervalReports(int year) {
+    public void runCalendarIntervalReports(int year) {
         Range<LocalDateTime> yearRange = Range.closed(LocalDateTime.of(year, 1, 1, 0, 0), LocalDateTime.of(year, 12, 31, 0, 0));
         runReport(intervalCalendarReportService, yearRange);
     }
@@ -123,7 +139,7 @@ public class SpotcheckRunService {
      * Runs Agenda reports, checking all data in the specified year.
      * @param year
      */
-    public synchronized void runAgendaIntervalReports(int year) {
+    public void runAgendaIntervalReports(int year) {
         Range<LocalDateTime> yearRange = Range.closed(LocalDateTime.of(year, 1, 1, 0, 0), LocalDateTime.of(year, 12, 31, 0, 0));
         runReport(intervalAgendaReportService, yearRange);
     }
@@ -134,7 +150,7 @@ public class SpotcheckRunService {
      * @param referenceEvent SpotCheckReferenceEvent
      */
     @Subscribe
-    public synchronized void handleSpotcheckReferenceEvent(SpotCheckReferenceEvent referenceEvent) {
+    public void handleSpotcheckReferenceEvent(SpotCheckReferenceEvent referenceEvent) {
         runReports(referenceEvent.getRefType());
     }
 
@@ -144,9 +160,8 @@ public class SpotcheckRunService {
      * @param refType SpotCheckRefType
      * @param reportRange Range<LocalDateTime>
      */
-    public synchronized void runReports(SpotCheckRefType refType, Range<LocalDateTime> reportRange) {
-        eventTriggeredReports.get(refType)
-                .forEach(reportService -> runReport(reportService, reportRange));
+    public void runReports(SpotCheckRefType refType, Range<LocalDateTime> reportRange) {
+        runConcurrently(eventTriggeredReports.get(refType), reportRange);
     }
 
     /**
@@ -154,28 +169,51 @@ public class SpotcheckRunService {
      *
      * @param refType SpotCheckRefType
      */
-    public synchronized void runReports(SpotCheckRefType refType) {
+    public void runReports(SpotCheckRefType refType) {
         runReports(refType, DateUtils.ALL_DATE_TIMES);
     }
 
     /** --- Internal Methods --- */
 
+    /**
+     * Runs each of the given reports on the async executor, returning once they have all completed.
+     */
+    private void runConcurrently(Collection<SpotCheckReportService> reportServices, Range<LocalDateTime> reportRange) {
+        if (reportServices.size() == 1) {
+            runReport(reportServices.iterator().next(), reportRange);
+            return;
+        }
+        CompletableFuture<?>[] futures = reportServices.stream()
+                .map(reportService -> CompletableFuture.runAsync(() -> runReport(reportService, reportRange), asyncExecutor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+    }
+
     private <T> void runReport(SpotCheckReportService<T> reportService, Range<LocalDateTime> reportRange) {
-        logger.info("Attempting to run a {} report..", reportService.getSpotcheckRefType());
+        SpotCheckRefType refType = reportService.getSpotcheckRefType();
+        Lock reportLock = reportLocks.computeIfAbsent(refType, type -> new ReentrantLock());
+        reportLock.lock();
         try {
+            logger.info("Attempting to run a {} report..", refType);
+            Stopwatch stopwatch = Stopwatch.createStarted();
             SpotCheckReport<T> report = reportService.generateReport(
                     DateUtils.startOfDateTimeRange(reportRange), DateUtils.endOfDateTimeRange(reportRange));
+            long generateMillis = stopwatch.elapsed(TimeUnit.MILLISECONDS);
             int notesCutoff = 140;
             logger.info("Saving {} report. obs: {} mm: {}({}ig.) notes: {}",
                     report.getReferenceType(), report.getObservedCount(),
                     report.getOpenMismatchCount(false), report.getOpenMismatchCount(true),
                     StringUtils.abbreviate(report.getNotes(), notesCutoff));
             reportService.saveReport(report);
+            logger.info("{} report completed in {} (generate: {} ms, save: {} ms)", refType, stopwatch,
+                    generateMillis, stopwatch.elapsed(TimeUnit.MILLISECONDS) - generateMillis);
             spotCheckNotificationService.spotcheckCompleteNotification(report);
         } catch (ReferenceDataNotFoundEx ex) {
-            logger.info("No report generated: no {} references could be found. Message: " + ex.getMessage(), reportService.getSpotcheckRefType());
+            logger.info("No report generated: no {} references could be found. Message: " + ex.getMessage(), refType);
         } catch (Exception ex) {
             spotCheckNotificationService.handleSpotcheckException(ex, true);
+        } finally {
+            reportLock.unlock();
         }
     }
 }
@@ -9,7 +9,6 @@ import gov.nysenate.openleg.model.spotcheck.SpotCheckObservation;
 import gov.nysenate.openleg.model.spotcheck.SpotCheckReferenceId;
 import gov.nysenate.openleg.model.spotcheck.daybreak.DaybreakBill;
 import gov.nysenate.openleg.service.spotcheck.base.BaseSpotCheckService;
-import gov.nysenate.openleg.util.BillTextUtils;
 import gov.nysenate.openleg.util.DateUtils;
 import org.apache.commons.lang3.StringEscapeUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -87,7 +86,7 @@ public class DaybreakCheckService extends BaseSpotCheckService<BaseBillId, Bill,
         // Just count the pages for versions that also appear in the daybreak
         bill.getAmendmentMap().forEach((k,v) -> {
             if (daybreakPageCounts.containsKey(k)) {
-                billPageCounts.put(k, BillTextUtils.getPageCount(v.getFullText()));
+                billPageCounts.put(k, v.getTextMetrics().getPageCount());
             }
         });
         if (!daybreakPageCounts.equals(billPageCounts)) {
@@ -14,6 +14,7 @@ import gov.nysenate.openleg.model.spotcheck.daybreak.DaybreakBill;
 import gov.nysenate.openleg.model.spotcheck.*;
 import gov.nysenate.openleg.service.bill.data.BillDataService;
 import gov.nysenate.openleg.service.spotcheck.base.BaseSpotCheckReportService;
+import gov.nysenate.openleg.service.spotcheck.base.ParallelCheckExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -49,6 +50,9 @@ public class DaybreakReportService extends BaseSpotCheckReportService<BaseBillId
     @Autowired
     private BillDataService billDataService;
 
+    @Autowired
+    private ParallelCheckExecutor parallelCheckExecutor;
+
     /** --- Implemented Methods --- */
 
     @Override
@@ -116,12 +120,13 @@ public class DaybreakReportService extends BaseSpotCheckReportService<BaseBillId
                 });
 
         // Perform actual spot checks for the bills common to both sets
-        daybreakBills.stream()
+        List<DaybreakBill> commonBills = daybreakBills.stream()
             .filter(daybreakBill -> openlegBillIds.contains(daybreakBill.getBaseBillId()))
-            .forEach(daybreakBill -> {
-                Bill bill = billDataService.getBill(daybreakBill.getBaseBillId());
-                report.addObservation(daybreakCheckService.check(bill, daybreakBill));
-            });
+            .collect(Collectors.toList());
+        report.addObservations(parallelCheckExecutor.checkBills(commonBills, DaybreakBill::getBaseBillId,
+                daybreakCheckService::check,
+                daybreakBill -> SpotCheckObservation.getObserveDataMissingObs(
+                        daybreakBill.getReferenceId(), daybreakBill.getBaseBillId())));
         // Set the report as being checked
         daybreakDao.updateDaybreakReportSetChecked(report.getReferenceDateTime().toLocalDate(), true);
         // Done with this report!
@@ -4,17 +4,15 @@ import gov.nysenate.openleg.dao.bill.scrape.SqlFsBillScrapeReferenceDao;
 import gov.nysenate.openleg.dao.spotcheck.BaseBillIdSpotCheckReportDao;
 import gov.nysenate.openleg.dao.spotcheck.SpotCheckReportDao;
 import gov.nysenate.openleg.model.bill.BaseBillId;
-import gov.nysenate.openleg.model.bill.Bill;
 import gov.nysenate.openleg.model.spotcheck.*;
 import gov.nysenate.openleg.model.spotcheck.billscrape.BillScrapeReference;
 import gov.nysenate.openleg.model.spotcheck.billscrape.ScrapeQueuePriority;
 import gov.nysenate.openleg.processor.base.ParseError;
-import gov.nysenate.openleg.service.bill.data.BillDataService;
-import gov.nysenate.openleg.service.bill.data.BillNotFoundEx;
 import gov.nysenate.openleg.service.scraping.LrsOutageScrapingEx;
 import gov.nysenate.openleg.service.scraping.bill.BillScrapeFile;
 import gov.nysenate.openleg.service.scraping.bill.BillScrapeReferenceFactory;
 import gov.nysenate.openleg.service.spotcheck.base.BaseSpotCheckReportService;
+import gov.nysenate.openleg.service.spotcheck.base.ParallelCheckExecutor;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,10 +35,10 @@ public class BillScrapeReportService extends BaseSpotCheckReportService {
     private static final Logger logger = LoggerFactory.getLogger(BillScrapeReportService.class);
 
     @Autowired private SqlFsBillScrapeReferenceDao dao;
-    @Autowired private BillDataService billDataService;
     @Autowired private BaseBillIdSpotCheckReportDao reportDao;
     @Autowired private BillScrapeCheckService billScrapeCheckService;
     @Autowired private BillScrapeReferenceFactory billScrapeReferenceFactory;
+    @Autowired private ParallelCheckExecutor parallelCheckExecutor;
 
     @Override
     protected SpotCheckReportDao getReportDao() {
@@ -71,9 +69,8 @@ public class BillScrapeReportService extends BaseSpotCheckReportService {
         report.setNotes(createNotes(references));
 
         // Get observations for each reference
-        references.stream()
-                .map(this::generateObservation)
-                .forEach(report::addObservation);
+        report.addObservations(parallelCheckExecutor.checkBills(references, BillScrapeReference::getBaseBillId,
+                billScrapeCheckService::check, this::generateBillMissingObservation));
 
         // Set each reference as checked
         for (BillScrapeFile file : scrapeFiles) {
@@ -111,19 +108,14 @@ public class BillScrapeReportService extends BaseSpotCheckReportService {
                 .reduce("", (a, b) -> a + (StringUtils.isBlank(a) ? "" : ", ") + b);
     }
 
-    private SpotCheckObservation<BaseBillId> generateObservation(BillScrapeReference btr) {
-        //Gets bill from openleg processed info
-        try {
-            Bill bill = billDataService.getBill(new BaseBillId(btr.getPrintNo(), btr.getSessionYear()));
-            return billScrapeCheckService.check(bill, btr);
-        } catch (BillNotFoundEx e) {
-            SpotCheckObservation<BaseBillId> ob = new SpotCheckObservation<>(btr.getReferenceId(), btr.getBaseBillId());
-            if (btr.isNotFound()) { // Bill text references are still generated if LRS data is not found
-                ob.addMismatch(new SpotCheckMismatch(REFERENCE_DATA_MISSING,
-                        "also missing", btr.getBaseBillId() + "\n" + btr.getText()));
-            }
-            ob.addMismatch(new SpotCheckMismatch(OBSERVE_DATA_MISSING, "", btr.getBaseBillId().toString()));
-            return ob;
+    // Generates the observation for a reference whose bill is not present in openleg
+    private SpotCheckObservation<BaseBillId> generateBillMissingObservation(BillScrapeReference btr) {
+        SpotCheckObservation<BaseBillId> ob = new SpotCheckObservation<>(btr.getReferenceId(), btr.getBaseBillId());
+        if (btr.isNotFound()) { // Bill text references are still generated if LRS data is not found
+            ob.addMismatch(new SpotCheckMismatch(REFERENCE_DATA_MISSING,
+                    "also missing", btr.getBaseBillId() + "\n" + btr.getText()));
         }
+        ob.addMismatch(new SpotCheckMismatch(OBSERVE_DATA_MISSING, "", btr.getBaseBillId().toString()));
+        return ob;
     }
 }
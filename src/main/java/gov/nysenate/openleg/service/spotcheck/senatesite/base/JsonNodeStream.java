@@ -0,0 +1,157 @@
+package gov.nysenate.openleg.service.spotcheck.senatesite.base;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gov.nysenate.openleg.processor.base.ParseError;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Streams the elements of a top level array or object field of a json file, e.g. the "nodes" of a
+ * nysenate.gov dump fragment. Only one element is read into memory at a time, so the heap used is
+ * independent of the size of the file.
+ *
+ * The stream can only be iterated once. The file is closed once all elements are read, if an element
+ * cannot be read, or when the stream is closed.
+ *
+ * @param <T> The type that each element is mapped to.
+ */
+public class JsonNodeStream<T> implements Iterable<T>, Closeable {
+
+    private final ObjectMapper objectMapper;
+    private final File file;
+    private final String fieldName;
+    private final Function<JsonNode, T> elementMapper;
+
+    private com.fasterxml.jackson.core.JsonParser jsonParser;
+    private boolean iterated = false;
+
+    public JsonNodeStream(ObjectMapper objectMapper, File file, String fieldName,
+                          Function<JsonNode, T> elementMapper) {
+        this.objectMapper = objectMapper;
+        this.file = file;
+        this.fieldName = fieldName;
+        this.elementMapper = elementMapper;
+    }
+
+    /**
+     * Opens the file and positions the stream at the start of the field's elements.
+     * @throws ParseError if the file cannot be read or does not contain the field
+     */
+    @Override
+    public synchronized Iterator<T> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("A json node stream can only be iterated once: " + file.getAbsolutePath());
+        }
+        iterated = true;
+        try {
+            jsonParser = objectMapper.getFactory().createParser(file);
+            if (!seekField()) {
+                close();
+                throw new ParseError("Could not locate \"" + fieldName + "\" node in json file: " + file.getAbsolutePath());
+            }
+        } catch (IOException ex) {
+            closeQuietly();
+            throw new ParseError("Error while reading json file: " + file.getAbsolutePath(), ex);
+        }
+        return new ElementIterator();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (jsonParser != null) {
+            jsonParser.close();
+        }
+    }
+
+    /** --- Internal --- */
+
+    /**
+     * Advances the parser to the start of the field's array or object, skipping all other top level fields.
+     * @return true if the field was found
+     */
+    private boolean seekField() throws IOException {
+        if (jsonParser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+            String currentName = jsonParser.getCurrentName();
+            JsonToken valueToken = jsonParser.nextToken();
+            if (fieldName.equals(currentName)) {
+                return valueToken == JsonToken.START_ARRAY || valueToken == JsonToken.START_OBJECT;
+            }
+            jsonParser.skipChildren();
+        }
+        return false;
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException ignored) {}
+    }
+
+    /**
+     * Reads the next element of the field on each call to {@link #next()}.
+     */
+    private class ElementIterator implements Iterator<T> {
+
+        private JsonNode nextElement = null;
+        private boolean finished = false;
+
+        @Override
+        public boolean hasNext() {
+            if (nextElement == null && !finished) {
+                nextElement = readElement();
+            }
+            return nextElement != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            JsonNode element = nextElement;
+            nextElement = null;
+            try {
+                return elementMapper.apply(element);
+            } catch (RuntimeException ex) {
+                finish();
+                throw ex;
+            }
+        }
+
+        /**
+         * @return JsonNode - the next element, or null if there are no more elements
+         */
+        private JsonNode readElement() {
+            try {
+                JsonToken token = jsonParser.nextToken();
+                if (token == JsonToken.FIELD_NAME) {
+                    // Elements of an object are keyed, e.g. by node id
+                    token = jsonParser.nextToken();
+                }
+                if (token == null || token == JsonToken.END_ARRAY || token == JsonToken.END_OBJECT) {
+                    finish();
+                    return null;
+                }
+                return jsonParser.readValueAsTree();
+            } catch (IOException ex) {
+                finish();
+                throw new ParseError("Error while reading json file: " + file.getAbsolutePath(), ex);
+            }
+        }
+
+        private void finish() {
+            finished = true;
+            closeQuietly();
+        }
+    }
+}
@@ -37,6 +37,11 @@ public class BillReportService extends BaseSpotCheckReportService<BillId> {
 
     private static final Logger logger = LoggerFactory.getLogger(BillReportService.class);
 
+    /** Number of concurrent instances of the bill loading and checking pipeline tasks. These run on the
+     *  shared async executor alongside the parser, so keep the total below its core pool size. */
+    private static final int loaderInstances = 2;
+    private static final int checkerInstances = 2;
+
     private final Environment env;
     private final PipelineFactory pipelineFactory;
     private final BillIdSpotCheckReportDao billReportDao;
@@ -102,8 +107,8 @@ public class BillReportService extends BaseSpotCheckReportService<BillId> {
         Pipeline<SenateSiteDumpFragment, SpotCheckObservation<BillId>> pipeline =
                 pipelineFactory.<SenateSiteDumpFragment>pipelineBuilder()
                         .addTask(new FragmentParser(), refQueueSize)
-                        .addTask(new BillLoader(), dataQueueSize, 2)
-                        .addTask(billChecker)
+                        .addTask(new BillLoader(), dataQueueSize, loaderInstances)
+                        .addTask(billChecker, -1, checkerInstances)
                         .build();
 
         pipeline.addInput(billDump.getDumpFragments());
@@ -119,12 +124,13 @@ public class BillReportService extends BaseSpotCheckReportService<BillId> {
     /* --- Functional classes for pipeline --- */
 
     /**
-     * Parses {@link SenateSiteDumpFragment} into {@link SenateSiteBill}s
+     * Parses {@link SenateSiteDumpFragment} into {@link SenateSiteBill}s.
+     * The bills are streamed from the fragment file one at a time as the pipeline consumes them.
      */
-    private class FragmentParser implements Function<SenateSiteDumpFragment, Collection<SenateSiteBill>> {
+    private class FragmentParser implements Function<SenateSiteDumpFragment, Iterable<SenateSiteBill>> {
         @Override
-        public Collection<SenateSiteBill> apply(SenateSiteDumpFragment fragment) {
-            return billJsonParser.extractBillsFromFragment(fragment);
+        public Iterable<SenateSiteBill> apply(SenateSiteDumpFragment fragment) {
+            return billJsonParser.streamBillsFromFragment(fragment);
         }
     }
 
@@ -150,6 +156,7 @@ public class BillReportService extends BaseSpotCheckReportService<BillId> {
     /**
      * An object that performs checks on {@link SenateSiteBill} against {@link Bill}s,
      * while keeping track of {@link Bill}s that had no {@link SenateSiteBill} counterpart.
+     * Checks may run concurrently from several pipeline task instances; only the bookkeeping is synchronized.
      */
     private class BillChecker
             implements Function<Pair<SenateSiteBill, Optional<Bill>>, Collection<SpotCheckObservation<BillId>>> {
@@ -178,25 +185,28 @@ public class BillReportService extends BaseSpotCheckReportService<BillId> {
 
             SpotCheckObservation<BillId> observation;
             if (olBillOpt.isPresent()) {
-                Bill olBill = olBillOpt.get();
-                observation = billCheckService.check(olBill, refBill);
-                if (uncheckedBaseBillIds.remove(baseBillId)) {
-                    uncheckedBillIds.addAll(olBill.getAmendmentIds());
-                }
+                observation = billCheckService.check(olBillOpt.get(), refBill);
             } else {
                 observation = SpotCheckObservation.getObserveDataMissingObs(
                         refBill.getReferenceId(), billId);
             }
-            uncheckedBillIds.remove(billId);
+            markChecked(baseBillId, billId, olBillOpt);
             return Collections.singletonList(observation);
         }
 
+        private synchronized void markChecked(BaseBillId baseBillId, BillId billId, Optional<Bill> olBillOpt) {
+            if (olBillOpt.isPresent() && uncheckedBaseBillIds.remove(baseBillId)) {
+                uncheckedBillIds.addAll(olBillOpt.get().getAmendmentIds());
+            }
+            uncheckedBillIds.remove(billId);
+        }
+
 
-        public Set<BillId> getUncheckedBillIds() {
+        public synchronized Set<BillId> getUncheckedBillIds() {
             return uncheckedBillIds;
         }
 
-        public Set<BaseBillId> getUncheckedBaseBillIds() {
+        public synchronized Set<BaseBillId> getUncheckedBaseBillIds() {
             return uncheckedBaseBillIds;
         }
     }
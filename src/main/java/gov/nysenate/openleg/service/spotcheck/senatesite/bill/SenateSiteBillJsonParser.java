@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.LinkedListMultimap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 import gov.nysenate.openleg.client.view.base.ListView;
 import gov.nysenate.openleg.client.view.bill.BillActionView;
@@ -21,6 +22,7 @@ import gov.nysenate.openleg.model.spotcheck.senatesite.SenateSiteDumpFragment;
 import gov.nysenate.openleg.model.spotcheck.senatesite.bill.SenateSiteBill;
 import gov.nysenate.openleg.model.spotcheck.senatesite.bill.SenateSiteBillVote;
 import gov.nysenate.openleg.processor.base.ParseError;
+import gov.nysenate.openleg.service.spotcheck.senatesite.base.JsonNodeStream;
 import gov.nysenate.openleg.service.spotcheck.senatesite.base.JsonParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,26 +56,36 @@ public class SenateSiteBillJsonParser extends JsonParser {
     }
 
     public List<SenateSiteBill> extractBillsFromFragment(SenateSiteDumpFragment fragment) throws ParseError {
-        logger.info("Parsing bills from NYSenate.gov dump fragment: {}", fragment.getFragmentFile().getName());
-        try {
-            JsonNode billMap = objectMapper.readTree(fragment.getFragmentFile())
-                    .path("nodes");
-            if (billMap.isMissingNode()) {
-                throw new ParseError("Could not locate \"nodes\" node in senate site bill dump fragment file: " +
-                        fragment.getFragmentFile().getAbsolutePath());
-            }
-            List<SenateSiteBill> bills = new LinkedList<>();
-            for (JsonNode billNode : billMap) {
-                bills.add(extractSenSiteBill(billNode, fragment));
-            }
-            return bills;
-        } catch (Exception ex) {
+        try (JsonNodeStream<SenateSiteBill> bills = streamBillsFromFragment(fragment)) {
+            return Lists.newArrayList(bills);
+        } catch (IOException ex) {
             throw new ParseError("error while reading senate site bill dump fragment file: " +
                     fragment.getFragmentFile().getAbsolutePath(),
                     ex);
         }
     }
 
+    /**
+     * Returns the bills of a dump fragment as a stream that parses a single bill at a time from the fragment file,
+     * so that the whole fragment is never held in memory.
+     * The stream must be closed if it is not fully iterated.
+     *
+     * @param fragment SenateSiteDumpFragment
+     * @return JsonNodeStream<SenateSiteBill>
+     */
+    public JsonNodeStream<SenateSiteBill> streamBillsFromFragment(SenateSiteDumpFragment fragment) {
+        logger.info("Parsing bills from NYSenate.gov dump fragment: {}", fragment.getFragmentFile().getName());
+        return new JsonNodeStream<>(objectMapper, fragment.getFragmentFile(), "nodes", billNode -> {
+            try {
+                return extractSenSiteBill(billNode, fragment);
+            } catch (Exception ex) {
+                throw new ParseError("error while reading senate site bill dump fragment file: " +
+                        fragment.getFragmentFile().getAbsolutePath(),
+                        ex);
+            }
+        });
+    }
+
     /* --- Internal Methods --- */
 
     private SenateSiteBill extractSenSiteBill(JsonNode billNode, SenateSiteDumpFragment fragment) throws IOException {
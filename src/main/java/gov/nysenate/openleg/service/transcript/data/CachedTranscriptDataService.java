@@ -0,0 +1,216 @@
+package gov.nysenate.openleg.service.transcript.data;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import gov.nysenate.openleg.dao.base.LimitOffset;
+import gov.nysenate.openleg.dao.base.SortOrder;
+import gov.nysenate.openleg.dao.transcript.TranscriptDao;
+import gov.nysenate.openleg.model.cache.CacheEvictEvent;
+import gov.nysenate.openleg.model.cache.CacheEvictIdEvent;
+import gov.nysenate.openleg.model.cache.CacheWarmEvent;
+import gov.nysenate.openleg.model.cache.ContentCache;
+import gov.nysenate.openleg.model.transcript.Transcript;
+import gov.nysenate.openleg.model.transcript.TranscriptFile;
+import gov.nysenate.openleg.model.transcript.TranscriptId;
+import gov.nysenate.openleg.model.transcript.TranscriptNotFoundEx;
+import gov.nysenate.openleg.service.base.data.CacheEvictionBus;
+import gov.nysenate.openleg.service.base.data.CachingService;
+import gov.nysenate.openleg.service.base.data.CompressedText;
+import gov.nysenate.openleg.service.transcript.event.TranscriptUpdateEvent;
+import net.sf.ehcache.Cache;
+import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.Element;
+import net.sf.ehcache.config.CacheConfiguration;
+import net.sf.ehcache.config.MemoryUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Transcript data service that caches transcripts with their text compressed. The cache is bounded by
+ * the heap size of its entries, so it holds more short transcripts than long ones.
+ */
+@Service
+public class CachedTranscriptDataService implements TranscriptDataService, CachingService<TranscriptId>
+{
+    private static final Logger logger = LoggerFactory.getLogger(CachedTranscriptDataService.class);
+
+    /** The number of most recent transcripts that are loaded when the cache is warmed. */
+    private static final int warmCount = 50;
+
+    @Autowired private EventBus eventBus;
+    @Autowired private CacheManager cacheManager;
+    @Autowired private CacheEvictionBus cacheEvictionBus;
+    @Autowired private TranscriptDao transcriptDao;
+
+    @Value("${transcript.cache.size:20}") private long transcriptCacheSizeMb;
+
+    private Cache transcriptCache;
+
+    @PostConstruct
+    private void init() {
+        eventBus.register(this);
+        setupCaches();
+    }
+
+    @PreDestroy
+    private void cleanUp() {
+        evictCaches();
+        cacheManager.removeCache(ContentCache.TRANSCRIPT.name());
+    }
+
+    /** --- CachingService implementation --- */
+
+    /** {@inheritDoc} */
+    @Override
+    public void setupCaches() {
+        transcriptCache = new Cache(new CacheConfiguration().name(ContentCache.TRANSCRIPT.name())
+            .eternal(true)
+            .maxBytesLocalHeap(transcriptCacheSizeMb, MemoryUnit.MEGABYTES)
+            .sizeOfPolicy(defaultSizeOfPolicy()));
+        cacheManager.addCache(transcriptCache);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Ehcache> getCaches() {
+        return Collections.singletonList(transcriptCache);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void evictContent(TranscriptId transcriptId) {
+        transcriptCache.remove(transcriptId);
+    }
+
+    /** {@inheritDoc} */
+    @Subscribe
+    @Override
+    public void handleCacheEvictEvent(CacheEvictEvent evictEvent) {
+        if (evictEvent.affects(ContentCache.TRANSCRIPT)) {
+            evictCaches();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Subscribe
+    @Override
+    public void handleCacheEvictIdEvent(CacheEvictIdEvent<TranscriptId> evictIdEvent) {
+        if (evictIdEvent.affects(ContentCache.TRANSCRIPT)) {
+            evictContent(evictIdEvent.getContentId());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void warmCaches() {
+        evictCaches();
+        logger.info("Warming up transcript cache..");
+        for (TranscriptId transcriptId : getTranscriptIds(SortOrder.DESC, new LimitOffset(warmCount))) {
+            try {
+                getTranscript(transcriptId);
+            }
+            catch (TranscriptNotFoundEx ex) {
+                logger.warn("Failed to warm transcript {}", transcriptId, ex);
+            }
+        }
+        logger.info("Finished warming up transcript cache..");
+    }
+
+    /** {@inheritDoc} */
+    @Subscribe
+    @Override
+    public void handleCacheWarmEvent(CacheWarmEvent warmEvent) {
+        if (warmEvent.affects(ContentCache.TRANSCRIPT)) {
+            warmCaches();
+        }
+    }
+
+    /** --- TranscriptDataService implementation --- */
+
+    /** {@inheritDoc} */
+    @Override
+    public Transcript getTranscript(TranscriptId transcriptId) throws TranscriptNotFoundEx {
+        if (transcriptId == null) {
+            throw new IllegalArgumentException("TranscriptId cannot be null");
+        }
+        Element element = transcriptCache.get(transcriptId);
+        if (element != null) {
+            return ((CachedTranscript) element.getObjectValue()).inflate();
+        }
+        try {
+            Transcript transcript = transcriptDao.getTranscript(transcriptId);
+            transcriptCache.put(new Element(transcriptId, new CachedTranscript(transcript)));
+            return transcript;
+        }
+        catch (DataAccessException ex) {
+            throw new TranscriptNotFoundEx(transcriptId, ex);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<TranscriptId> getTranscriptIds(SortOrder sortOrder, LimitOffset limitOffset) {
+        return transcriptDao.getTranscriptIds(sortOrder, limitOffset);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void saveTranscript(Transcript transcript, TranscriptFile transcriptFile, boolean postUpdateEvent) {
+        if (transcript == null) {
+            throw new IllegalArgumentException("transcript cannot be null");
+        }
+        transcriptDao.updateTranscript(transcript, transcriptFile);
+        cacheEvictionBus.publish(new CacheEvictIdEvent<>(ContentCache.TRANSCRIPT, transcript.getTranscriptId()));
+        if (postUpdateEvent) {
+            eventBus.post(new TranscriptUpdateEvent(transcript, LocalDateTime.now()));
+        }
+    }
+
+    /** --- Internal --- */
+
+    /**
+     * The cached form of a transcript. A new transcript is created on each cache hit, so callers
+     * can never modify the cached copy.
+     */
+    private static class CachedTranscript implements Serializable
+    {
+        private static final long serialVersionUID = -2716529034462880213L;
+
+        private final TranscriptId transcriptId;
+        private final String sessionType;
+        private final LocalDateTime dateTime;
+        private final String location;
+        private final CompressedText text;
+        private final LocalDateTime modifiedDateTime;
+        private final LocalDateTime publishedDateTime;
+
+        private CachedTranscript(Transcript transcript) {
+            this.transcriptId = transcript.getTranscriptId();
+            this.sessionType = transcript.getSessionType();
+            this.dateTime = transcript.getDateTime();
+            this.location = transcript.getLocation();
+            this.text = CompressedText.of(transcript.getText());
+            this.modifiedDateTime = transcript.getModifiedDateTime();
+            this.publishedDateTime = transcript.getPublishedDateTime();
+        }
+
+        private Transcript inflate() {
+            Transcript transcript = new Transcript(transcriptId, sessionType, dateTime, location, text.getText());
+            transcript.setModifiedDateTime(modifiedDateTime);
+            transcript.setPublishedDateTime(publishedDateTime);
+            return transcript;
+        }
+    }
+}
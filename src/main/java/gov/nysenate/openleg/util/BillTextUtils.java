@@ -2,6 +2,8 @@ package gov.nysenate.openleg.util;
 
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import com.google.common.collect.Iterables;
+import gov.nysenate.openleg.model.bill.BillTextMetrics;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -42,10 +44,26 @@ public class BillTextUtils
      * @return List<List<String>>
      */
     public static List<List<String>> getBillPages(String fullText) {
-        List<List<String>> pages = new ArrayList<>();
         List<String> lines = Splitter.on("\n").splitToList(fullText);
+        return getBillPages(lines, getNewPageLines(lines));
+    }
+
+    /**
+     * Splits the bill text into pages using page breaks that were already computed, e.g. from
+     * {@link BillTextMetrics#getNewPageLines()}.
+     *
+     * @param fullText String - Bill full text
+     * @param newPageLines List<Integer> - The indices of the lines that start a new page
+     * @return List<List<String>>
+     */
+    public static List<List<String>> getBillPages(String fullText, List<Integer> newPageLines) {
+        return getBillPages(Splitter.on("\n").splitToList(fullText), newPageLines);
+    }
+
+    private static List<List<String>> getBillPages(List<String> lines, List<Integer> newPageLines) {
+        List<List<String>> pages = new ArrayList<>();
         int startLine = 0;
-        for (int newPageLine : getNewPageLines(lines)) {
+        for (int newPageLine : newPageLines) {
             pages.add(lines.subList(startLine, newPageLine));
             startLine = newPageLine;
         }
@@ -106,6 +124,28 @@ public class BillTextUtils
         return 1;
     }
 
+    /**
+     * Computes the page count, line count and page breaks of the given bill text in a single pass over its
+     * lines. The page count is the same as {@link #getPageCount(String)}.
+     *
+     * @param fullText String - Bill full text
+     * @return BillTextMetrics
+     */
+    public static BillTextMetrics getTextMetrics(String fullText) {
+        if (Strings.isNullOrEmpty(fullText)) return BillTextMetrics.EMPTY;
+        List<String> lines = Splitter.on("\n").splitToList(fullText);
+        List<Integer> newPageLines = getNewPageLines(lines);
+        int pageCount = 1;
+        if (!newPageLines.isEmpty()) {
+            // The last page break holds the last page number
+            Matcher billTextPageMatcher = billTextPageStartPattern.matcher(lines.get(Iterables.getLast(newPageLines)));
+            if (billTextPageMatcher.find()) {
+                pageCount = Integer.parseInt(billTextPageMatcher.group(3));
+            }
+        }
+        return new BillTextMetrics(pageCount, lines.size(), newPageLines);
+    }
+
     /** WIP */
     public static String formatBillText(boolean isResolution, String fullText) {
         if (!isResolution && fullText != null && !fullText.isEmpty()) {
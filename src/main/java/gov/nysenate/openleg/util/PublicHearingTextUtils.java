@@ -1,7 +1,10 @@
 package gov.nysenate.openleg.util;
 
-import com.google.common.base.Splitter;
-
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,23 +16,55 @@ public class PublicHearingTextUtils
      * @param fullText
      */
     public static List<List<String>> getPages(String fullText) {
+        try {
+            return getPages(new StringReader(fullText));
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Groups public hearing text into pages, reading the text line by line so that the
+     * full text never has to be held in memory.
+     * @param reader A reader positioned at the start of the public hearing text.
+     * @throws IOException
+     */
+    public static List<List<String>> getPages(Reader reader) throws IOException {
         List<List<String>> pages = new ArrayList<>();
         List<String> page = new ArrayList<>();
-
-        fullText = replaceCarriageReturns(fullText);
-        List<String> lines = Splitter.on("\n").splitToList(fullText);
-        for (String line : lines) {
-            page.add(line);
-            if (endOfPage(line)) {
-                pages.add(page);
-                page = new ArrayList<>();
+        Reader bufferedReader = (reader instanceof BufferedReader) ? reader : new BufferedReader(reader);
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = bufferedReader.read()) != -1) {
+            if (c == '\n') {
+                page = addLine(pages, page, line);
+                line.setLength(0);
+            }
+            else {
+                line.append((char) c);
             }
         }
+        addLine(pages, page, line);
         return pages;
     }
 
-    private static String replaceCarriageReturns(String fullText) {
-        return fullText.replaceAll("\r\n", "\n");
+    /**
+     * Adds a line to the current page, stripping a carriage return from its end.
+     * @return The page that the next line should be added to.
+     */
+    private static List<String> addLine(List<List<String>> pages, List<String> page, StringBuilder line) {
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            length--;
+        }
+        String lineText = line.substring(0, length);
+        page.add(lineText);
+        if (endOfPage(lineText)) {
+            pages.add(page);
+            return new ArrayList<>();
+        }
+        return page;
     }
 
     private static boolean endOfPage(String line) {
@@ -1,8 +1,12 @@
 package gov.nysenate.openleg.util;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 import gov.nysenate.openleg.model.spotcheck.SpotCheckContentType;
 import gov.nysenate.openleg.model.spotcheck.SpotCheckRefType;
@@ -12,6 +16,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.File;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.EnumSet;
@@ -23,10 +28,15 @@ import static gov.nysenate.openleg.model.spotcheck.SpotCheckDataSource.NYSENATE;
 /**
  * Parses a {@link SenateSiteDumpFragment} from a json String and {@link SpotCheckRefType}.
  * The json string has the following mandatory strings: from, to, part, totalParts, session.
+ * Fragments are read as a token stream, so the dumped nodes of large fragments are skipped rather than parsed.
  */
 @Service
 public class SenateSiteDumpFragParser {
 
+    /** The fields that hold the metadata of a dump fragment. */
+    private static final ImmutableSet<String> metadataFields =
+            ImmutableSet.of("part", "totalParts", "refDateTime", "year", "contentType");
+
     @Autowired private ObjectMapper objectMapper;
 
     /**
@@ -38,7 +48,43 @@ public class SenateSiteDumpFragParser {
      * @see SenateSiteDumpId
      */
     public SenateSiteDumpFragment parseFragment(String json) throws IOException {
-        JsonNode rootNode = objectMapper.readValue(json, JsonNode.class);
+        try (JsonParser jsonParser = objectMapper.getFactory().createParser(json)) {
+            return parseFragment(jsonParser);
+        }
+    }
+
+    /**
+     * <p>Parse a json file into a {@link SenateSiteDumpFragment}, without reading the whole file into memory.
+     * <p>Throws <code>SenateSiteDumpFragParserException</code> if a required json value is missing.</p>
+     * @param file The json file to parse.
+     * @return {@link SenateSiteDumpFragment}
+     * @throws IOException If there is an issue reading or parsing the json
+     * @see SenateSiteDumpId
+     */
+    public SenateSiteDumpFragment parseFragment(File file) throws IOException {
+        try (JsonParser jsonParser = objectMapper.getFactory().createParser(file)) {
+            return parseFragment(jsonParser);
+        }
+    }
+
+    /**
+     * Reads the dump fragment metadata fields from a token stream.
+     * All other fields, such as the dumped nodes, are skipped without being read into memory.
+     */
+    private SenateSiteDumpFragment parseFragment(JsonParser jsonParser) throws IOException {
+        ObjectNode rootNode = objectMapper.createObjectNode();
+        if (jsonParser.nextToken() == JsonToken.START_OBJECT) {
+            while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = jsonParser.getCurrentName();
+                jsonParser.nextToken();
+                if (metadataFields.contains(fieldName)) {
+                    rootNode.set(fieldName, jsonParser.readValueAsTree());
+                }
+                else {
+                    jsonParser.skipChildren();
+                }
+            }
+        }
 
         int part = getRequiredNode(rootNode, "part").asInt();
         int totalParts = getRequiredNode(rootNode, "totalParts").asInt();
@@ -1,5 +1,7 @@
 package gov.nysenate.openleg.util;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.springframework.stereotype.Component;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
@@ -7,58 +9,114 @@ import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
+import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
+/**
+ * Parses xml documents and evaluates xpath expressions against them.
+ *
+ * Neither document builders nor xpath expressions are thread safe, so each thread is given its own document
+ * builder and its own set of compiled xpath expressions. Most paths used by the processors are constants,
+ * so each path is only compiled once per thread. Paths built with an element index are compiled again once
+ * they fall out of the bounded set of expressions. This allows a single helper to be shared by processors
+ * that run in parallel.
+ */
 @Component
 public class XmlHelper
 {
-    private final DocumentBuilder dBuilder;
-    private final XPath xpath;
+    private final DocumentBuilderFactory documentBuilderFactory;
+
+    private final ThreadLocal<DocumentBuilder> documentBuilder = ThreadLocal.withInitial(this::newDocumentBuilder);
+
+    private final ThreadLocal<XPathCompiler> xpathCompiler = ThreadLocal.withInitial(XPathCompiler::new);
 
     public XmlHelper() throws ParserConfigurationException {
-        dBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
-        xpath = XPathFactory.newInstance().newXPath();
+        documentBuilderFactory = DocumentBuilderFactory.newInstance();
+        // Fail on startup if the parser is not configured correctly
+        documentBuilderFactory.newDocumentBuilder();
     }
 
     public Document parse(File file) throws SAXException, IOException {
-        return dBuilder.parse(file);
+        return documentBuilder.get().parse(file);
     }
 
     public Document parse(String xmlString) throws IOException, SAXException {
-        InputSource is = new InputSource(new ByteArrayInputStream(xmlString.getBytes("utf-8")));
-        return dBuilder.parse(is);
+        InputSource is = new InputSource(new ByteArrayInputStream(xmlString.getBytes(StandardCharsets.UTF_8)));
+        return documentBuilder.get().parse(is);
     }
 
     public Boolean getBoolean(String path, Node node) throws XPathExpressionException {
-        return (Boolean)xpath.evaluate(path, node, XPathConstants.BOOLEAN);
+        return (Boolean) evaluate(path, node, XPathConstants.BOOLEAN);
     }
 
     public String getString(String path, Node node) throws XPathExpressionException {
-        return (String)xpath.evaluate(path, node, XPathConstants.STRING);
+        return (String) evaluate(path, node, XPathConstants.STRING);
     }
 
     public Double getDouble(String path, Node node) throws XPathExpressionException {
-        return (Double)xpath.evaluate(path, node, XPathConstants.NUMBER);
+        return (Double) evaluate(path, node, XPathConstants.NUMBER);
     }
 
     public Integer getInteger(String path, Node node) throws XPathExpressionException {
-        return ((Double)xpath.evaluate(path, node, XPathConstants.NUMBER)).intValue();
+        return ((Double) evaluate(path, node, XPathConstants.NUMBER)).intValue();
     }
 
     public Node getNode(String path, Node node) throws XPathExpressionException {
-        return (Node)xpath.evaluate(path, node, XPathConstants.NODE);
+        return (Node) evaluate(path, node, XPathConstants.NODE);
     }
 
     public NodeList getNodeList(String path, Node node) throws XPathExpressionException {
-        return (NodeList)xpath.evaluate(path, node, XPathConstants.NODESET);
+        return (NodeList) evaluate(path, node, XPathConstants.NODESET);
+    }
+
+    /** --- Internal --- */
+
+    private Object evaluate(String path, Node node, QName returnType) throws XPathExpressionException {
+        return xpathCompiler.get().compile(path).evaluate(node, returnType);
+    }
+
+    private DocumentBuilder newDocumentBuilder() {
+        // The factory is not guaranteed to be thread safe
+        synchronized (documentBuilderFactory) {
+            try {
+                return documentBuilderFactory.newDocumentBuilder();
+            }
+            catch (ParserConfigurationException ex) {
+                throw new IllegalStateException("Failed to create a document builder", ex);
+            }
+        }
+    }
+
+    /**
+     * Compiles and caches the most recently used xpath expressions of a single thread.
+     */
+    private static class XPathCompiler
+    {
+        /** The maximum number of compiled expressions kept by each thread. */
+        private static final int maxExpressions = 500;
+
+        private final XPath xpath = XPathFactory.newInstance().newXPath();
+        private final Cache<String, XPathExpression> expressions =
+            CacheBuilder.newBuilder().maximumSize(maxExpressions).build();
+
+        private XPathExpression compile(String path) throws XPathExpressionException {
+            XPathExpression expression = expressions.getIfPresent(path);
+            if (expression == null) {
+                expression = xpath.compile(path);
+                expressions.put(path, expression);
+            }
+            return expression;
+        }
     }
 }
@@ -1,6 +1,5 @@
 package gov.nysenate.openleg.util.pipeline;
 
-import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -48,14 +47,16 @@ public class PipelineBuilder<T, R> {
      * Multiple instances of the task can be requested,
      * all consuming from the same set of inputs,
      * and writing to the same set of outputs.
+     * The task may return a lazily evaluated iterable, which is read as the output queue has room.
+     * If the returned iterable is {@link AutoCloseable}, it is closed once it has been read.
      *
-     * @param task Function<R, Collection<E>> - the task to be performed
+     * @param task Function<R, Iterable<E>> - the task to be performed
      * @param outputCapacity int - sets an upper limit for the number of results in the output queue
      * @param instances int - specifies number of instances of the task that run
      * @param <E>
      * @return {@link PipelineBuilder}
      */
-    public <E> PipelineBuilder<T, E> addTask(Function<R, Collection<E>> task,
+    public <E> PipelineBuilder<T, E> addTask(Function<R, ? extends Iterable<E>> task,
                                              int outputCapacity, int instances) {
         if (instances < 1) {
             throw new IllegalStateException("You must create at least one instance of a task.");
@@ -89,12 +90,12 @@ public class PipelineBuilder<T, R> {
      * @see #addTask(Function, int, int)
      * Overload that only creates 1 instance of the task.
      *
-     * @param task Function<R, Collection<E>> - the task to be performed
+     * @param task Function<R, Iterable<E>> - the task to be performed
      * @param outputCapacity int - sets an upper limit for the number of results in the output queue
      * @param <E>
      * @return {@link PipelineBuilder}
      */
-    public <E> PipelineBuilder<T, E> addTask(Function<R, Collection<E>> task,
+    public <E> PipelineBuilder<T, E> addTask(Function<R, ? extends Iterable<E>> task,
                                              int outputCapacity) {
         return addTask(task, outputCapacity, 1);
     }
@@ -103,11 +104,11 @@ public class PipelineBuilder<T, R> {
      * @see #addTask(Function, int)
      * Overload that has no output limit.
      *
-     * @param task Function<R, Collection<E>> - the task to be performed
+     * @param task Function<R, Iterable<E>> - the task to be performed
      * @param <E>
      * @return {@link PipelineBuilder}
      */
-    public <E> PipelineBuilder<T, E> addTask(Function<R, Collection<E>> task) {
+    public <E> PipelineBuilder<T, E> addTask(Function<R, ? extends Iterable<E>> task) {
         return addTask(task, -1);
     }
 
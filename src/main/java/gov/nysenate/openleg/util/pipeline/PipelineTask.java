@@ -28,7 +28,7 @@ class PipelineTask<T, R> implements Runnable {
     /** The amount of time in ms the task should wait for a new input before checking if the previous task is done */
     private static final long inputTimeout = 50;
 
-    private Function<T, Collection<R>> task;
+    private Function<T, ? extends Iterable<R>> task;
     private BlockingQueue<T> inputQueue;
     private BlockingQueue<R> outputQueue;
 
@@ -44,7 +44,7 @@ class PipelineTask<T, R> implements Runnable {
     /** Reference to previous task in the pipeline */
     private PipelineTask previousTask;
 
-    PipelineTask(Function<T, Collection<R>> task,
+    PipelineTask(Function<T, ? extends Iterable<R>> task,
                          BlockingQueue<T> inputQueue,
                          BlockingQueue<R> outputQueue) {
         this.task = task;
@@ -67,8 +67,12 @@ class PipelineTask<T, R> implements Runnable {
                 T inputValue = inputQueue.poll(inputTimeout, TimeUnit.MILLISECONDS);
 
                 if (inputValue != null) {
-                    Collection<R> outputValues = task.apply(inputValue);
-                    addToQueue(outputValues, outputQueue);
+                    Iterable<R> outputValues = task.apply(inputValue);
+                    try {
+                        addToQueue(outputValues, outputQueue);
+                    } finally {
+                        closeIfCloseable(outputValues);
+                    }
                 } else if (prevFinished) {
                     // End this task if the previous task is finished and the input poll timed out
                     break;
@@ -121,7 +125,7 @@ class PipelineTask<T, R> implements Runnable {
         return ImmutableList.copyOf(list);
     }
 
-    Function<T, Collection<R>> getTask() {
+    Function<T, ? extends Iterable<R>> getTask() {
         return task;
     }
 
@@ -135,9 +139,11 @@ class PipelineTask<T, R> implements Runnable {
     }
 
     /**
-     * Method for adding a collection of values to a blocking queue
+     * Method for adding values to a blocking queue.
+     * Values are taken from the iterable one at a time, so a lazily evaluated iterable is only read
+     * as fast as the queue is consumed.
      */
-    private <E> void addToQueue(Collection<E> values, BlockingQueue<E> queue) {
+    private <E> void addToQueue(Iterable<E> values, BlockingQueue<E> queue) {
         for (E value : values) {
             try {
                 queue.put(value);
@@ -146,4 +152,17 @@ class PipelineTask<T, R> implements Runnable {
             }
         }
     }
+
+    /**
+     * Closes the task output if it holds resources, e.g. an iterable that streams values from a file.
+     */
+    private void closeIfCloseable(Iterable<R> outputValues) {
+        if (outputValues instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) outputValues).close();
+            } catch (Exception ex) {
+                logger.warn("Error while closing pipeline task output", ex);
+            }
+        }
+    }
 }
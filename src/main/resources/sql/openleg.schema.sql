@@ -212,6 +212,24 @@ ALTER TYPE committee_member_title OWNER TO postgres;
 
 SET search_path = master, pg_catalog;
 
+--
+-- Name: change_log_primary_key(regclass); Type: FUNCTION; Schema: master; Owner: postgres
+--
+
+CREATE FUNCTION master.change_log_primary_key(table_oid regclass)
+  RETURNS TEXT []
+LANGUAGE sql STABLE
+AS $$
+  SELECT array_agg(a.attname::TEXT ORDER BY k.ord)
+  FROM pg_index i
+    CROSS JOIN LATERAL unnest(i.indkey) WITH ORDINALITY AS k(attnum, ord)
+    JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = k.attnum
+  WHERE i.indrelid = table_oid AND i.indisprimary;
+$$;
+
+
+ALTER FUNCTION master.change_log_primary_key(regclass) OWNER TO postgres;
+
 --
 -- Name: log_agenda_updates(); Type: FUNCTION; Schema: master; Owner: postgres
 --
@@ -421,6 +439,70 @@ END;$$;
 
 ALTER FUNCTION master.log_calendar_updates() OWNER TO postgres;
 
+--
+-- Name: log_law_statement_changes(); Type: FUNCTION; Schema: master; Owner: postgres
+--
+
+CREATE FUNCTION master.log_law_statement_changes()
+  RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$DECLARE
+  prior_rows TEXT; -- The law tree rows that existed before the statement
+BEGIN
+
+  IF TG_TABLE_NAME = 'law_document' THEN
+
+    -- For law document inserts/updates, just log it
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+      INSERT INTO master.law_change_log (document_id, published_date_time, law_id, table_name, action, law_file_name)
+      SELECT n.document_id, n.published_date, n.law_id, TG_TABLE_NAME, TG_OP, n.law_file_name
+      FROM new_rows n;
+    ELSE
+      INSERT INTO master.law_change_log (document_id, published_date_time, law_id, table_name, action, law_file_name)
+      SELECT o.document_id, o.published_date, o.law_id, TG_TABLE_NAME, TG_OP, NULL
+      FROM old_rows o;
+    END IF;
+
+  ELSIF TG_TABLE_NAME = 'law_tree' AND TG_OP IN ('INSERT', 'UPDATE') THEN
+
+    -- Law trees are regenerated every time in full whenever there is a modification to it.
+    -- The goal here is to log just the rows of the new law tree that are different from the latest
+    -- row for the same document that existed before the statement.
+
+    prior_rows :=
+      'SELECT t.* FROM master.law_tree t
+       WHERE NOT EXISTS (SELECT 1 FROM new_rows x
+                         WHERE x.law_id = t.law_id AND x.published_date = t.published_date
+                           AND x.doc_id = t.doc_id AND x.doc_published_date = t.doc_published_date)';
+    IF TG_OP = 'UPDATE' THEN
+      prior_rows := prior_rows || ' UNION ALL SELECT * FROM old_rows';
+    END IF;
+
+    EXECUTE format(
+      'INSERT INTO master.law_change_log (document_id, published_date_time, law_id, table_name, action, law_file_name)
+       SELECT n.doc_id, n.published_date, n.law_id, $1, $2, n.law_file
+       FROM new_rows n
+         JOIN LATERAL (
+           SELECT p.doc_published_date, p.parent_doc_id, p.parent_doc_published_date, p.is_root, p.sequence_no, p.repealed_date
+           FROM (%s) p
+           WHERE p.doc_id = n.doc_id
+           ORDER BY p.published_date DESC
+           LIMIT 1
+         ) last_row ON TRUE
+       WHERE row(n.doc_published_date, n.parent_doc_id, n.parent_doc_published_date,
+                 n.is_root, n.sequence_no, n.repealed_date) <> row(last_row.*)',
+      prior_rows)
+    USING TG_TABLE_NAME, TG_OP;
+
+  END IF;
+
+  RETURN NULL;
+END;$$;
+
+
+ALTER FUNCTION master.log_law_statement_changes() OWNER TO postgres;
+
 --
 -- Name: log_law_updates(); Type: FUNCTION; Schema: master; Owner: postgres
 --
@@ -485,6 +567,104 @@ END;$$;
 
 ALTER FUNCTION master.log_law_updates() OWNER TO postgres;
 
+--
+-- Name: log_statement_changes(); Type: FUNCTION; Schema: master; Owner: postgres
+--
+
+CREATE FUNCTION master.log_statement_changes()
+  RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$DECLARE
+  change_log_table    TEXT := TG_ARGV[0]; -- Change log table name
+  id_column_1         TEXT := TG_ARGV[1]; -- First change log id column e.g. bill_print_no
+  id_column_2         TEXT := TG_ARGV[2]; -- Second change log id column e.g. bill_session_year
+  ignored_columns     TEXT []; -- Column names to exclude from data
+  key_join            TEXT; -- Join condition pairing old and new rows by primary key
+  fragment_id         TEXT := NULL; -- The latest fragment, used for deletes
+  published_date_time TIMESTAMP WITHOUT TIME ZONE := NULL; -- The published date of the latest fragment
+  insert_log          TEXT; -- Insert into the change log
+BEGIN
+  ignored_columns := ARRAY [id_column_1, id_column_2, 'modified_date_time', 'last_fragment_id'];
+  insert_log := format('INSERT INTO master.%I (%I, %I, table_name, action, data, sobi_fragment_id, published_date_time) ',
+                       change_log_table, id_column_1, id_column_2);
+
+  IF TG_OP = 'INSERT'
+  THEN
+    EXECUTE insert_log || format(
+      'SELECT n.%1$I, n.%2$I, $1, $2, delete(hstore(n.*), $3), n.last_fragment_id, f.published_date_time
+       FROM new_rows n
+         LEFT JOIN master.sobi_fragment f ON f.fragment_id = n.last_fragment_id',
+      id_column_1, id_column_2)
+    USING TG_TABLE_NAME, TG_OP, ignored_columns;
+
+  ELSIF TG_OP = 'UPDATE'
+  THEN
+    -- Only log updates where the non-ignored values were actually changed.
+    -- New rows without an old row with the same primary key had their key changed, log all of their values.
+    SELECT string_agg(format('o.%1$I = n.%1$I', key_column), ' AND ')
+    INTO key_join
+    FROM unnest(master.change_log_primary_key(TG_RELID)) AS key_column;
+
+    EXECUTE insert_log || format(
+      'SELECT d.%1$I, d.%2$I, $1, $2, d.data_diff, d.last_fragment_id, f.published_date_time
+       FROM (SELECT n.%1$I, n.%2$I, n.last_fragment_id,
+                    CASE WHEN o IS NULL THEN delete(hstore(n.*), $3)
+                         ELSE delete(hstore(n.*), $3) - delete(hstore(o.*), $3) END AS data_diff
+             FROM new_rows n
+               LEFT JOIN old_rows o ON %3$s) d
+         LEFT JOIN master.sobi_fragment f ON f.fragment_id = d.last_fragment_id
+       WHERE d.data_diff != ''''::hstore',
+      id_column_1, id_column_2, key_join)
+    USING TG_TABLE_NAME, TG_OP, ignored_columns;
+
+  ELSE
+    SELECT f.fragment_id, f.published_date_time
+    INTO fragment_id, published_date_time
+    FROM master.sobi_fragment f
+    WHERE f.process_start_date_time = (SELECT MAX(process_start_date_time) FROM master.sobi_fragment);
+
+    EXECUTE insert_log || format(
+      'SELECT o.%1$I, o.%2$I, $1, $2, delete(hstore(o.*), $3), $4, $5
+       FROM old_rows o',
+      id_column_1, id_column_2)
+    USING TG_TABLE_NAME, TG_OP, ignored_columns, fragment_id, published_date_time;
+  END IF;
+
+  RETURN NULL;
+END;$$;
+
+
+ALTER FUNCTION master.log_statement_changes() OWNER TO postgres;
+
+--
+-- Name: set_change_log_triggers(boolean); Type: FUNCTION; Schema: master; Owner: postgres
+--
+
+CREATE FUNCTION master.set_change_log_triggers(statement_level BOOLEAN)
+  RETURNS VOID
+LANGUAGE plpgsql
+AS $$DECLARE
+  log_trigger RECORD;
+BEGIN
+  FOR log_trigger IN
+    SELECT t.tgrelid::regclass AS table_name, t.tgname, p.proname
+    FROM pg_trigger t
+      JOIN pg_proc p ON p.oid = t.tgfoid
+      JOIN pg_namespace n ON n.oid = p.pronamespace
+    WHERE n.nspname = 'master' AND NOT t.tgisinternal
+      AND p.proname IN ('log_statement_changes', 'log_law_statement_changes',
+                        'log_bill_updates', 'log_agenda_updates', 'log_calendar_updates', 'log_law_updates')
+  LOOP
+    EXECUTE format('ALTER TABLE %s %s TRIGGER %I', log_trigger.table_name,
+                   CASE WHEN (log_trigger.proname IN ('log_statement_changes', 'log_law_statement_changes')) = statement_level
+                     THEN 'ENABLE' ELSE 'DISABLE' END,
+                   log_trigger.tgname);
+  END LOOP;
+END;$$;
+
+
+ALTER FUNCTION master.set_change_log_triggers(BOOLEAN) OWNER TO postgres;
+
 SET search_path = public, pg_catalog;
 
 --
@@ -1633,7 +1813,10 @@ CREATE TABLE bill_amendment (
     law_code text,
     law_section text,
     created_date_time timestamp without time zone DEFAULT now() NOT NULL,
-    last_fragment_id text
+    last_fragment_id text,
+    full_text_page_count integer DEFAULT 0 NOT NULL,
+    full_text_line_count integer DEFAULT 0 NOT NULL,
+    full_text_page_lines integer[] DEFAULT '{}' NOT NULL
 );
 
 
@@ -1660,6 +1843,27 @@ COMMENT ON COLUMN bill_amendment.law_code IS 'Specifies the sections/chapters of
 COMMENT ON COLUMN bill_amendment.law_section IS 'The primary section of law this bill affects';
 
 
+--
+-- Name: COLUMN bill_amendment.full_text_page_count; Type: COMMENT; Schema: master; Owner: postgres
+--
+
+COMMENT ON COLUMN bill_amendment.full_text_page_count IS 'The number of pages in the full text';
+
+
+--
+-- Name: COLUMN bill_amendment.full_text_line_count; Type: COMMENT; Schema: master; Owner: postgres
+--
+
+COMMENT ON COLUMN bill_amendment.full_text_line_count IS 'The number of lines in the full text';
+
+
+--
+-- Name: COLUMN bill_amendment.full_text_page_lines; Type: COMMENT; Schema: master; Owner: postgres
+--
+
+COMMENT ON COLUMN bill_amendment.full_text_page_lines IS 'The 0 based indices of the full text lines that start a new page';
+
+
 --
 -- Name: bill_amendment_action; Type: TABLE; Schema: master; Owner: postgres
 --
@@ -3897,6 +4101,62 @@ COMMENT ON COLUMN public_hearing_file.pending_processing IS 'Indicates if this p
 COMMENT ON COLUMN public_hearing_file.archived IS 'Indicates if this public hearing file has been moved to the archive directory.';
 
 
+--
+-- Name: search_index_queue; Type: TABLE; Schema: master; Owner: postgres
+--
+
+CREATE TABLE search_index_queue (
+    index_name text NOT NULL,
+    content_id text NOT NULL,
+    queued_date_time timestamp without time zone DEFAULT now() NOT NULL
+);
+
+
+ALTER TABLE search_index_queue OWNER TO postgres;
+
+--
+-- Name: TABLE search_index_queue; Type: COMMENT; Schema: master; Owner: postgres
+--
+
+COMMENT ON TABLE search_index_queue IS 'Content that is waiting to be indexed into elastic search.';
+
+
+--
+-- Name: COLUMN search_index_queue.index_name; Type: COMMENT; Schema: master; Owner: postgres
+--
+
+COMMENT ON COLUMN search_index_queue.index_name IS 'The search index that the content belongs to.';
+
+
+--
+-- Name: COLUMN search_index_queue.content_id; Type: COMMENT; Schema: master; Owner: postgres
+--
+
+COMMENT ON COLUMN search_index_queue.content_id IS 'Identifies the content within the search index.';
+
+
+--
+-- Name: COLUMN search_index_queue.queued_date_time; Type: COMMENT; Schema: master; Owner: postgres
+--
+
+COMMENT ON COLUMN search_index_queue.queued_date_time IS 'The last time this content was queued for indexing.';
+
+
+--
+-- Name: search_index_queue search_index_queue_pk; Type: CONSTRAINT; Schema: master; Owner: postgres
+--
+
+ALTER TABLE ONLY search_index_queue
+    ADD CONSTRAINT search_index_queue_pk PRIMARY KEY (index_name, content_id);
+
+
+--
+-- Name: search_index_queue_index_name_queued_date_time_idx; Type: INDEX; Schema: master; Owner: postgres
+--
+
+CREATE INDEX search_index_queue_index_name_queued_date_time_idx ON search_index_queue USING btree (index_name, queued_date_time);
+
+
 --
 -- Name: sobi_file; Type: TABLE; Schema: master; Owner: postgres
 --
@@ -4054,8 +4314,9 @@ CREATE TABLE spotcheck_mismatch (
     content_type text NOT NULL,
     reference_type text NOT NULL,
     state text NOT NULL,
-    reference_data text NOT NULL,
-    observed_data text NOT NULL,
+    reference_data text,
+    observed_data text,
+    data_mismatch_id integer,
     notes text,
     issue_ids text[] DEFAULT ARRAY[]::text[] NOT NULL,
     ignore_status text DEFAULT 'NOT_IGNORED'::text NOT NULL,
@@ -4063,9 +4324,13 @@ CREATE TABLE spotcheck_mismatch (
     observed_date_time timestamp without time zone NOT NULL,
     first_seen_date_time timestamp without time zone NOT NULL,
     reference_active_date_time timestamp without time zone NOT NULL,
-    created_date_time timestamp without time zone DEFAULT now() NOT NULL
+    created_date_time timestamp without time zone DEFAULT now() NOT NULL,
+    CONSTRAINT spotcheck_mismatch_data_check
+      CHECK ((reference_data IS NOT NULL AND observed_data IS NOT NULL) OR data_mismatch_id IS NOT NULL)
 );
 
+COMMENT ON COLUMN spotcheck_mismatch.data_mismatch_id IS 'References the mismatch containing the reference and observed data when they are unchanged from a prior mismatch.';
+
 
 ALTER TABLE spotcheck_mismatch OWNER TO postgres;
 
@@ -4089,6 +4354,18 @@ CREATE INDEX spotcheck_mismatch_observed_date_time_index on master.spotcheck_mis
 --
 CREATE INDEX spotcheck_mismatch_first_seen_date_time_index on master.spotcheck_mismatch(first_seen_date_time);
 
+--
+-- Name: spotcheck_mismatch_datasource_key_type_observed_idx; Type: INDEX; Schema: master; Owner: postgres
+--
+CREATE INDEX spotcheck_mismatch_datasource_key_type_observed_idx
+  ON master.spotcheck_mismatch USING btree (datasource, key, type, observed_date_time DESC);
+
+--
+-- Name: spotcheck_mismatch spotcheck_mismatch_data_mismatch_id_fkey; Type: FK CONSTRAINT; Schema: master; Owner: postgres
+--
+ALTER TABLE ONLY spotcheck_mismatch
+    ADD CONSTRAINT spotcheck_mismatch_data_mismatch_id_fkey FOREIGN KEY (data_mismatch_id) REFERENCES spotcheck_mismatch(mismatch_id);
+
 --
 -- Name: transcript; Type: TABLE; Schema: master; Owner: postgres
 --
@@ -5996,12 +6273,63 @@ CREATE INDEX sobi_fragment_process_start_date_time_idx ON sobi_fragment USING BT
 CREATE INDEX week_of_index ON agenda_info_addendum USING btree (week_of);
 
 
+--
+-- Name: log_agenda_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_agenda_delete_statements AFTER DELETE ON agenda REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('agenda_change_log', 'agenda_no', 'year');
+
+
+--
+-- Name: log_agenda_info_addendum_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_agenda_info_addendum_delete_statements AFTER DELETE ON agenda_info_addendum REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('agenda_change_log', 'agenda_no', 'year');
+
+
+--
+-- Name: log_agenda_info_addendum_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_agenda_info_addendum_insert_statements AFTER INSERT ON agenda_info_addendum REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('agenda_change_log', 'agenda_no', 'year');
+
+
+--
+-- Name: log_agenda_info_addendum_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_agenda_info_addendum_update_statements AFTER UPDATE ON agenda_info_addendum REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('agenda_change_log', 'agenda_no', 'year');
+
+
 --
 -- Name: log_agenda_info_addendum_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
 --
 
 CREATE TRIGGER log_agenda_info_addendum_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON agenda_info_addendum FOR EACH ROW EXECUTE PROCEDURE log_agenda_updates();
 
+ALTER TABLE agenda_info_addendum DISABLE TRIGGER log_agenda_info_addendum_updates_to_change_log;
+
+
+--
+-- Name: log_agenda_info_committee_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_agenda_info_committee_delete_statements AFTER DELETE ON agenda_info_committee REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('agenda_change_log', 'agenda_no', 'year');
+
+
+--
+-- Name: log_agenda_info_committee_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_agenda_info_committee_insert_statements AFTER INSERT ON agenda_info_committee REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('agenda_change_log', 'agenda_no', 'year');
+
+
+--
+-- Name: log_agenda_info_committee_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_agenda_info_committee_update_statements AFTER UPDATE ON agenda_info_committee REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('agenda_change_log', 'agenda_no', 'year');
+
 
 --
 -- Name: log_agenda_info_committee_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6009,6 +6337,22 @@ CREATE TRIGGER log_agenda_info_addendum_updates_to_change_log BEFORE INSERT OR D
 
 CREATE TRIGGER log_agenda_info_committee_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON agenda_info_committee FOR EACH ROW EXECUTE PROCEDURE log_agenda_updates();
 
+ALTER TABLE agenda_info_committee DISABLE TRIGGER log_agenda_info_committee_updates_to_change_log;
+
+
+--
+-- Name: log_agenda_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_agenda_insert_statements AFTER INSERT ON agenda REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('agenda_change_log', 'agenda_no', 'year');
+
+
+--
+-- Name: log_agenda_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_agenda_update_statements AFTER UPDATE ON agenda REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('agenda_change_log', 'agenda_no', 'year');
+
 
 --
 -- Name: log_agenda_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6016,6 +6360,29 @@ CREATE TRIGGER log_agenda_info_committee_updates_to_change_log BEFORE INSERT OR
 
 CREATE TRIGGER log_agenda_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON agenda FOR EACH ROW EXECUTE PROCEDURE log_agenda_updates();
 
+ALTER TABLE agenda DISABLE TRIGGER log_agenda_updates_to_change_log;
+
+
+--
+-- Name: log_agenda_vote_addendum_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_agenda_vote_addendum_delete_statements AFTER DELETE ON agenda_vote_addendum REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('agenda_change_log', 'agenda_no', 'year');
+
+
+--
+-- Name: log_agenda_vote_addendum_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_agenda_vote_addendum_insert_statements AFTER INSERT ON agenda_vote_addendum REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('agenda_change_log', 'agenda_no', 'year');
+
+
+--
+-- Name: log_agenda_vote_addendum_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_agenda_vote_addendum_update_statements AFTER UPDATE ON agenda_vote_addendum REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('agenda_change_log', 'agenda_no', 'year');
+
 
 --
 -- Name: log_agenda_vote_addendum_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6023,6 +6390,29 @@ CREATE TRIGGER log_agenda_updates_to_change_log BEFORE INSERT OR DELETE OR UPDAT
 
 CREATE TRIGGER log_agenda_vote_addendum_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON agenda_vote_addendum FOR EACH ROW EXECUTE PROCEDURE log_agenda_updates();
 
+ALTER TABLE agenda_vote_addendum DISABLE TRIGGER log_agenda_vote_addendum_updates_to_change_log;
+
+
+--
+-- Name: log_agenda_vote_committee_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_agenda_vote_committee_delete_statements AFTER DELETE ON agenda_vote_committee REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('agenda_change_log', 'agenda_no', 'year');
+
+
+--
+-- Name: log_agenda_vote_committee_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_agenda_vote_committee_insert_statements AFTER INSERT ON agenda_vote_committee REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('agenda_change_log', 'agenda_no', 'year');
+
+
+--
+-- Name: log_agenda_vote_committee_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_agenda_vote_committee_update_statements AFTER UPDATE ON agenda_vote_committee REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('agenda_change_log', 'agenda_no', 'year');
+
 
 --
 -- Name: log_agenda_vote_committee_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6030,6 +6420,29 @@ CREATE TRIGGER log_agenda_vote_addendum_updates_to_change_log BEFORE INSERT OR D
 
 CREATE TRIGGER log_agenda_vote_committee_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON agenda_vote_committee FOR EACH ROW EXECUTE PROCEDURE log_agenda_updates();
 
+ALTER TABLE agenda_vote_committee DISABLE TRIGGER log_agenda_vote_committee_updates_to_change_log;
+
+
+--
+-- Name: log_bill_amendment_action_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_amendment_action_delete_statements AFTER DELETE ON bill_amendment_action REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_amendment_action_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_amendment_action_insert_statements AFTER INSERT ON bill_amendment_action REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_amendment_action_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_amendment_action_update_statements AFTER UPDATE ON bill_amendment_action REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
 
 --
 -- Name: log_bill_amendment_action_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6037,6 +6450,29 @@ CREATE TRIGGER log_agenda_vote_committee_updates_to_change_log BEFORE INSERT OR
 
 CREATE TRIGGER log_bill_amendment_action_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON bill_amendment_action FOR EACH ROW EXECUTE PROCEDURE log_bill_updates();
 
+ALTER TABLE bill_amendment_action DISABLE TRIGGER log_bill_amendment_action_updates_to_change_log;
+
+
+--
+-- Name: log_bill_amendment_cosponsor_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_amendment_cosponsor_delete_statements AFTER DELETE ON bill_amendment_cosponsor REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_amendment_cosponsor_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_amendment_cosponsor_insert_statements AFTER INSERT ON bill_amendment_cosponsor REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_amendment_cosponsor_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_amendment_cosponsor_update_statements AFTER UPDATE ON bill_amendment_cosponsor REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
 
 --
 -- Name: log_bill_amendment_cosponsor_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6044,6 +6480,43 @@ CREATE TRIGGER log_bill_amendment_action_updates_to_change_log BEFORE INSERT OR
 
 CREATE TRIGGER log_bill_amendment_cosponsor_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON bill_amendment_cosponsor FOR EACH ROW EXECUTE PROCEDURE log_bill_updates();
 
+ALTER TABLE bill_amendment_cosponsor DISABLE TRIGGER log_bill_amendment_cosponsor_updates_to_change_log;
+
+
+--
+-- Name: log_bill_amendment_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_amendment_delete_statements AFTER DELETE ON bill_amendment REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_amendment_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_amendment_insert_statements AFTER INSERT ON bill_amendment REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_amendment_multi_sponsor_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_amendment_multi_sponsor_delete_statements AFTER DELETE ON bill_amendment_multi_sponsor REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_amendment_multi_sponsor_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_amendment_multi_sponsor_insert_statements AFTER INSERT ON bill_amendment_multi_sponsor REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_amendment_multi_sponsor_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_amendment_multi_sponsor_update_statements AFTER UPDATE ON bill_amendment_multi_sponsor REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
 
 --
 -- Name: log_bill_amendment_multisponsor_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6051,6 +6524,29 @@ CREATE TRIGGER log_bill_amendment_cosponsor_updates_to_change_log BEFORE INSERT
 
 CREATE TRIGGER log_bill_amendment_multisponsor_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON bill_amendment_multi_sponsor FOR EACH ROW EXECUTE PROCEDURE log_bill_updates();
 
+ALTER TABLE bill_amendment_multi_sponsor DISABLE TRIGGER log_bill_amendment_multisponsor_updates_to_change_log;
+
+
+--
+-- Name: log_bill_amendment_publish_status_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_amendment_publish_status_delete_statements AFTER DELETE ON bill_amendment_publish_status REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_amendment_publish_status_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_amendment_publish_status_insert_statements AFTER INSERT ON bill_amendment_publish_status REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_amendment_publish_status_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_amendment_publish_status_update_statements AFTER UPDATE ON bill_amendment_publish_status REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
 
 --
 -- Name: log_bill_amendment_publish_status_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6058,6 +6554,29 @@ CREATE TRIGGER log_bill_amendment_multisponsor_updates_to_change_log BEFORE INSE
 
 CREATE TRIGGER log_bill_amendment_publish_status_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON bill_amendment_publish_status FOR EACH ROW EXECUTE PROCEDURE log_bill_updates();
 
+ALTER TABLE bill_amendment_publish_status DISABLE TRIGGER log_bill_amendment_publish_status_updates_to_change_log;
+
+
+--
+-- Name: log_bill_amendment_same_as_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_amendment_same_as_delete_statements AFTER DELETE ON bill_amendment_same_as REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_amendment_same_as_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_amendment_same_as_insert_statements AFTER INSERT ON bill_amendment_same_as REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_amendment_same_as_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_amendment_same_as_update_statements AFTER UPDATE ON bill_amendment_same_as REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
 
 --
 -- Name: log_bill_amendment_same_as_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6065,6 +6584,15 @@ CREATE TRIGGER log_bill_amendment_publish_status_updates_to_change_log BEFORE IN
 
 CREATE TRIGGER log_bill_amendment_same_as_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON bill_amendment_same_as FOR EACH ROW EXECUTE PROCEDURE log_bill_updates();
 
+ALTER TABLE bill_amendment_same_as DISABLE TRIGGER log_bill_amendment_same_as_updates_to_change_log;
+
+
+--
+-- Name: log_bill_amendment_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_amendment_update_statements AFTER UPDATE ON bill_amendment REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
 
 --
 -- Name: log_bill_amendment_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6072,6 +6600,29 @@ CREATE TRIGGER log_bill_amendment_same_as_updates_to_change_log BEFORE INSERT OR
 
 CREATE TRIGGER log_bill_amendment_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON bill_amendment FOR EACH ROW EXECUTE PROCEDURE log_bill_updates('bill_amend_version');
 
+ALTER TABLE bill_amendment DISABLE TRIGGER log_bill_amendment_updates_to_change_log;
+
+
+--
+-- Name: log_bill_amendment_vote_info_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_amendment_vote_info_delete_statements AFTER DELETE ON bill_amendment_vote_info REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_amendment_vote_info_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_amendment_vote_info_insert_statements AFTER INSERT ON bill_amendment_vote_info REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_amendment_vote_info_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_amendment_vote_info_update_statements AFTER UPDATE ON bill_amendment_vote_info REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
 
 --
 -- Name: log_bill_amendment_vote_info_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6079,6 +6630,29 @@ CREATE TRIGGER log_bill_amendment_updates_to_change_log BEFORE INSERT OR DELETE
 
 CREATE TRIGGER log_bill_amendment_vote_info_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON bill_amendment_vote_info FOR EACH ROW EXECUTE PROCEDURE log_bill_updates();
 
+ALTER TABLE bill_amendment_vote_info DISABLE TRIGGER log_bill_amendment_vote_info_updates_to_change_log;
+
+
+--
+-- Name: log_bill_approval_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_approval_delete_statements AFTER DELETE ON bill_approval REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_approval_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_approval_insert_statements AFTER INSERT ON bill_approval REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_approval_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_approval_update_statements AFTER UPDATE ON bill_approval REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
 
 --
 -- Name: log_bill_approval_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6086,6 +6660,43 @@ CREATE TRIGGER log_bill_amendment_vote_info_updates_to_change_log BEFORE INSERT
 
 CREATE TRIGGER log_bill_approval_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON bill_approval FOR EACH ROW EXECUTE PROCEDURE log_bill_updates();
 
+ALTER TABLE bill_approval DISABLE TRIGGER log_bill_approval_updates_to_change_log;
+
+
+--
+-- Name: log_bill_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_delete_statements AFTER DELETE ON bill REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_insert_statements AFTER INSERT ON bill REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_previous_version_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_previous_version_delete_statements AFTER DELETE ON bill_previous_version REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_previous_version_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_previous_version_insert_statements AFTER INSERT ON bill_previous_version REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_previous_version_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_previous_version_update_statements AFTER UPDATE ON bill_previous_version REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
 
 --
 -- Name: log_bill_previous_version_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6093,6 +6704,29 @@ CREATE TRIGGER log_bill_approval_updates_to_change_log BEFORE INSERT OR DELETE O
 
 CREATE TRIGGER log_bill_previous_version_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON bill_previous_version FOR EACH ROW EXECUTE PROCEDURE log_bill_updates();
 
+ALTER TABLE bill_previous_version DISABLE TRIGGER log_bill_previous_version_updates_to_change_log;
+
+
+--
+-- Name: log_bill_sponsor_additional_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_sponsor_additional_delete_statements AFTER DELETE ON bill_sponsor_additional REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_sponsor_additional_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_sponsor_additional_insert_statements AFTER INSERT ON bill_sponsor_additional REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_sponsor_additional_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_sponsor_additional_update_statements AFTER UPDATE ON bill_sponsor_additional REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
 
 --
 -- Name: log_bill_sponsor_additional_updates; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6100,6 +6734,29 @@ CREATE TRIGGER log_bill_previous_version_updates_to_change_log BEFORE INSERT OR
 
 CREATE TRIGGER log_bill_sponsor_additional_updates BEFORE INSERT OR DELETE OR UPDATE ON bill_sponsor_additional FOR EACH ROW EXECUTE PROCEDURE log_bill_updates();
 
+ALTER TABLE bill_sponsor_additional DISABLE TRIGGER log_bill_sponsor_additional_updates;
+
+
+--
+-- Name: log_bill_sponsor_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_sponsor_delete_statements AFTER DELETE ON bill_sponsor REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_sponsor_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_sponsor_insert_statements AFTER INSERT ON bill_sponsor REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_sponsor_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_sponsor_update_statements AFTER UPDATE ON bill_sponsor REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
 
 --
 -- Name: log_bill_sponsor_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6107,6 +6764,15 @@ CREATE TRIGGER log_bill_sponsor_additional_updates BEFORE INSERT OR DELETE OR UP
 
 CREATE TRIGGER log_bill_sponsor_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON bill_sponsor FOR EACH ROW EXECUTE PROCEDURE log_bill_updates();
 
+ALTER TABLE bill_sponsor DISABLE TRIGGER log_bill_sponsor_updates_to_change_log;
+
+
+--
+-- Name: log_bill_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_update_statements AFTER UPDATE ON bill REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
 
 --
 -- Name: log_bill_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6114,6 +6780,29 @@ CREATE TRIGGER log_bill_sponsor_updates_to_change_log BEFORE INSERT OR DELETE OR
 
 CREATE TRIGGER log_bill_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON bill FOR EACH ROW EXECUTE PROCEDURE log_bill_updates();
 
+ALTER TABLE bill DISABLE TRIGGER log_bill_updates_to_change_log;
+
+
+--
+-- Name: log_bill_veto_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_veto_delete_statements AFTER DELETE ON bill_veto REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_veto_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_veto_insert_statements AFTER INSERT ON bill_veto REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
+
+--
+-- Name: log_bill_veto_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_veto_update_statements AFTER UPDATE ON bill_veto REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('bill_change_log', 'bill_print_no', 'bill_session_year');
+
 
 --
 -- Name: log_bill_veto_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6121,6 +6810,29 @@ CREATE TRIGGER log_bill_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE
 
 CREATE TRIGGER log_bill_veto_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON bill_veto FOR EACH ROW EXECUTE PROCEDURE log_bill_updates();
 
+ALTER TABLE bill_veto DISABLE TRIGGER log_bill_veto_updates_to_change_log;
+
+
+--
+-- Name: log_calendar_active_list_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_calendar_active_list_delete_statements AFTER DELETE ON calendar_active_list REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('calendar_change_log', 'calendar_no', 'calendar_year');
+
+
+--
+-- Name: log_calendar_active_list_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_calendar_active_list_insert_statements AFTER INSERT ON calendar_active_list REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('calendar_change_log', 'calendar_no', 'calendar_year');
+
+
+--
+-- Name: log_calendar_active_list_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_calendar_active_list_update_statements AFTER UPDATE ON calendar_active_list REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('calendar_change_log', 'calendar_no', 'calendar_year');
+
 
 --
 -- Name: log_calendar_active_list_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6128,6 +6840,43 @@ CREATE TRIGGER log_bill_veto_updates_to_change_log BEFORE INSERT OR DELETE OR UP
 
 CREATE TRIGGER log_calendar_active_list_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON calendar_active_list FOR EACH ROW EXECUTE PROCEDURE log_calendar_updates();
 
+ALTER TABLE calendar_active_list DISABLE TRIGGER log_calendar_active_list_updates_to_change_log;
+
+
+--
+-- Name: log_calendar_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_calendar_delete_statements AFTER DELETE ON calendar REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('calendar_change_log', 'calendar_no', 'calendar_year');
+
+
+--
+-- Name: log_calendar_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_calendar_insert_statements AFTER INSERT ON calendar REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('calendar_change_log', 'calendar_no', 'calendar_year');
+
+
+--
+-- Name: log_calendar_supplemental_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_calendar_supplemental_delete_statements AFTER DELETE ON calendar_supplemental REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('calendar_change_log', 'calendar_no', 'calendar_year');
+
+
+--
+-- Name: log_calendar_supplemental_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_calendar_supplemental_insert_statements AFTER INSERT ON calendar_supplemental REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('calendar_change_log', 'calendar_no', 'calendar_year');
+
+
+--
+-- Name: log_calendar_supplemental_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_calendar_supplemental_update_statements AFTER UPDATE ON calendar_supplemental REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('calendar_change_log', 'calendar_no', 'calendar_year');
+
 
 --
 -- Name: log_calendar_supplemental_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6135,6 +6884,15 @@ CREATE TRIGGER log_calendar_active_list_updates_to_change_log BEFORE INSERT OR D
 
 CREATE TRIGGER log_calendar_supplemental_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON calendar_supplemental FOR EACH ROW EXECUTE PROCEDURE log_calendar_updates();
 
+ALTER TABLE calendar_supplemental DISABLE TRIGGER log_calendar_supplemental_updates_to_change_log;
+
+
+--
+-- Name: log_calendar_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_calendar_update_statements AFTER UPDATE ON calendar REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_statement_changes('calendar_change_log', 'calendar_no', 'calendar_year');
+
 
 --
 -- Name: log_calendar_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6142,6 +6900,29 @@ CREATE TRIGGER log_calendar_supplemental_updates_to_change_log BEFORE INSERT OR
 
 CREATE TRIGGER log_calendar_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON calendar FOR EACH ROW EXECUTE PROCEDURE log_calendar_updates();
 
+ALTER TABLE calendar DISABLE TRIGGER log_calendar_updates_to_change_log;
+
+
+--
+-- Name: log_law_document_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_law_document_delete_statements AFTER DELETE ON law_document REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_law_statement_changes();
+
+
+--
+-- Name: log_law_document_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_law_document_insert_statements AFTER INSERT ON law_document REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_law_statement_changes();
+
+
+--
+-- Name: log_law_document_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_law_document_update_statements AFTER UPDATE ON law_document REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_law_statement_changes();
+
 
 --
 -- Name: log_law_document_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6149,6 +6930,29 @@ CREATE TRIGGER log_calendar_updates_to_change_log BEFORE INSERT OR DELETE OR UPD
 
 CREATE TRIGGER log_law_document_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON law_document FOR EACH ROW EXECUTE PROCEDURE log_law_updates();
 
+ALTER TABLE law_document DISABLE TRIGGER log_law_document_updates_to_change_log;
+
+
+--
+-- Name: log_law_tree_delete_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_law_tree_delete_statements AFTER DELETE ON law_tree REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_law_statement_changes();
+
+
+--
+-- Name: log_law_tree_insert_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_law_tree_insert_statements AFTER INSERT ON law_tree REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_law_statement_changes();
+
+
+--
+-- Name: log_law_tree_update_statements; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_law_tree_update_statements AFTER UPDATE ON law_tree REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE PROCEDURE log_law_statement_changes();
+
 
 --
 -- Name: log_law_tree_updates_to_change_log; Type: TRIGGER; Schema: master; Owner: postgres
@@ -6156,6 +6960,8 @@ CREATE TRIGGER log_law_document_updates_to_change_log BEFORE INSERT OR DELETE OR
 
 CREATE TRIGGER log_law_tree_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON law_tree FOR EACH ROW EXECUTE PROCEDURE log_law_updates();
 
+ALTER TABLE law_tree DISABLE TRIGGER log_law_tree_updates_to_change_log;
+
 
 --
 -- Name: active_list_reference_entry_calendar_active_list_id_fkey; Type: FK CONSTRAINT; Schema: master; Owner: postgres
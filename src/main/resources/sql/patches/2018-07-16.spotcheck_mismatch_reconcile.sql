@@ -0,0 +1,14 @@
+-- Mismatches whose reference and observed data are unchanged from the prior open mismatch are stored
+-- as state transitions that point to the row holding the data instead of duplicating the text.
+ALTER TABLE master.spotcheck_mismatch
+  ALTER COLUMN reference_data DROP NOT NULL,
+  ALTER COLUMN observed_data DROP NOT NULL,
+  ADD COLUMN data_mismatch_id integer REFERENCES master.spotcheck_mismatch (mismatch_id),
+  ADD CONSTRAINT spotcheck_mismatch_data_check
+    CHECK ((reference_data IS NOT NULL AND observed_data IS NOT NULL) OR data_mismatch_id IS NOT NULL);
+
+COMMENT ON COLUMN master.spotcheck_mismatch.data_mismatch_id IS 'References the mismatch containing the reference and observed data when they are unchanged from a prior mismatch.';
+
+-- Supports looking up the most recent mismatch for each key and type during report reconciliation
+CREATE INDEX spotcheck_mismatch_datasource_key_type_observed_idx
+  ON master.spotcheck_mismatch USING btree (datasource, key, type, observed_date_time DESC);
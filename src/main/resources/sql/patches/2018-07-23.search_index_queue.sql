@@ -0,0 +1,22 @@
+-- Durable outbox for search index updates that have been queued but not yet indexed.
+-- Entries are removed once the content is indexed and are re-queued when the application restarts.
+CREATE TABLE IF NOT EXISTS master.search_index_queue (
+  index_name text NOT NULL,
+  content_id text NOT NULL,
+  queued_date_time timestamp without time zone DEFAULT now() NOT NULL,
+  CONSTRAINT search_index_queue_pk PRIMARY KEY (index_name, content_id)
+);
+
+ALTER TABLE master.search_index_queue OWNER TO postgres;
+
+-- Queued content is read back per index in the order it was queued
+CREATE INDEX IF NOT EXISTS search_index_queue_index_name_queued_date_time_idx
+  ON master.search_index_queue USING btree (index_name, queued_date_time);
+
+COMMENT ON TABLE master.search_index_queue IS 'Content that is waiting to be indexed into elastic search.';
+
+COMMENT ON COLUMN master.search_index_queue.index_name IS 'The search index that the content belongs to.';
+
+COMMENT ON COLUMN master.search_index_queue.content_id IS 'Identifies the content within the search index.';
+
+COMMENT ON COLUMN master.search_index_queue.queued_date_time IS 'The last time this content was queued for indexing.';
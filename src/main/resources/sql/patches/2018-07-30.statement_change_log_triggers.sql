@@ -0,0 +1,235 @@
+-- Log bill, agenda, calendar, and law changes with statement level triggers over transition tables.
+-- The change log rows are the same as those written by the row level log_*_updates functions, but each
+-- statement makes one insert into the change log instead of one per modified row.
+-- Transition tables require Postgres 10 or later.
+--
+-- The old and new rows of an update are paired by primary key.  If an update changes a primary key value,
+-- the new row has no old row to compare against, so all of its values are logged as they would be for an
+-- insert and the old key values are not recorded.
+--
+-- The row level triggers are kept but disabled.  Use master.set_change_log_triggers(false) to switch back.
+
+DO $$
+BEGIN
+  IF current_setting('server_version_num')::INTEGER < 100000
+  THEN
+    RAISE EXCEPTION 'Statement level change log triggers require Postgres 10 or later, found %', version();
+  END IF;
+END;$$;
+
+-- Returns the primary key columns of the given table
+
+CREATE OR REPLACE FUNCTION master.change_log_primary_key(table_oid regclass)
+  RETURNS TEXT []
+LANGUAGE sql STABLE
+AS $$
+  SELECT array_agg(a.attname::TEXT ORDER BY k.ord)
+  FROM pg_index i
+    CROSS JOIN LATERAL unnest(i.indkey) WITH ORDINALITY AS k(attnum, ord)
+    JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = k.attnum
+  WHERE i.indrelid = table_oid AND i.indisprimary;
+$$;
+
+ALTER FUNCTION master.change_log_primary_key(regclass) OWNER TO postgres;
+
+-- Logs the rows modified by a statement on a bill, agenda, or calendar table.
+-- Trigger arguments: the change log table name, followed by its two id column names.
+
+CREATE OR REPLACE FUNCTION master.log_statement_changes()
+  RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$DECLARE
+  change_log_table    TEXT := TG_ARGV[0]; -- Change log table name
+  id_column_1         TEXT := TG_ARGV[1]; -- First change log id column e.g. bill_print_no
+  id_column_2         TEXT := TG_ARGV[2]; -- Second change log id column e.g. bill_session_year
+  ignored_columns     TEXT []; -- Column names to exclude from data
+  key_join            TEXT; -- Join condition pairing old and new rows by primary key
+  fragment_id         TEXT := NULL; -- The latest fragment, used for deletes
+  published_date_time TIMESTAMP WITHOUT TIME ZONE := NULL; -- The published date of the latest fragment
+  insert_log          TEXT; -- Insert into the change log
+BEGIN
+  ignored_columns := ARRAY [id_column_1, id_column_2, 'modified_date_time', 'last_fragment_id'];
+  insert_log := format('INSERT INTO master.%I (%I, %I, table_name, action, data, sobi_fragment_id, published_date_time) ',
+                       change_log_table, id_column_1, id_column_2);
+
+  IF TG_OP = 'INSERT'
+  THEN
+    EXECUTE insert_log || format(
+      'SELECT n.%1$I, n.%2$I, $1, $2, delete(hstore(n.*), $3), n.last_fragment_id, f.published_date_time
+       FROM new_rows n
+         LEFT JOIN master.sobi_fragment f ON f.fragment_id = n.last_fragment_id',
+      id_column_1, id_column_2)
+    USING TG_TABLE_NAME, TG_OP, ignored_columns;
+
+  ELSIF TG_OP = 'UPDATE'
+  THEN
+    -- Only log updates where the non-ignored values were actually changed.
+    -- New rows without an old row with the same primary key had their key changed, log all of their values.
+    SELECT string_agg(format('o.%1$I = n.%1$I', key_column), ' AND ')
+    INTO key_join
+    FROM unnest(master.change_log_primary_key(TG_RELID)) AS key_column;
+
+    EXECUTE insert_log || format(
+      'SELECT d.%1$I, d.%2$I, $1, $2, d.data_diff, d.last_fragment_id, f.published_date_time
+       FROM (SELECT n.%1$I, n.%2$I, n.last_fragment_id,
+                    CASE WHEN o IS NULL THEN delete(hstore(n.*), $3)
+                         ELSE delete(hstore(n.*), $3) - delete(hstore(o.*), $3) END AS data_diff
+             FROM new_rows n
+               LEFT JOIN old_rows o ON %3$s) d
+         LEFT JOIN master.sobi_fragment f ON f.fragment_id = d.last_fragment_id
+       WHERE d.data_diff != ''''::hstore',
+      id_column_1, id_column_2, key_join)
+    USING TG_TABLE_NAME, TG_OP, ignored_columns;
+
+  ELSE
+    SELECT f.fragment_id, f.published_date_time
+    INTO fragment_id, published_date_time
+    FROM master.sobi_fragment f
+    WHERE f.process_start_date_time = (SELECT MAX(process_start_date_time) FROM master.sobi_fragment);
+
+    EXECUTE insert_log || format(
+      'SELECT o.%1$I, o.%2$I, $1, $2, delete(hstore(o.*), $3), $4, $5
+       FROM old_rows o',
+      id_column_1, id_column_2)
+    USING TG_TABLE_NAME, TG_OP, ignored_columns, fragment_id, published_date_time;
+  END IF;
+
+  RETURN NULL;
+END;$$;
+
+ALTER FUNCTION master.log_statement_changes() OWNER TO postgres;
+
+-- Logs the rows modified by a statement on the law document and law tree tables.
+
+CREATE OR REPLACE FUNCTION master.log_law_statement_changes()
+  RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$DECLARE
+  prior_rows TEXT; -- The law tree rows that existed before the statement
+BEGIN
+
+  IF TG_TABLE_NAME = 'law_document' THEN
+
+    -- For law document inserts/updates, just log it
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+      INSERT INTO master.law_change_log (document_id, published_date_time, law_id, table_name, action, law_file_name)
+      SELECT n.document_id, n.published_date, n.law_id, TG_TABLE_NAME, TG_OP, n.law_file_name
+      FROM new_rows n;
+    ELSE
+      INSERT INTO master.law_change_log (document_id, published_date_time, law_id, table_name, action, law_file_name)
+      SELECT o.document_id, o.published_date, o.law_id, TG_TABLE_NAME, TG_OP, NULL
+      FROM old_rows o;
+    END IF;
+
+  ELSIF TG_TABLE_NAME = 'law_tree' AND TG_OP IN ('INSERT', 'UPDATE') THEN
+
+    -- Law trees are regenerated every time in full whenever there is a modification to it.
+    -- The goal here is to log just the rows of the new law tree that are different from the latest
+    -- row for the same document that existed before the statement.
+
+    prior_rows :=
+      'SELECT t.* FROM master.law_tree t
+       WHERE NOT EXISTS (SELECT 1 FROM new_rows x
+                         WHERE x.law_id = t.law_id AND x.published_date = t.published_date
+                           AND x.doc_id = t.doc_id AND x.doc_published_date = t.doc_published_date)';
+    IF TG_OP = 'UPDATE' THEN
+      prior_rows := prior_rows || ' UNION ALL SELECT * FROM old_rows';
+    END IF;
+
+    EXECUTE format(
+      'INSERT INTO master.law_change_log (document_id, published_date_time, law_id, table_name, action, law_file_name)
+       SELECT n.doc_id, n.published_date, n.law_id, $1, $2, n.law_file
+       FROM new_rows n
+         JOIN LATERAL (
+           SELECT p.doc_published_date, p.parent_doc_id, p.parent_doc_published_date, p.is_root, p.sequence_no, p.repealed_date
+           FROM (%s) p
+           WHERE p.doc_id = n.doc_id
+           ORDER BY p.published_date DESC
+           LIMIT 1
+         ) last_row ON TRUE
+       WHERE row(n.doc_published_date, n.parent_doc_id, n.parent_doc_published_date,
+                 n.is_root, n.sequence_no, n.repealed_date) <> row(last_row.*)',
+      prior_rows)
+    USING TG_TABLE_NAME, TG_OP;
+
+  END IF;
+
+  RETURN NULL;
+END;$$;
+
+ALTER FUNCTION master.log_law_statement_changes() OWNER TO postgres;
+
+-- Create the statement level triggers.  Transition tables can only be referenced by single event triggers,
+-- so each table gets an insert, update, and delete trigger.
+
+DO $$DECLARE
+  log_table RECORD;
+  trigger_args TEXT;
+BEGIN
+  FOR log_table IN
+    SELECT * FROM (VALUES
+      ('agenda', 'agenda_change_log'), ('agenda_info_addendum', 'agenda_change_log'),
+      ('agenda_info_committee', 'agenda_change_log'), ('agenda_vote_addendum', 'agenda_change_log'),
+      ('agenda_vote_committee', 'agenda_change_log'),
+      ('bill', 'bill_change_log'), ('bill_amendment', 'bill_change_log'),
+      ('bill_amendment_action', 'bill_change_log'), ('bill_amendment_cosponsor', 'bill_change_log'),
+      ('bill_amendment_multi_sponsor', 'bill_change_log'), ('bill_amendment_publish_status', 'bill_change_log'),
+      ('bill_amendment_same_as', 'bill_change_log'), ('bill_amendment_vote_info', 'bill_change_log'),
+      ('bill_approval', 'bill_change_log'), ('bill_previous_version', 'bill_change_log'),
+      ('bill_sponsor', 'bill_change_log'), ('bill_sponsor_additional', 'bill_change_log'),
+      ('bill_veto', 'bill_change_log'),
+      ('calendar', 'calendar_change_log'), ('calendar_active_list', 'calendar_change_log'),
+      ('calendar_supplemental', 'calendar_change_log'),
+      ('law_document', 'law_change_log'), ('law_tree', 'law_change_log')
+    ) AS t(table_name, change_log_table)
+  LOOP
+    trigger_args := CASE log_table.change_log_table
+      WHEN 'agenda_change_log' THEN 'log_statement_changes(''agenda_change_log'', ''agenda_no'', ''year'')'
+      WHEN 'bill_change_log' THEN 'log_statement_changes(''bill_change_log'', ''bill_print_no'', ''bill_session_year'')'
+      WHEN 'calendar_change_log' THEN 'log_statement_changes(''calendar_change_log'', ''calendar_no'', ''calendar_year'')'
+      ELSE 'log_law_statement_changes()'
+    END;
+    EXECUTE format('DROP TRIGGER IF EXISTS %1$I ON master.%2$I; DROP TRIGGER IF EXISTS %3$I ON master.%2$I; '
+                   'DROP TRIGGER IF EXISTS %4$I ON master.%2$I;',
+                   'log_' || log_table.table_name || '_insert_statements', log_table.table_name,
+                   'log_' || log_table.table_name || '_update_statements', 'log_' || log_table.table_name || '_delete_statements');
+    EXECUTE format('CREATE TRIGGER %I AFTER INSERT ON master.%I REFERENCING NEW TABLE AS new_rows '
+                   'FOR EACH STATEMENT EXECUTE PROCEDURE master.%s',
+                   'log_' || log_table.table_name || '_insert_statements', log_table.table_name, trigger_args);
+    EXECUTE format('CREATE TRIGGER %I AFTER UPDATE ON master.%I REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows '
+                   'FOR EACH STATEMENT EXECUTE PROCEDURE master.%s',
+                   'log_' || log_table.table_name || '_update_statements', log_table.table_name, trigger_args);
+    EXECUTE format('CREATE TRIGGER %I AFTER DELETE ON master.%I REFERENCING OLD TABLE AS old_rows '
+                   'FOR EACH STATEMENT EXECUTE PROCEDURE master.%s',
+                   'log_' || log_table.table_name || '_delete_statements', log_table.table_name, trigger_args);
+  END LOOP;
+END;$$;
+
+-- Enables either the statement level or the row level change log triggers, disabling the other set.
+
+CREATE OR REPLACE FUNCTION master.set_change_log_triggers(statement_level BOOLEAN)
+  RETURNS VOID
+LANGUAGE plpgsql
+AS $$DECLARE
+  log_trigger RECORD;
+BEGIN
+  FOR log_trigger IN
+    SELECT t.tgrelid::regclass AS table_name, t.tgname, p.proname
+    FROM pg_trigger t
+      JOIN pg_proc p ON p.oid = t.tgfoid
+      JOIN pg_namespace n ON n.oid = p.pronamespace
+    WHERE n.nspname = 'master' AND NOT t.tgisinternal
+      AND p.proname IN ('log_statement_changes', 'log_law_statement_changes',
+                        'log_bill_updates', 'log_agenda_updates', 'log_calendar_updates', 'log_law_updates')
+  LOOP
+    EXECUTE format('ALTER TABLE %s %s TRIGGER %I', log_trigger.table_name,
+                   CASE WHEN (log_trigger.proname IN ('log_statement_changes', 'log_law_statement_changes')) = statement_level
+                     THEN 'ENABLE' ELSE 'DISABLE' END,
+                   log_trigger.tgname);
+  END LOOP;
+END;$$;
+
+ALTER FUNCTION master.set_change_log_triggers(BOOLEAN) OWNER TO postgres;
+
+SELECT master.set_change_log_triggers(true);
@@ -0,0 +1,53 @@
+-- Store the page count, line count, and page breaks of each amendment's full text
+-- so that they are computed once at ingest instead of re-parsing the text on every read.
+
+SET SEARCH_PATH = master;
+
+ALTER TABLE bill_amendment
+  ADD COLUMN full_text_page_count integer,
+  ADD COLUMN full_text_line_count integer,
+  ADD COLUMN full_text_page_lines integer[];
+
+COMMENT ON COLUMN bill_amendment.full_text_page_count IS 'The number of pages in the full text';
+COMMENT ON COLUMN bill_amendment.full_text_line_count IS 'The number of lines in the full text';
+COMMENT ON COLUMN bill_amendment.full_text_page_lines IS 'The 0 based indices of the full text lines that start a new page';
+
+-- Compute the metrics for existing amendments in the same way as BillTextUtils.getTextMetrics
+-- The change log triggers are skipped since these are derived values.
+
+SET session_replication_role = replica;
+
+UPDATE bill_amendment ba
+SET full_text_page_count = m.page_count, full_text_line_count = m.line_count, full_text_page_lines = m.page_lines
+FROM (
+  SELECT l.bill_print_no, l.bill_session_year, l.bill_amend_version,
+         count(*) AS line_count,
+         coalesce(array_agg(l.line_no - 1 ORDER BY l.line_no) FILTER (WHERE l.page_start IS NOT NULL), '{}') AS page_lines,
+         coalesce((array_agg(l.page_start[3] ORDER BY l.line_no DESC) FILTER (WHERE l.page_start IS NOT NULL))[1]::integer, 1) AS page_count
+  FROM (
+    SELECT a.bill_print_no, a.bill_session_year, a.bill_amend_version, t.line_no,
+           CASE WHEN t.line_no > 11
+             THEN regexp_match(t.line, '^(\s+\w.\s\d+(--\w)?)?\s{10,}(\d+)(\s{10,}(\w.\s\d+(--\w)?)?(\d+-\d+-\d(--\w)?)?)?$')
+           END AS page_start
+    FROM bill_amendment a
+      CROSS JOIN LATERAL regexp_split_to_table(a.full_text, E'\n') WITH ORDINALITY AS t(line, line_no)
+    WHERE a.full_text <> ''
+  ) l
+  GROUP BY l.bill_print_no, l.bill_session_year, l.bill_amend_version
+) m
+WHERE ba.bill_print_no = m.bill_print_no AND ba.bill_session_year = m.bill_session_year
+  AND ba.bill_amend_version = m.bill_amend_version;
+
+UPDATE bill_amendment
+SET full_text_page_count = 0, full_text_line_count = 0, full_text_page_lines = '{}'
+WHERE full_text_page_count IS NULL;
+
+SET session_replication_role = DEFAULT;
+
+ALTER TABLE bill_amendment
+  ALTER COLUMN full_text_page_count SET DEFAULT 0,
+  ALTER COLUMN full_text_page_count SET NOT NULL,
+  ALTER COLUMN full_text_line_count SET DEFAULT 0,
+  ALTER COLUMN full_text_line_count SET NOT NULL,
+  ALTER COLUMN full_text_page_lines SET DEFAULT '{}',
+  ALTER COLUMN full_text_page_lines SET NOT NULL;
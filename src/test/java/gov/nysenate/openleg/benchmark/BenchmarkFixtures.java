@@ -0,0 +1,79 @@
+package gov.nysenate.openleg.benchmark;
+
+import com.google.common.io.Resources;
+import gov.nysenate.openleg.model.bill.BillTextType;
+import gov.nysenate.openleg.model.sobi.SobiFile;
+import gov.nysenate.openleg.model.sobi.SobiLineType;
+import gov.nysenate.openleg.processor.bill.BillTextParser;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Loads the sample sobi, law, and bill files that are checked in under the test resources
+ * for use by the benchmarks.
+ */
+final class BenchmarkFixtures
+{
+    /** A sobi file containing the full text of S7300-2013. */
+    static final String billTextSobi = "sobi/SOBI.D140509.T124706.TXT";
+
+    /** A sobi file containing bill info, same as, sponsor, and vote memo lines for a number of bills. */
+    static final String billInfoSobi = "benchmark/sobi/SOBI.D150415.T103012.TXT";
+
+    /** An initial law dump containing a single chapter with a few articles and sections. */
+    static final String lawDump = "benchmark/law/DATABASE.LAWA";
+
+    /** The actions for S2006-2015 in the format expected by the bill action parser. */
+    static final String billActions = "benchmark/bill/S2006-2015.actions";
+
+    private BenchmarkFixtures() {}
+
+    static String read(String resource) throws Exception {
+        return read(resource, StandardCharsets.UTF_8);
+    }
+
+    static String read(String resource, Charset charset) throws Exception {
+        return Resources.toString(Resources.getResource(resource), charset);
+    }
+
+    static File file(String resource) throws Exception {
+        return new File(Resources.getResource(resource).toURI());
+    }
+
+    /**
+     * Creates a sobi file for the given resource that reads its text from memory, so that benchmarks
+     * of the text processing do not also measure the file system.
+     */
+    static SobiFile sobiFile(String resource) throws Exception {
+        String text = read(resource, Charset.forName(SobiFile.DEFAULT_ENCODING));
+        return new SobiFile(file(resource)) {
+            @Override
+            public String getText() {
+                return text;
+            }
+        };
+    }
+
+    /**
+     * @return String - The data of the sobi lines of the given type, with the bill header and line type removed.
+     */
+    static Stream<String> sobiLineData(String resource, SobiLineType lineType) throws Exception {
+        return Stream.of(read(resource, Charset.forName(SobiFile.DEFAULT_ENCODING)).split("\\r?\\n"))
+            .filter(line -> line.length() > 11 && line.charAt(11) == lineType.getTypeCode())
+            .map(line -> line.substring(12));
+    }
+
+    /**
+     * @return String - The full text of S7300-2013, parsed as it would be by the bill processor.
+     */
+    static String billText() throws Exception {
+        SobiFile sobiFile = sobiFile(billTextSobi);
+        String data = sobiLineData(billTextSobi, SobiLineType.TEXT).collect(Collectors.joining("\n"));
+        return new BillTextParser(data, BillTextType.getTypeString(SobiLineType.TEXT), sobiFile.getPublishedDateTime())
+            .extractText();
+    }
+}
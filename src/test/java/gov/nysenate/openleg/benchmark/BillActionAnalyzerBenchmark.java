@@ -0,0 +1,81 @@
+package gov.nysenate.openleg.benchmark;
+
+import com.google.common.io.Resources;
+import gov.nysenate.openleg.model.base.PublishStatus;
+import gov.nysenate.openleg.model.bill.BaseBillId;
+import gov.nysenate.openleg.model.bill.BillAction;
+import gov.nysenate.openleg.model.bill.BillId;
+import gov.nysenate.openleg.processor.bill.BillActionAnalyzer;
+import gov.nysenate.openleg.processor.bill.BillActionParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the analysis of a bill's actions over the course of a session, where each sobi fragment appends
+ * a single action to the bill and the actions are analyzed again, as done by the bill processors.
+ *
+ * The 'fullReplay' benchmark analyzes every action on each update, the 'checkpoint' benchmark resumes
+ * from the analysis of the previous update.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BillActionAnalyzerBenchmark
+{
+    private static final BillId billId = new BaseBillId("S2006", 2015);
+    private static final Optional<PublishStatus> defaultPubStatus =
+        Optional.of(new PublishStatus(true, LocalDate.of(2015, 1, 7).atStartOfDay()));
+
+    private List<BillAction> actions;
+
+    @Setup
+    public void setUp() throws Exception {
+        String actionText = Resources.toString(
+            Resources.getResource("benchmark/bill/S2006-2015.actions"), StandardCharsets.UTF_8);
+        actions = BillActionParser.parseActionsList(billId, actionText);
+    }
+
+    @Benchmark
+    public void fullReplay(Blackhole bh) {
+        for (int count = 1; count <= actions.size(); count++) {
+            BillActionAnalyzer analyzer = new BillActionAnalyzer(billId, copyActions(count), defaultPubStatus);
+            analyzer.analyze();
+            bh.consume(analyzer.getBillStatus());
+        }
+    }
+
+    @Benchmark
+    public void checkpoint(Blackhole bh) {
+        BillActionAnalyzer checkpoint = null;
+        for (int count = 1; count <= actions.size(); count++) {
+            BillActionAnalyzer analyzer = new BillActionAnalyzer(billId, copyActions(count), defaultPubStatus);
+            analyzer.analyze(checkpoint);
+            bh.consume(analyzer.getBillStatus());
+            checkpoint = analyzer.checkpoint();
+        }
+    }
+
+    /** --- Internal --- */
+
+    /**
+     * The processors build a new action list from the parsed sobi data on each update.
+     */
+    private List<BillAction> copyActions(int count) {
+        List<BillAction> copy = new ArrayList<>(count);
+        for (BillAction action : actions.subList(0, count)) {
+            copy.add(new BillAction(action.getDate(), action.getText(), action.getChamber(),
+                                   action.getSequenceNo(), action.getBillId()));
+        }
+        return copy;
+    }
+}
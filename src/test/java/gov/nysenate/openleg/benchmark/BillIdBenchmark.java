@@ -0,0 +1,84 @@
+package gov.nysenate.openleg.benchmark;
+
+import gov.nysenate.openleg.model.bill.BaseBillId;
+import gov.nysenate.openleg.model.bill.BillId;
+import gov.nysenate.openleg.model.sobi.SobiFile;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures the creation of bill ids from the bill headers of a sample sobi file, as done for every
+ * sobi block, along with sorting them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BillIdBenchmark
+{
+    /** The bill headers of each sobi line e.g. '2015S01000A' */
+    private List<String> billHeaders;
+
+    private List<BillId> billIds;
+
+    @Setup
+    public void setUp() throws Exception {
+        String text = BenchmarkFixtures.read(BenchmarkFixtures.billInfoSobi, Charset.forName(SobiFile.DEFAULT_ENCODING));
+        billHeaders = Stream.of(text.split("\\r?\\n"))
+            .filter(line -> line.matches("^[0-9]{4}[A-Z][0-9]{5}[ A-Z].+"))
+            .map(line -> line.substring(0, 11))
+            .collect(Collectors.toList());
+        billIds = billHeaders.stream()
+            .map(header -> new BillId(header.substring(4, 10) + header.substring(10, 11).trim(),
+                                      Integer.parseInt(header.substring(0, 4))))
+            .collect(Collectors.toList());
+        Collections.shuffle(billIds, new Random(2015));
+    }
+
+    /**
+     * Parses the print no and version together, e.g. 'S01000A'
+     */
+    @Benchmark
+    public void parsePrintNo(Blackhole bh) {
+        for (String header : billHeaders) {
+            bh.consume(new BillId(header.substring(4, 10) + header.substring(10, 11).trim(),
+                                  Integer.parseInt(header.substring(0, 4))));
+        }
+    }
+
+    /**
+     * Parses the print no and version separately, as done for sobi blocks.
+     */
+    @Benchmark
+    public void parseBlockHeader(Blackhole bh) {
+        for (String header : billHeaders) {
+            bh.consume(new BillId(header.substring(4, 10), Integer.parseInt(header.substring(0, 4)),
+                                  header.substring(10, 11)));
+        }
+    }
+
+    @Benchmark
+    public void baseBillId(Blackhole bh) {
+        for (BillId billId : billIds) {
+            bh.consume(BaseBillId.of(billId));
+        }
+    }
+
+    @Benchmark
+    public Object sort() {
+        List<BillId> sorted = new ArrayList<>(billIds);
+        Collections.sort(sorted);
+        return sorted;
+    }
+}
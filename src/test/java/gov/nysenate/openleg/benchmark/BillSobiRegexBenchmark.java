@@ -0,0 +1,101 @@
+package gov.nysenate.openleg.benchmark;
+
+import gov.nysenate.openleg.model.sobi.SobiLineType;
+import gov.nysenate.openleg.processor.bill.BillSobiProcessor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the patterns that the {@link BillSobiProcessor} applies to the bill info, same as, sponsor and
+ * vote memo lines, using the lines of a sample sobi file. Each benchmark matches every line of its type
+ * in the same way as the processor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BillSobiRegexBenchmark
+{
+    private List<String> billInfoLines;
+    private List<String> sameAsLines;
+    private List<String> sponsorLines;
+    private List<String> voteMemoLines;
+
+    @Setup
+    public void setUp() throws Exception {
+        billInfoLines = getLineData(SobiLineType.BILL_INFO);
+        sameAsLines = getLineData(SobiLineType.SAME_AS);
+        sponsorLines = getLineData(SobiLineType.SPONSOR);
+        voteMemoLines = getLineData(SobiLineType.VOTE_MEMO);
+    }
+
+    @Benchmark
+    public void billInfo(Blackhole bh) {
+        for (String data : billInfoLines) {
+            Matcher billData = BillSobiProcessor.billInfoPattern.matcher(data);
+            if (billData.find()) {
+                bh.consume(billData.group(1).trim());
+                bh.consume(billData.group(3).trim());
+                bh.consume(billData.group(4).trim());
+                bh.consume(billData.group(6).trim());
+            }
+        }
+    }
+
+    @Benchmark
+    public void sameAs(Blackhole bh) {
+        for (String data : sameAsLines) {
+            Matcher sameAsMatcher = BillSobiProcessor.sameAsPattern.matcher(data);
+            if (sameAsMatcher.find()) {
+                bh.consume(sameAsMatcher.group(1));
+                bh.consume(sameAsMatcher.group(2).split(", "));
+            }
+        }
+    }
+
+    @Benchmark
+    public void rulesSponsor(Blackhole bh) {
+        for (String data : sponsorLines) {
+            String sponsorLine = data.replace("(MS)", "").toUpperCase().trim();
+            if (sponsorLine.startsWith("RULES")) {
+                Matcher rules = BillSobiProcessor.rulesSponsorPattern.matcher(sponsorLine);
+                if (rules.matches()) {
+                    bh.consume(rules.group(1) + ((rules.group(2) != null) ? rules.group(2) : ""));
+                }
+            }
+            else {
+                bh.consume(sponsorLine);
+            }
+        }
+    }
+
+    @Benchmark
+    public void voteMemo(Blackhole bh) {
+        for (String line : voteMemoLines) {
+            Matcher voteHeader = BillSobiProcessor.voteHeaderPattern.matcher(line);
+            if (voteHeader.find()) {
+                bh.consume(voteHeader.group(2));
+            }
+            else {
+                Matcher voteLine = BillSobiProcessor.votePattern.matcher(line);
+                while (voteLine.find()) {
+                    bh.consume(voteLine.group(1));
+                    bh.consume(voteLine.group(2).trim());
+                }
+            }
+        }
+    }
+
+    /** --- Internal --- */
+
+    private static List<String> getLineData(SobiLineType lineType) throws Exception {
+        return BenchmarkFixtures.sobiLineData(BenchmarkFixtures.billInfoSobi, lineType).collect(Collectors.toList());
+    }
+}
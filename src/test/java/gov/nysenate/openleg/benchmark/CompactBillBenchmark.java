@@ -0,0 +1,146 @@
+package gov.nysenate.openleg.benchmark;
+
+import gov.nysenate.openleg.model.base.PublishStatus;
+import gov.nysenate.openleg.model.base.SessionYear;
+import gov.nysenate.openleg.model.base.Version;
+import gov.nysenate.openleg.model.bill.*;
+import gov.nysenate.openleg.model.entity.Chamber;
+import gov.nysenate.openleg.model.entity.SessionMember;
+import gov.nysenate.openleg.model.sobi.SobiLineType;
+import gov.nysenate.openleg.processor.bill.BillActionParser;
+import gov.nysenate.openleg.processor.bill.BillSobiProcessor;
+import gov.nysenate.openleg.service.bill.data.CompactBill;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the compact encoding of a bill held by the bill cache with the stripped shallow clone that the cache
+ * used to hold. Measures encoding a bill, inflating it on a cache read, and java serialization of each form.
+ * The serialized size of each form is logged when the benchmark is set up.
+ *
+ * The bill is populated from the action, text, and vote fixtures, with every member given a session member id
+ * as it would have once persisted.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompactBillBenchmark
+{
+    private static final Logger logger = LoggerFactory.getLogger(CompactBillBenchmark.class);
+
+    private static final BaseBillId billId = new BaseBillId("S2006", 2015);
+
+    private final Map<String, SessionMember> membersByShortName = new HashMap<>();
+    private final Map<Integer, SessionMember> membersById = new HashMap<>();
+
+    private Bill bill;
+    private Bill strippedBill;
+    private CompactBill compactBill;
+
+    @Setup
+    public void setUp() throws Exception {
+        bill = createBill();
+        strippedBill = bill.shallowClone();
+        strippedBill.getAmendmentList().forEach(BillAmendment::unloadText);
+        compactBill = new CompactBill(bill);
+        logger.info("Serialized size: stripped bill {} bytes, compact bill {} bytes",
+                    serialize(strippedBill).length, serialize(compactBill).length);
+    }
+
+    @Benchmark
+    public CompactBill compact() {
+        return new CompactBill(bill);
+    }
+
+    @Benchmark
+    public Bill inflate() {
+        return compactBill.inflate(membersById::get);
+    }
+
+    @Benchmark
+    public byte[] serializeStrippedBill() throws IOException {
+        return serialize(strippedBill);
+    }
+
+    @Benchmark
+    public byte[] serializeCompactBill() throws IOException {
+        return serialize(compactBill);
+    }
+
+    /** --- Internal --- */
+
+    private static byte[] serialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    private Bill createBill() throws Exception {
+        Bill bill = new Bill(billId);
+        LocalDate publishDate = LocalDate.of(2015, 1, 7);
+        bill.setPublishedDateTime(publishDate.atStartOfDay());
+        bill.setModifiedDateTime(publishDate.atStartOfDay());
+        bill.setTitle("An act to amend the insurance law, in relation to standards for prompt, fair and equitable " +
+                      "payments of insurance commissions or other compensation arrangements");
+        bill.setSummary("Relates to standards for prompt, fair and equitable payments of insurance commissions.");
+        bill.setActiveVersion(Version.DEFAULT);
+        bill.addAmendment(new BillAmendment(billId, Version.DEFAULT));
+        bill.updatePublishStatus(Version.DEFAULT, new PublishStatus(true, publishDate.atStartOfDay()));
+        bill.setStatus(new BillStatus(BillStatusType.IN_SENATE_COMM, publishDate));
+        bill.setSponsor(new BillSponsor(member("SEWARD")));
+        BillActionParser.parseActionsList(new BillId(billId, Version.DEFAULT),
+                BenchmarkFixtures.read(BenchmarkFixtures.billActions)).forEach(bill::addAction);
+
+        BillAmendment amendment = bill.getAmendment(Version.DEFAULT);
+        amendment.setLaw("Amd S2119, Ins L");
+        amendment.setLawSection("Insurance Law");
+        amendment.setFullText(BenchmarkFixtures.billText());
+
+        BillVote vote = null;
+        for (String line : BenchmarkFixtures.sobiLineData(BenchmarkFixtures.billInfoSobi, SobiLineType.VOTE_MEMO)
+                                             .collect(Collectors.toList())) {
+            if (BillSobiProcessor.voteHeaderPattern.matcher(line).find()) {
+                if (vote != null) break;
+                vote = new BillVote(amendment.getBillId(), LocalDate.of(2015, 4, 1), BillVoteType.FLOOR);
+            }
+            else if (vote != null) {
+                Matcher voteLine = BillSobiProcessor.votePattern.matcher(line);
+                while (voteLine.find()) {
+                    vote.addMemberVote(BillVoteCode.getValue(voteLine.group(1)), member(voteLine.group(2)));
+                }
+            }
+        }
+        amendment.updateVote(vote);
+        return bill;
+    }
+
+    /**
+     * @return SessionMember - The member with the given short name, created with the next session member id.
+     */
+    private SessionMember member(String shortName) throws Exception {
+        SessionMember member = membersByShortName.get(shortName);
+        if (member == null) {
+            member = SessionMember.newMakeshiftMember(shortName, SessionYear.of(2015), Chamber.SENATE);
+            member.setSessionMemberId(membersById.size() + 1);
+            membersByShortName.put(shortName, member);
+            membersById.put(member.getSessionMemberId(), member);
+        }
+        return member;
+    }
+}
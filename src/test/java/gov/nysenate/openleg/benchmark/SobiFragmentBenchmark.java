@@ -0,0 +1,46 @@
+package gov.nysenate.openleg.benchmark;
+
+import gov.nysenate.openleg.model.sobi.SobiFile;
+import gov.nysenate.openleg.processor.sobi.ManagedSobiProcessService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the splitting of sobi files into fragments by the {@link ManagedSobiProcessService}.
+ * The file text is held in memory so that only the line processing is measured.
+ *
+ * The 'billText' benchmark uses a file made up mostly of bill text lines, the 'billInfo' benchmark uses
+ * a file with many short bill info, sponsor, and vote lines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SobiFragmentBenchmark
+{
+    private ManagedSobiProcessService sobiProcessService;
+
+    private SobiFile billTextFile;
+    private SobiFile billInfoFile;
+
+    @Setup
+    public void setUp() throws Exception {
+        sobiProcessService = new ManagedSobiProcessService();
+        billTextFile = BenchmarkFixtures.sobiFile(BenchmarkFixtures.billTextSobi);
+        billInfoFile = BenchmarkFixtures.sobiFile(BenchmarkFixtures.billInfoSobi);
+    }
+
+    @Benchmark
+    public Object billText() throws IOException {
+        return sobiProcessService.createFragments(billTextFile);
+    }
+
+    @Benchmark
+    public Object billInfo() throws IOException {
+        return sobiProcessService.createFragments(billInfoFile);
+    }
+}
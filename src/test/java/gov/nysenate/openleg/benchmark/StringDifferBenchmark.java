@@ -0,0 +1,73 @@
+package gov.nysenate.openleg.benchmark;
+
+import gov.nysenate.openleg.model.spotcheck.MismatchDiff;
+import gov.nysenate.openleg.util.BillTextUtils;
+import gov.nysenate.openleg.util.StringDiffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the diffing of a bill's full text against an amended copy of it, as done when comparing
+ * amendments through the api and when computing spotcheck mismatch diffs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringDifferBenchmark
+{
+    private String fullText;
+    private String amendedText;
+
+    @Setup
+    public void setUp() throws Exception {
+        fullText = BillTextUtils.formatBillText(false, BenchmarkFixtures.billText());
+        amendedText = amend(fullText);
+    }
+
+    /**
+     * The diff used by the bill amendment diff api.
+     */
+    @Benchmark
+    public void amendmentDiff(Blackhole bh) {
+        StringDiffer stringDiffer = new StringDiffer();
+        LinkedList<StringDiffer.Diff> diffs = stringDiffer.diff_main(fullText, amendedText);
+        stringDiffer.diff_cleanupEfficiency(diffs);
+        stringDiffer.diff_cleanupSemantic(diffs);
+        stringDiffer.diff_cleanupMerge(diffs);
+        bh.consume(stringDiffer.diff_prettyHtml(diffs));
+    }
+
+    @Benchmark
+    public Object mismatchDiff() {
+        return MismatchDiff.compute(fullText, amendedText, false, 0);
+    }
+
+    @Benchmark
+    public Object simpleMismatchDiff() {
+        return MismatchDiff.compute(fullText, amendedText, true, 0);
+    }
+
+    /** --- Internal --- */
+
+    /**
+     * Makes a few word changes throughout the text and inserts a new line midway through,
+     * similar to the changes between two amendments of a bill.
+     */
+    private static String amend(String text) {
+        List<String> lines = new ArrayList<>(Arrays.asList(text.split("\n")));
+        for (int i = 0; i < lines.size(); i += 7) {
+            lines.set(i, lines.get(i).replaceFirst("\\bthe\\b", "such"));
+        }
+        lines.add(lines.size() / 2, "    (e) The superintendent shall promulgate such rules and regulations as may be necessary.");
+        return String.join("\n", lines);
+    }
+}
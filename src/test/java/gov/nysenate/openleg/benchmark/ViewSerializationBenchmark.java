@@ -0,0 +1,156 @@
+package gov.nysenate.openleg.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.guava.GuavaModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import gov.nysenate.openleg.client.response.base.ViewObjectResponse;
+import gov.nysenate.openleg.client.view.bill.BillView;
+import gov.nysenate.openleg.client.view.law.LawTreeView;
+import gov.nysenate.openleg.model.base.PublishStatus;
+import gov.nysenate.openleg.model.base.SessionYear;
+import gov.nysenate.openleg.model.base.Version;
+import gov.nysenate.openleg.model.bill.*;
+import gov.nysenate.openleg.model.entity.Chamber;
+import gov.nysenate.openleg.model.entity.SessionMember;
+import gov.nysenate.openleg.model.law.LawDocument;
+import gov.nysenate.openleg.model.law.LawFile;
+import gov.nysenate.openleg.model.law.LawTree;
+import gov.nysenate.openleg.model.law.LawVersionId;
+import gov.nysenate.openleg.model.sobi.SobiLineType;
+import gov.nysenate.openleg.processor.bill.BillActionParser;
+import gov.nysenate.openleg.processor.bill.BillSobiProcessor;
+import gov.nysenate.openleg.processor.law.IdBasedLawBuilder;
+import gov.nysenate.openleg.processor.law.LawBlock;
+import gov.nysenate.openleg.processor.law.LawBuilder;
+import gov.nysenate.openleg.processor.law.LawProcessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the creation and json serialization of the bill and law tree views returned by the api, using
+ * an object mapper configured in the same way as the application's.
+ *
+ * The bill is populated from the action, text, and vote fixtures. The law tree is built from a sample
+ * initial law dump.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewSerializationBenchmark
+{
+    private static final BaseBillId billId = new BaseBillId("S2006", 2015);
+
+    private ObjectMapper objectMapper;
+
+    private Bill bill;
+    private LawTree lawTree;
+    private Map<String, LawDocument> lawDocs;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper();
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.registerModule(new GuavaModule());
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        bill = createBill();
+
+        LawFile lawFile = new LawFile(BenchmarkFixtures.file(BenchmarkFixtures.lawDump));
+        LawBuilder lawBuilder = null;
+        for (LawBlock block : new LawBlockReader().getLawBlocks(lawFile)) {
+            if (lawBuilder == null) {
+                lawBuilder = new IdBasedLawBuilder(new LawVersionId(block.getLawId(), block.getPublishedDate()), null);
+            }
+            lawBuilder.addInitialBlock(block, true);
+        }
+        lawTree = lawBuilder.getProcessedLawTree();
+        lawDocs = lawBuilder.getProcessedLawDocuments().stream()
+            .collect(Collectors.toMap(LawDocument::getDocumentId, Function.identity()));
+    }
+
+    @Benchmark
+    public byte[] billView() throws IOException {
+        return objectMapper.writeValueAsBytes(new ViewObjectResponse<>(new BillView(bill)));
+    }
+
+    @Benchmark
+    public byte[] lawTree() throws IOException {
+        return objectMapper.writeValueAsBytes(new ViewObjectResponse<>(new LawTreeView(lawTree, null, null)));
+    }
+
+    @Benchmark
+    public byte[] lawTreeFull() throws IOException {
+        return objectMapper.writeValueAsBytes(new ViewObjectResponse<>(new LawTreeView(lawTree, null, null, lawDocs)));
+    }
+
+    /** --- Internal --- */
+
+    /**
+     * Exposes the law block parsing of the law processor.
+     */
+    private static class LawBlockReader extends LawProcessor
+    {
+        @Override
+        public List<LawBlock> getLawBlocks(LawFile lawFile) throws IOException {
+            return super.getLawBlocks(lawFile);
+        }
+    }
+
+    private static Bill createBill() throws Exception {
+        Bill bill = new Bill(billId);
+        LocalDate publishDate = LocalDate.of(2015, 1, 7);
+        bill.setPublishedDateTime(publishDate.atStartOfDay());
+        bill.setModifiedDateTime(publishDate.atStartOfDay());
+        bill.setTitle("An act to amend the insurance law, in relation to standards for prompt, fair and equitable " +
+                      "payments of insurance commissions or other compensation arrangements");
+        bill.setSummary("Relates to standards for prompt, fair and equitable payments of insurance commissions.");
+        bill.setActiveVersion(Version.DEFAULT);
+        bill.addAmendment(new BillAmendment(billId, Version.DEFAULT));
+        bill.updatePublishStatus(Version.DEFAULT, new PublishStatus(true, publishDate.atStartOfDay()));
+        bill.setStatus(new BillStatus(BillStatusType.IN_SENATE_COMM, publishDate));
+        bill.setSponsor(new BillSponsor(member("SEWARD")));
+        BillActionParser.parseActionsList(new BillId(billId, Version.DEFAULT),
+                BenchmarkFixtures.read(BenchmarkFixtures.billActions)).forEach(bill::addAction);
+
+        BillAmendment amendment = bill.getAmendment(Version.DEFAULT);
+        amendment.setLaw("Amd S2119, Ins L");
+        amendment.setLawSection("Insurance Law");
+        amendment.setFullText(BenchmarkFixtures.billText());
+
+        BillVote vote = null;
+        for (String line : BenchmarkFixtures.sobiLineData(BenchmarkFixtures.billInfoSobi, SobiLineType.VOTE_MEMO)
+                                             .collect(Collectors.toList())) {
+            if (BillSobiProcessor.voteHeaderPattern.matcher(line).find()) {
+                if (vote != null) break;
+                vote = new BillVote(amendment.getBillId(), LocalDate.of(2015, 4, 1), BillVoteType.FLOOR);
+            }
+            else if (vote != null) {
+                Matcher voteLine = BillSobiProcessor.votePattern.matcher(line);
+                while (voteLine.find()) {
+                    vote.addMemberVote(BillVoteCode.getValue(voteLine.group(1)), member(voteLine.group(2)));
+                }
+            }
+        }
+        amendment.updateVote(vote);
+        return bill;
+    }
+
+    private static SessionMember member(String shortName) throws Exception {
+        return SessionMember.newMakeshiftMember(shortName, SessionYear.of(2015), Chamber.SENATE);
+    }
+}
@@ -0,0 +1,186 @@
+package gov.nysenate.openleg.benchmark;
+
+import com.google.common.io.Resources;
+import gov.nysenate.openleg.util.XmlHelper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parsing of calendar and agenda vote sobi fragments using the same xpath queries as the
+ * {@link gov.nysenate.openleg.processor.calendar.CalendarProcessor} and
+ * {@link gov.nysenate.openleg.processor.agenda.AgendaVoteProcessor}, without persisting anything.
+ *
+ * The 'uncompiled' benchmarks evaluate every path from its string form, as the xml helper used to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XmlFragmentBenchmark
+{
+    private String calendarXml;
+    private String agendaVoteXml;
+
+    private XmlHelper xml;
+    private XmlHelper uncompiledXml;
+
+    @Setup
+    public void setUp() throws Exception {
+        calendarXml = Resources.toString(Resources.getResource("benchmark/xml/calendar.xml"), StandardCharsets.UTF_8);
+        agendaVoteXml = Resources.toString(Resources.getResource("benchmark/xml/agenda_vote.xml"), StandardCharsets.UTF_8);
+        xml = new XmlHelper();
+        uncompiledXml = new UncompiledXmlHelper();
+    }
+
+    @Benchmark
+    public void calendar(Blackhole bh) throws Exception {
+        readCalendar(xml, bh);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void calendarShared(Blackhole bh) throws Exception {
+        readCalendar(xml, bh);
+    }
+
+    @Benchmark
+    public void calendarUncompiled(Blackhole bh) throws Exception {
+        readCalendar(uncompiledXml, bh);
+    }
+
+    @Benchmark
+    public void agendaVote(Blackhole bh) throws Exception {
+        readAgendaVote(xml, bh);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void agendaVoteShared(Blackhole bh) throws Exception {
+        readAgendaVote(xml, bh);
+    }
+
+    @Benchmark
+    public void agendaVoteUncompiled(Blackhole bh) throws Exception {
+        readAgendaVote(uncompiledXml, bh);
+    }
+
+    /** --- Internal --- */
+
+    private void readCalendar(XmlHelper xml, Blackhole bh) throws Exception {
+        Document doc = xml.parse(calendarXml);
+        Node xmlCalendar = xml.getNode("SENATEDATA/sencalendar", doc);
+        bh.consume(xml.getInteger("@no", xmlCalendar));
+        bh.consume(xml.getInteger("@sessyr", xmlCalendar));
+        bh.consume(xml.getInteger("@year", xmlCalendar));
+        bh.consume(xml.getString("@action", xmlCalendar));
+        NodeList xmlSupplementals = xml.getNodeList("supplemental", xmlCalendar);
+        for (int i = 0; i < xmlSupplementals.getLength(); i++) {
+            Node xmlSupplemental = xmlSupplementals.item(i);
+            bh.consume(xml.getString("@id", xmlSupplemental));
+            bh.consume(xml.getString("caldate/text()", xmlSupplemental));
+            bh.consume(xml.getString("releasedate/text()", xmlSupplemental));
+            bh.consume(xml.getString("releasetime/text()", xmlSupplemental));
+            NodeList xmlSections = xml.getNodeList("sections/section", xmlSupplemental);
+            for (int j = 0; j < xmlSections.getLength(); j++) {
+                Node xmlSection = xmlSections.item(j);
+                bh.consume(xml.getInteger("@cd", xmlSection));
+                NodeList xmlCalNos = xml.getNodeList("calnos/calno", xmlSection);
+                for (int k = 0; k < xmlCalNos.getLength(); k++) {
+                    Node xmlCalNo = xmlCalNos.item(k);
+                    bh.consume(xml.getInteger("@no", xmlCalNo));
+                    bh.consume(xml.getString("bill/@no", xmlCalNo));
+                    bh.consume(xml.getString("bill/@high", xmlCalNo));
+                    bh.consume(xml.getString("subbill/@no", xmlCalNo));
+                }
+            }
+        }
+    }
+
+    private void readAgendaVote(XmlHelper xml, Blackhole bh) throws Exception {
+        Document doc = xml.parse(agendaVoteXml);
+        Node xmlAgendaVote = xml.getNode("SENATEDATA/senagendavote", doc);
+        bh.consume(xml.getInteger("@no", xmlAgendaVote));
+        bh.consume(xml.getInteger("@sessyr", xmlAgendaVote));
+        bh.consume(xml.getInteger("@year", xmlAgendaVote));
+        NodeList xmlAddenda = xml.getNodeList("addendum", xmlAgendaVote);
+        for (int i = 0; i < xmlAddenda.getLength(); i++) {
+            Node xmlAddendum = xmlAddenda.item(i);
+            bh.consume(xml.getString("@id", xmlAddendum));
+            NodeList xmlCommittees = xml.getNodeList("committees/committee", xmlAddendum);
+            for (int j = 0; j < xmlCommittees.getLength(); j++) {
+                Node xmlCommittee = xmlCommittees.item(j);
+                bh.consume(xml.getString("@action", xmlCommittee));
+                bh.consume(xml.getString("name/text()", xmlCommittee));
+                bh.consume(xml.getString("chair/text()", xmlCommittee));
+                bh.consume(xml.getString("meetdate/text()", xmlCommittee));
+                bh.consume(xml.getString("meettime/text()", xmlCommittee));
+                NodeList xmlMembers = xml.getNodeList("attendancelist/member", xmlCommittee);
+                for (int k = 0; k < xmlMembers.getLength(); k++) {
+                    Node xmlMember = xmlMembers.item(k);
+                    bh.consume(xml.getString("name/text()", xmlMember));
+                    bh.consume(xml.getInteger("rank/text()", xmlMember));
+                    bh.consume(xml.getString("party/text()", xmlMember));
+                    bh.consume(xml.getString("attendance", xmlMember));
+                }
+                NodeList xmlBills = xml.getNodeList("bills/bill", xmlCommittee);
+                for (int k = 0; k < xmlBills.getLength(); k++) {
+                    Node xmlBill = xmlBills.item(k);
+                    bh.consume(xml.getString("@no", xmlBill));
+                    bh.consume(xml.getString("action/text()", xmlBill));
+                    bh.consume(xml.getString("refercomm/text()", xmlBill));
+                    bh.consume(xml.getString("withamd/text()", xmlBill));
+                    NodeList xmlVotes = xml.getNodeList("votes/member", xmlBill);
+                    for (int v = 0; v < xmlVotes.getLength(); v++) {
+                        Node xmlVote = xmlVotes.item(v);
+                        bh.consume(xml.getString("name/text()", xmlVote));
+                        bh.consume(xml.getString("vote/text()", xmlVote));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Evaluates each path from its string form, without compiling it.
+     * Only safe for use by a single thread.
+     */
+    private static class UncompiledXmlHelper extends XmlHelper
+    {
+        private final XPath xpath = XPathFactory.newInstance().newXPath();
+
+        private UncompiledXmlHelper() throws ParserConfigurationException {}
+
+        @Override
+        public String getString(String path, Node node) throws XPathExpressionException {
+            return (String) xpath.evaluate(path, node, XPathConstants.STRING);
+        }
+
+        @Override
+        public Integer getInteger(String path, Node node) throws XPathExpressionException {
+            return ((Double) xpath.evaluate(path, node, XPathConstants.NUMBER)).intValue();
+        }
+
+        @Override
+        public Node getNode(String path, Node node) throws XPathExpressionException {
+            return (Node) xpath.evaluate(path, node, XPathConstants.NODE);
+        }
+
+        @Override
+        public NodeList getNodeList(String path, Node node) throws XPathExpressionException {
+            return (NodeList) xpath.evaluate(path, node, XPathConstants.NODESET);
+        }
+    }
+}
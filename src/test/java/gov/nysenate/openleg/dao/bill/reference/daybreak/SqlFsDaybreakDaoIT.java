@@ -0,0 +1,67 @@
+package gov.nysenate.openleg.dao.bill.reference.daybreak;
+
+import gov.nysenate.openleg.BaseTests;
+import gov.nysenate.openleg.annotation.IntegrationTest;
+import gov.nysenate.openleg.model.base.Version;
+import gov.nysenate.openleg.model.bill.BillId;
+import gov.nysenate.openleg.model.spotcheck.daybreak.DaybreakBill;
+import gov.nysenate.openleg.model.spotcheck.daybreak.DaybreakBillId;
+import gov.nysenate.openleg.model.spotcheck.daybreak.DaybreakFile;
+import gov.nysenate.openleg.model.spotcheck.daybreak.DaybreakFragment;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+@Transactional
+@Category(IntegrationTest.class)
+public class SqlFsDaybreakDaoIT extends BaseTests
+{
+    @Autowired private DaybreakDao daybreakDao;
+
+    private DaybreakBillId testBillId;
+
+    @Before
+    public void setup() throws IOException {
+        File testDir = Files.createTempDirectory("daybreak").toFile();
+        File testFile = new File(testDir, "19900101.senate.low.html");
+        testFile.deleteOnExit();
+        testDir.deleteOnExit();
+        Files.write(testFile.toPath(), new byte[0]);
+
+        DaybreakFile daybreakFile = new DaybreakFile(testFile);
+        DaybreakFragment fragment = new DaybreakFragment(new BillId("S99999", 1989), daybreakFile, "");
+        daybreakDao.updateDaybreakReport(daybreakFile.getReportDate());
+        daybreakDao.updateDaybreakFile(daybreakFile);
+        daybreakDao.updateDaybreakFragment(fragment);
+        testBillId = fragment.getDaybreakBillId();
+    }
+
+    @Test
+    public void duplicateBillsInABatchFallBackToSingleUpserts() {
+        // Neither bill exists, so both are inserted in the same batch and the second insert is a duplicate key
+        DaybreakBill first = createTestBill("First title");
+        DaybreakBill second = createTestBill("Second title");
+        daybreakDao.updateDaybreakBills(Arrays.asList(first, second));
+
+        assertEquals("Second title", daybreakDao.getDaybreakBill(testBillId).getTitle());
+    }
+
+    /** --- Internal Methods --- */
+
+    private DaybreakBill createTestBill(String title) {
+        DaybreakBill daybreakBill = new DaybreakBill(testBillId);
+        daybreakBill.setActiveVersion(Version.DEFAULT);
+        daybreakBill.setTitle(title);
+        daybreakBill.setSponsor("SMITH");
+        return daybreakBill;
+    }
+}
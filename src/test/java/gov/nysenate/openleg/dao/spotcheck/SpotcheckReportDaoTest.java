@@ -14,6 +14,7 @@ import org.junit.experimental.categories.Category;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -40,6 +41,8 @@ public class SpotcheckReportDaoTest extends BaseTests {
 
     @Autowired
     private BaseBillIdSpotCheckReportDao reportDao;
+    @Autowired
+    private JdbcTemplate jdbc;
     private BaseBillId billId = new BaseBillId("S999999", 2017); // A bill that only exists this test world.
     private LocalDateTime start;
 
@@ -189,9 +192,42 @@ public class SpotcheckReportDaoTest extends BaseTests {
 
     @Test
     public void massiveSaveTest() {
+        SpotCheckReport<BaseBillId> report = createMassiveReport(LocalDateTime.now());
+        logger.info("Saving report, {} obs, {} mm", report.getObservedCount(), report.getOpenMismatchCount(false));
+        Stopwatch sw = Stopwatch.createStarted();
+        reportDao.saveReport(report);
+        logger.info("done {}", sw.stop());
+    }
+
+    /**
+     * Benchmarks saving a series of massive reports containing mostly the same mismatches,
+     * logging the save time and the growth of the mismatch table for each report.
+     */
+    @Test
+    public void massiveRepeatSaveBenchmark() {
+        LocalDateTime refDateTime = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            SpotCheckReport<BaseBillId> report = createMassiveReport(refDateTime.plusMinutes(i));
+            long startSize = getMismatchTableSize();
+            Stopwatch sw = Stopwatch.createStarted();
+            reportDao.saveReport(report);
+            sw.stop();
+            logger.info("Report {}: {} obs, {} mm saved in {}. Mismatch table grew by {} bytes", i,
+                    report.getObservedCount(), report.getOpenMismatchCount(false), sw,
+                    getMismatchTableSize() - startSize);
+        }
+    }
+
+    /* --- Internal Methods --- */
+
+    private long getMismatchTableSize() {
+        return jdbc.queryForObject("SELECT pg_total_relation_size('master.spotcheck_mismatch')", Long.class);
+    }
+
+    private SpotCheckReport<BaseBillId> createMassiveReport(LocalDateTime refDateTime) {
         int session = 2017;
 
-        SpotCheckReportId reportId = new SpotCheckReportId(SpotCheckRefType.LBDC_DAYBREAK, LocalDateTime.now(), LocalDateTime.now());
+        SpotCheckReportId reportId = new SpotCheckReportId(SpotCheckRefType.LBDC_DAYBREAK, refDateTime, LocalDateTime.now());
         SpotCheckReport<BaseBillId> report = new SpotCheckReport<>(reportId);
 
         List<BaseBillId> baseBillIds = new ArrayList<>();
@@ -215,14 +251,9 @@ public class SpotcheckReportDaoTest extends BaseTests {
                     return obs;
                 })
                 .forEach(report::addObservation);
-        logger.info("Saving report, {} obs, {} mm", report.getObservedCount(), report.getOpenMismatchCount(false));
-        Stopwatch sw = Stopwatch.createStarted();
-        reportDao.saveReport(report);
-        logger.info("done {}", sw.stop());
+        return report;
     }
 
-    /* --- Internal Methods --- */
-
     private DeNormSpotCheckMismatch queryMostRecentOpenMismatch() {
         MismatchQuery<BaseBillId> query = new MismatchQuery<>(start.toLocalDate(), SpotCheckDataSource.LBDC,
                                                 MismatchStatus.OPEN, Collections.singleton(SpotCheckContentType.BILL));
@@ -0,0 +1,237 @@
+package gov.nysenate.openleg.model.bill;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import gov.nysenate.openleg.annotation.UnitTest;
+import gov.nysenate.openleg.model.agenda.AgendaId;
+import gov.nysenate.openleg.model.agenda.CommitteeAgendaId;
+import gov.nysenate.openleg.model.base.PublishStatus;
+import gov.nysenate.openleg.model.base.SessionYear;
+import gov.nysenate.openleg.model.base.Version;
+import gov.nysenate.openleg.model.calendar.CalendarId;
+import gov.nysenate.openleg.model.entity.Chamber;
+import gov.nysenate.openleg.model.entity.CommitteeId;
+import gov.nysenate.openleg.model.entity.CommitteeVersionId;
+import gov.nysenate.openleg.model.entity.SessionMember;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.*;
+
+@Category(UnitTest.class)
+public class BillChangeTrackingTest
+{
+    private Bill createTrackedBill() {
+        Bill bill = new Bill(new BaseBillId("S1234", 2015));
+        bill.setActiveVersion(Version.DEFAULT);
+        bill.setTitle("An act to amend the tax law");
+        bill.updatePublishStatus(Version.DEFAULT, new PublishStatus(true, LocalDateTime.of(2015, 1, 5, 0, 0)));
+        bill.startChangeTracking();
+        return bill;
+    }
+
+    @Test
+    public void untrackedBillIsFullyDirty() throws Exception {
+        Bill bill = new Bill(new BaseBillId("S1234", 2015));
+        bill.setActiveVersion(Version.DEFAULT);
+        assertTrue(bill.hasDirtyFields());
+        assertTrue(bill.isDirty(BillUpdateField.TITLE));
+        assertTrue(bill.getActiveAmendment().isDirty(BillUpdateField.FULLTEXT));
+    }
+
+    @Test
+    public void onlyModifiedFieldsAreDirty() throws Exception {
+        Bill bill = createTrackedBill();
+        assertFalse(bill.hasDirtyFields());
+
+        bill.setTitle("An act to amend the tax law");
+        assertFalse("Setting an identical value is not a change", bill.hasDirtyFields());
+
+        bill.setTitle("An act to amend the education law");
+        bill.getActiveAmendment().setLaw("Amd S1, Ed L");
+        assertEquals(EnumSet.of(BillUpdateField.TITLE), bill.getDirtyFields());
+        assertTrue(bill.getActiveAmendment().isDirty(BillUpdateField.LAW));
+        assertFalse(bill.getActiveAmendment().isDirty(BillUpdateField.FULLTEXT, BillUpdateField.COSPONSOR));
+    }
+
+    @Test
+    public void publishStatusesAreOnlyDirtyWhenChanged() throws Exception {
+        Bill bill = createTrackedBill();
+        Map<Version, PublishStatus> statuses = new HashMap<>(bill.getAmendPublishStatusMap());
+        bill.setPublishStatuses(statuses);
+        assertFalse(bill.isDirty(BillUpdateField.PUBLISHED_BILL));
+
+        bill.setPublishStatuses(Collections.emptyMap());
+        assertTrue(bill.isDirty(BillUpdateField.PUBLISHED_BILL));
+    }
+
+    @Test
+    public void newAmendmentsAreFullyDirty() throws Exception {
+        Bill bill = createTrackedBill();
+        bill.setActiveVersion(Version.of("A"));
+        assertTrue(bill.isDirty(BillUpdateField.ACTIVE_VERSION));
+        assertTrue(bill.getAmendment(Version.of("A")).isDirty(BillUpdateField.FULLTEXT));
+        assertFalse(bill.getAmendment(Version.DEFAULT).hasDirtyFields());
+    }
+
+    @Test
+    public void clonesDoNotTrackChanges() throws Exception {
+        Bill bill = createTrackedBill();
+        Bill clone = bill.shallowClone();
+        assertTrue(clone.hasDirtyFields());
+        assertFalse(bill.hasDirtyFields());
+    }
+
+    @Test
+    public void recentChangesAreTakenOnce() throws Exception {
+        Bill bill = createTrackedBill();
+        bill.setTitle("An act to amend the education law");
+        bill.getActiveAmendment().setLaw("Amd S1, Ed L");
+
+        BillChangeSet first = bill.takeRecentChanges();
+        assertEquals(EnumSet.of(BillUpdateField.TITLE), first.getBillFields());
+        assertTrue(first.affects(Version.DEFAULT, BillUpdateField.LAW));
+        assertFalse(first.affects(Version.of("A"), BillUpdateField.LAW));
+        assertTrue("Bill fields affect every amendment", first.affects(Version.of("A"), BillUpdateField.TITLE));
+
+        bill.setSummary("Relates to education");
+        BillChangeSet second = bill.takeRecentChanges();
+        assertEquals(EnumSet.of(BillUpdateField.SUMMARY), second.getBillFields());
+        assertFalse(second.affects(null, BillUpdateField.LAW));
+        assertTrue(bill.takeRecentChanges().isEmpty());
+
+        // The dirty fields are not reset by taking the recent changes
+        assertEquals(EnumSet.of(BillUpdateField.TITLE, BillUpdateField.SUMMARY), bill.getDirtyFields());
+
+        first.merge(second);
+        assertTrue(first.affects(null, BillUpdateField.SUMMARY));
+        assertTrue(first.affects(null, BillUpdateField.LAW));
+    }
+
+    @Test
+    public void unloadedTextIsKeptUntilSet() throws Exception {
+        Bill stripped = createTrackedBill();
+        stripped.getActiveAmendment().setFullText("Full text");
+        stripped.getActiveAmendment().setMemo("Memo");
+        stripped.getAmendmentList().forEach(BillAmendment::unloadText);
+        assertFalse(stripped.isTextLoaded());
+
+        Bill bill = stripped.shallowClone();
+        bill.startChangeTracking();
+        BillAmendment amendment = bill.getActiveAmendment();
+        assertFalse(amendment.isTextLoaded(BillUpdateField.FULLTEXT));
+        assertEquals("", amendment.getFullText());
+
+        // Setting unloaded text is always a change, even if it matches the placeholder
+        amendment.setFullText("");
+        assertTrue(amendment.isDirty(BillUpdateField.FULLTEXT));
+        assertTrue(amendment.isTextLoaded(BillUpdateField.FULLTEXT));
+        assertFalse(amendment.isTextLoaded(BillUpdateField.MEMO));
+
+        // Loading the text only fills in the fields that were not set and does not record changes
+        amendment.loadText("Stored memo", "Stored text");
+        assertEquals("", amendment.getFullText());
+        assertEquals("Stored memo", amendment.getMemo());
+        assertFalse(amendment.isDirty(BillUpdateField.MEMO));
+        assertTrue(bill.isTextLoaded());
+
+        // The clone does not share the loaded state of the cached bill
+        assertFalse(stripped.isTextLoaded());
+    }
+
+    @Test
+    public void publishedDateTimeIsTracked() throws Exception {
+        assertBillFieldTracked(b -> b.setPublishedDateTime(LocalDateTime.of(2015, 1, 6, 0, 0)),
+                               BillUpdateField.PUBLISHED_BILL);
+    }
+
+    @Test
+    public void allPreviousVersionsAreTracked() throws Exception {
+        assertBillFieldTracked(b -> b.setAllPreviousVersions(ImmutableSet.of(new BillId("S4321", 2013))),
+                               BillUpdateField.PREVIOUS_VERSION);
+    }
+
+    @Test
+    public void additionalSponsorsAreTracked() throws Exception {
+        assertBillFieldTracked(b -> b.setAdditionalSponsors(ImmutableList.of(new SessionMember(1, SessionYear.of(2015)))),
+                               BillUpdateField.SPONSOR);
+    }
+
+    @Test
+    public void currentCommitteeIsTracked() throws Exception {
+        assertAmendmentFieldTracked(a -> a.setCurrentCommittee(
+            new CommitteeVersionId(Chamber.SENATE, "Finance", SessionYear.of(2015), LocalDateTime.of(2015, 1, 5, 0, 0))),
+            BillUpdateField.ACTION);
+    }
+
+    @Test
+    public void textMetricsAreTracked() throws Exception {
+        assertAmendmentFieldTracked(a -> a.setTextMetrics(new BillTextMetrics(1, 10, ImmutableList.of())),
+                                    BillUpdateField.FULLTEXT);
+    }
+
+    @Test
+    public void chapterNumStopsTracking() throws Exception {
+        assertUncoveredChange(b -> b.setChapterNum(52));
+    }
+
+    @Test
+    public void chapterYearStopsTracking() throws Exception {
+        assertUncoveredChange(b -> b.setChapterYear(2015));
+    }
+
+    @Test
+    public void committeeAgendasStopTracking() throws Exception {
+        assertUncoveredChange(b -> b.setCommitteeAgendas(ImmutableList.of(
+            new CommitteeAgendaId(new AgendaId(1, 2015), new CommitteeId(Chamber.SENATE, "Finance")))));
+    }
+
+    @Test
+    public void calendarsStopTracking() throws Exception {
+        assertUncoveredChange(b -> b.setCalendars(ImmutableList.of(new CalendarId(1, 2015))));
+    }
+
+    /** --- Internal Methods --- */
+
+    private void assertBillFieldTracked(Consumer<Bill> setter, BillUpdateField field) throws Exception {
+        Bill bill = createTrackedBill();
+        setter.accept(bill);
+        assertEquals(EnumSet.of(field), bill.getDirtyFields());
+        assertTrue(bill.hasDirtyFields());
+
+        bill.startChangeTracking();
+        setter.accept(bill);
+        assertFalse("Setting an identical value is not a change", bill.hasDirtyFields());
+    }
+
+    private void assertAmendmentFieldTracked(Consumer<BillAmendment> setter, BillUpdateField field) throws Exception {
+        Bill bill = createTrackedBill();
+        BillAmendment amendment = bill.getActiveAmendment();
+        setter.accept(amendment);
+        assertTrue(amendment.isDirty(field));
+        assertTrue(bill.hasDirtyFields());
+        assertTrue(bill.getDirtyFields().isEmpty());
+
+        bill.startChangeTracking();
+        setter.accept(amendment);
+        assertFalse("Setting an identical value is not a change", bill.hasDirtyFields());
+    }
+
+    private void assertUncoveredChange(Consumer<Bill> setter) throws Exception {
+        Bill bill = createTrackedBill();
+        setter.accept(bill);
+        assertTrue("Changes without an update field persist the whole bill",
+                   bill.isDirty(BillUpdateField.TITLE) && bill.isDirty(BillUpdateField.SPONSOR));
+
+        bill.startChangeTracking();
+        setter.accept(bill);
+        assertFalse("Setting an identical value is not a change", bill.hasDirtyFields());
+    }
+}
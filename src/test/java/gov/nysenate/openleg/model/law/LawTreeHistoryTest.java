@@ -0,0 +1,81 @@
+package gov.nysenate.openleg.model.law;
+
+import gov.nysenate.openleg.annotation.UnitTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.time.LocalDate;
+
+import static org.junit.Assert.*;
+
+@Category(UnitTest.class)
+public class LawTreeHistoryTest
+{
+    private static final LocalDate firstDate = LocalDate.of(2014, 9, 22);
+    private static final LocalDate secondDate = LocalDate.of(2015, 1, 5);
+
+    private static LawTreeNode node(String docId, LawDocumentType type, LocalDate pubDate, int seqNo) {
+        return new LawTreeNode(new LawDocInfo(docId, docId.substring(0, 3), docId.substring(3), docId + " title",
+                                              type, docId.substring(3), pubDate), seqNo);
+    }
+
+    /** Builds a tree with a chapter containing two articles, each of which has a single section. */
+    private static LawTree tree(LocalDate treeDate, LocalDate sec2PubDate) {
+        LawTreeNode root = node("ABC-CH1", LawDocumentType.CHAPTER, firstDate, 1);
+        LawTreeNode art1 = node("ABCA1", LawDocumentType.ARTICLE, firstDate, 2);
+        LawTreeNode art2 = node("ABCA2", LawDocumentType.ARTICLE, firstDate, 4);
+        root.addChild(art1);
+        root.addChild(art2);
+        art1.addChild(node("ABC1", LawDocumentType.SECTION, firstDate, 3));
+        art2.addChild(node("ABC2", LawDocumentType.SECTION, sec2PubDate, 5));
+        LawInfo lawInfo = new LawInfo();
+        lawInfo.setLawId("ABC");
+        return new LawTree(new LawVersionId("ABC", treeDate), root, lawInfo);
+    }
+
+    private static LawTreeHistory history() {
+        LawTree first = tree(firstDate, firstDate);
+        LawTreeHistory history = new LawTreeHistory("ABC", first.getLawInfo());
+        history.addVersion(first);
+        history.addVersion(tree(secondDate, secondDate));
+        return history;
+    }
+
+    @Test
+    public void getTreeReturnsVersionInEffect() {
+        LawTreeHistory history = history();
+        assertFalse(history.getTree(firstDate.minusDays(1)).isPresent());
+        assertEquals(firstDate, history.getTree(firstDate).get().getPublishedDate());
+        assertEquals(firstDate, history.getTree(secondDate.minusDays(1)).get().getPublishedDate());
+        assertEquals(secondDate, history.getTree(LocalDate.now()).get().getPublishedDate());
+        assertEquals(secondDate, history.getTree(null).get().getPublishedDate());
+        assertEquals(2, history.getTree(firstDate).get().getPublishedDates().size());
+    }
+
+    @Test
+    public void unchangedSubtreesAreShared() {
+        LawTreeHistory history = history();
+        LawTree first = history.getTree(firstDate).get();
+        LawTree second = history.getTree(secondDate).get();
+        assertSame(first.find("ABCA1").get(), second.find("ABCA1").get());
+        assertSame(first.find("ABC1").get(), second.find("ABC1").get());
+        assertNotSame(first.find("ABCA2").get(), second.find("ABCA2").get());
+        assertNotSame(first.getRootNode(), second.getRootNode());
+        // Unchanged document info is shared even when the node itself is not
+        assertSame(first.find("ABCA2").get().getLawDocInfo(), second.find("ABCA2").get().getLawDocInfo());
+        // Parents resolve relative to the version being navigated
+        assertSame(second.getRootNode(), second.getParent("ABCA1").get());
+        assertSame(first.getRootNode(), first.getParent("ABCA1").get());
+        assertEquals("ABCA2", second.getNextSibling("ABCA1").get().getDocumentId());
+    }
+
+    @Test
+    public void diffReportsChangedDocuments() {
+        LawTreeDiff diff = history().diff(firstDate, secondDate);
+        assertTrue(diff.getAddedDocIds().isEmpty());
+        assertTrue(diff.getRemovedDocIds().isEmpty());
+        assertEquals(1, diff.getChangedDocIds().size());
+        assertTrue(diff.getChangedDocIds().contains("ABC2"));
+        assertTrue(history().diff(secondDate, secondDate).isEmpty());
+    }
+}
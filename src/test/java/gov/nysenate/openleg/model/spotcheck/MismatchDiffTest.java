@@ -0,0 +1,49 @@
+package gov.nysenate.openleg.model.spotcheck;
+
+import gov.nysenate.openleg.annotation.UnitTest;
+import gov.nysenate.openleg.util.StringDiffer;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.LinkedList;
+
+import static org.junit.Assert.*;
+
+@Category(UnitTest.class)
+public class MismatchDiffTest
+{
+    private static final String reference = "AN ACT to amend the tax law, in relation to the sales tax exemption";
+    private static final String observed = "AN ACT to amend the general municipal law, in relation to sales tax exemptions";
+
+    @Test
+    public void compactDiffExpandsToOriginalDiff() {
+        for (boolean simple : new boolean[] {true, false}) {
+            StringDiffer stringDiffer = new StringDiffer();
+            LinkedList<StringDiffer.Diff> expected = stringDiffer.diff_main(reference, observed);
+            if (simple) {
+                stringDiffer.diff_cleanupSemantic(expected);
+            }
+            MismatchDiff diff = MismatchDiff.compute(reference, observed, simple, 0);
+            assertFalse(diff.isTruncated());
+            assertEquals(expected, diff.toDiffs(reference, observed));
+        }
+    }
+
+    @Test
+    public void oversizedTextIsReplacedWholesale() {
+        MismatchDiff diff = MismatchDiff.compute(reference, observed, true, 10);
+        assertTrue(diff.isTruncated());
+        LinkedList<StringDiffer.Diff> diffs = diff.toDiffs(reference, observed);
+        assertEquals(2, diffs.size());
+        assertEquals(new StringDiffer.Diff(StringDiffer.Operation.DELETE, reference), diffs.getFirst());
+        assertEquals(new StringDiffer.Diff(StringDiffer.Operation.INSERT, observed), diffs.getLast());
+    }
+
+    @Test
+    public void contentHashDetectsChangedData() {
+        MismatchDiff diff = MismatchDiff.compute(reference, observed, true, 0);
+        assertTrue(diff.matches(reference, observed));
+        assertFalse(diff.matches(observed, reference));
+        assertFalse(diff.matches(reference + "a", observed));
+    }
+}
@@ -0,0 +1,102 @@
+package gov.nysenate.openleg.processor.bill;
+
+import com.google.common.io.Resources;
+import gov.nysenate.openleg.annotation.UnitTest;
+import gov.nysenate.openleg.model.base.PublishStatus;
+import gov.nysenate.openleg.model.bill.BaseBillId;
+import gov.nysenate.openleg.model.bill.BillAction;
+import gov.nysenate.openleg.model.bill.BillId;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+@Category(UnitTest.class)
+public class BillActionAnalyzerCheckpointTest
+{
+    private static final BillId billId = new BaseBillId("S2006", 2015);
+    private static final Optional<PublishStatus> defaultPubStatus =
+        Optional.of(new PublishStatus(true, LocalDate.of(2015, 1, 7).atStartOfDay()));
+
+    private List<String> actionLines;
+
+    @Before
+    public void setUp() throws Exception {
+        actionLines = Arrays.asList(Resources.toString(
+            Resources.getResource("benchmark/bill/S2006-2015.actions"), StandardCharsets.UTF_8).split("\n"));
+    }
+
+    @Test
+    public void appendedActionsMatchFullAnalysis() throws Exception {
+        BillActionAnalyzer checkpoint = null;
+        for (int count = 1; count <= actionLines.size(); count++) {
+            BillActionAnalyzer full = new BillActionAnalyzer(billId, parseActions(count), defaultPubStatus);
+            full.analyze();
+            BillActionAnalyzer resumed = new BillActionAnalyzer(billId, parseActions(count), defaultPubStatus);
+            assertEquals(checkpoint != null, resumed.analyze(checkpoint));
+            assertSameAnalysis(full, resumed);
+            checkpoint = resumed.checkpoint();
+        }
+    }
+
+    @Test
+    public void changedActionsAreAnalyzedFully() throws Exception {
+        BillActionAnalyzer first = new BillActionAnalyzer(billId, parseActions(20), defaultPubStatus);
+        first.analyze();
+        List<BillAction> changed = parseActions(30);
+        changed.remove(5);
+        BillActionAnalyzer full = new BillActionAnalyzer(billId, changed, defaultPubStatus);
+        full.analyze();
+        BillActionAnalyzer resumed = new BillActionAnalyzer(billId, parseActions(30), defaultPubStatus);
+        resumed.getBillActions().remove(5);
+        assertFalse(resumed.analyze(first.checkpoint()));
+        assertSameAnalysis(full, resumed);
+    }
+
+    @Test
+    public void checkpointIsNotAffectedByLaterChanges() throws Exception {
+        BillActionAnalyzer analyzer = new BillActionAnalyzer(billId, parseActions(20), defaultPubStatus);
+        analyzer.analyze();
+        BillActionAnalyzer checkpoint = analyzer.checkpoint();
+        analyzer.getBillActions().clear();
+        analyzer.getPastCommittees().clear();
+        analyzer.getPublishStatusMap().clear();
+
+        BillActionAnalyzer resumed = new BillActionAnalyzer(billId, parseActions(25), defaultPubStatus);
+        assertTrue(resumed.analyze(checkpoint));
+        BillActionAnalyzer full = new BillActionAnalyzer(billId, parseActions(25), defaultPubStatus);
+        full.analyze();
+        assertSameAnalysis(full, resumed);
+    }
+
+    /** --- Internal --- */
+
+    private List<BillAction> parseActions(int count) throws Exception {
+        return BillActionParser.parseActionsList(billId,
+            actionLines.stream().limit(count).collect(Collectors.joining("\n")));
+    }
+
+    private static void assertSameAnalysis(BillActionAnalyzer expected, BillActionAnalyzer actual) {
+        assertEquals(expected.getActiveVersion(), actual.getActiveVersion());
+        assertEquals(expected.getPublishStatusMap(), actual.getPublishStatusMap());
+        assertEquals(expected.getBillStatus(), actual.getBillStatus());
+        assertEquals(expected.getStatuses(), actual.getStatuses());
+        assertEquals(expected.getMilestones(), actual.getMilestones());
+        assertEquals(expected.getCurrentCommittee(), actual.getCurrentCommittee());
+        assertEquals(expected.getPastCommittees(), actual.getPastCommittees());
+        assertEquals(expected.getSameAsMap(), actual.getSameAsMap());
+        assertEquals(expected.getSubstitutedBy(), actual.getSubstitutedBy());
+        assertEquals(expected.getChapterYearAndNum(), actual.getChapterYearAndNum());
+        assertEquals(expected.isStricken(), actual.isStricken());
+        assertEquals(expected.getBillActions().stream().map(BillAction::getBillId).collect(Collectors.toList()),
+                     actual.getBillActions().stream().map(BillAction::getBillId).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,97 @@
+package gov.nysenate.openleg.processor.sobi;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.Range;
+import gov.nysenate.openleg.BaseTests;
+import gov.nysenate.openleg.annotation.SillyTest;
+import gov.nysenate.openleg.dao.base.LimitOffset;
+import gov.nysenate.openleg.dao.base.SortOrder;
+import gov.nysenate.openleg.dao.sobi.SobiDao;
+import gov.nysenate.openleg.model.sobi.SobiFile;
+import gov.nysenate.openleg.model.sobi.SobiFragment;
+import gov.nysenate.openleg.model.sobi.SobiProcessOptions;
+import gov.nysenate.openleg.service.base.data.CachingService;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Replays a day of sobi fragments once with the row level change log triggers and once with the statement
+ * level triggers, logging the time taken by each and verifying that both produce the same bill change log.
+ *
+ * Each replay runs in a transaction that is rolled back, so the database is left as it was.
+ * Requires the 2018-07-30 statement change log trigger patch.
+ */
+@Category(SillyTest.class)
+public class ChangeLogTriggerBenchmarkTest extends BaseTests
+{
+    private static final Logger logger = LoggerFactory.getLogger(ChangeLogTriggerBenchmarkTest.class);
+
+    private static final LocalDate replayDate = LocalDate.of(2017, 3, 14);
+
+    private static final String billChangeLogSql =
+        "SELECT concat_ws('|', bill_print_no, bill_session_year, table_name, action, data, sobi_fragment_id, published_date_time)\n" +
+        "FROM master.bill_change_log WHERE id > ?";
+
+    @Autowired private SobiProcessService sobiProcessService;
+    @Autowired private SobiDao sobiDao;
+    @Autowired private JdbcTemplate jdbc;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private List<CachingService<?>> cachingServices;
+
+    @Test
+    public void rowVsStatementTriggerReplay() {
+        List<String> rowLog = replay(false);
+        List<String> statementLog = replay(true);
+        assertEquals(rowLog, statementLog);
+    }
+
+    /** --- Internal --- */
+
+    /**
+     * Processes the day's fragments using the given triggers and rolls back the results.
+     * @return List<String> - the bill change log rows that were written, sorted
+     */
+    private List<String> replay(boolean statementLevel) {
+        cachingServices.forEach(CachingService::evictCaches);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        return transaction.execute(status -> {
+            status.setRollbackOnly();
+            jdbc.execute("SELECT master.set_change_log_triggers(" + statementLevel + ")");
+            long lastLogId = jdbc.queryForObject("SELECT coalesce(max(id), 0) FROM master.bill_change_log", Long.class);
+            List<SobiFragment> fragments = getFragments();
+
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            sobiProcessService.processFragments(fragments, SobiProcessOptions.builder().build());
+            long elapsed = stopwatch.elapsed(TimeUnit.MILLISECONDS);
+
+            List<String> changeLog = jdbc.queryForList(billChangeLogSql, String.class, lastLogId).stream()
+                    .sorted()
+                    .collect(Collectors.toList());
+            logger.info("{} triggers: processed {} fragments in {} ms, writing {} bill change log rows",
+                    statementLevel ? "Statement level" : "Row level", fragments.size(), elapsed, changeLog.size());
+            return changeLog;
+        });
+    }
+
+    private List<SobiFragment> getFragments() {
+        Range<LocalDateTime> day = Range.closedOpen(replayDate.atStartOfDay(), replayDate.plusDays(1).atStartOfDay());
+        List<SobiFile> sobiFiles = sobiDao.getSobiFilesDuring(day, SortOrder.ASC, LimitOffset.ALL).getResults();
+        return sobiFiles.stream()
+                .flatMap(sobiFile -> sobiDao.getSobiFragments(sobiFile, SortOrder.ASC).stream())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,66 @@
+package gov.nysenate.openleg.script;
+
+import gov.nysenate.openleg.annotation.UnitTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.junit.Assert.*;
+
+@Category(UnitTest.class)
+public class StatementCounterTest
+{
+    @Test
+    public void countsExecutionsAndBatchedStatements() throws Exception {
+        StatementCounter counter = new StatementCounter();
+        DataSource dataSource = (DataSource) counter.postProcessAfterInitialization(stubDataSource(), "dataSource");
+
+        Connection connection = dataSource.getConnection();
+        PreparedStatement insert = connection.prepareStatement("INSERT INTO t VALUES (?)");
+        insert.setInt(1, 1);
+        insert.executeUpdate();
+        insert.addBatch();
+        insert.addBatch();
+        insert.executeBatch();
+        Statement statement = connection.createStatement();
+        statement.execute("SELECT 1");
+        connection.commit();
+
+        assertEquals(4, counter.getCount());
+    }
+
+    @Test
+    public void otherBeansAreNotWrapped() {
+        StatementCounter counter = new StatementCounter();
+        Object bean = new Object();
+        assertSame(bean, counter.postProcessAfterInitialization(bean, "bean"));
+    }
+
+    /** --- Internal --- */
+
+    private static DataSource stubDataSource() {
+        PreparedStatement preparedStatement = stub(PreparedStatement.class, null);
+        Connection connection = stub(Connection.class, preparedStatement);
+        return stub(DataSource.class, connection);
+    }
+
+    /**
+     * Creates a stub that returns the given value from any method returning an object of its type
+     * and a default value otherwise.
+     */
+    private static <T> T stub(Class<T> iface, Object value) {
+        return iface.cast(Proxy.newProxyInstance(iface.getClassLoader(), new Class<?>[]{iface}, (proxy, method, args) -> {
+            Class<?> returnType = method.getReturnType();
+            if (value != null && returnType.isInstance(value)) return value;
+            if (returnType == boolean.class) return false;
+            if (returnType == int.class) return 0;
+            if (returnType == int[].class) return new int[0];
+            return null;
+        }));
+    }
+}
@@ -0,0 +1,28 @@
+package gov.nysenate.openleg.service.base.data;
+
+import com.google.common.base.Strings;
+import gov.nysenate.openleg.annotation.UnitTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import static org.junit.Assert.*;
+
+@Category(UnitTest.class)
+public class CompressedTextTest
+{
+    @Test
+    public void textSurvivesCompression() throws Exception {
+        String text = Strings.repeat("SENATOR SMITH: Mr. President, I move to adopt the resolution.\n", 500)
+                      + "Café § 12-a";
+        CompressedText compressed = CompressedText.of(text);
+        assertEquals(text, compressed.getText());
+        assertTrue(compressed.getCompressedSize() < text.length() / 10);
+    }
+
+    @Test
+    public void emptyAndNullText() throws Exception {
+        assertEquals("", CompressedText.of("").getText());
+        assertNull(CompressedText.of(null).getText());
+        assertEquals(0, CompressedText.of(null).getCompressedSize());
+    }
+}
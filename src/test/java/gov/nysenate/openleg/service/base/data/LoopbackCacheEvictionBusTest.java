@@ -0,0 +1,145 @@
+package gov.nysenate.openleg.service.base.data;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import gov.nysenate.openleg.annotation.UnitTest;
+import gov.nysenate.openleg.model.cache.*;
+import net.sf.ehcache.Cache;
+import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.Element;
+import net.sf.ehcache.config.CacheConfiguration;
+import net.sf.ehcache.config.Configuration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+@Category(UnitTest.class)
+public class LoopbackCacheEvictionBusTest
+{
+    private LoopbackCacheEvictionBus bus;
+    private CacheManager cacheManager;
+    private List<BaseCacheEvent> receivedEvents;
+
+    @Before
+    public void setUp() {
+        cacheManager = CacheManager.newInstance(new Configuration().name("evictionBusTest"));
+        Cache memberCache = new Cache(new CacheConfiguration().name(ContentCache.MEMBER.name()).maxEntriesLocalHeap(10));
+        cacheManager.addCache(memberCache);
+        for (int id = 0; id < 5; id++) {
+            memberCache.put(new Element(id, "member " + id));
+        }
+        bus = new LoopbackCacheEvictionBus();
+        bus.eventBus = new EventBus();
+        bus.cacheManager = cacheManager;
+        bus.maxIdsPerCache = 3;
+        bus.init();
+        receivedEvents = new ArrayList<>();
+        bus.eventBus.register(new Object() {
+            @Subscribe
+            public void handleCacheEvent(BaseCacheEvent event) {
+                if (event.isRemote()) {
+                    receivedEvents.add(event);
+                }
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        cacheManager.shutdown();
+    }
+
+    @Test
+    public void repeatedEvictionsAreCoalesced() {
+        bus.publish(new CacheEvictIdEvent<>(ContentCache.MEMBER, 1));
+        bus.publish(new CacheEvictIdEvent<>(ContentCache.MEMBER, 1));
+        bus.publish(new CacheEvictIdEvent<>(ContentCache.MEMBER, 2));
+        bus.flush();
+        assertEquals(1, bus.getDeliveredMessages().size());
+        assertEquals(2, receivedEvents.size());
+        receivedEvents.forEach(event -> assertTrue(event instanceof CacheEvictIdEvent));
+        // The received ids are the cached keys, not their string form
+        assertEquals(1, ((CacheEvictIdEvent<?>) receivedEvents.get(0)).getContentId());
+        // Nothing is sent when no evictions are pending
+        bus.flush();
+        assertEquals(1, bus.getDeliveredMessages().size());
+    }
+
+    @Test
+    public void tooManyIdsEvictWholeCache() {
+        for (int id = 0; id < 5; id++) {
+            bus.publish(new CacheEvictIdEvent<>(ContentCache.MEMBER, id));
+        }
+        bus.publish(new CacheEvictIdEvent<>(ContentCache.CALENDAR, null));
+        bus.flush();
+        assertEquals(1, receivedEvents.size());
+        CacheEvictEvent event = (CacheEvictEvent) receivedEvents.get(0);
+        assertTrue(event.affects(ContentCache.MEMBER));
+        assertTrue(event.affects(ContentCache.CALENDAR));
+    }
+
+    @Test
+    public void localEventsArePublishedButRemoteEventsAreNot() {
+        bus.eventBus.post(new CacheEvictEvent(Collections.singleton(ContentCache.LAW)));
+        bus.flush();
+        assertEquals(1, receivedEvents.size());
+        assertTrue(receivedEvents.get(0).affects(ContentCache.LAW));
+        // The delivered remote event must not be sent back out
+        bus.flush();
+        assertEquals(1, bus.getDeliveredMessages().size());
+    }
+
+    @Test
+    public void keysThatAreNotCachedAreNotEvicted() {
+        bus.publish(new CacheEvictIdEvent<>(ContentCache.MEMBER, 42));
+        bus.publish(new CacheEvictIdEvent<>(ContentCache.LAW, "ABC"));
+        bus.flush();
+        assertEquals(1, bus.getDeliveredMessages().size());
+        assertTrue(receivedEvents.isEmpty());
+    }
+
+    @Test
+    public void lawEvictionsReachTheLawCache() {
+        // The law cache holds each law's tree history under its upper case law id
+        Cache lawCache = new Cache(new CacheConfiguration().name(ContentCache.LAW.name()).maxEntriesLocalHeap(10));
+        cacheManager.addCache(lawCache);
+        lawCache.put(new Element("ABC", "ABC law tree history"));
+        lawCache.put(new Element("EDN", "EDN law tree history"));
+        bus.eventBus.register(new Object() {
+            @Subscribe
+            public void handleCacheEvictIdEvent(CacheEvictIdEvent<String> evictIdEvent) {
+                if (evictIdEvent.isRemote() && evictIdEvent.affects(ContentCache.LAW)) {
+                    String lawId = evictIdEvent.getContentId();
+                    lawCache.remove(lawId);
+                }
+            }
+        });
+
+        bus.publish(new CacheEvictIdEvent<>(ContentCache.LAW, "ABC"));
+        bus.flush();
+        assertEquals(1, receivedEvents.size());
+        assertEquals("ABC", ((CacheEvictIdEvent<?>) receivedEvents.get(0)).getContentId());
+        assertNull(lawCache.get("ABC"));
+        assertNotNull(lawCache.get("EDN"));
+    }
+
+    @Test
+    public void payloadsAreJson() {
+        List<String> payloads = bus.encode(bus.decode(
+            "{\"node\":\"other\",\"caches\":[\"LAW\",\"RETIRED\"],\"keys\":{\"MEMBER\":[\"3\"]}}"));
+        assertEquals(1, payloads.size());
+        CacheEvictMessage message = bus.decode(payloads.get(0));
+        assertEquals(Collections.singleton(ContentCache.LAW), message.getEvictedCaches());
+        assertEquals(Collections.singleton("3"), message.getEvictedKeys().get(ContentCache.MEMBER));
+
+        assertNull(bus.decode("rO0ABXNyAA"));
+        assertNull(bus.decode("{\"caches\":[\"LAW\"]}"));
+    }
+}
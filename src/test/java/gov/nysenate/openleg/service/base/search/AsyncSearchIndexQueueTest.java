@@ -0,0 +1,138 @@
+package gov.nysenate.openleg.service.base.search;
+
+import gov.nysenate.openleg.annotation.UnitTest;
+import gov.nysenate.openleg.dao.base.SearchIndex;
+import gov.nysenate.openleg.dao.search.SearchIndexQueueDao;
+import gov.nysenate.openleg.model.search.IndexQueueStats;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+@Category(UnitTest.class)
+public class AsyncSearchIndexQueueTest
+{
+    private AsyncSearchIndexQueue queue;
+    private InMemoryQueueDao queueDao;
+    private RecordingHandler billHandler;
+
+    @Before
+    public void setUp() {
+        queueDao = new InMemoryQueueDao();
+        queue = new AsyncSearchIndexQueue();
+        queue.queueDao = queueDao;
+        queue.enabled = true;
+        queue.bulkSize = 2;
+        queue.threads = 0;
+        queue.retryDelayMs = 0;
+        queue.init();
+        billHandler = new RecordingHandler(SearchIndex.BILL);
+        queue.registerHandler(billHandler);
+    }
+
+    @Test
+    public void repeatedUpdatesAreCoalesced() throws Exception {
+        queue.enqueue(SearchIndex.BILL, Arrays.asList("S1-2017", "S2-2017"));
+        queue.enqueue(SearchIndex.BILL, Arrays.asList("S1-2017", "S3-2017"));
+        assertTrue(queue.processNext(0));
+        assertTrue(queue.processNext(0));
+        assertFalse(queue.processNext(0));
+        assertEquals(Arrays.asList(Arrays.asList("S1-2017", "S2-2017"), Collections.singletonList("S3-2017")),
+                     billHandler.bulks);
+        assertTrue("Indexed content is removed from the outbox", queueDao.getQueued(SearchIndex.BILL).isEmpty());
+    }
+
+    @Test
+    public void failedBulksAreRetried() throws Exception {
+        billHandler.failuresLeft = 1;
+        queue.enqueue(SearchIndex.BILL, Collections.singletonList("S1-2017"));
+        assertTrue(queue.processNext(0));
+        assertEquals(1, queueDao.getQueued(SearchIndex.BILL).size());
+        IndexQueueStats stats = queue.getStats().get(0);
+        assertEquals(1, stats.getQueuedCount());
+        assertEquals(1, stats.getFailureCount());
+
+        assertTrue(queue.processNext(0));
+        assertEquals(2, billHandler.bulks.size());
+        assertEquals(1, queue.getStats().get(0).getIndexedCount());
+        assertTrue(queueDao.getQueued(SearchIndex.BILL).isEmpty());
+    }
+
+    @Test
+    public void contentWithoutHandlerWaits() throws Exception {
+        queue.enqueue(SearchIndex.AGENDA, Collections.singletonList("1-2017"));
+        assertFalse(queue.processNext(0));
+        RecordingHandler agendaHandler = new RecordingHandler(SearchIndex.AGENDA);
+        queue.registerHandler(agendaHandler);
+        assertTrue(queue.processNext(0));
+        assertEquals(Collections.singletonList(Collections.singletonList("1-2017")), agendaHandler.bulks);
+    }
+
+    @Test
+    public void queuedContentIsRestored() throws Exception {
+        queueDao.saveQueued(SearchIndex.BILL, Collections.singletonList("S9-2017"), LocalDateTime.now());
+        AsyncSearchIndexQueue restarted = new AsyncSearchIndexQueue();
+        restarted.queueDao = queueDao;
+        restarted.enabled = true;
+        restarted.bulkSize = 10;
+        restarted.threads = 0;
+        restarted.init();
+        restarted.registerHandler(billHandler);
+        assertTrue(restarted.processNext(0));
+        assertEquals(Collections.singletonList(Collections.singletonList("S9-2017")), billHandler.bulks);
+    }
+
+    private static class RecordingHandler implements IndexQueueHandler
+    {
+        private final SearchIndex index;
+        private final List<List<String>> bulks = new ArrayList<>();
+        private int failuresLeft = 0;
+
+        RecordingHandler(SearchIndex index) {
+            this.index = index;
+        }
+
+        @Override
+        public SearchIndex getQueueIndex() {
+            return index;
+        }
+
+        @Override
+        public void indexQueued(Collection<String> contentIds) {
+            bulks.add(new ArrayList<>(contentIds));
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IllegalStateException("Search layer is unavailable");
+            }
+        }
+    }
+
+    private static class InMemoryQueueDao implements SearchIndexQueueDao
+    {
+        private final Map<SearchIndex, LinkedHashMap<String, LocalDateTime>> rows = new EnumMap<>(SearchIndex.class);
+
+        @Override
+        public Map<String, LocalDateTime> getQueued(SearchIndex index) {
+            return new LinkedHashMap<>(rows.getOrDefault(index, new LinkedHashMap<>()));
+        }
+
+        @Override
+        public void saveQueued(SearchIndex index, Collection<String> contentIds, LocalDateTime queuedDateTime) {
+            contentIds.forEach(id -> rows.computeIfAbsent(index, i -> new LinkedHashMap<>()).put(id, queuedDateTime));
+        }
+
+        @Override
+        public void deleteQueued(SearchIndex index, List<String> contentIds, LocalDateTime indexedDateTime) {
+            LinkedHashMap<String, LocalDateTime> indexRows = rows.getOrDefault(index, new LinkedHashMap<>());
+            contentIds.forEach(id -> {
+                if (indexRows.containsKey(id) && !indexRows.get(id).isAfter(indexedDateTime)) {
+                    indexRows.remove(id);
+                }
+            });
+        }
+    }
+}
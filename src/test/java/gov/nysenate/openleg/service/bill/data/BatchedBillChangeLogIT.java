@@ -0,0 +1,122 @@
+package gov.nysenate.openleg.service.bill.data;
+
+import com.google.common.collect.Range;
+import gov.nysenate.openleg.BaseTests;
+import gov.nysenate.openleg.annotation.IntegrationTest;
+import gov.nysenate.openleg.dao.base.LimitOffset;
+import gov.nysenate.openleg.dao.base.SortOrder;
+import gov.nysenate.openleg.dao.bill.data.BillUpdatesDao;
+import gov.nysenate.openleg.dao.sobi.SobiDao;
+import gov.nysenate.openleg.model.base.Version;
+import gov.nysenate.openleg.model.bill.BaseBillId;
+import gov.nysenate.openleg.model.bill.Bill;
+import gov.nysenate.openleg.model.bill.BillAmendment;
+import gov.nysenate.openleg.model.sobi.SobiFile;
+import gov.nysenate.openleg.model.sobi.SobiFragment;
+import gov.nysenate.openleg.model.sobi.SobiFragmentType;
+import gov.nysenate.openleg.model.updates.UpdateType;
+import gov.nysenate.openleg.processor.base.BillIngestCache;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+@Transactional
+@Category(IntegrationTest.class)
+public class BatchedBillChangeLogIT extends BaseTests
+{
+    @Autowired private BillDataService billDataService;
+    @Autowired private BillUpdatesDao billUpdatesDao;
+    @Autowired private SobiDao sobiDao;
+
+    private static final LocalDateTime publishDateTime = LocalDateTime.of(1989, 1, 4, 0, 0);
+
+    private SobiFragment firstFragment;
+    private SobiFragment secondFragment;
+
+    @Before
+    public void setup() throws IOException {
+        File testDir = Files.createTempDirectory("sobi").toFile();
+        File testFile = new File(testDir, LocalDateTime.now().format(DateTimeFormatter.ofPattern(SobiFile.sobiDateFullPattern)));
+        testFile.deleteOnExit();
+        testDir.deleteOnExit();
+        Files.write(testFile.toPath(), new byte[0]);
+
+        SobiFile sobiFile = new SobiFile(testFile);
+        sobiDao.updateSobiFile(sobiFile);
+        firstFragment = new SobiFragment(sobiFile, SobiFragmentType.BILL, "", 1);
+        secondFragment = new SobiFragment(sobiFile, SobiFragmentType.BILL, "", 2);
+        sobiDao.updateSobiFragment(firstFragment);
+        sobiDao.updateSobiFragment(secondFragment);
+    }
+
+    @Test
+    public void batchedFieldChangesAreLoggedLikeSeparateSaves() {
+        BaseBillId separateBillId = new BaseBillId("S99998", 1989);
+        Bill separateBill = createTestBill(separateBillId);
+        applyFirstFragment(separateBill);
+        billDataService.saveBill(separateBill, firstFragment, false);
+        applySecondFragment(separateBill);
+        billDataService.saveBill(separateBill, secondFragment, false);
+
+        BaseBillId batchedBillId = new BaseBillId("S99999", 1989);
+        BillIngestCache ingestCache = new BillIngestCache(10);
+        Bill batchedBill = createTestBill(batchedBillId);
+        ingestCache.set(batchedBillId, batchedBill, firstFragment);
+        applyFirstFragment(batchedBill);
+        ingestCache.checkpoint(firstFragment);
+        ingestCache.set(batchedBillId, batchedBill, secondFragment);
+        applySecondFragment(batchedBill);
+        ingestCache.checkpoint(secondFragment);
+        billDataService.saveBill(batchedBill, secondFragment, ingestCache.getChangeHistory(batchedBillId), false);
+
+        assertEquals(getChangeLog(separateBillId), getChangeLog(batchedBillId));
+    }
+
+    /** --- Internal Methods --- */
+
+    private Bill createTestBill(BaseBillId billId) {
+        Bill bill = new Bill(billId);
+        bill.setPublishedDateTime(publishDateTime);
+        bill.setModifiedDateTime(publishDateTime);
+        bill.addAmendment(new BillAmendment(billId, Version.DEFAULT));
+        return bill;
+    }
+
+    private void applyFirstFragment(Bill bill) {
+        bill.setTitle("First title");
+        bill.getAmendment(Version.DEFAULT).setActClause("First act clause");
+    }
+
+    /** Overwrites the title set by the first fragment and leaves its act clause as is. */
+    private void applySecondFragment(Bill bill) {
+        bill.setTitle("Second title");
+        bill.setSummary("Second summary");
+    }
+
+    /**
+     * @return List<String> - The change log entries of the given bill without its bill id, ordered by fragment.
+     *                        Entries made in the same transaction share a processed date time.
+     */
+    private List<String> getChangeLog(BaseBillId billId) {
+        return billUpdatesDao.getDetailedUpdatesForBill(billId, Range.all(), UpdateType.PROCESSED_DATE, null,
+                                                        SortOrder.ASC, LimitOffset.ALL)
+            .getResults().stream()
+            .map(digest -> String.join(" ", digest.getSourceId(), digest.getTable(), digest.getAction(),
+                                       new TreeMap<>(digest.getFields()).toString()))
+            .sorted()
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,133 @@
+package gov.nysenate.openleg.service.bill.data;
+
+import gov.nysenate.openleg.annotation.UnitTest;
+import gov.nysenate.openleg.model.base.PublishStatus;
+import gov.nysenate.openleg.model.base.SessionYear;
+import gov.nysenate.openleg.model.base.Version;
+import gov.nysenate.openleg.model.bill.*;
+import gov.nysenate.openleg.model.entity.Chamber;
+import gov.nysenate.openleg.model.entity.CommitteeId;
+import gov.nysenate.openleg.model.entity.SessionMember;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+@Category(UnitTest.class)
+public class CompactBillTest
+{
+    private static final BaseBillId billId = new BaseBillId("S1234", 2015);
+
+    private final Map<Integer, SessionMember> members = new HashMap<>();
+
+    private SessionMember member(int sessionMemberId, String shortName) {
+        SessionMember member = new SessionMember(sessionMemberId * 10, SessionYear.of(2015));
+        member.setSessionMemberId(sessionMemberId);
+        member.setLbdcShortName(shortName);
+        members.put(sessionMemberId, member);
+        return member;
+    }
+
+    private Bill createBill() {
+        Bill bill = new Bill(billId);
+        bill.setPublishedDateTime(LocalDateTime.of(2015, 1, 5, 10, 0));
+        bill.setModifiedDateTime(LocalDateTime.of(2015, 3, 2, 12, 30));
+        bill.setTitle("An act to amend the tax law");
+        bill.setSummary("Relates to tax credits");
+        bill.setActiveVersion(Version.A);
+        bill.addAmendment(new BillAmendment(billId, Version.DEFAULT));
+        bill.updatePublishStatus(Version.A, new PublishStatus(true, LocalDateTime.of(2015, 2, 1, 0, 0)));
+        bill.setStatus(new BillStatus(BillStatusType.IN_SENATE_COMM, LocalDate.of(2015, 1, 5)));
+        bill.setSponsor(new BillSponsor(member(1, "SMITH")));
+        bill.getAdditionalSponsors().add(member(2, "JONES"));
+        bill.addAction(new BillAction(LocalDate.of(2015, 1, 5), "REFERRED TO FINANCE", Chamber.SENATE, 1,
+                                      new BillId(billId, Version.DEFAULT)));
+        bill.addAction(new BillAction(LocalDate.of(2015, 2, 1), "AMEND AND RECOMMIT TO FINANCE", Chamber.SENATE, 2,
+                                      new BillId(billId, Version.A)));
+        bill.setChapterNum(55);
+
+        BillAmendment amendment = bill.getAmendment(Version.A);
+        amendment.setLaw("Amd S1, Tax L");
+        amendment.setLawSection("Tax Law");
+        amendment.setFullText("The full text");
+        amendment.setMemo("The memo");
+        amendment.getCoSponsors().add(member(3, "BROWN"));
+        BillVote vote = new BillVote(new BillId(billId, Version.A), LocalDate.of(2015, 2, 10), BillVoteType.COMMITTEE,
+                                     1, new CommitteeId(Chamber.SENATE, "Finance"));
+        vote.addMemberVote(BillVoteCode.AYE, members.get(1));
+        vote.addMemberVote(BillVoteCode.AYE, members.get(2));
+        vote.addMemberVote(BillVoteCode.NAY, members.get(3));
+        amendment.updateVote(vote);
+        return bill;
+    }
+
+    @Test
+    public void inflatedBillMatchesOriginalWithoutText() throws Exception {
+        Bill bill = createBill();
+        Bill inflated = new CompactBill(bill).inflate(members::get);
+
+        assertEquals(bill.getBaseBillId(), inflated.getBaseBillId());
+        assertEquals(bill.getTitle(), inflated.getTitle());
+        assertEquals(bill.getSummary(), inflated.getSummary());
+        assertEquals(bill.getYear(), inflated.getYear());
+        assertEquals(bill.getPublishedDateTime(), inflated.getPublishedDateTime());
+        assertEquals(bill.getModifiedDateTime(), inflated.getModifiedDateTime());
+        assertEquals(bill.getActiveVersion(), inflated.getActiveVersion());
+        assertEquals(bill.getAmendPublishStatusMap(), inflated.getAmendPublishStatusMap());
+        assertEquals(bill.getSponsor(), inflated.getSponsor());
+        assertEquals(bill.getAdditionalSponsors(), inflated.getAdditionalSponsors());
+        assertEquals(bill.getActions(), inflated.getActions());
+        assertEquals(bill.getChapterNum(), inflated.getChapterNum());
+        assertEquals(bill.getAmendmentIds(), inflated.getAmendmentIds());
+
+        BillAmendment amendment = bill.getAmendment(Version.A);
+        BillAmendment inflatedAmendment = inflated.getAmendment(Version.A);
+        assertEquals(amendment.getLaw(), inflatedAmendment.getLaw());
+        assertEquals(amendment.getCoSponsors(), inflatedAmendment.getCoSponsors());
+        assertEquals(amendment.getVotesMap().keySet(), inflatedAmendment.getVotesMap().keySet());
+        BillVote inflatedVote = inflatedAmendment.getVotesList().get(0);
+        assertEquals(amendment.getVotesList().get(0).getMemberVotes(), inflatedVote.getMemberVotes());
+        assertEquals(amendment.getVotesList().get(0).getSession(), inflatedVote.getSession());
+
+        assertFalse(inflated.isTextLoaded());
+        assertEquals("", inflatedAmendment.getFullText());
+        assertEquals(amendment.getTextMetrics(), inflatedAmendment.getTextMetrics());
+        assertTrue("Inflating a bill is not a modification", inflated.takeRecentChanges().isEmpty());
+    }
+
+    @Test
+    public void inflatedBillsDoNotShareState() throws Exception {
+        CompactBill compactBill = new CompactBill(createBill());
+        Bill first = compactBill.inflate(members::get);
+        first.getActions().clear();
+        first.getAmendment(Version.A).getCoSponsors().clear();
+
+        Bill second = compactBill.inflate(members::get);
+        assertEquals(2, second.getActions().size());
+        assertEquals(1, second.getAmendment(Version.A).getCoSponsors().size());
+    }
+
+    @Test
+    public void actionTextIsShared() throws Exception {
+        Bill bill = createBill();
+        Bill other = new Bill(new BaseBillId("S1235", 2015));
+        other.addAction(new BillAction(LocalDate.of(2015, 1, 6), new String("REFERRED TO FINANCE"), Chamber.SENATE, 1,
+                                       new BillId(other.getBaseBillId(), Version.DEFAULT)));
+        other.setActiveVersion(Version.DEFAULT);
+        String text = new CompactBill(bill).inflate(members::get).getActions().get(0).getText();
+        String otherText = new CompactBill(other).inflate(members::get).getActions().get(0).getText();
+        assertSame(text, otherText);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unpersistedMembersCannotBeEncoded() throws Exception {
+        Bill bill = createBill();
+        bill.getAdditionalSponsors().add(new SessionMember());
+        new CompactBill(bill);
+    }
+}
@@ -0,0 +1,104 @@
+package gov.nysenate.openleg.service.metrics;
+
+import com.google.common.collect.ImmutableMap;
+import gov.nysenate.openleg.annotation.UnitTest;
+import gov.nysenate.openleg.dao.base.BasicSqlQuery;
+import gov.nysenate.openleg.dao.base.SqlQueryUtils;
+import gov.nysenate.openleg.model.metrics.Timer;
+import gov.nysenate.openleg.model.metrics.TimerType;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+@Category(UnitTest.class)
+public class PrometheusTextWriterTest
+{
+    private enum TestQuery implements BasicSqlQuery
+    {
+        SELECT_ONE("SELECT 1 FROM ${schema}.t");
+
+        private final String sql;
+
+        TestQuery(String sql) {
+            this.sql = sql;
+        }
+
+        @Override
+        public String getSql() {
+            return sql;
+        }
+    }
+
+    @Test
+    public void timerCountsDurationsIntoCumulativeBuckets() {
+        Timer timer = new Timer();
+        timer.record(TimeUnit.MICROSECONDS.toNanos(500));
+        timer.record(TimeUnit.MILLISECONDS.toNanos(1));
+        timer.record(TimeUnit.MILLISECONDS.toNanos(20));
+        timer.record(TimeUnit.SECONDS.toNanos(60));
+
+        long[] counts = timer.getCumulativeCounts();
+        assertEquals(Timer.getBucketBounds().length + 1, counts.length);
+        assertEquals(2, counts[0]);    // <= 1ms
+        assertEquals(2, counts[3]);    // <= 10ms
+        assertEquals(3, counts[4]);    // <= 25ms
+        assertEquals(3, counts[counts.length - 2]);
+        assertEquals(4, counts[counts.length - 1]);
+        assertEquals(4, timer.getCount());
+        assertEquals(60.0215, timer.getTotalSeconds(), 1e-9);
+    }
+
+    @Test
+    public void registryReturnsTheSameTimerForTheSameLabels() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Timer timer = registry.getTimer(TimerType.SEARCH_REQUEST, "search", "bills");
+        assertSame(timer, registry.getTimer(TimerType.SEARCH_REQUEST, "search", "bills"));
+        assertNotSame(timer, registry.getTimer(TimerType.SEARCH_REQUEST, "bulk", "bills"));
+        assertEquals(2, registry.getTimers(TimerType.SEARCH_REQUEST).size());
+        assertTrue(registry.getTimers(TimerType.SQL_QUERY).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void registryRequiresAValueForEachLabel() {
+        new MetricsRegistry().getTimer(TimerType.SOBI_PROCESS, "BILL");
+    }
+
+    @Test
+    public void writesTimersAsHistograms() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.getTimer(TimerType.API_REQUEST, "BillGetCtrl.getBill").record(TimeUnit.MILLISECONDS.toNanos(3));
+        String text = new PrometheusTextWriter()
+            .writeTimers(TimerType.API_REQUEST, registry.getTimers(TimerType.API_REQUEST))
+            .toString();
+
+        assertTrue(text.startsWith("# HELP openleg_api_request_seconds "));
+        assertTrue(text.contains("# TYPE openleg_api_request_seconds histogram\n"));
+        assertTrue(text.contains("openleg_api_request_seconds_bucket{handler=\"BillGetCtrl.getBill\",le=\"0.0025\"} 0\n"));
+        assertTrue(text.contains("openleg_api_request_seconds_bucket{handler=\"BillGetCtrl.getBill\",le=\"0.005\"} 1\n"));
+        assertTrue(text.contains("openleg_api_request_seconds_bucket{handler=\"BillGetCtrl.getBill\",le=\"+Inf\"} 1\n"));
+        assertTrue(text.contains("openleg_api_request_seconds_sum{handler=\"BillGetCtrl.getBill\"} 0.003\n"));
+        assertTrue(text.contains("openleg_api_request_seconds_count{handler=\"BillGetCtrl.getBill\"} 1\n"));
+    }
+
+    @Test
+    public void writesMetricsWithEscapedLabels() {
+        String text = new PrometheusTextWriter()
+            .writeMetric("openleg_cache_hits_total", "Cache hits.", "counter", "cache",
+                         ImmutableMap.of("bill \"info\"", 5L))
+            .toString();
+        assertEquals("# HELP openleg_cache_hits_total Cache hits.\n" +
+                     "# TYPE openleg_cache_hits_total counter\n" +
+                     "openleg_cache_hits_total{cache=\"bill \\\"info\\\"\"} 5\n", text);
+    }
+
+    @Test
+    public void namedSqlIdentifiesItsQuery() {
+        String sql = TestQuery.SELECT_ONE.getSql("master");
+        assertTrue(sql.endsWith("SELECT 1 FROM master.t"));
+        assertEquals("TestQuery.SELECT_ONE", SqlQueryUtils.getQueryName(sql));
+        assertNull(SqlQueryUtils.getQueryName("SELECT 1"));
+    }
+}
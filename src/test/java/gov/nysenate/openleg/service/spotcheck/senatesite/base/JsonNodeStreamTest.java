@@ -0,0 +1,94 @@
+package gov.nysenate.openleg.service.spotcheck.senatesite.base;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
+import com.google.common.io.Files;
+import gov.nysenate.openleg.annotation.UnitTest;
+import gov.nysenate.openleg.processor.base.ParseError;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+@Category(UnitTest.class)
+public class JsonNodeStreamTest
+{
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private File jsonFile;
+
+    @Before
+    public void setUp() throws Exception {
+        jsonFile = File.createTempFile("json-node-stream", ".json");
+    }
+
+    @After
+    public void tearDown() {
+        jsonFile.delete();
+    }
+
+    @Test
+    public void streamsKeyedNodesAroundOtherFields() throws Exception {
+        write("{\"part\": 1, \"skipped\": {\"a\": [1, 2, {\"b\": 3}]}, " +
+              "\"nodes\": {\"10\": {\"id\": \"a\"}, \"11\": {\"id\": \"b\", \"nested\": {\"id\": \"x\"}}}, " +
+              "\"totalParts\": 2}");
+        assertEquals(Arrays.asList("a", "b"), readIds());
+    }
+
+    @Test
+    public void streamsArrayNodes() throws Exception {
+        write("{\"nodes\": [{\"id\": \"a\"}, {\"id\": \"b\"}, {\"id\": \"c\"}], \"part\": 1}");
+        assertEquals(Arrays.asList("a", "b", "c"), readIds());
+    }
+
+    @Test
+    public void streamsEmptyNodes() throws Exception {
+        write("{\"nodes\": []}");
+        assertTrue(readIds().isEmpty());
+    }
+
+    @Test(expected = ParseError.class)
+    public void missingFieldFails() throws Exception {
+        write("{\"part\": 1, \"other\": {\"nodes\": []}}");
+        readIds();
+    }
+
+    @Test
+    public void canOnlyBeIteratedOnce() throws Exception {
+        write("{\"nodes\": [{\"id\": \"a\"}]}");
+        try (JsonNodeStream<String> stream = idStream()) {
+            Iterator<String> ids = stream.iterator();
+            assertEquals("a", ids.next());
+            assertFalse(ids.hasNext());
+            try {
+                stream.iterator();
+                fail("Expected the second iteration to fail");
+            } catch (IllegalStateException expected) {}
+        }
+    }
+
+    /** --- Internal --- */
+
+    private void write(String json) throws Exception {
+        Files.write(json, jsonFile, StandardCharsets.UTF_8);
+    }
+
+    private JsonNodeStream<String> idStream() {
+        return new JsonNodeStream<>(objectMapper, jsonFile, "nodes", (JsonNode node) -> node.path("id").asText());
+    }
+
+    private List<String> readIds() throws Exception {
+        try (JsonNodeStream<String> stream = idStream()) {
+            return Lists.newArrayList(stream);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package gov.nysenate.openleg.util;
+
+import gov.nysenate.openleg.annotation.UnitTest;
+import gov.nysenate.openleg.model.base.Version;
+import gov.nysenate.openleg.model.bill.BaseBillId;
+import gov.nysenate.openleg.model.bill.BillAmendment;
+import gov.nysenate.openleg.model.bill.BillTextMetrics;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+@Category(UnitTest.class)
+public class BillTextUtilsTest
+{
+    private static final String pageStart = "        S. 2006--A                    %d                    12553-01-5";
+
+    @Test
+    public void textMetricsMatchPageParsing() {
+        String fullText = billText(3, 20);
+        BillTextMetrics metrics = BillTextUtils.getTextMetrics(fullText);
+
+        assertEquals(3, metrics.getPageCount());
+        assertEquals(BillTextUtils.getPageCount(fullText), metrics.getPageCount());
+        assertEquals(61, metrics.getLineCount());
+        assertEquals(Arrays.asList(20, 40), metrics.getNewPageLines());
+        assertEquals(BillTextUtils.getBillPages(fullText),
+                     BillTextUtils.getBillPages(fullText, metrics.getNewPageLines()));
+    }
+
+    @Test
+    public void textWithoutPageNumbersIsOnePage() {
+        String fullText = lines(0, 30);
+        BillTextMetrics metrics = BillTextUtils.getTextMetrics(fullText);
+        assertEquals(1, metrics.getPageCount());
+        assertEquals(30, metrics.getLineCount());
+        assertTrue(metrics.getNewPageLines().isEmpty());
+    }
+
+    @Test
+    public void emptyTextHasNoPages() {
+        assertEquals(BillTextMetrics.EMPTY, BillTextUtils.getTextMetrics(""));
+        assertEquals(BillTextMetrics.EMPTY, BillTextUtils.getTextMetrics(null));
+        assertEquals(0, BillTextUtils.getPageCount(""));
+    }
+
+    @Test
+    public void amendmentKeepsMetricsOfUnloadedText() {
+        BillAmendment amendment = new BillAmendment(new BaseBillId("S2006", 2015), Version.A);
+        amendment.setFullText(billText(2, 15));
+        BillTextMetrics metrics = amendment.getTextMetrics();
+        assertEquals(2, metrics.getPageCount());
+
+        amendment.unloadText();
+        assertEquals(metrics, amendment.getTextMetrics());
+
+        amendment.setFullText(billText(4, 15));
+        assertEquals(4, amendment.getTextMetrics().getPageCount());
+    }
+
+    /** --- Internal --- */
+
+    private static String billText(int pages, int linesPerPage) {
+        StringBuilder text = new StringBuilder(lines(0, linesPerPage));
+        for (int page = 2; page <= pages; page++) {
+            text.append("\n").append(String.format(pageStart, page)).append("\n")
+                .append(lines(1, linesPerPage));
+        }
+        return text.append("\n").toString();
+    }
+
+    private static String lines(int start, int end) {
+        List<String> lines = IntStream.range(start, end)
+            .mapToObj(i -> String.format("%5d  AN ACT to amend the education law, in relation to line %d", i, i))
+            .collect(Collectors.toList());
+        return String.join("\n", lines);
+    }
+}